@@ -15,6 +15,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 import org.apache.activemq.artemis.api.core.RoutingType;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
@@ -27,6 +28,7 @@ import java.io.IOException;
 /**
  * Class for Artemis.
  */
+@StorageDriver
 public class Artemis implements Storage<byte[]> {
     private final static String CONFIGFILE = "artemis.properties";
     private String topicName;
@@ -8,12 +8,9 @@
  *     http://www.apache.org/licenses/LICENSE-2.0
  */
 package io.sbk.Artemis;
-import io.sbk.api.DataType;
-import io.sbk.perl.SendChannel;
-import io.sbk.api.Status;
-import io.sbk.perl.Time;
-import io.sbk.api.Writer;
+import io.sbk.api.AbstractCallbackWriter;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.WriteCallback;
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.client.ClientMessage;
 import org.apache.activemq.artemis.api.core.client.ClientProducer;
@@ -25,7 +22,7 @@ import java.util.concurrent.CompletableFuture;
 /**
  * Class for NATS Stream Writer.
  */
-public class ArtemisWriter implements Writer<byte[]> {
+public class ArtemisWriter extends AbstractCallbackWriter<byte[]> {
     final private  ClientSession session;
     final private  ClientProducer producer;
 
@@ -40,21 +37,14 @@ public class ArtemisWriter implements Writer<byte[]> {
     }
 
     @Override
-    public void recordWrite(DataType<byte[]> dType, byte[] data, int size, Time time, Status status, SendChannel record, int id) {
-        final long ctime = time.getCurrentTime();
-        status.startTime = ctime;
-        status.bytes = size;
-        status.records = 1;
+    public void writeAsync(byte[] data, int id, long startTime, int size, WriteCallback callback) {
         ClientMessage msg = session.createMessage(true /* durable */ );
-        msg.setTimestamp(ctime);
+        msg.setTimestamp(startTime);
         msg.getBodyBuffer().writeBytes(data);
         try {
-            producer.send(msg, handler -> {
-                final long endTime = time.getCurrentTime();
-                record.send(id, ctime, endTime, size, 1);
-            });
+            producer.send(msg, handler -> callback.complete(id, startTime, size, 1));
         } catch ( ActiveMQException ex) {
-            ex.printStackTrace();
+            callback.fail(id, startTime, ex);
         }
     }
 
@@ -14,7 +14,8 @@ import io.sbk.api.DataType;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.impl.NioByteBuffer;
+import io.sbk.api.impl.PooledNioByteBuffer;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -22,6 +23,7 @@ import java.nio.ByteBuffer;
 /**
  * Class for Asynchronous File System Benchmarking.
  */
+@StorageDriver
 public class AsyncFile implements Storage<ByteBuffer> {
     private String fileName;
 
@@ -77,7 +79,7 @@ public class AsyncFile implements Storage<ByteBuffer> {
 
     @Override
     public DataType<ByteBuffer> getDataType() {
-        return new NioByteBuffer();
+        return new PooledNioByteBuffer();
     }
 }
 
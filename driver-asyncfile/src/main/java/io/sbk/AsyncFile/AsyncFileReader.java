@@ -64,6 +64,7 @@ public class AsyncFileReader implements Reader<ByteBuffer> {
                         } else {
                             sendChannel.send(id, ctime, endTime, result, 1);
                         }
+                        dType.release(attachment);
                     }
 
                     @Override
@@ -71,6 +72,7 @@ public class AsyncFileReader implements Reader<ByteBuffer> {
                         if (!isEOF.get()) {
                             sendChannel.sendException(id, ex);
                         }
+                        dType.release(attachment);
                     }
                 });
         pos += dType.length(buffer);
@@ -92,6 +94,7 @@ public class AsyncFileReader implements Reader<ByteBuffer> {
                         } else {
                             sendChannel.send(id, dType.getTime(attachment), endTime, result, 1);
                         }
+                        dType.release(attachment);
                     }
 
                     @Override
@@ -99,6 +102,7 @@ public class AsyncFileReader implements Reader<ByteBuffer> {
                         if (!isEOF.get()) {
                             sendChannel.sendException(id, ex);
                         }
+                        dType.release(attachment);
                     }
                 });
         pos += dType.length(buffer);
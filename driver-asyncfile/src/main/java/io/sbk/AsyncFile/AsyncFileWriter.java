@@ -14,9 +14,11 @@ import io.sbk.perl.SendChannel;
 import io.sbk.api.Status;
 import io.sbk.perl.Time;
 import io.sbk.api.Writer;
+import io.sbk.api.impl.PooledNioByteBuffer;
 
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
@@ -24,6 +26,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 
 
 /**
@@ -32,18 +35,26 @@ import java.util.concurrent.ExecutionException;
 public class AsyncFileWriter implements Writer<ByteBuffer> {
     final private String fileName;
     final private AsynchronousFileChannel out;
+    final private Semaphore pending;
     private long pos;
 
     public AsyncFileWriter(int id, ParameterOptions params, String fileName) throws IOException {
         this.fileName = fileName;
         this.out = AsynchronousFileChannel.open(Paths.get(fileName), StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        this.pending = new Semaphore(PooledNioByteBuffer.DEFAULT_SLOTS);
         this.pos = 0;
     }
 
     @Override
     public void recordWrite(DataType<ByteBuffer> dType, ByteBuffer data, int size, Time time,
                             Status status, SendChannel record, int id) throws IOException {
-        final ByteBuffer buffer = data.asReadOnlyBuffer();
+        try {
+            pending.acquire();
+        } catch (InterruptedException ex) {
+            throw new InterruptedIOException(ex.getMessage());
+        }
+        // the record is not modified while benchmarking the writes; share it instead of copying it
+        final ByteBuffer buffer = data.duplicate();
         final long ctime = time.getCurrentTime();
 
         status.startTime = ctime;
@@ -55,25 +66,28 @@ public class AsyncFileWriter implements Writer<ByteBuffer> {
             @Override
             public void completed(Integer result, ByteBuffer attachment) {
                 final long endTime = time.getCurrentTime();
+                pending.release();
                 record.send(id, ctime, endTime, result, 1);
             }
 
             @Override
             public void failed(Throwable exc, ByteBuffer attachment) {
+                pending.release();
             }
         });
-        pos += data.capacity();
+        pos += size;
     }
 
 
     @Override
     public CompletableFuture writeAsync(ByteBuffer data) throws IOException {
         try {
-            out.write(data.asReadOnlyBuffer(), pos).get();
+            final int position = data.position();
+            pos += out.write(data, pos).get();
+            data.position(position);
         } catch (InterruptedException | ExecutionException ex) {
             throw new IOException(ex);
         }
-        pos += data.capacity();
         return null;
     }
 
@@ -13,6 +13,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 import java.io.IOException;
 import java.net.URI;
 
@@ -26,6 +27,7 @@ import org.apache.distributedlog.api.namespace.NamespaceBuilder;
 /**
  * Class for Bookkeeper Benchmarking.
  */
+@StorageDriver
 public class BookKeeper implements Storage<byte[]> {
     private final static String CONFIGFILE = "BookKeeper.properties";
     private Namespace namespace;
@@ -18,12 +18,14 @@ import io.sbk.api.DataType;
 import io.sbk.api.DataWriter;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.Storage;
+import io.sbk.api.StorageDriver;
 import io.sbk.api.impl.StringHandler;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Objects;
 
+@StorageDriver
 public class Cassandra implements Storage<String>  {
     private final static String CONFIGFILE = "cassandra.properties";
     final public DataType<String> dType =  new StringHandler();
@@ -10,8 +10,10 @@
 
 package io.sbk.CephS3;
 
+import io.sbk.api.StorageDriver;
 import io.sbk.MinIO.MinIO;
 
+@StorageDriver
 public class CephS3 extends MinIO {
     private final static String CONFIGFILE = "cephs3.properties";
 
@@ -13,6 +13,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -20,6 +21,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 /**
  * Class for Concurrent Queue Benchmarking.
  */
+@StorageDriver
 public class ConcurrentQ implements Storage<byte[]> {
     private ConcurrentLinkedQueue<byte[]> queue;
 
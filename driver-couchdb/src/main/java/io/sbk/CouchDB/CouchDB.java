@@ -19,6 +19,7 @@ import io.sbk.api.DataWriter;
 import io.sbk.api.ParameterOptions;
 
 import io.sbk.api.Storage;
+import io.sbk.api.StorageDriver;
 import io.sbk.api.impl.JavaString;
 import io.sbk.system.Printer;
 import org.ektorp.CouchDbConnector;
@@ -34,6 +35,7 @@ import java.util.Objects;
 /**
  * Class for CouchDB Benchmarking.
  */
+@StorageDriver
 public class CouchDB implements Storage<String> {
     private final static String CONFIGFILE = "couchdb.properties";
     private CouchDBConfig config;
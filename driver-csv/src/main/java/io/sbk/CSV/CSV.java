@@ -17,6 +17,7 @@ import io.sbk.api.DataType;
 import io.sbk.api.DataWriter;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.Storage;
+import io.sbk.api.StorageDriver;
 import io.sbk.api.impl.StringHandler;
 
 import java.io.IOException;
@@ -25,6 +26,7 @@ import java.util.Objects;
 /**
  * Class for File System Benchmarking using File Channel.
  */
+@StorageDriver
 public class CSV implements Storage<String> {
     private final static String CONFIGFILE = "csv.properties";
     private CSVConfig config;
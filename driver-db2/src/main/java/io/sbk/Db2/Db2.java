@@ -11,10 +11,12 @@ package io.sbk.Db2;
 
 import io.sbk.Jdbc.Jdbc;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 /**
  * Class for Db2.
  */
+@StorageDriver
 public class Db2 extends Jdbc {
     private final static String CONFIGFILE = "db2.properties";
 
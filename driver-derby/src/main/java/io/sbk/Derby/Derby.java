@@ -10,11 +10,13 @@
 
 package io.sbk.Derby;
 
+import io.sbk.api.StorageDriver;
 import io.sbk.Jdbc.Jdbc;
 
 /**
  * Class for Derby.
  */
+@StorageDriver
 public class Derby extends Jdbc {
     private final static String CONFIGFILE = "derby.properties";
 
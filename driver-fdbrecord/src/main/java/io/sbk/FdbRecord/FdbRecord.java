@@ -28,6 +28,7 @@ import io.sbk.api.DataType;
 import io.sbk.api.DataWriter;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.Storage;
+import io.sbk.api.StorageDriver;
 import io.sbk.api.impl.ProtoBufByteString;
 
 import java.io.IOException;
@@ -37,6 +38,7 @@ import java.util.function.Function;
 /**
  * Class for FdbRecord Benchmarking.
  */
+@StorageDriver
 public class FdbRecord implements Storage<ByteString> {
     private final static String CONFIGFILE = "fdbrecord.properties";
     private FdbRecordConfig config;
@@ -135,10 +137,4 @@ public class FdbRecord implements Storage<ByteString> {
     public DataType<ByteString> getDataType() {
         return new ProtoBufByteString();
     }
-
-
-    public static long generateStartKey(int id) {
-        return (long) id * (long) Integer.MAX_VALUE;
-    }
-
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import com.apple.foundationdb.tuple.Tuple;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Message;
 import io.sbk.api.DataType;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.Reader;
 import io.sbk.perl.SendChannel;
@@ -40,7 +41,7 @@ public class FdbRecordMultiReader implements Reader<ByteString> {
     public FdbRecordMultiReader(int id, ParameterOptions params, FDBDatabase db,
                                 Function<FDBRecordContext, FDBRecordStore> recordStoreProvider ) throws IOException {
         this.params = params;
-        this.key = FdbRecord.generateStartKey(id);
+        this.key = KeySpace.startKey(id);
         this.cnt = 0;
         this.db = db;
         this.recordStoreProvider = recordStoreProvider;
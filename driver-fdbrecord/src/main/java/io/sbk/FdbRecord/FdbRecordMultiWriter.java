@@ -14,6 +14,7 @@ import com.apple.foundationdb.record.provider.foundationdb.FDBRecordContext;
 import com.apple.foundationdb.record.provider.foundationdb.FDBRecordStore;
 import com.google.protobuf.ByteString;
 import io.sbk.api.DataType;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
 import io.sbk.perl.SendChannel;
 import io.sbk.api.Status;
@@ -37,7 +38,7 @@ public class FdbRecordMultiWriter implements Writer<ByteString> {
     public FdbRecordMultiWriter(int id, ParameterOptions params, FDBDatabase db,
                                 Function<FDBRecordContext, FDBRecordStore> recordStoreProvider) throws IOException {
         this.params = params;
-        this.key = FdbRecord.generateStartKey(id);
+        this.key = KeySpace.startKey(id);
         this.db = db;
         this.recordStoreProvider = recordStoreProvider;
     }
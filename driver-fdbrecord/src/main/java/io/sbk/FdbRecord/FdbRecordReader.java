@@ -16,47 +16,42 @@ import com.apple.foundationdb.record.provider.foundationdb.FDBStoredRecord;
 import com.apple.foundationdb.tuple.Tuple;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Message;
+import io.sbk.api.AbstractKeyValueReader;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
 
-import java.io.EOFException;
 import java.io.IOException;
 import java.util.function.Function;
 
 /**
  * Class for Reader.
  */
-public class FdbRecordReader implements Reader<ByteString> {
+public class FdbRecordReader extends AbstractKeyValueReader<ByteString> {
     final private FDBDatabase db;
     final private Function<FDBRecordContext, FDBRecordStore> recordStoreProvider;
-    private long key;
 
     public FdbRecordReader(int id, ParameterOptions params, FDBDatabase db,
                            Function<FDBRecordContext, FDBRecordStore> recordStoreProvider ) throws IOException {
-        this.key = FdbRecord.generateStartKey(id);
+        super(id, params);
         this.db = db;
         this.recordStoreProvider = recordStoreProvider;
     }
 
     @Override
-    public ByteString read() throws EOFException, IOException {
-        ByteString ret = null;
+    public ByteString get(long key) throws IOException {
         FDBStoredRecord<Message> storedRecord = db.run(context ->
                 // load the record
                 recordStoreProvider.apply(context).loadRecord(Tuple.from(key))
         );
-
-        if (storedRecord != null) {
-            key++;
-            FdbRecordLayerProto.Record record = FdbRecordLayerProto.Record.newBuilder()
-                    .mergeFrom(storedRecord.getRecord())
-                    .build();
-            ret = record.getData();
+        if (storedRecord == null) {
+            return null;
         }
-        return ret;
+        FdbRecordLayerProto.Record record = FdbRecordLayerProto.Record.newBuilder()
+                .mergeFrom(storedRecord.getRecord())
+                .build();
+        return record.getData();
     }
 
     @Override
     public void close() throws  IOException {
     }
-}
\ No newline at end of file
+}
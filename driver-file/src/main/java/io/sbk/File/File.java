@@ -17,7 +17,8 @@ import io.sbk.api.DataType;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.impl.NioByteBuffer;
+import io.sbk.api.impl.PooledNioByteBuffer;
+import io.sbk.api.StorageDriver;
 import io.sbk.system.Printer;
 
 import java.io.IOException;
@@ -27,6 +28,7 @@ import java.util.Objects;
 /**
  * Class for File System Benchmarking using File Channel.
  */
+@StorageDriver
 public class File implements Storage<ByteBuffer> {
     private final static String CONFIGFILE = "file.properties";
     private FileConfig config;
@@ -91,7 +93,7 @@ public class File implements Storage<ByteBuffer> {
 
     @Override
     public DataType<ByteBuffer> getDataType() {
-        dType = new NioByteBuffer();
+        dType = new PooledNioByteBuffer();
         return dType;
     }
 }
@@ -42,14 +42,18 @@ public class FileAsyncReader implements AsyncReader<ByteBuffer> {
     public CompletableFuture<ByteBuffer> readAsync(int size) {
         final CompletableFuture<ByteBuffer> ret = new CompletableFuture<>();
         CompletableFuture.runAsync(() -> {
-            final ByteBuffer readBuffer = dType.create(size);
+            final ByteBuffer readBuffer = dType.allocate(size);
             try {
                 final int readSize = in.read(readBuffer);
                 if (readSize <= 0) {
+                    dType.release(readBuffer);
                     ret.completeExceptionally(new EOFException());
+                } else {
+                    readBuffer.flip();
+                    ret.complete(readBuffer);
                 }
-                ret.complete(readBuffer);
             } catch (IOException ex) {
+                dType.release(readBuffer);
                 ret.completeExceptionally(ex);
             }
         }, executor);
@@ -27,21 +27,23 @@ import java.nio.file.StandardOpenOption;
 public class FileReader implements Reader<ByteBuffer> {
     final private FileChannel in;
     final private ByteBuffer readBuffer;
+    final private int recordSize;
 
     public FileReader(int id, ParameterOptions params, DataType<ByteBuffer> dType, FileConfig config) throws IOException {
         this.in = FileChannel.open(Paths.get(config.fileName), StandardOpenOption.READ);
-        this.readBuffer = dType.create(params.getRecordSize());
+        this.recordSize = params.getRecordSize();
+        this.readBuffer = dType.allocate(recordSize);
     }
 
     @Override
     public ByteBuffer read() throws IOException {
-        ByteBuffer retBuffer = readBuffer.slice();
-        final int ret = in.read(retBuffer);
+        readBuffer.clear().limit(recordSize);
+        final int ret = in.read(readBuffer);
         if (ret <= 0) {
             throw new EOFException("File Read: EOF");
         }
-        retBuffer.flip();
-        return retBuffer;
+        readBuffer.flip();
+        return readBuffer;
     }
 
     @Override
@@ -44,9 +44,10 @@ public class FileWriter implements Writer<ByteBuffer> {
     @Override
     public void recordWrite(DataType<ByteBuffer> dType, ByteBuffer data, int size, Time time,
                             Status status, SendChannel record, int id) throws IOException {
-        final ByteBuffer buffer = data.asReadOnlyBuffer();
+        final int position = data.position();
         status.startTime = time.getCurrentTime();
-        out.write(buffer);
+        out.write(data);
+        data.position(position);
         status.endTime = time.getCurrentTime();
         status.bytes = size;
         status.records = 1;
@@ -56,8 +57,9 @@ public class FileWriter implements Writer<ByteBuffer> {
 
     @Override
     public CompletableFuture writeAsync(ByteBuffer data) throws IOException {
-        final ByteBuffer buffer = data.asReadOnlyBuffer();
-        out.write(buffer);
+        final int position = data.position();
+        out.write(data);
+        data.position(position);
         return null;
     }
 
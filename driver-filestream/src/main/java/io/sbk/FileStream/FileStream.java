@@ -16,6 +16,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -23,6 +24,7 @@ import java.util.Objects;
 /**
  * Class for File System Benchmarking.
  */
+@StorageDriver
 public class FileStream implements Storage<byte[]> {
     private final static String CONFIGFILE = "filestream.properties";
     private FileStreamConfig config;
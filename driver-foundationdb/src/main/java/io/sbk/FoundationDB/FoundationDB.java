@@ -19,6 +19,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 
 import java.io.IOException;
@@ -27,6 +28,7 @@ import java.util.Objects;
 /**
  * Class for FoundationDB Benchmarking.
  */
+@StorageDriver
 public class FoundationDB implements Storage<byte[]> {
     private final static String CONFIGFILE = "foundationdb.properties";
     private FoundationDBConfig config;
@@ -99,8 +101,4 @@ public class FoundationDB implements Storage<byte[]> {
             return null;
         }
     }
-
-    public static long generateStartKey(int id) {
-        return (long) id * (long) Integer.MAX_VALUE;
-    }
 }
@@ -12,8 +12,8 @@ package io.sbk.FoundationDB;
 
 import com.apple.foundationdb.Database;
 import com.apple.foundationdb.FDB;
-import com.apple.foundationdb.tuple.Tuple;
 import io.sbk.api.DataType;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.Reader;
 import io.sbk.perl.SendChannel;
@@ -30,13 +30,13 @@ public class FoundationDBMultiKeyReader implements Reader<byte[]> {
     final private ParameterOptions params;
     final private FoundationDBConfig config;
     final private Database db;
-    private long key;
+    final private KeySpace keys;
     private int cnt;
 
     public FoundationDBMultiKeyReader(int id, ParameterOptions params, FoundationDBConfig config, FDB fdb, Database db) throws IOException {
         this.params = params;
         this.config = config;
-        this.key = FoundationDB.generateStartKey(id);
+        this.keys = new KeySpace(id);
         this.cnt = 0;
         if (config.multiClient) {
             this.db = fdb.open(config.cFile);
@@ -49,11 +49,11 @@ public class FoundationDBMultiKeyReader implements Reader<byte[]> {
     public byte[] read() throws EOFException, IOException {
         byte[] ret;
         ret = db.read(tr -> {
-            byte[] result = tr.get(Tuple.from(key).pack()).join();
+            byte[] result = tr.get(keys.encode(keys.current())).join();
             return result;
         });
         if (ret != null) {
-            key++;
+            keys.next();
         }
         return ret;
     }
@@ -71,11 +71,11 @@ public class FoundationDBMultiKeyReader implements Reader<byte[]> {
         final int recs =  params.getRecordsPerSync();
         status.startTime = time.getCurrentTime();
         final Status ret = db.read(tr -> {
-            long startKey = key;
+            long startKey = keys.current();
             Status stat = new Status();
 
             for (int i = 0; i < recs; i++) {
-                byte[] result = tr.get(Tuple.from(startKey++).pack()).join();
+                byte[] result = tr.get(keys.encode(startKey++)).join();
                 if (result != null) {
                     stat.bytes += result.length;
                     stat.records += 1;
@@ -89,7 +89,7 @@ public class FoundationDBMultiKeyReader implements Reader<byte[]> {
         status.records = ret.records;
         status.bytes = ret.bytes;
         status.endTime = time.getCurrentTime();
-        key += recs;
+        keys.advance(recs);
         cnt += recs;
         sendChannel.send(id, status.startTime, status.endTime, status.bytes, status.records);
     }
@@ -100,11 +100,11 @@ public class FoundationDBMultiKeyReader implements Reader<byte[]> {
             throws EOFException, IOException {
         final int recs =  params.getRecordsPerSync();
         final Status ret = db.read(tr -> {
-            long startKey = key;
+            long startKey = keys.current();
             Status stat = new Status();
 
             for (int i = 0; i < recs; i++) {
-                byte[] result = tr.get(Tuple.from(startKey++).pack()).join();
+                byte[] result = tr.get(keys.encode(startKey++)).join();
                 if (result != null) {
                     stat.bytes += result.length;
                     stat.records += 1;
@@ -121,7 +121,7 @@ public class FoundationDBMultiKeyReader implements Reader<byte[]> {
         status.bytes = ret.bytes;
         status.startTime = ret.startTime;
         status.endTime = time.getCurrentTime();
-        key += status.records;
+        keys.advance(status.records);
         cnt += status.records;
         sendChannel.send(id, status.startTime, status.endTime, status.bytes, status.records);
     }
@@ -12,23 +12,24 @@ package io.sbk.FoundationDB;
 
 import com.apple.foundationdb.Database;
 import com.apple.foundationdb.FDB;
-import com.apple.foundationdb.tuple.Tuple;
+import com.apple.foundationdb.KeyValue;
+import io.sbk.api.AbstractKeyValueReader;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
+import io.sbk.api.ReadBatch;
 
-import java.io.EOFException;
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Class for Reader.
  */
-public class FoundationDBReader implements Reader<byte[]> {
+public class FoundationDBReader extends AbstractKeyValueReader<byte[]> {
     final private FoundationDBConfig config;
     final private Database db;
-    private long key;
 
     public FoundationDBReader(int id, ParameterOptions params, FoundationDBConfig config, FDB fdb, Database db) throws IOException {
-        this.key = FoundationDB.generateStartKey(id);
+        super(id, params);
         this.config = config;
         if (config.multiClient) {
             this.db = fdb.open(config.cFile);
@@ -38,16 +39,23 @@ public class FoundationDBReader implements Reader<byte[]> {
     }
 
     @Override
-    public byte[] read() throws EOFException, IOException {
-        byte[] ret;
-        ret = db.read(tr -> {
-            byte[] result = tr.get(Tuple.from(key).pack()).join();
-            return result;
-        });
-        if (ret != null) {
-            key++;
+    public byte[] get(long key) throws IOException {
+        final byte[] keyBytes = keys.encode(key);
+        return db.read(tr -> tr.get(keyBytes).join());
+    }
+
+    @Override
+    public void scan(long startKey, int maxKeys, ReadBatch<byte[]> batch) throws IOException {
+        final byte[] beginKey = keys.encode(startKey);
+        final byte[] endKey = KeySpace.toBytes(startKey + maxKeys);
+        final List<KeyValue> values = db.read(tr -> tr.getRange(beginKey, endKey, maxKeys).asList().join());
+        long key = startKey;
+        for (KeyValue kv : values) {
+            if (KeySpace.decode(kv.getKey(), 0) != key++) {
+                return;
+            }
+            batch.add(kv.getValue());
         }
-        return ret;
     }
 
     @Override
@@ -56,4 +64,4 @@ public class FoundationDBReader implements Reader<byte[]> {
             this.db.close();
         }
     }
-}
\ No newline at end of file
+}
@@ -11,45 +11,49 @@ package io.sbk.FoundationDB;
 
 import com.apple.foundationdb.Database;
 import com.apple.foundationdb.FDB;
-import com.apple.foundationdb.tuple.Tuple;
+import io.sbk.api.AbstractKeyValueWriter;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Writer;
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for Writer.
  */
-public class FoundationDBWriter implements Writer<byte[]> {
+public class FoundationDBWriter extends AbstractKeyValueWriter<byte[]> {
     final private FoundationDBConfig config;
     final private Database db;
-    private long key;
 
     public FoundationDBWriter(int id, ParameterOptions params, FoundationDBConfig config, FDB fdb, Database db) throws IOException {
-        this.key = FoundationDB.generateStartKey(id);
+        super(id, params);
         this.config = config;
         if (config.multiClient) {
             this.db = fdb.open(config.cFile);
         } else {
             this.db = db;
         }
-        this.db.run(tr -> {
-            tr.clear(Tuple.from(key + 1).pack(), Tuple.from(key + 1 + Integer.MAX_VALUE).pack());
-            return null;
-        });
+        deleteAll();
     }
 
     @Override
-    public CompletableFuture writeAsync(byte[] data) throws IOException {
-        final long startKey = key++;
-        return db.run(tr -> {
-            tr.set(Tuple.from(startKey).pack(), data);
+    public void put(long key, byte[] data) throws IOException {
+        final byte[] keyBytes = keys.encode(key);
+        db.run(tr -> {
+            tr.set(keyBytes, data);
             return null;
         });
     }
 
     @Override
-    public void sync() throws IOException {
+    public boolean isDeleteSupported() {
+        return true;
+    }
+
+    @Override
+    public void delete(long startKey, long endKey) throws IOException {
+        db.run(tr -> {
+            tr.clear(KeySpace.toBytes(startKey), KeySpace.toBytes(endKey));
+            return null;
+        });
     }
 
     @Override
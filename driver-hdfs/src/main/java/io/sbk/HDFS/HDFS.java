@@ -13,6 +13,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 import org.apache.hadoop.conf.Configuration;
@@ -22,6 +23,7 @@ import org.apache.hadoop.fs.Path;
 /**
  * Class for HDFS Benchmarking.
  */
+@StorageDriver
 public class HDFS implements Storage<byte[]> {
     private static final String FSTYPE = "fs.defaultFS";
     private String fsType;
@@ -12,12 +12,14 @@ package io.sbk.Hive;
 import io.sbk.Jdbc.Jdbc;
 import io.sbk.api.DataWriter;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 
 /**
  * Class for Hive.
  */
+@StorageDriver
 public class Hive extends Jdbc {
     private final static String CONFIGFILE = "hive.properties";
 
@@ -17,6 +17,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.Ignition;
 import org.apache.ignite.client.ClientCache;
@@ -29,6 +30,7 @@ import java.util.Objects;
 /**
  * Class for Ignite Benchmarking.
  */
+@StorageDriver
 public class Ignite implements Storage<byte[]> {
     private final static String CONFIGFILE = "sbk-ignite.properties";
     private IgniteConfig config;
@@ -152,8 +154,4 @@ public class Ignite implements Storage<byte[]> {
             return null;
         }
     }
-
-    public static long generateStartKey(int id) {
-        return (long) id * (long) Integer.MAX_VALUE;
-    }
 }
@@ -10,33 +10,26 @@
 
 package io.sbk.Ignite;
 
+import io.sbk.api.AbstractKeyValueReader;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
 import org.apache.ignite.client.ClientCache;
 
-import java.io.EOFException;
 import java.io.IOException;
 
 /**
  * Class for Reader.
  */
-public class IgniteClientReader implements Reader<byte[]> {
-    private long key;
+public class IgniteClientReader extends AbstractKeyValueReader<byte[]> {
     private ClientCache<Long, byte[]> cache;
 
     public IgniteClientReader(int id, ParameterOptions params, ClientCache<Long, byte[]> cache) throws IOException {
-        this.key = Ignite.generateStartKey(id);
+        super(id, params);
         this.cache = cache;
     }
 
     @Override
-    public byte[] read() throws EOFException, IOException {
-        byte[] ret;
-        ret = cache.get(key);
-        if (ret != null) {
-            key++;
-        }
-        return ret;
+    public byte[] get(long key) throws IOException {
+        return cache.get(key);
     }
 
     @Override
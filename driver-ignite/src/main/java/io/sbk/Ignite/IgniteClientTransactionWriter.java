@@ -11,6 +11,7 @@
 package io.sbk.Ignite;
 
 import io.sbk.api.DataType;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
 import io.sbk.perl.SendChannel;
 import io.sbk.api.Status;
@@ -38,7 +39,7 @@ public class IgniteClientTransactionWriter implements Writer<byte[]> {
         this.params = params;
         this.cache = cache;
         this.client = client;
-        this.key = Ignite.generateStartKey(id);
+        this.key = KeySpace.startKey(id);
         this.cnt = 0;
     }
 
@@ -10,33 +10,26 @@
 
 package io.sbk.Ignite;
 
+import io.sbk.api.AbstractKeyValueWriter;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Writer;
 import org.apache.ignite.client.ClientCache;
 
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for Writer.
  */
-public class IgniteClientWriter implements Writer<byte[]> {
-    private long key;
+public class IgniteClientWriter extends AbstractKeyValueWriter<byte[]> {
     private ClientCache<Long, byte[]> cache;
 
     public IgniteClientWriter(int id, ParameterOptions params, ClientCache<Long, byte[]> cache) throws IOException {
-        this.key = Ignite.generateStartKey(id);
+        super(id, params);
         this.cache = cache;
     }
 
     @Override
-    public CompletableFuture writeAsync(byte[] data) throws IOException {
-        cache.put(key++, data);
-        return null;
-    }
-
-    @Override
-    public void sync() throws IOException {
+    public void put(long key, byte[] data) throws IOException {
+        cache.put(key, data);
     }
 
     @Override
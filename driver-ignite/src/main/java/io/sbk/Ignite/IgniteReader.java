@@ -10,33 +10,26 @@
 
 package io.sbk.Ignite;
 
+import io.sbk.api.AbstractKeyValueReader;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
 import org.apache.ignite.IgniteCache;
 
-import java.io.EOFException;
 import java.io.IOException;
 
 /**
  * Class for Reader.
  */
-public class IgniteReader implements Reader<byte[]> {
-    private long key;
+public class IgniteReader extends AbstractKeyValueReader<byte[]> {
     private IgniteCache<Long, byte[]> cache;
 
     public IgniteReader(int id, ParameterOptions params, org.apache.ignite.Ignite ignite, IgniteConfig config) throws IOException {
-        this.key = Ignite.generateStartKey(id);
+        super(id, params);
         this.cache = ignite.getOrCreateCache(config.cacheName);
     }
 
     @Override
-    public byte[] read() throws EOFException, IOException {
-        byte[] ret;
-        ret = cache.get(key);
-        if (ret != null) {
-            key++;
-        }
-        return ret;
+    public byte[] get(long key) throws IOException {
+        return cache.get(key);
     }
 
     @Override
@@ -11,6 +11,7 @@
 package io.sbk.Ignite;
 
 import io.sbk.api.DataType;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
 import io.sbk.perl.SendChannel;
 import io.sbk.api.Status;
@@ -37,7 +38,7 @@ public class IgniteTransactionWriter implements Writer<byte[]> {
         this.params = params;
         this.cache = cache;
         this.ignite = ignite;
-        this.key = Ignite.generateStartKey(id);
+        this.key = KeySpace.startKey(id);
         this.cnt = 0;
     }
 
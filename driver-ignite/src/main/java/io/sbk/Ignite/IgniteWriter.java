@@ -10,41 +10,26 @@
 
 package io.sbk.Ignite;
 
+import io.sbk.api.AbstractKeyValueWriter;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Writer;
 import org.apache.ignite.IgniteCache;
 
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for Writer.
  */
-public class IgniteWriter implements Writer<byte[]> {
-    private long key;
+public class IgniteWriter extends AbstractKeyValueWriter<byte[]> {
     private IgniteCache<Long, byte[]> cache;
 
     public IgniteWriter(int id, ParameterOptions params, org.apache.ignite.Ignite ignite, IgniteConfig config) throws IOException {
-        this.key = Ignite.generateStartKey(id);
+        super(id, params);
         this.cache = ignite.getOrCreateCache(config.cacheName);
-
-        /*
-        for (long i = this.key; i < this.key + Integer.MAX_VALUE + 1; i++) {
-            if (cache.containsKey(i)) {
-                cache.clear(i);
-            }
-        }
-        */
-    }
-
-    @Override
-    public CompletableFuture writeAsync(byte[] data) throws IOException {
-        cache.put(key++, data);
-        return null;
     }
 
     @Override
-    public void sync() throws IOException {
+    public void put(long key, byte[] data) throws IOException {
+        cache.put(key, data);
     }
 
     @Override
@@ -16,6 +16,7 @@ import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
 import io.sbk.system.Printer;
 import io.sbk.api.impl.StringHandler;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 import java.sql.Connection;
@@ -34,6 +35,7 @@ import com.fasterxml.jackson.dataformat.javaprop.JavaPropsFactory;
 /**
  * Class for Jdbc.
  */
+@StorageDriver
 public class Jdbc implements Storage<String> {
     private final static String DERBY_NAME = "derby";
     private final static String POSTGRESQL_NAME = "postgresql";
@@ -9,8 +9,10 @@
  */
 package io.sbk.Jdbc;
 
+import io.sbk.api.BatchReader;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
+import io.sbk.api.ReadBatch;
+import io.sbk.api.Reconnectable;
 import io.sbk.system.Printer;
 
 import java.io.EOFException;
@@ -24,17 +26,23 @@ import java.util.Properties;
 
 /**
  * Class for JDBC reader.
+ * In the connection churn mode, the query is run again on the new connection and the rows already read are
+ * skipped.
  */
-public class JdbcReader implements Reader<String> {
+public class JdbcReader implements BatchReader<String>, Reconnectable {
     final public JdbcConfig config;
-    final private Connection conn;
-    final private Statement st;
+    final private Properties props;
     final private String readQuery;
+    final private int batchSize;
+    final private ReadBatch<String> batch;
+    private Connection conn;
+    private Statement st;
     private ResultSet res;
+    private long rows;
 
     public JdbcReader(int id, ParameterOptions params, JdbcConfig config) throws IOException {
         this.config = config;
-        final Properties props = new Properties();
+        this.props = new Properties();
         if (config.user != null) {
             props.put("user", config.user);
 
@@ -42,6 +50,16 @@ public class JdbcReader implements Reader<String> {
         if (config.password != null) {
             props.put("password", config.password);
         }
+        openConnection();
+        readQuery = "SELECT * from "+ config.table;
+        res = null;
+        rows = 0;
+        batchSize = params.getBatchSize();
+        batch = new ReadBatch<>(batchSize);
+    }
+
+    @Override
+    public void openConnection() throws IOException {
         try {
             if (props.isEmpty()) {
                 conn = DriverManager.getConnection(config.url);
@@ -53,8 +71,16 @@ public class JdbcReader implements Reader<String> {
         } catch (SQLException ex) {
             throw  new IOException(ex);
         }
-        readQuery = "SELECT * from "+ config.table;
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
         res = null;
+        try {
+            conn.close();
+        } catch (SQLException ex) {
+            throw new IOException(ex);
+        }
     }
 
     public String getReadQuery() {
@@ -62,10 +88,14 @@ public class JdbcReader implements Reader<String> {
     }
 
     @Override
-    public String read() throws EOFException {
+    public ReadBatch<String> readBatch() throws EOFException {
+        batch.clear();
         if (res == null) {
             try {
                 res = st.executeQuery(getReadQuery());
+                for (long i = 0; i < rows && res.next(); i++) {
+                    // skip the rows read on the previous connections
+                }
             } catch (SQLException ex) {
                 Printer.log.error("JDBC:JdbcReader "+getReadQuery()+" failed");
                 ex.printStackTrace();
@@ -73,9 +103,11 @@ public class JdbcReader implements Reader<String> {
             }
         } else {
             try {
-                if (res.next()) {
-                    return res.getString(2);
-                } else {
+                while (batch.size() < batchSize && res.next()) {
+                    batch.add(res.getString(2));
+                }
+                rows += batch.size();
+                if (batch.size() == 0) {
                     throw  new EOFException("JDBC : file red EOF");
                 }
             } catch ( SQLException ex) {
@@ -83,7 +115,7 @@ public class JdbcReader implements Reader<String> {
                 ex.printStackTrace();
             }
         }
-        return null;
+        return batch;
     }
 
     @Override
@@ -11,6 +11,7 @@ package io.sbk.Jdbc;
 
 import io.sbk.api.DataType;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.Reconnectable;
 import io.sbk.perl.SendChannel;
 import io.sbk.api.Status;
 import io.sbk.perl.Time;
@@ -27,18 +28,20 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for JDBC  Writer.
+ * In the connection churn mode, the pending transaction is committed before the connection is closed.
  */
-public class JdbcWriter implements Writer<String> {
+public class JdbcWriter implements Writer<String>, Reconnectable {
     final public JdbcConfig config;
     final public String  data;
-    final private Connection conn;
-    final private Statement st;
+    final private Properties props;
     final private DataType<String> dType;
     final private String  defaultInsertQuery;
+    private Connection conn;
+    private Statement st;
 
     public JdbcWriter(int writerID, ParameterOptions params,
                        JdbcConfig config, DataType<String> dType) throws IOException {
-        final Properties props = new Properties();
+        this.props = new Properties();
         this.dType = dType;
         if (config.user != null) {
             props.put("user", config.user);
@@ -47,6 +50,14 @@ public class JdbcWriter implements Writer<String> {
         if (config.password != null) {
             props.put("password", config.password);
         }
+        this.config = config;
+        openConnection();
+        this.data = dType.create(params.getRecordSize());
+        this.defaultInsertQuery = "INSERT INTO " + this.config.table + " (DATA) VALUES ('" + this.data + "')";
+    }
+
+    @Override
+    public void openConnection() throws IOException {
         try {
             if (props.isEmpty()) {
                 conn = DriverManager.getConnection(config.url);
@@ -59,9 +70,12 @@ public class JdbcWriter implements Writer<String> {
         } catch (SQLException ex) {
             throw  new IOException(ex);
         }
-        this.config = config;
-        this.data = dType.create(params.getRecordSize());
-        this.defaultInsertQuery = "INSERT INTO " + this.config.table + " (DATA) VALUES ('" + this.data + "')";
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        sync();
+        close();
     }
 
     public String gerWriteQuery() {
@@ -16,6 +16,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 
 import java.io.IOException;
@@ -32,6 +33,7 @@ import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 /**
  * Class for Kafka Benchmarking.
  */
+@StorageDriver
 public class Kafka implements Storage<byte[]> {
     private final static String CONFIGFILE = "kafka.properties";
     private KafkaConfig config;
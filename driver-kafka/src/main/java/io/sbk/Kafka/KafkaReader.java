@@ -9,18 +9,15 @@
  */
 package io.sbk.Kafka;
 
-import io.sbk.api.DataType;
+import io.sbk.api.BatchReader;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
+import io.sbk.api.ReadBatch;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Properties;
 import java.util.Arrays;
 
-import io.sbk.perl.SendChannel;
-import io.sbk.api.Status;
-import io.sbk.perl.Time;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -28,66 +25,30 @@ import org.apache.kafka.clients.consumer.KafkaConsumer;
 /**
  * Class for Kafka reader/consumer.
  */
-public class KafkaReader implements Reader<byte[]> {
+public class KafkaReader implements BatchReader<byte[]> {
     final private KafkaConsumer<byte[], byte[]> consumer;
     final private Duration timeoutDuration;
+    final private ReadBatch<byte[]> batch;
 
     public KafkaReader(int id, ParameterOptions params, String topicName, Properties consumerProps) throws IOException {
         this.consumer = new KafkaConsumer<>(consumerProps);
         this.consumer.subscribe(Arrays.asList(topicName));
         this.timeoutDuration = Duration.ofMillis(params.getTimeoutMS());
+        this.batch = new ReadBatch<>();
     }
 
     @Override
-    public void recordRead(DataType dType, int size, Time time, Status status, SendChannel sendChannel, int id) throws IOException {
-        status.startTime = time.getCurrentTime();
+    public ReadBatch<byte[]> readBatch() throws IOException {
         final ConsumerRecords<byte[], byte[]> records = consumer.poll(timeoutDuration);
-        status.endTime = time.getCurrentTime();
-        if (records.isEmpty()) {
-            status.records = 0;
-        } else {
-            status.bytes = 0;
-            status.records = 0;
-            for (ConsumerRecord<byte[], byte[]> record : records) {
-                status.bytes += record.value().length;
-                status.records += 1;
-            }
-            sendChannel.send(id, status.startTime, status.endTime, status.bytes, status.records);
+        batch.clear();
+        for (ConsumerRecord<byte[], byte[]> record : records) {
+            batch.add(record.value(), record.value().length);
         }
-    }
-
-    @Override
-    public void recordReadTime(DataType dType, int size, Time time, Status status, SendChannel sendChannel, int id) throws IOException {
-        final ConsumerRecords<byte[], byte[]> records = consumer.poll(timeoutDuration);
-        status.endTime = time.getCurrentTime();
-        if (records.isEmpty()) {
-            status.records = 0;
-        } else {
-            status.bytes = 0;
-            status.records = 0;
-            status.startTime = 0;
-            for (ConsumerRecord<byte[], byte[]> record : records) {
-                status.bytes += record.value().length;
-                status.records += 1;
-                if (status.startTime == 0) {
-                    status.startTime = dType.getTime(record.value());
-                }
-            }
-            sendChannel.send(id, status.startTime, status.endTime, status.bytes, status.records);
-        }
-    }
-
-    @Override
-    public byte[] read() {
-        final ConsumerRecords<byte[], byte[]> records = consumer.poll(timeoutDuration);
-        if (records.isEmpty()) {
-            return null;
-        }
-        return records.iterator().next().value();
+        return batch;
     }
 
     @Override
     public void close() {
         consumer.close();
     }
-}
\ No newline at end of file
+}
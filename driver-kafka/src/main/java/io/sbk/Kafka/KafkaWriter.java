@@ -8,12 +8,9 @@
  *     http://www.apache.org/licenses/LICENSE-2.0
  */
 package io.sbk.Kafka;
-import io.sbk.api.DataType;
+import io.sbk.api.AbstractCallbackWriter;
 import io.sbk.api.ParameterOptions;
-import io.sbk.perl.SendChannel;
-import io.sbk.api.Status;
-import io.sbk.perl.Time;
-import io.sbk.api.Writer;
+import io.sbk.api.WriteCallback;
 
 import java.io.IOException;
 import java.util.Properties;
@@ -26,7 +23,7 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 /**
  * Class for Kafka writer/producer.
  */
-public class KafkaWriter implements Writer<byte[]> {
+public class KafkaWriter extends AbstractCallbackWriter<byte[]> {
     final private KafkaProducer<byte[], byte[]> producer;
     final private String topicName;
 
@@ -36,15 +33,13 @@ public class KafkaWriter implements Writer<byte[]> {
     }
 
     @Override
-    public void recordWrite(DataType<byte[]> dType, byte[] data, int size, Time time,
-                            Status status, SendChannel record, int id) {
-        final long ctime = time.getCurrentTime();
-        status.startTime = ctime;
-        status.bytes = size;
-        status.records = 1;
+    public void writeAsync(byte[] data, int id, long startTime, int size, WriteCallback callback) {
         producer.send(new ProducerRecord<>(topicName, data), (metadata, exception) -> {
-            final long endTime = time.getCurrentTime();
-            record.send(id, ctime, endTime, size, 1);
+            if (exception == null) {
+                callback.complete(id, startTime, size, 1);
+            } else {
+                callback.fail(id, startTime, exception);
+            }
         });
     }
 
@@ -9,11 +9,13 @@
  */
 
 package io.sbk.MariaDB;
+import io.sbk.api.StorageDriver;
 import io.sbk.MySQL.MySQL;
 
 /**
  * Class for MySQL.
  */
+@StorageDriver
 public class MariaDB extends MySQL {
     private final static String CONFIGFILE = "mariadb.properties";
 
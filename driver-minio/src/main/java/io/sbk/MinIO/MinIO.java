@@ -18,6 +18,7 @@ import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.impl.ByteArray;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 
@@ -44,6 +45,7 @@ import io.sbk.system.Printer;
 /**
  * Class for MinIO.
  */
+@StorageDriver
 public class MinIO implements Storage<byte[]> {
     private final static String CONFIGFILE = "minio.properties";
     private MinIOConfig config;
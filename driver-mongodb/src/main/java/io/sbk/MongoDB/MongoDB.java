@@ -20,6 +20,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 import org.bson.Document;
 
 import java.io.IOException;
@@ -28,6 +29,7 @@ import java.util.Objects;
 /**
  * Class for MongoDB Benchmarking.
  */
+@StorageDriver
 public class MongoDB implements Storage<byte[]> {
     private final static String CONFIGFILE = "mongodb.properties";
     private MongoDBConfig config;
@@ -113,8 +115,4 @@ public class MongoDB implements Storage<byte[]> {
         }
     }
 
-
-    public static long generateStartKey(int id) {
-        return (long) id * (long) Integer.MAX_VALUE;
-    }
 }
@@ -13,6 +13,7 @@ package io.sbk.MongoDB;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import io.sbk.api.DataType;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.Reader;
 import io.sbk.perl.SendChannel;
@@ -35,7 +36,7 @@ public class MongoDBMultiReader implements Reader<byte[]> {
     private MongoCursor<Document> cursor;
 
     public MongoDBMultiReader(int id, ParameterOptions params, MongoDBConfig config, MongoCollection<Document> databaseCollection) throws IOException {
-        this.key = MongoDB.generateStartKey(id);
+        this.key = KeySpace.startKey(id);
         this.cnt = 0;
         this.params = params;
         this.databaseCollection = databaseCollection;
@@ -10,87 +10,44 @@
 package io.sbk.MongoDB;
 
 import com.mongodb.client.MongoCollection;
-import io.sbk.api.DataType;
+import io.sbk.api.AbstractBatchWriter;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
-import io.sbk.perl.SendChannel;
-import io.sbk.api.Status;
-import io.sbk.perl.Time;
-import io.sbk.api.Writer;
 import org.bson.Document;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for Multi key Writer.
  */
-public class MongoDBMultiWriter implements Writer<byte[]> {
+public class MongoDBMultiWriter extends AbstractBatchWriter<byte[]> {
     final private MongoCollection<Document> databaseCollection;
-    final private ParameterOptions params;
     private long key;
-    private long cnt;
 
     public MongoDBMultiWriter(int id, ParameterOptions params, MongoDBConfig config,
                               MongoCollection<Document> databaseCollection) throws IOException {
-        this.key = MongoDB.generateStartKey(id);
-        this.cnt = 0;
-        this.params = params;
+        super(params);
+        this.key = KeySpace.startKey(id);
         this.databaseCollection = databaseCollection;
     }
 
     @Override
-    public CompletableFuture writeAsync(byte[] data) throws IOException {
-        Document document = new Document();
-        document.put("index",  Long.toString(key++));
-        document.put("data", data);
-        databaseCollection.insertOne(document);
-        return null;
-    }
-
-    @Override
-    public void sync() throws IOException {
-    }
-
-    @Override
-    public void close() throws  IOException {
-    }
-
-    @Override
-    public void writeSetTime(DataType<byte[]> dType, byte[] data, int size, Time time, Status status) throws IOException {
-        final int recs =  params.getRecordsPerSync();
-        final long ctime = time.getCurrentTime();
-        status.bytes = size * recs;
-        status.records =  recs;
-        status.startTime = ctime;
-        final LinkedList<Document> lt = new LinkedList<>();
-        for (int i = 0; i < recs; i++) {
+    public CompletableFuture writeBatchAsync(List<byte[]> records) throws IOException {
+        final List<Document> documents = new ArrayList<>(records.size());
+        for (byte[] data : records) {
             Document document = new Document();
-            document.put("index", Long.toString(key++));
+            document.put("index", key++);
             document.put("data", data);
-            lt.add(document);
+            documents.add(document);
         }
-        databaseCollection.insertMany(lt);
-        cnt += recs;
+        databaseCollection.insertMany(documents);
+        return null;
     }
 
     @Override
-    public void recordWrite(DataType<byte[]> dType, byte[] data, int size, Time time,
-                            Status status, SendChannel sendChannel, int id) throws IOException {
-        final int recs =  params.getRecordsPerSync();
-        final LinkedList<Document> lt = new LinkedList<>();
-        status.bytes = size * recs;
-        status.records =  recs;
-        status.startTime = time.getCurrentTime();
-        for (int i = 0; i < recs; i++) {
-            Document document = new Document();
-            document.put("index", Long.toString(key++));
-            document.put("data", data);
-            lt.add(document);
-        }
-        databaseCollection.insertMany(lt);
-        status.endTime = time.getCurrentTime();
-        sendChannel.send(id, status.startTime, status.endTime, status.bytes, status.records);
-        cnt += recs;
+    public void close() throws  IOException {
     }
-}
\ No newline at end of file
+}
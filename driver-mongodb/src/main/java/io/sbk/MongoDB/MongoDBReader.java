@@ -10,45 +10,82 @@
 
 package io.sbk.MongoDB;
 
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import io.sbk.api.AbstractKeyValueReader;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
+import io.sbk.api.ReadBatch;
+import io.sbk.api.Reconnectable;
 import org.bson.Document;
 import org.bson.types.Binary;
 
-import java.io.EOFException;
 import java.io.IOException;
 
 /**
  * Class for Reader.
+ * In the connection churn mode, the reader has its own client; the keys continue across the connections.
  */
-public class MongoDBReader implements Reader<byte[]> {
-    final private  MongoCollection<Document> databaseCollection;
+public class MongoDBReader extends AbstractKeyValueReader<byte[]> implements Reconnectable {
     final private ParameterOptions params;
-    private long key;
-    private int cnt;
+    final private MongoDBConfig config;
+    private MongoClient client;
+    private MongoCollection<Document> databaseCollection;
 
     public MongoDBReader(int id, ParameterOptions params, MongoDBConfig config, MongoCollection<Document> databaseCollection) throws IOException {
-        this.key = MongoDB.generateStartKey(id);
-        this.cnt = 0;
+        super(id, params);
         this.params = params;
-        this.databaseCollection = databaseCollection;
+        this.config = config;
+        if (params.getConnectionOps() > 0) {
+            openConnection();
+        } else {
+            this.databaseCollection = databaseCollection;
+        }
+    }
+
+    @Override
+    public void openConnection() throws IOException {
+        client = MongoClients.create(config.url);
+        databaseCollection = client.getDatabase(config.dbName).getCollection(config.collection);
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        client.close();
+    }
+
+    @Override
+    public byte[] get(long key) throws IOException {
+        final Document document = databaseCollection.find(Filters.eq("index", key)).first();
+        if (document == null) {
+            return null;
+        }
+        return document.get("data", Binary.class).getData();
     }
 
     @Override
-    public byte[] read() throws EOFException, IOException {
-        MongoCursor<Document> cursor = databaseCollection.find(Filters.eq("index", Long.toString(key))).iterator();
-        if (cursor.hasNext()) {
-            key++;
-            Binary bin = cursor.next().get("data", org.bson.types.Binary.class);
-            return bin.getData();
+    public void scan(long startKey, int maxKeys, ReadBatch<byte[]> batch) throws IOException {
+        long key = startKey;
+        try (MongoCursor<Document> cursor = databaseCollection
+                .find(Filters.and(Filters.gte("index", startKey), Filters.lt("index", startKey + maxKeys)))
+                .sort(Sorts.ascending("index")).limit(maxKeys).iterator()) {
+            while (cursor.hasNext()) {
+                final Document document = cursor.next();
+                if (document.getLong("index") != key++) {
+                    return;
+                }
+                batch.add(document.get("data", Binary.class).getData());
+            }
         }
-        return null;
     }
 
     @Override
     public void close() throws  IOException {
+        if (client != null) {
+            client.close();
+        }
     }
 }
\ No newline at end of file
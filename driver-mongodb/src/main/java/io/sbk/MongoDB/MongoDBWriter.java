@@ -9,43 +9,72 @@
  */
 package io.sbk.MongoDB;
 
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import io.sbk.api.AbstractKeyValueWriter;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Writer;
+import io.sbk.api.Reconnectable;
 import org.bson.Document;
 
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for Writer.
+ * In the connection churn mode, the writer has its own client; the keys continue across the connections.
  */
-public class MongoDBWriter implements Writer<byte[]> {
-    final private MongoCollection<Document> databaseCollection;
+public class MongoDBWriter extends AbstractKeyValueWriter<byte[]> implements Reconnectable {
     final private ParameterOptions params;
-    private long key;
+    final private MongoDBConfig config;
+    private MongoClient client;
+    private MongoCollection<Document> databaseCollection;
 
     public MongoDBWriter(int id, ParameterOptions params, MongoDBConfig config, MongoCollection<Document> databaseCollection) throws IOException {
-        this.key = MongoDB.generateStartKey(id);
+        super(id, params);
         this.params = params;
-        this.databaseCollection = databaseCollection;
+        this.config = config;
+        if (params.getConnectionOps() > 0) {
+            openConnection();
+        } else {
+            this.databaseCollection = databaseCollection;
+        }
     }
 
     @Override
-    public CompletableFuture writeAsync(byte[] data) throws IOException {
+    public void openConnection() throws IOException {
+        client = MongoClients.create(config.url);
+        databaseCollection = client.getDatabase(config.dbName).getCollection(config.collection);
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        client.close();
+    }
+
+    @Override
+    public void put(long key, byte[] data) throws IOException {
         Document document = new Document();
-        document.put("index",  Long.toString(key++));
+        document.put("index", key);
         document.put("data", data);
         databaseCollection.insertOne(document);
-        return null;
     }
 
     @Override
-    public void sync() throws IOException {
+    public boolean isDeleteSupported() {
+        return true;
+    }
+
+    @Override
+    public void delete(long startKey, long endKey) throws IOException {
+        databaseCollection.deleteMany(Filters.and(Filters.gte("index", startKey), Filters.lt("index", endKey)));
     }
 
     @Override
-    public void close() throws  IOException {
+    public void close() throws IOException {
+        if (client != null) {
+            client.close();
+        }
     }
 
 
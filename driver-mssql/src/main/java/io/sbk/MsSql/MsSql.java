@@ -10,11 +10,13 @@
 
 package io.sbk.MsSql;
 
+import io.sbk.api.StorageDriver;
 import io.sbk.Jdbc.Jdbc;
 
 /**
  * Class for MsSql.
  */
+@StorageDriver
 public class MsSql extends Jdbc {
     private final static String CONFIGFILE = "mssql.properties";
 
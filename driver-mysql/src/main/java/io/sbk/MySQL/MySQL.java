@@ -10,11 +10,13 @@
 
 package io.sbk.MySQL;
 
+import io.sbk.api.StorageDriver;
 import io.sbk.Jdbc.Jdbc;
 
 /**
  * Class for MySQL.
  */
+@StorageDriver
 public class MySQL extends Jdbc {
     private final static String CONFIGFILE = "mysql.properties";
 
@@ -12,6 +12,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 import java.io.IOException;
 import io.nats.client.Options;
 
@@ -19,21 +20,26 @@ import io.nats.client.Options;
 /**
  * Class for Nats.
  */
+@StorageDriver
 public class Nats implements Storage<byte[]> {
     private String topicName;
     private String uri;
+    private int window;
     private Options options;
 
     @Override
     public void addArgs(final ParameterOptions params) throws IllegalArgumentException {
         params.addOption("topic", true, "Topic name");
         params.addOption("uri", true, "Server URI");
+        params.addOption("window", true, "Number of messages published per flush by the flow writers; " +
+                "default: 0, writers without the flow control");
     }
 
     @Override
     public void parseArgs(final ParameterOptions params) throws IllegalArgumentException {
         topicName =  params.getOptionValue("topic", null);
         uri = params.getOptionValue("uri", null);
+        window = Integer.parseInt(params.getOptionValue("window", "0"));
         if (uri == null) {
             throw new IllegalArgumentException("Error: Must specify Nats server IP address");
         }
@@ -58,6 +64,9 @@ public class Nats implements Storage<byte[]> {
     @Override
     public DataWriter<byte[]> createWriter(final int id, final ParameterOptions params) {
         try {
+            if (window > 0) {
+                return new NatsFlowWriter(id, params, topicName, options, window);
+            }
             return new NatsWriter(id, params, topicName, options);
         } catch (IOException ex) {
             ex.printStackTrace();
@@ -68,7 +77,7 @@ public class Nats implements Storage<byte[]> {
     @Override
     public DataReader<byte[]> createReader(final int id, final ParameterOptions params) {
         try {
-            return new NatsCallbackReader(id, params, topicName, topicName + "-" + id, options);
+            return new NatsFlowReader(id, params, topicName, topicName + "-" + id, options);
         } catch (IOException ex) {
             ex.printStackTrace();
             return null;
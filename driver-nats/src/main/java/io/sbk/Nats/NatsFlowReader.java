@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.sbk.Nats;
+
+import io.sbk.api.AbstractFlowReader;
+import io.sbk.api.ParameterOptions;
+import io.sbk.api.Reconnectable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeoutException;
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import io.nats.client.Nats;
+import io.nats.client.Options;
+
+/**
+ * Class for NATS Push Reader.
+ * The messages of the dispatcher are published with the demand of the benchmark; the dispatcher blocks once
+ * the publisher buffer is full.
+ * In the connection churn mode, the dispatcher of the new connection publishes to the same subscriber.
+ */
+public class NatsFlowReader extends AbstractFlowReader<byte[]> implements Reconnectable {
+    final private String topic;
+    final private String subscriptionName;
+    final private Options option;
+    final private SubmissionPublisher<byte[]> publisher;
+    private Connection cn;
+    private Dispatcher consumer;
+
+    public NatsFlowReader(int readerId, ParameterOptions params, String topicName,
+                          String subscriptionName, Options option) throws IOException {
+        this.topic = topicName;
+        this.subscriptionName = subscriptionName;
+        this.option = option;
+        this.publisher = new SubmissionPublisher<>();
+        connect();
+    }
+
+    private void connect() throws IOException {
+        try {
+            cn = Nats.connect(option);
+        } catch (InterruptedException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private void dispatch() throws IOException {
+        consumer = cn.createDispatcher(msg -> {
+             publisher.submit(msg.getData());
+        });
+        consumer.subscribe(topic, subscriptionName);
+        try {
+            cn.flush(Duration.ZERO);
+        } catch (InterruptedException | TimeoutException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super byte[]> subscriber) throws IOException {
+        publisher.subscribe(subscriber);
+        dispatch();
+    }
+
+    @Override
+    public void openConnection() throws IOException {
+        connect();
+        dispatch();
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        try {
+            cn.close();
+        } catch (InterruptedException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Override
+    public void stop() throws IOException {
+        publisher.close();
+        try {
+            cn.close();
+        } catch (InterruptedException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
\ No newline at end of file
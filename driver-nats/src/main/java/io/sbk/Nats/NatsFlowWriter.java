@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.sbk.Nats;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+import io.nats.client.Options;
+import io.sbk.api.AbstractFlowWriter;
+import io.sbk.api.ParameterOptions;
+import io.sbk.api.Reconnectable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Class for NATS Flow Writer.
+ * The subscriber requests a window of messages, publishes them and requests the next window once the server
+ * has processed the window, so the writer is paced by the flush round trips of the server.
+ * In the connection churn mode, the pending messages are flushed before the connection is closed.
+ */
+public class NatsFlowWriter extends AbstractFlowWriter<byte[]> implements Reconnectable {
+    final private String topic;
+    final private Options option;
+    final private int window;
+    private Connection producer;
+
+    public NatsFlowWriter(int writerID, ParameterOptions params, String topicName, Options option,
+                          int window) throws IOException {
+        this.topic = topicName;
+        this.option = option;
+        this.window = window;
+        openConnection();
+    }
+
+    private class WindowSubscriber implements Flow.Subscriber<byte[]> {
+        private Flow.Subscription subscription;
+        private int published;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(window);
+        }
+
+        @Override
+        public void onNext(byte[] data) {
+            producer.publish(topic, data);
+            if (++published < window) {
+                return;
+            }
+            published = 0;
+            try {
+                sync();
+            } catch (IOException ex) {
+                onError(ex);
+                return;
+            }
+            subscription.request(window);
+        }
+
+        @Override
+        public void onError(Throwable ex) {
+            ex.printStackTrace();
+            subscription.cancel();
+        }
+
+        @Override
+        public void onComplete() {
+            try {
+                sync();
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public Flow.Subscriber<? super byte[]> getSubscriber() throws IOException {
+        return new WindowSubscriber();
+    }
+
+    @Override
+    public void openConnection() throws IOException {
+        try {
+            producer = Nats.connect(option);
+        } catch (InterruptedException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        sync();
+        stop();
+    }
+
+    @Override
+    public void sync() throws IOException {
+        try {
+            producer.flush(Duration.ZERO);
+        } catch (InterruptedException | TimeoutException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Override
+    public void stop() throws IOException {
+        try {
+            producer.close();
+        } catch (InterruptedException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
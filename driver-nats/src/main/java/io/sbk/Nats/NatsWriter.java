@@ -10,6 +10,7 @@
 package io.sbk.Nats;
 import io.nats.client.Connection;
 import io.nats.client.Nats;
+import io.sbk.api.Reconnectable;
 import io.sbk.api.Writer;
 import io.sbk.api.ParameterOptions;
 
@@ -21,14 +22,22 @@ import io.nats.client.Options;
 
 /**
  * Class for NATS Writer.
+ * In the connection churn mode, the pending messages are flushed before the connection is closed.
  */
-public class NatsWriter implements Writer<byte[]> {
-    final private Connection producer;
+public class NatsWriter implements Writer<byte[]>, Reconnectable {
     final private String topic;
+    final private Options option;
+    private Connection producer;
 
     public NatsWriter(int writerID, ParameterOptions params,
                            String topicName, Options option) throws IOException {
         this.topic = topicName;
+        this.option = option;
+        openConnection();
+    }
+
+    @Override
+    public void openConnection() throws IOException {
         try {
             producer = Nats.connect(option);
         } catch (InterruptedException ex) {
@@ -36,6 +45,12 @@ public class NatsWriter implements Writer<byte[]> {
         }
     }
 
+    @Override
+    public void closeConnection() throws IOException {
+        sync();
+        close();
+    }
+
     @Override
     public CompletableFuture writeAsync(byte[] data) throws IOException {
         producer.publish(topic, data);
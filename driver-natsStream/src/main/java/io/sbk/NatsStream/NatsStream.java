@@ -15,6 +15,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 
 import java.io.IOException;
@@ -24,6 +25,7 @@ import io.nats.streaming.Options.Builder;
 /**
  * Class for Nats Streaming.
  */
+@StorageDriver
 public class NatsStream implements Storage<byte[]> {
     private final static String CONFIGFILE = "natsstream.properties";
     private String topicName;
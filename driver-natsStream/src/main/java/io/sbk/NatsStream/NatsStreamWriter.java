@@ -8,12 +8,9 @@
  *     http://www.apache.org/licenses/LICENSE-2.0
  */
 package io.sbk.NatsStream;
-import io.sbk.api.DataType;
-import io.sbk.perl.SendChannel;
-import io.sbk.api.Status;
-import io.sbk.perl.Time;
-import io.sbk.api.Writer;
+import io.sbk.api.AbstractCallbackWriter;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.WriteCallback;
 
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
@@ -22,12 +19,11 @@ import io.nats.streaming.Options.Builder;
 import io.nats.streaming.AckHandler;
 import io.nats.streaming.NatsStreaming;
 import io.nats.streaming.StreamingConnection;
-import io.sbk.system.Printer;
 
 /**
  * Class for NATS Stream Writer.
  */
-public class NatsStreamWriter implements Writer<byte[]> {
+public class NatsStreamWriter extends AbstractCallbackWriter<byte[]> {
     final private StreamingConnection producer;
     final private String topic;
 
@@ -43,25 +39,18 @@ public class NatsStreamWriter implements Writer<byte[]> {
      }
 
     @Override
-    public void recordWrite(DataType<byte[]> dType, byte[] data, int size, Time time,
-                            Status status, SendChannel record, int id) {
-        final long ctime = time.getCurrentTime();
-        status.startTime = ctime;
-        status.bytes = size;
-        status.records = 1;
-        final String[] guid = new String[1];
+    public void writeAsync(byte[] data, int id, long startTime, int size, WriteCallback callback) {
         final AckHandler acb = (s, e) -> {
-            if ((e != null) || !guid[0].equals(s)) {
-                Printer.log.error("NAT Streaming Writer failed !");
+            if (e != null) {
+                callback.fail(id, startTime, e);
             } else {
-                final long endTime = time.getCurrentTime();
-                record.send(id, ctime, endTime, size, 1);
+                callback.complete(id, startTime, size, 1);
             }
         };
         try {
-            guid[0] = producer.publish(topic, data, acb);
+            producer.publish(topic, data, acb);
         } catch (InterruptedException | TimeoutException | IOException ex) {
-            ex.printStackTrace();
+            callback.fail(id, startTime, ex);
         }
     }
 
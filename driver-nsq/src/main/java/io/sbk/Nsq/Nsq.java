@@ -15,6 +15,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 
 import java.io.IOException;
@@ -22,6 +23,7 @@ import java.io.IOException;
 /**
  * Class for Nsq.
  */
+@StorageDriver
 public class Nsq implements Storage<byte[]> {
     private final static String CONFIGFILE = "nsq.properties";
     private String topicName;
@@ -13,6 +13,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.Storage;
+import io.sbk.api.StorageDriver;
 
 
 import java.io.IOException;
@@ -20,6 +21,7 @@ import java.io.IOException;
 /**
  * Class for Null Storage driver.
  */
+@StorageDriver
 public class Null implements Storage<byte[]> {
     private long n;
 
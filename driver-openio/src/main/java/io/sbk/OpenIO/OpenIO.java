@@ -10,8 +10,10 @@
 
 package io.sbk.OpenIO;
 
+import io.sbk.api.StorageDriver;
 import io.sbk.MinIO.MinIO;
 
+@StorageDriver
 public class OpenIO extends MinIO {
     private final static String CONFIGFILE = "openio.properties";
 
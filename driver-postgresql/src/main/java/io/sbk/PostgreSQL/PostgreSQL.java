@@ -10,11 +10,13 @@
 
 package io.sbk.PostgreSQL;
 
+import io.sbk.api.StorageDriver;
 import io.sbk.Jdbc.Jdbc;
 
 /**
  * Class for PostgreSQL.
  */
+@StorageDriver
 public class PostgreSQL extends Jdbc {
     private final static String CONFIGFILE = "postgresql.properties";
 
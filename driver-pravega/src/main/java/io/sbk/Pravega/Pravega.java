@@ -17,6 +17,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 import java.net.URI;
@@ -33,6 +34,7 @@ import io.pravega.client.EventStreamClientFactory;
 /**
  * Class for Pravega benchmarking.
  */
+@StorageDriver
 public class Pravega implements Storage<byte[]> {
     private final static String CONFIGFILE = "pravega.properties";
     private PravegaConfig config;
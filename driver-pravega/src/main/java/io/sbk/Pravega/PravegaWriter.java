@@ -55,9 +55,10 @@ public class PravegaWriter implements Writer<byte[]> {
         status.records = 1;
         status.bytes = size;
         ret = writeAsync(data);
+        final long submitTime = time.getCurrentTime();
         ret.thenAccept(d -> {
             final long endTime = time.getCurrentTime();
-            record.send(id, ctime, endTime, size, 1);
+            record.sendAck(id, ctime, submitTime, endTime, size, 1);
         });
     }
 
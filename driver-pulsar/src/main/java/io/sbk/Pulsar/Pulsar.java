@@ -15,6 +15,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -25,6 +26,7 @@ import org.apache.pulsar.client.api.PulsarClientException;
 /**
  * Class for Pulsar Benchmarking.
  */
+@StorageDriver
 public class Pulsar implements Storage<byte[]> {
     private static final String CONFIGFILE = "pulsar.properties";
     private static final String DEFAULT_NAMESPACE = null;
@@ -12,6 +12,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 
 import java.io.IOException;
@@ -24,6 +25,7 @@ import io.sbk.system.Printer;
 /**
  * Class for RabbitMQ.
  */
+@StorageDriver
 public class RabbitMQ implements Storage<byte[]> {
     final private static String USER = "guest";
     final private static String PASSWORD = "guest";
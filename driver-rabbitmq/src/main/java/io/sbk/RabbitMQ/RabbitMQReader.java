@@ -9,11 +9,14 @@
  */
 package io.sbk.RabbitMQ;
 
-import io.sbk.api.Reader;
+import io.sbk.api.BatchReader;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.ReadBatch;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -30,10 +33,12 @@ import com.rabbitmq.client.Envelope;
 /**
  * Class for RabbitMQ Reader.
  */
-public class RabbitMQReader extends DefaultConsumer implements Reader<byte[]> {
+public class RabbitMQReader extends DefaultConsumer implements BatchReader<byte[]> {
     final private Channel channel;
     final private BlockingQueue<byte[]> queue;
     final private ParameterOptions params;
+    final private ReadBatch<byte[]> batch;
+    final private List<byte[]> drained;
 
     public RabbitMQReader(int readerId, ParameterOptions params, Connection connection, String topicName,
                           String queueName) throws IOException {
@@ -45,6 +50,8 @@ public class RabbitMQReader extends DefaultConsumer implements Reader<byte[]> {
         channel.queueBind(queueName, topicName, "");
         channel.basicConsume(queueName, true, this);
         queue = new LinkedBlockingQueue();
+        batch = new ReadBatch<>(params.getBatchSize());
+        drained = new ArrayList<>(params.getBatchSize());
     }
 
     @Override
@@ -53,13 +60,24 @@ public class RabbitMQReader extends DefaultConsumer implements Reader<byte[]> {
     }
 
     @Override
-    public byte[] read() throws IOException {
+    public ReadBatch<byte[]> readBatch() throws IOException {
+        final byte[] first;
         try {
-            return queue.poll(params.getTimeoutMS(), TimeUnit.MILLISECONDS);
+            first = queue.poll(params.getTimeoutMS(), TimeUnit.MILLISECONDS);
         } catch (InterruptedException ex) {
             ex.printStackTrace();
             throw new IOException(ex);
         }
+        batch.clear();
+        if (first != null) {
+            batch.add(first, first.length);
+            queue.drainTo(drained, params.getBatchSize() - 1);
+            for (byte[] data : drained) {
+                batch.add(data, data.length);
+            }
+            drained.clear();
+        }
+        return batch;
     }
 
     @Override
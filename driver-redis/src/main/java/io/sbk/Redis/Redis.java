@@ -18,12 +18,14 @@ import java.io.IOException;
 
 import io.sbk.system.Printer;
 import io.sbk.api.impl.StringHandler;
+import io.sbk.api.StorageDriver;
 import redis.clients.jedis.Jedis;
 
 
 /**
  * Class for Redis List.
  */
+@StorageDriver
 public class Redis implements Storage<String> {
     private Jedis jedis;
     private Jedis jedisConsumer;
@@ -63,10 +65,10 @@ public class Redis implements Storage<String> {
         try {
             if (params.isWriteAndRead()) {
                 Printer.log.info("Starting Redis Publisher : "+id);
-                return new RedisPublisher(id, params, jedis, listName);
+                return new RedisPublisher(id, params, jedis, serverUri, listName);
             } else {
                 Printer.log.info("Starting Redis Writer : "+id);
-                return new RedisWriter(id, params, jedis, listName);
+                return new RedisWriter(id, params, jedis, serverUri, listName);
             }
         } catch (IOException ex) {
             ex.printStackTrace();
@@ -82,7 +84,7 @@ public class Redis implements Storage<String> {
                 return new RedisConsumer(id, params, jedisConsumer, listName);
             } else {
                 Printer.log.info("Starting Redis Reader : "+id);
-                return new RedisReader(id, params, jedis, listName);
+                return new RedisReader(id, params, jedis, serverUri, listName);
             }
         } catch (IOException ex) {
             ex.printStackTrace();
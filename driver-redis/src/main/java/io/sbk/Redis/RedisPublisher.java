@@ -12,22 +12,49 @@ package io.sbk.Redis;
 
 
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.Reconnectable;
 import io.sbk.api.Writer;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for Redis Publisher.
+ * In the connection churn mode, the publisher has its own connection to the server.
  */
-public class RedisPublisher implements Writer<String> {
-    final private Jedis jedis;
+public class RedisPublisher implements Writer<String>, Reconnectable {
+    final private String serverUri;
     final private String channelName;
+    final private boolean ownConnection;
+    private Jedis jedis;
 
-    public RedisPublisher(int id, ParameterOptions params, Jedis jedis, String channelName) throws IOException {
-        this.jedis = jedis;
+    public RedisPublisher(int id, ParameterOptions params, Jedis jedis, String serverUri, String channelName)
+            throws IOException {
+        this.serverUri = serverUri;
         this.channelName = channelName;
+        this.ownConnection = params.getConnectionOps() > 0;
+        if (ownConnection) {
+            openConnection();
+        } else {
+            this.jedis = jedis;
+        }
+    }
+
+    @Override
+    public void openConnection() throws IOException {
+        jedis = new Jedis(serverUri);
+        try {
+            jedis.connect();
+        } catch (JedisConnectionException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        jedis.close();
     }
 
 
@@ -39,5 +66,8 @@ public class RedisPublisher implements Writer<String> {
 
     @Override
     public void close() throws  IOException {
+        if (ownConnection) {
+            jedis.close();
+        }
     }
 }
\ No newline at end of file
@@ -10,36 +10,94 @@
 
 package io.sbk.Redis;
 
+import io.sbk.api.BatchReader;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
+import io.sbk.api.ReadBatch;
+import io.sbk.api.Reconnectable;
 
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.List;
 
-public class RedisReader implements Reader<String> {
-    final private Jedis jedis;
+/**
+ * Class for Redis Reader.
+ * In the connection churn mode, the reader has its own connection to the server.
+ */
+public class RedisReader implements BatchReader<String>, Reconnectable {
+    final private String serverUri;
     final private String listName;
+    final private int batchSize;
+    final private ReadBatch<String> batch;
+    final private boolean ownConnection;
+    private Jedis jedis;
 
-    public RedisReader(int id, ParameterOptions params, Jedis jedis, String listName) throws IOException {
-        this.jedis = jedis;
+    public RedisReader(int id, ParameterOptions params, Jedis jedis, String serverUri, String listName)
+            throws IOException {
+        this.serverUri = serverUri;
         this.listName = listName;
+        this.batchSize = params.getBatchSize();
+        this.batch = new ReadBatch<>(batchSize);
+        this.ownConnection = params.getConnectionOps() > 0;
+        if (ownConnection) {
+            openConnection();
+        } else {
+            this.jedis = jedis;
+        }
     }
 
+    @Override
+    public void openConnection() throws IOException {
+        jedis = new Jedis(serverUri);
+        try {
+            jedis.connect();
+        } catch (JedisConnectionException ex) {
+            throw new IOException(ex);
+        }
+    }
 
     @Override
-    public String read() throws IOException, EOFException {
-        String ret = jedis.lpop(listName);
-        if (ret == null) {
+    public void closeConnection() throws IOException {
+        jedis.close();
+    }
+
+
+    /**
+     * Pop up to the batch size records from the head of the list;
+     * the range read and the trim run in one transaction.
+     */
+    @Override
+    public ReadBatch<String> readBatch() throws IOException, EOFException {
+        batch.clear();
+        if (batchSize == 1) {
+            final String ret = jedis.lpop(listName);
+            if (ret != null) {
+                batch.add(ret);
+            }
+        } else {
+            final Transaction tr = jedis.multi();
+            final Response<List<String>> range = tr.lrange(listName, 0, batchSize - 1);
+            tr.ltrim(listName, batchSize, -1);
+            tr.exec();
+            for (String data : range.get()) {
+                batch.add(data);
+            }
+        }
+        if (batch.size() == 0) {
             throw  new EOFException();
         }
-        return ret;
+        return batch;
     }
 
 
     @Override
     public void close() throws  IOException {
-
+        if (ownConnection) {
+            jedis.close();
+        }
     }
 }
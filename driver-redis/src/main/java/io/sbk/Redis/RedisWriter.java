@@ -12,22 +12,49 @@ package io.sbk.Redis;
 
 
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.Reconnectable;
 import io.sbk.api.Writer;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for Redis Writer.
+ * In the connection churn mode, the writer has its own connection to the server.
  */
-public class RedisWriter implements Writer<String> {
-    final private Jedis jedis;
+public class RedisWriter implements Writer<String>, Reconnectable {
+    final private String serverUri;
     final private String listName;
+    final private boolean ownConnection;
+    private Jedis jedis;
 
-    public RedisWriter(int id, ParameterOptions params, Jedis jedis, String listName) throws IOException {
-        this.jedis = jedis;
+    public RedisWriter(int id, ParameterOptions params, Jedis jedis, String serverUri, String listName)
+            throws IOException {
+        this.serverUri = serverUri;
         this.listName = listName;
+        this.ownConnection = params.getConnectionOps() > 0;
+        if (ownConnection) {
+            openConnection();
+        } else {
+            this.jedis = jedis;
+        }
+    }
+
+    @Override
+    public void openConnection() throws IOException {
+        jedis = new Jedis(serverUri);
+        try {
+            jedis.connect();
+        } catch (JedisConnectionException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Override
+    public void closeConnection() throws IOException {
+        jedis.close();
     }
 
 
@@ -40,5 +67,8 @@ public class RedisWriter implements Writer<String> {
 
     @Override
     public void close() throws  IOException {
+        if (ownConnection) {
+            jedis.close();
+        }
     }
 }
\ No newline at end of file
@@ -12,10 +12,12 @@ package io.sbk.RedPanda;
 
 import io.sbk.Kafka.Kafka;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 /**
  * Class for RedPanda Benchmarking.
  */
+@StorageDriver
 public class RedPanda extends Kafka {
     private final static String CONFIGFILE = "redpanda.properties";
 
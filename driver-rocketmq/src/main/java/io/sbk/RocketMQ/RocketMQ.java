@@ -16,6 +16,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 import java.util.Random;
@@ -29,6 +30,7 @@ import org.apache.rocketmq.tools.command.CommandUtil;
 /**
  * Class for RocketMQ driver.
  */
+@StorageDriver
 public class RocketMQ implements Storage<byte[]> {
     private final static String CONFIGFILE = "RocketMQ.properties";
     private static final String DEFAULT_CLUSTER = "DefaultCluster";
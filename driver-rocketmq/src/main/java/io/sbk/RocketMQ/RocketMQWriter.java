@@ -8,10 +8,9 @@
  *     http://www.apache.org/licenses/LICENSE-2.0
  */
 package io.sbk.RocketMQ;
-import io.sbk.perl.SendChannel;
-import io.sbk.perl.Time;
-import io.sbk.api.Writer;
+import io.sbk.api.AbstractCallbackWriter;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.WriteCallback;
 import org.apache.rocketmq.client.exception.MQClientException;
 import org.apache.rocketmq.client.producer.DefaultMQProducer;
 import org.apache.rocketmq.client.producer.SendCallback;
@@ -25,7 +24,7 @@ import java.util.concurrent.CompletableFuture;
 /**
  * Class for RocketMQ Writer.
  */
-public class RocketMQWriter implements Writer<byte[]> {
+public class RocketMQWriter extends AbstractCallbackWriter<byte[]> {
     final private DefaultMQProducer rmqProducer;
     final private String topicName;
 
@@ -52,6 +51,26 @@ public class RocketMQWriter implements Writer<byte[]> {
         }
     }
 
+    @Override
+    public void writeAsync(byte[] data, int id, long startTime, int size, WriteCallback callback) {
+        Message message = new Message(topicName, data);
+        try {
+            this.rmqProducer.send(message, new SendCallback() {
+                @Override
+                public void onSuccess(final SendResult sendResult) {
+                    callback.complete(id, startTime, size, 1);
+                }
+
+                @Override
+                public void onException(final Throwable e) {
+                    callback.fail(id, startTime, e);
+                }
+            });
+        } catch (Exception ex) {
+            callback.fail(id, startTime, ex);
+        }
+    }
+
     @Override
     public CompletableFuture writeAsync(byte[] data) throws IOException {
         Message message = new Message(topicName, data);
@@ -85,32 +104,7 @@ public class RocketMQWriter implements Writer<byte[]> {
         rmqProducer.shutdown();
     }
 
-    // recordWrite override implementation , instead of completable future.
-    private long recordWriteImpl(byte[] data, int size, Time time, SendChannel record, int id) {
-        final long ctime = time.getCurrentTime();
-        Message message = new Message(topicName, data);
-
-        try {
-            this.rmqProducer.send(message, new SendCallback() {
-                @Override
-                public void onSuccess(final SendResult sendResult) {
-                    final long endTime = time.getCurrentTime();
-                    record.send(id, ctime, endTime, size, 1);
-                }
-
-                @Override
-                public void onException(final Throwable e) {
-                  e.printStackTrace();
-                }
-            });
-        } catch (Exception ex) {
-          ex.printStackTrace();
-        }
-
-        return ctime;
-    }
-
-    //  writeAsync implementation for recordWriteImpl.
+    //  writeAsync implementation without the completable future.
     private CompletableFuture writeAsyncImpl(byte[] data) throws IOException {
         Message message = new Message(topicName, data);
         try {
@@ -17,6 +17,7 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDBException;
 
@@ -26,6 +27,7 @@ import java.util.Objects;
 /**
  * Class for RocksDB Benchmarking.
  */
+@StorageDriver
 public class RocksDB implements Storage<byte[]> {
     private final static String CONFIGFILE = "rocksdb.properties";
     private RocksDBConfig config;
@@ -91,10 +93,6 @@ public class RocksDB implements Storage<byte[]> {
             return null;
         }
     }
-
-    public static long generateStartKey(int id) {
-        return (long) id * (long) Integer.MAX_VALUE;
-    }
 }
 
 
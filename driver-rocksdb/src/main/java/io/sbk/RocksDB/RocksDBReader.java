@@ -10,43 +10,51 @@
 
 package io.sbk.RocksDB;
 
+import io.sbk.api.AbstractKeyValueReader;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Reader;
+import io.sbk.api.ReadBatch;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 
-import java.io.EOFException;
 import java.io.IOException;
 
 /**
  * Class for Reader.
  */
-public class RocksDBReader implements Reader<byte[]> {
-    final ParameterOptions params;
+public class RocksDBReader extends AbstractKeyValueReader<byte[]> {
     final private RocksDB db;
-    private long key;
 
     public RocksDBReader(int id, ParameterOptions params, RocksDB db) throws IOException {
-        this.key = io.sbk.RocksDB.RocksDB.generateStartKey(id);
-        this.params = params;
+        super(id, params);
         this.db = db;
     }
 
     @Override
-    public byte[] read() throws EOFException, IOException {
-        byte[] ret;
+    public byte[] get(long key) throws IOException {
         try {
-            ret = db.get(String.valueOf(this.key).getBytes());
+            return db.get(keys.encode(key));
         } catch (RocksDBException ex) {
             throw new IOException(ex);
         }
-        if (ret != null) {
-            key++;
+    }
+
+    @Override
+    public void scan(long startKey, int maxKeys, ReadBatch<byte[]> batch) throws IOException {
+        try (RocksIterator iterator = db.newIterator()) {
+            iterator.seek(keys.encode(startKey));
+            for (int i = 0; i < maxKeys && iterator.isValid(); i++) {
+                if (KeySpace.decode(iterator.key(), 0) != startKey + i) {
+                    return;
+                }
+                batch.add(iterator.value());
+                iterator.next();
+            }
         }
-        return ret;
     }
 
     @Override
     public void close() throws  IOException {
     }
-}
\ No newline at end of file
+}
@@ -10,47 +10,46 @@
 
 package io.sbk.RocksDB;
 
+import io.sbk.api.AbstractKeyValueWriter;
+import io.sbk.api.KeySpace;
 import io.sbk.api.ParameterOptions;
-import io.sbk.api.Writer;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for Writer.
  */
-public class RocksDBWriter implements Writer<byte[]> {
+public class RocksDBWriter extends AbstractKeyValueWriter<byte[]> {
     final private RocksDB db;
-    private long key;
 
     public RocksDBWriter(int id, ParameterOptions params, RocksDB db) throws IOException {
-        this.key = io.sbk.RocksDB.RocksDB.generateStartKey(id);
+        super(id, params);
         this.db = db;
-        try {
-            this.db.deleteRange(String.valueOf(this.key).getBytes(),
-                    String.valueOf(this.key + (long) Integer.MAX_VALUE).getBytes());
-        } catch (RocksDBException ex) {
-            //
-        }
+        deleteAll();
     }
 
     @Override
-    public CompletableFuture writeAsync(byte[] data) throws IOException {
+    public void put(long key, byte[] data) throws IOException {
         try {
-            db.put(String.valueOf(this.key++).getBytes(), data);
+            db.put(keys.encode(key), data);
         } catch (RocksDBException ex) {
             throw  new IOException(ex);
         }
-        return null;
     }
 
     @Override
-    public void sync() throws IOException {
+    public boolean isDeleteSupported() {
+        return true;
     }
 
     @Override
-    public void close() throws  IOException {
+    public void delete(long startKey, long endKey) throws IOException {
+        try {
+            db.deleteRange(KeySpace.toBytes(startKey), KeySpace.toBytes(endKey));
+        } catch (RocksDBException ex) {
+            throw  new IOException(ex);
+        }
     }
 }
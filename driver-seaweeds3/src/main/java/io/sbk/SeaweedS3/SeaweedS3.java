@@ -10,8 +10,10 @@
 
 package io.sbk.SeaweedS3;
 
+import io.sbk.api.StorageDriver;
 import io.sbk.MinIO.MinIO;
 
+@StorageDriver
 public class SeaweedS3 extends MinIO {
     private final static String CONFIGFILE = "seaweeds3.properties";
 
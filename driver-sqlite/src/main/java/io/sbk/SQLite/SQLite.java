@@ -9,11 +9,13 @@
  */
 package io.sbk.SQLite;
 
+import io.sbk.api.StorageDriver;
 import io.sbk.Jdbc.Jdbc;
 
 /**
  * Class for SQLite.
  */
+@StorageDriver
 public class SQLite extends Jdbc {
     private final static String CONFIGFILE = "sqlite.properties";
 
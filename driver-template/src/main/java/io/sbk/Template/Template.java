@@ -12,12 +12,14 @@ import io.sbk.api.DataReader;
 import io.sbk.api.DataWriter;
 import io.sbk.api.Storage;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.StorageDriver;
 
 import java.io.IOException;
 
 /**
  * Class for Storage driver.
  */
+@StorageDriver
 public class Template implements Storage<byte[]> {
 
     @Override
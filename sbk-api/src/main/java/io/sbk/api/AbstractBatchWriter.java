@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api;
+
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.Time;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract class for Batch Writers.
+ * The records are collected into batches of {@link Parameters#getBatchSize()} records; a batch is written with
+ * {@link AbstractBatchWriter#writeBatchAsync(List)} once it is full, once its first record has waited
+ * {@link Parameters#getLingerMS()} milliseconds, or on {@link AbstractBatchWriter#sync()}.
+ * The linger is enforced by a timer, so that a batch is written even if the next record is delayed
+ * by the rate control; the timer and the writer thread write the batches under the lock of the writer.
+ * One latency is recorded per batch, from the time of its first record, with the number of records of the batch.
+ * In write and read mode, the records of a batch are stamped with the time of its first record.
+ */
+public abstract class AbstractBatchWriter<T> implements Writer<T> {
+    final private static ScheduledThreadPoolExecutor LINGER_TIMER = lingerTimer();
+
+    final private int batchSize;
+    final private long lingerMS;
+    private List<T> batch;
+    private long batchStartTime;
+    private int batchBytes;
+    private int batchId;
+    private DataType<T> dataType;
+    private Time time;
+    private SendChannel sendChannel;
+    private ScheduledFuture<?> lingerFuture;
+
+    public AbstractBatchWriter(ParameterOptions params) {
+        this.batchSize = params.getBatchSize();
+        this.lingerMS = params.getLingerMS();
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    private static ScheduledThreadPoolExecutor lingerTimer() {
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+            final Thread thread = new Thread(r, "sbk-batch-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Asynchronously Writes the batch of records.
+     * The list is not modified by the batch writer after this call.
+     *
+     * @param records records to write
+     * @return CompletableFuture completable future. null if the write completed synchronously .
+     * @throws IOException If an exception occurred.
+     */
+    public abstract CompletableFuture<?> writeBatchAsync(List<T> records) throws IOException;
+
+    @Override
+    public CompletableFuture<?> writeAsync(T data) throws IOException {
+        return writeBatchAsync(Collections.singletonList(data));
+    }
+
+    /**
+     * Write the pending batch.
+     * Implementations overriding this method should call super.sync() first.
+     *
+     * @throws IOException If an exception occurred.
+     */
+    @Override
+    public synchronized void sync() throws IOException {
+        if (batch.size() > 0) {
+            writeBatch();
+        }
+    }
+
+    @Override
+    public void writeSetTime(DataType<T> dType, T data, int size, Time time, Status status) throws IOException {
+        addRecord(dType, data, size, time, status, null, 0);
+    }
+
+    @Override
+    public void recordWrite(DataType<T> dType, T data, int size, Time time,
+                            Status status, SendChannel sendChannel, int id) throws IOException {
+        addRecord(dType, data, size, time, status, sendChannel, id);
+    }
+
+    private synchronized void addRecord(DataType<T> dType, T data, int size, Time time, Status status,
+                           SendChannel sendChannel, int id) throws IOException {
+        status.bytes = size;
+        status.records = 1;
+        status.startTime = time.getCurrentTime();
+        if (batch.size() == 0) {
+            this.dataType = dType;
+            this.time = time;
+            this.sendChannel = sendChannel;
+            this.batchId = id;
+            this.batchStartTime = status.startTime;
+            this.batchBytes = 0;
+            if (lingerMS > 0) {
+                final List<T> lingerBatch = batch;
+                lingerFuture = LINGER_TIMER.schedule(() -> linger(lingerBatch), lingerMS, TimeUnit.MILLISECONDS);
+            }
+        }
+        batch.add(data);
+        batchBytes += size;
+        if (batch.size() >= batchSize ||
+                (lingerMS > 0 && time.elapsedMilliSeconds(status.startTime, batchStartTime) >= lingerMS)) {
+            writeBatch();
+        }
+    }
+
+    private synchronized void linger(List<T> lingerBatch) {
+        if (batch != lingerBatch || batch.size() == 0) {
+            return;
+        }
+        final SendChannel channel = sendChannel;
+        final int id = batchId;
+        try {
+            writeBatch();
+        } catch (IOException | RuntimeException ex) {
+            if (channel != null) {
+                channel.sendException(id, ex);
+            }
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        final List<T> records = batch;
+        final long beginTime = batchStartTime;
+        final int bytes = batchBytes;
+        final int id = batchId;
+        final SendChannel channel = sendChannel;
+        final Time t = time;
+        batch = new ArrayList<>(batchSize);
+        if (lingerFuture != null) {
+            lingerFuture.cancel(false);
+            lingerFuture = null;
+        }
+        if (channel == null) {
+            for (int i = 0; i < records.size(); i++) {
+                records.set(i, dataType.setTime(records.get(i), beginTime));
+            }
+        }
+        final CompletableFuture<?> ret = writeBatchAsync(records);
+        if (channel == null) {
+            return;
+        }
+        if (ret == null) {
+            channel.send(id, beginTime, t.getCurrentTime(), bytes, records.size());
+        } else {
+            ret.exceptionally(ex -> {
+                channel.sendException(id, ex);
+                return null;
+            });
+            ret.thenAccept(d -> channel.send(id, beginTime, t.getCurrentTime(), bytes, records.size()));
+        }
+    }
+}
@@ -17,16 +17,23 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Abstract class for Callback Reader.
+ * The callbacks are counted with a striped counter and per thread batches; the records count is checked once
+ * per {@link AbstractCallbackReader#COMPLETION_CHECK_RECORDS} callbacks of a thread, and on every callback only
+ * when the count is close to its end.
  */
 public abstract class AbstractCallbackReader<T> implements DataReader<T> {
+    final static int COMPLETION_CHECK_RECORDS = 1024;
+    final static int COMPLETION_CHECK_WINDOW = COMPLETION_CHECK_RECORDS * 64;
     private DataType<T> dataType;
     private Time time;
     private CompletableFuture<Void> ret;
-    private AtomicLong readCnt;
+    private LongAdder readCnt;
+    private ThreadLocal<long[]> localCnt;
+    private volatile boolean checkEveryRecord;
     private long beginTime;
     private Worker reader;
     private double msToRun;
@@ -59,13 +66,27 @@ public abstract class AbstractCallbackReader<T> implements DataReader<T> {
     }
 
     public void recordBenchmark(long startTime, long endTime, int dataSize, int events) {
-        final long cnt = readCnt.incrementAndGet();
-        final int id = (int) (cnt % reader.recordIDMax);
-        reader.sendChannel.send(id, startTime, endTime, dataSize, events);
-        if (this.msToRun > 0 && ((endTime - beginTime)  >= this.msToRun)) {
-            complete();
-        } else if (this.recordsCount > cnt) {
-            complete();
+        recordBenchmark(startTime, endTime, dataSize, events, -1, -1);
+    }
+
+    public void recordBenchmark(long startTime, long endTime, int dataSize, int events, int writerId,
+                                long sequence) {
+        final long[] local = localCnt.get();
+        final int id = (int) (local[1]++ % reader.recordIDMax);
+        reader.sendChannel.send(id, startTime, endTime, dataSize, events, writerId, sequence);
+        readCnt.increment();
+        if (this.msToRun > 0) {
+            if ((endTime - beginTime) >= this.msToRun) {
+                complete();
+            }
+        } else if (this.recordsCount > 0 && (checkEveryRecord || ++local[0] >= COMPLETION_CHECK_RECORDS)) {
+            local[0] = 0;
+            final long remaining = this.recordsCount - readCnt.sum();
+            if (remaining <= 0) {
+                complete();
+            } else if (remaining <= COMPLETION_CHECK_WINDOW) {
+                checkEveryRecord = true;
+            }
         }
     }
 
@@ -87,7 +108,8 @@ public abstract class AbstractCallbackReader<T> implements DataReader<T> {
     private class ConsumeRW implements Callback<T> {
 
         public void consume(final T data) {
-            recordBenchmark(dataType.getTime(data), time.getCurrentTime(), dataType.length(data), 1);
+            recordBenchmark(dataType.getTime(data), time.getCurrentTime(), dataType.length(data), 1,
+                    dataType.getWriterId(data), dataType.getSequence(data));
         }
 
         public void record(long startTime, long endTime, int dataSize, int records) {
@@ -111,7 +133,9 @@ public abstract class AbstractCallbackReader<T> implements DataReader<T> {
         this.reader = reader;
         this.dataType = dType;
         this.time = time;
-        this.readCnt = new AtomicLong(0);
+        this.readCnt = new LongAdder();
+        this.localCnt = ThreadLocal.withInitial(() -> new long[]{0, Thread.currentThread().getId()});
+        this.checkEveryRecord = recordsCount <= COMPLETION_CHECK_WINDOW;
         this.beginTime = time.getCurrentTime();
         this.msToRun = secondsToRun * PerlConfig.MS_PER_SEC;
         this.recordsCount = recordsCount;
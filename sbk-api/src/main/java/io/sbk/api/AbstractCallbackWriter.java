@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.Time;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Abstract class for Callback Writers.
+ * The asynchronous writes report their completion to a {@link WriteCallback} allocated once per writer, instead of
+ * the CompletableFuture stages of {@link Writer#recordWrite(DataType, Object, int, Time, Status, SendChannel, int)}.
+ * The writes are given the ids of {@link AbstractCallbackWriter#SUBMIT_SLOTS} reused slots holding the time
+ * their submit call returned, so that the submit and acknowledgement latencies are recorded separately; a
+ * write acknowledged before its submit call returned, or after its slot was reused, records only its latency.
+ */
+public abstract class AbstractCallbackWriter<T> implements Writer<T> {
+    final static int SUBMIT_SLOTS = 4096;
+    final private int[] slotIds = new int[SUBMIT_SLOTS];
+    final private long[] slotStartTimes = new long[SUBMIT_SLOTS];
+    final private AtomicLongArray slotSubmitTimes = new AtomicLongArray(SUBMIT_SLOTS);
+    private Completion completion;
+    private int slot;
+
+    /**
+     * Asynchronously Writes the data and reports the completion to the callback.
+     * The driver invokes {@link WriteCallback#complete(int, long, int, int)} or
+     * {@link WriteCallback#fail(int, long, Throwable)} exactly once, with the given id and start time.
+     *
+     * @param data  data to write
+     * @param id    Identifier for the callback
+     * @param startTime Start time for the callback
+     * @param size  size of the data
+     * @param callback  Write callback of the writer
+     * @throws IOException If an exception occurred.
+     */
+    public abstract void writeAsync(T data, int id, long startTime, int size, WriteCallback callback)
+            throws IOException;
+
+
+    private final class Completion implements WriteCallback {
+        final private Time time;
+        final private SendChannel sendChannel;
+
+        private Completion(Time time, SendChannel sendChannel) {
+            this.time = time;
+            this.sendChannel = sendChannel;
+        }
+
+        @Override
+        public void complete(int id, long startTime, int dataSize, int records) {
+            final long endTime = time.getCurrentTime();
+            final long submitTime = slotSubmitTimes.get(id);
+            if (submitTime >= startTime && slotStartTimes[id] == startTime) {
+                sendChannel.sendAck(slotIds[id], startTime, submitTime, endTime, dataSize, records);
+            } else {
+                sendChannel.send(slotIds[id], startTime, endTime, dataSize, records);
+            }
+        }
+
+        @Override
+        public void fail(int id, long startTime, Throwable ex) {
+            sendChannel.sendException(slotIds[id], ex);
+        }
+    }
+
+    @Override
+    public void recordWrite(DataType<T> dType, T data, int size, Time time,
+                            Status status, SendChannel sendChannel, int id) throws IOException {
+        if (completion == null || completion.sendChannel != sendChannel || completion.time != time) {
+            completion = new Completion(time, sendChannel);
+        }
+        status.bytes = size;
+        status.records = 1;
+        status.startTime = time.getCurrentTime();
+        final int writeId = slot;
+        slot = (slot + 1) % SUBMIT_SLOTS;
+        slotIds[writeId] = id;
+        slotStartTimes[writeId] = status.startTime;
+        slotSubmitTimes.set(writeId, -1);
+        writeAsync(data, writeId, status.startTime, size, completion);
+        slotSubmitTimes.set(writeId, time.getCurrentTime());
+    }
+}
@@ -0,0 +1,372 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.Time;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Abstract class for Flow Reader.
+ * The benchmark subscribes to the {@link Flow.Publisher} of the driver and signals the demand: at most
+ * {@link AbstractFlowReader#getDemand(Parameters)} records are outstanding, and with the rate controlled
+ * readers the demand is requested one record at a time, at the configured records per second.
+ * The records are counted by the subscriber without atomics, and published to the reader thread once per half
+ * of the demand.
+ * With the connection churn, the reader thread opens the connection again once the records of a connection are
+ * consumed.
+ */
+public abstract class AbstractFlowReader<T> implements DataReader<T> {
+    final static int DEFAULT_DEMAND = 1024;
+    final static long SUBSCRIBE_TIMEOUT_SECONDS = 60;
+    final static long PARK_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private ConnectionChurn churn;
+
+    /**
+     * Subscribe the benchmark to the records of the Flow Reader.
+     * The subscriber expects the Reactive Streams rules: onNext is never invoked concurrently and never more
+     * times than requested.
+     *
+     * @param subscriber Benchmark subscriber.
+     * @throws IOException If an exception occurred.
+     */
+    public abstract void subscribe(Flow.Subscriber<? super T> subscriber) throws IOException;
+
+    /**
+     * Stop the Flow Reader.
+     * @throws IOException If an exception occurred.
+     */
+    public abstract void stop() throws IOException;
+
+    /**
+     * Close the Flow Reader.
+     * stops the flow reader.
+     *
+     * @throws IOException If an exception occurred.
+     */
+    @Override
+    public final void close() throws IOException {
+        stop();
+    }
+
+    /**
+     * Number of records outstanding with the publisher.
+     * Default implementation is the batch size, or {@link AbstractFlowReader#DEFAULT_DEMAND} if the batch size is 1.
+     *
+     * @param params Parameters
+     * @return number of records requested ahead of the consumption.
+     */
+    public int getDemand(Parameters params) {
+        return params.getBatchSize() > 1 ? params.getBatchSize() : DEFAULT_DEMAND;
+    }
+
+    /**
+     * Set the connection churn of the Flow Reader; the reader should implement {@link Reconnectable}.
+     *
+     * @param churn connection churn; null to keep one connection.
+     */
+    public void setConnectionChurn(ConnectionChurn churn) {
+        this.churn = churn;
+    }
+
+
+    private class BenchmarkSubscriber implements Flow.Subscriber<T> {
+        final private CompletableFuture<Flow.Subscription> subscription;
+        final private Worker reader;
+        final private SendChannel sendChannel;
+        final private DataType<T> dataType;
+        final private Time time;
+        final private boolean readWrite;
+        final private Thread readerThread;
+        final private long beginTime;
+        final private double secondsToRun;
+        final private long recordsCount;
+        final private int step;
+        private long records;
+        private int pending;
+        private int id;
+        private volatile long consumed;
+        private volatile boolean done;
+        private volatile Throwable error;
+
+        BenchmarkSubscriber(Worker reader, long secondsToRun, long recordsCount, DataType<T> dType, Time time,
+                            boolean readWrite, int demand) {
+            this.subscription = new CompletableFuture<>();
+            this.reader = reader;
+            this.sendChannel = churn != null ? churn.getChannel(reader.sendChannel) : reader.sendChannel;
+            this.dataType = dType;
+            this.time = time;
+            this.readWrite = readWrite;
+            this.readerThread = Thread.currentThread();
+            this.beginTime = time.getCurrentTime();
+            this.secondsToRun = secondsToRun;
+            this.recordsCount = recordsCount;
+            this.step = Math.max(demand / 2, 1);
+            this.records = 0;
+            this.pending = 0;
+            this.id = reader.id % reader.recordIDMax;
+            this.consumed = 0;
+            this.done = false;
+            this.error = null;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            subscription.complete(s);
+        }
+
+        @Override
+        public void onNext(T data) {
+            final long endTime = time.getCurrentTime();
+            if (readWrite) {
+                sendChannel.send(id, dataType.getTime(data), endTime, dataType.length(data), 1,
+                        dataType.getWriterId(data), dataType.getSequence(data));
+            } else {
+                sendChannel.send(id, endTime, endTime, dataType.length(data), 1);
+            }
+            if (++id >= reader.recordIDMax) {
+                id = 0;
+            }
+            records++;
+            if (++pending >= step || records == recordsCount) {
+                pending = 0;
+                consumed = records;
+                if (secondsToRun > 0 && time.elapsedSeconds(endTime, beginTime) >= secondsToRun) {
+                    done = true;
+                }
+                LockSupport.unpark(readerThread);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            finish();
+        }
+
+        @Override
+        public void onComplete() {
+            finish();
+        }
+
+        private void finish() {
+            consumed = records;
+            done = true;
+            LockSupport.unpark(readerThread);
+        }
+    }
+
+
+    /**
+     * Default Implementation run the Benchmark.
+     * The reader thread requests the demand and waits for the records to be consumed.
+     *
+     * @param reader  Reader Descriptor
+     * @param secondsToRun  Number of seconds to run
+     * @param recordsCount Records count
+     * @param dType  dataType
+     * @param time  time interface
+     * @param rController Rate Controller; null if the rate is not controlled.
+     * @param readWrite true if the records carry the write time.
+     * @throws IOException If an exception occurred.
+     */
+    public void run(Worker reader, long secondsToRun, long recordsCount, DataType<T> dType, Time time,
+                    RateController rController, boolean readWrite) throws IOException {
+        final int demand = getDemand(reader.params);
+        final BenchmarkSubscriber subscriber = new BenchmarkSubscriber(reader, secondsToRun, recordsCount,
+                dType, time, readWrite, demand);
+        subscribe(subscriber);
+        final Flow.Subscription subscription;
+        try {
+            subscription = subscriber.subscription.get(SUBSCRIBE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException | InterruptedException | TimeoutException ex) {
+            throw new IOException(ex);
+        }
+        if (rController != null) {
+            rController.start(reader.params.getRecordsPerSec());
+        }
+        long requested = 0;
+        long connectionStart = 0;
+        while (!subscriber.done) {
+            final long outstanding = requested - subscriber.consumed;
+            if (churn != null && subscriber.consumed - connectionStart >= churn.getConnectionOps()) {
+                connectionStart = subscriber.consumed;
+                churn.reconnect(time, reader.sendChannel, reader.id % reader.recordIDMax);
+            }
+            if (recordsCount > 0 && subscriber.consumed >= recordsCount) {
+                break;
+            }
+            if (secondsToRun > 0 && time.elapsedSeconds(time.getCurrentTime(), subscriber.beginTime) >= secondsToRun) {
+                break;
+            }
+            if (outstanding < subscriber.step && (recordsCount <= 0 || requested < recordsCount)) {
+                long n;
+                if (rController != null) {
+                    n = 1;
+                    rController.control(requested + 1,
+                            time.elapsedSeconds(time.getCurrentTime(), subscriber.beginTime));
+                } else {
+                    n = demand - outstanding;
+                    if (recordsCount > 0) {
+                        n = Math.min(n, recordsCount - requested);
+                    }
+                }
+                subscription.request(n);
+                requested += n;
+            } else {
+                LockSupport.parkNanos(PARK_NS);
+            }
+        }
+        subscription.cancel();
+        if (subscriber.error != null) {
+            if (subscriber.error instanceof EOFException) {
+                throw (EOFException) subscriber.error;
+            }
+            throw new IOException(subscriber.error);
+        }
+    }
+
+
+    /**
+     * Implementation for benchmarking reader by reading given number of records.
+     *
+     * @param reader  Reader Descriptor
+     * @param recordsCount Records count
+     * @param dType  dataType
+     * @param time  time interface
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    public void RecordsReader(Worker reader, long recordsCount, DataType<T> dType, Time time) throws EOFException,
+            IOException {
+        run(reader, 0, recordsCount, dType, time, null, false);
+    }
+
+    /**
+     * Default implementation for benchmarking reader by reading given number of records.
+     *
+     * @param reader      Reader Descriptor
+     * @param recordsCount Records count
+     * @param dType     dataType
+     * @param time  time interface
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    public void RecordsReaderRW(Worker reader, long recordsCount, DataType<T> dType, Time time) throws EOFException,
+            IOException {
+        run(reader, 0, recordsCount, dType, time, null, true);
+    }
+
+    /**
+     * Default implementation for benchmarking reader by reading events/records for specific time duration.
+     *
+     * @param reader  Reader Descriptor
+     * @param secondsToRun  Number of seconds to run
+     * @param dType  dataType
+     * @param time  time interface
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    public void RecordsTimeReader(Worker reader, long secondsToRun, DataType<T> dType, Time time)
+            throws EOFException, IOException {
+        run(reader, secondsToRun, 0, dType, time, null, false);
+    }
+
+    /**
+     * Default implementation for benchmarking reader by reading events/records for specific time duration.
+     *
+     * @param reader  Reader Descriptor
+     * @param secondsToRun  Number of seconds to run
+     * @param dType  dataType
+     * @param time  time interface
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    public void RecordsTimeReaderRW(Worker reader, long secondsToRun, DataType<T> dType, Time time)
+            throws EOFException, IOException {
+        run(reader, secondsToRun, 0, dType, time, null, true);
+    }
+
+    /**
+     * Benchmarking reader by reading given number of records with Rate controlled.
+     *
+     * @param reader  Reader Descriptor
+     * @param recordsCount Records count
+     * @param dType  dataType
+     * @param time  time interface
+     * @param rController Rate Controller
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    public void RecordsReaderRateControl(Worker reader, long recordsCount, DataType<T> dType, Time time,
+                                         RateController rController) throws EOFException, IOException {
+        run(reader, 0, recordsCount, dType, time, rController, false);
+    }
+
+    /**
+     * Benchmarking reader by reading given number of records with Rate controlled.
+     * used while another writer is writing the data.
+     *
+     * @param reader      Reader Descriptor
+     * @param recordsCount Records count
+     * @param dType     dataType
+     * @param time  time interface
+     * @param rController Rate Controller
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    public void RecordsReaderRWRateControl(Worker reader, long recordsCount, DataType<T> dType, Time time,
+                                           RateController rController) throws EOFException, IOException {
+        run(reader, 0, recordsCount, dType, time, rController, true);
+    }
+
+    /**
+     * Benchmarking reader by reading events/records for specific time duration with Rate controlled.
+     *
+     * @param reader  Reader Descriptor
+     * @param secondsToRun  Number of seconds to run
+     * @param dType  dataType
+     * @param time  time interface
+     * @param rController Rate Controller
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    public void RecordsTimeReaderRateControl(Worker reader, long secondsToRun, DataType<T> dType, Time time,
+                                             RateController rController) throws EOFException, IOException {
+        run(reader, secondsToRun, 0, dType, time, rController, false);
+    }
+
+    /**
+     * Benchmarking reader by reading events/records for specific time duration with Rate controlled.
+     * used while another writer is writing the data.
+     *
+     * @param reader  Reader Descriptor
+     * @param secondsToRun  Number of seconds to run
+     * @param dType  dataType
+     * @param time  time interface
+     * @param rController Rate Controller
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    public void RecordsTimeReaderRWRateControl(Worker reader, long secondsToRun, DataType<T> dType, Time time,
+                                               RateController rController) throws EOFException, IOException {
+        run(reader, secondsToRun, 0, dType, time, rController, true);
+    }
+}
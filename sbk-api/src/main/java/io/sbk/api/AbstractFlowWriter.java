@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Abstract class for Flow Writer.
+ * The benchmark publishes the records to the {@link Flow.Subscriber} of the driver, and only as many records as
+ * the subscriber requested; a write waits for the demand, so the storage paces the writer.
+ * The writer thread claims all the outstanding demand at once, with one atomic operation per batch of demand.
+ * The data given to {@link Flow.Subscriber#onNext(Object)} is owned by the subscriber until it requests more.
+ */
+public abstract class AbstractFlowWriter<T> implements Writer<T> {
+    final static long PARK_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    final private AtomicLong demand = new AtomicLong(0);
+    private Flow.Subscriber<? super T> subscriber;
+    private volatile Thread writerThread;
+    private volatile boolean cancelled;
+    private long credit;
+
+    /**
+     * Get the subscriber of the Flow Writer.
+     * invoked once, on the first write.
+     *
+     * @return subscriber to which the records are published.
+     * @throws IOException If an exception occurred.
+     */
+    public abstract Flow.Subscriber<? super T> getSubscriber() throws IOException;
+
+    /**
+     * Stop the Flow Writer.
+     * @throws IOException If an exception occurred.
+     */
+    public abstract void stop() throws IOException;
+
+
+    private class WriterSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Invalid demand: " + n));
+                return;
+            }
+            if (demand.getAndAccumulate(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b) == 0) {
+                final Thread t = writerThread;
+                if (t != null) {
+                    LockSupport.unpark(t);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            final Thread t = writerThread;
+            if (t != null) {
+                LockSupport.unpark(t);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> writeAsync(T data) throws IOException {
+        if (subscriber == null) {
+            writerThread = Thread.currentThread();
+            subscriber = getSubscriber();
+            subscriber.onSubscribe(new WriterSubscription());
+        }
+        while (credit == 0) {
+            if (cancelled) {
+                throw new IOException("Flow Writer subscription cancelled");
+            }
+            credit = demand.getAndSet(0);
+            if (credit == 0) {
+                LockSupport.parkNanos(PARK_NS);
+            }
+        }
+        credit--;
+        subscriber.onNext(data);
+        return null;
+    }
+
+    /**
+     * Close the Flow Writer.
+     * completes the subscriber and stops the flow writer.
+     *
+     * @throws IOException If an exception occurred.
+     */
+    @Override
+    public final void close() throws IOException {
+        if (subscriber != null && !cancelled) {
+            subscriber.onComplete();
+        }
+        stop();
+    }
+}
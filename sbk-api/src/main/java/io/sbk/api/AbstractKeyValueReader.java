@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+import java.io.IOException;
+
+/**
+ * Base class for the key-value readers.
+ * Every read gets the next key of the {@link KeySpace} of the reader, or scans the next
+ * {@link Parameters#getScanKeys()} keys; the records of a scan are recorded with one latency.
+ * The key-value drivers implement only {@link AbstractKeyValueReader#get(long)} and, if the storage
+ * supports range reads, {@link AbstractKeyValueReader#scan(long, int, ReadBatch)}.
+ * The reader stays on the current key until it is written.
+ */
+public abstract class AbstractKeyValueReader<T> implements BatchReader<T> {
+    final protected KeySpace keys;
+    final private int scanKeys;
+    final private ReadBatch<T> batch;
+
+    public AbstractKeyValueReader(int id, ParameterOptions params) {
+        this.keys = new KeySpace(id);
+        this.scanKeys = params.getScanKeys();
+        this.batch = new ReadBatch<>(Math.max(scanKeys, 1));
+    }
+
+    /**
+     * Get the data of the key.
+     * @param key key
+     * @return data; null if the key is not found.
+     * @throws IOException If an exception occurred.
+     */
+    public abstract T get(long key) throws IOException;
+
+    /**
+     * Read the data of up to maxKeys consecutive keys from startKey, stopping at the first key not found.
+     * This default implementation gets the keys one by one.
+     * @param startKey first key
+     * @param maxKeys maximum number of keys
+     * @param batch batch to add the data to
+     * @throws IOException If an exception occurred.
+     */
+    public void scan(long startKey, int maxKeys, ReadBatch<T> batch) throws IOException {
+        for (int i = 0; i < maxKeys; i++) {
+            final T data = get(startKey + i);
+            if (data == null) {
+                return;
+            }
+            batch.add(data);
+        }
+    }
+
+    @Override
+    public ReadBatch<T> readBatch() throws IOException {
+        batch.clear();
+        if (scanKeys > 1) {
+            scan(keys.current(), scanKeys, batch);
+        } else {
+            final T data = get(keys.current());
+            if (data != null) {
+                batch.add(data);
+            }
+        }
+        keys.advance(batch.size());
+        return batch;
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base class for the key-value writers.
+ * Every write puts the data to the next key of the {@link KeySpace} of the writer; the key-value drivers
+ * implement only {@link AbstractKeyValueWriter#put(long, Object)} and, if the storage supports it,
+ * {@link AbstractKeyValueWriter#delete(long, long)} along with {@link AbstractKeyValueWriter#isDeleteSupported()}.
+ */
+public abstract class AbstractKeyValueWriter<T> implements Writer<T> {
+    final protected KeySpace keys;
+
+    public AbstractKeyValueWriter(int id, ParameterOptions params) {
+        this.keys = new KeySpace(id);
+    }
+
+    /**
+     * Put the data to the key.
+     * @param key key
+     * @param data data to write
+     * @throws IOException If an exception occurred.
+     */
+    public abstract void put(long key, T data) throws IOException;
+
+    /**
+     * Check whether the storage supports deleting the keys.
+     * The writers overriding {@link AbstractKeyValueWriter#delete(long, long)} should return true.
+     * @return true if the keys can be deleted; default: false
+     */
+    public boolean isDeleteSupported() {
+        return false;
+    }
+
+    /**
+     * Delete the keys from startKey to endKey.
+     * Invoked only if {@link AbstractKeyValueWriter#isDeleteSupported()} returns true.
+     * @param startKey first key to delete
+     * @param endKey first key after the keys to delete
+     * @throws IOException If an exception occurred.
+     */
+    public void delete(long startKey, long endKey) throws IOException {
+        throw new UnsupportedOperationException("Delete is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Delete the keys of the partition of this writer, left by the previous runs.
+     * @throws IllegalStateException If the storage does not support deleting the keys.
+     * @throws IOException If an exception occurred.
+     */
+    public void deleteAll() throws IllegalStateException, IOException {
+        if (!isDeleteSupported()) {
+            throw new IllegalStateException("The writer " + getClass().getSimpleName()
+                    + " does not support deleting the keys");
+        }
+        delete(keys.getStartKey(), keys.getEndKey());
+    }
+
+    @Override
+    public CompletableFuture writeAsync(T data) throws IOException {
+        put(keys.next(), data);
+        return null;
+    }
+
+    @Override
+    public void sync() throws IOException {
+    }
+
+    @Override
+    public void close() throws IOException {
+    }
+}
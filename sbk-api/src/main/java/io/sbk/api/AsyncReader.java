@@ -76,6 +76,7 @@ public interface AsyncReader<T> extends DataRecordsReader<T> {
             ret.thenAccept(d -> {
                 final long endTime = time.getCurrentTime();
                 sendChannel.send(id, beginTime, endTime, dType.length(d), status.records);
+                dType.release(d);
             });
         }
     }
@@ -110,7 +111,9 @@ public interface AsyncReader<T> extends DataRecordsReader<T> {
         } else {
             ret.thenAccept(d -> {
                 final long endTime = time.getCurrentTime();
-                    sendChannel.send(id, dType.getTime(d), endTime, dType.length(d), status.records);
+                    sendChannel.send(id, dType.getTime(d), endTime, dType.length(d), status.records,
+                            dType.getWriterId(d), dType.getSequence(d));
+                    dType.release(d);
             });
         }
     }
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api;
+
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.Time;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Interface for Batch Readers.
+ * The drivers polling the storage for many records at once implement {@link BatchReader#readBatch()};
+ * the records of every batch are recorded with a single send to the performance channel.
+ */
+public interface BatchReader<T> extends DataRecordsReader<T> {
+
+    /**
+     * Read a batch of records.
+     * The returned batch may be reused by the next call.
+     *
+     * @return batch of records; null or empty if no records are available.
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    ReadBatch<T> readBatch() throws EOFException, IOException;
+
+    /**
+     * Close the  Reader.
+     * @throws IOException If an exception occurred.
+     */
+    default void close() throws IOException {
+
+    }
+
+    /**
+     * Default implementation for Reading data using {@link BatchReader#readBatch()}
+     * and recording one latency, the time of the read, for all the records of the batch.
+     *
+     * @param dType      dataType
+     * @param size  size of the data in bytes
+     * @param time  time interface
+     * @param status     Timestamp
+     * @param sendChannel to call for benchmarking
+     * @param  id   Identifier for recordTime
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    default void recordRead(DataType<T> dType, int size, Time time, Status status, SendChannel sendChannel, int id)
+            throws EOFException, IOException {
+        status.startTime = time.getCurrentTime();
+        final ReadBatch<T> batch = readBatch();
+        status.endTime = time.getCurrentTime();
+        status.bytes = 0;
+        status.records = batch == null ? 0 : batch.size();
+        if (status.records == 0) {
+            return;
+        }
+        for (int i = 0; i < status.records; i++) {
+            status.bytes += batch.sizes[i] < 0 ? dType.length(batch.get(i)) : batch.sizes[i];
+        }
+        sendChannel.send(id, status.startTime, status.endTime, status.bytes, status.records);
+    }
+
+    /**
+     * Default implementation for Reading data using {@link BatchReader#readBatch()}, extracting the start time
+     * of every record and recording the end to end latency of every record of the batch.
+     *
+     * @param dType      dataType
+     * @param size  size of the data in bytes
+     * @param time  time interface
+     * @param status     Timestamp
+     * @param sendChannel to call for benchmarking
+     * @param  id   Identifier for recordTime
+     * @throws EOFException If the End of the file occurred.
+     * @throws IOException If an exception occurred.
+     */
+    default void recordReadTime(DataType<T> dType, int size, Time time, Status status, SendChannel sendChannel, int id)
+            throws EOFException, IOException {
+        final ReadBatch<T> batch = readBatch();
+        status.endTime = time.getCurrentTime();
+        status.bytes = 0;
+        status.records = batch == null ? 0 : batch.size();
+        if (status.records == 0) {
+            status.startTime = status.endTime;
+            return;
+        }
+        for (int i = 0; i < status.records; i++) {
+            final T data = batch.get(i);
+            if (batch.sizes[i] < 0) {
+                batch.sizes[i] = dType.length(data);
+            }
+            if (batch.startTimes[i] < 0) {
+                batch.startTimes[i] = dType.getTime(data);
+            }
+            batch.writerIds[i] = dType.getWriterId(data);
+            batch.sequences[i] = dType.getSequence(data);
+            status.bytes += batch.sizes[i];
+        }
+        status.startTime = batch.startTimes[0];
+        sendChannel.sendBatch(id, batch.startTimes, status.endTime, batch.sizes, batch.writerIds,
+                batch.sequences, status.records);
+    }
+}
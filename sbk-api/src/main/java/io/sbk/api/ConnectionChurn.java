@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api;
+
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.Time;
+
+import java.io.IOException;
+
+/**
+ * Interface for the connection churn of the readers which run their own loop, such as the
+ * {@link AbstractFlowReader}; the reader opens its connection again from the reader thread.
+ */
+public interface ConnectionChurn {
+
+    /**
+     * Get the number of operations per connection.
+     * @return number of operations after which the connection is opened again.
+     */
+    int getConnectionOps();
+
+    /**
+     * Get the channel which sends the latency of the first operation of every connection.
+     * @param sendChannel channel of the reader
+     * @return channel to send the operations to.
+     */
+    SendChannel getChannel(SendChannel sendChannel);
+
+    /**
+     * Close and open the connection of the reader again, and send the teardown and setup latencies.
+     * @param time  time interface
+     * @param sendChannel channel of the reader
+     * @param id   Identifier for recordTime
+     * @throws IOException If the connection could not be closed or opened.
+     */
+    void reconnect(Time time, SendChannel sendChannel, int id) throws IOException;
+}
@@ -10,7 +10,7 @@
 
 package io.sbk.api;
 
-public interface CountReaders {
+public interface CountReaders extends WorkerThreads {
 
     /**
      * Increment Readers.
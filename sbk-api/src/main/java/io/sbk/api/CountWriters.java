@@ -10,7 +10,7 @@
 
 package io.sbk.api;
 
-public interface CountWriters {
+public interface CountWriters extends WorkerThreads {
 
     /**
      * Increment Writers.
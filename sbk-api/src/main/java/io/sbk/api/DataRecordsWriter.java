@@ -213,6 +213,8 @@ public interface DataRecordsWriter<T>  extends DataWriter<T> {
     default void RecordsWriterRW(Worker writer, long recordsCount, DataType<T> dType, T data, int size,
                                  Time time,  RateController rController) throws IOException {
         final Status status = new Status();
+        final boolean sequenceTracking = writer.params.isSequenceTracking();
+        long sequence = 0;
         final long loopStartTime = time.getCurrentTime();
         int id = writer.id % writer.recordIDMax;
         long cnt = 0;
@@ -221,6 +223,9 @@ public interface DataRecordsWriter<T>  extends DataWriter<T> {
             long loopMax = Math.min(writer.params.getRecordsPerSync(), recordsCount - cnt);
             long i = 0;
             while (i < loopMax) {
+                if (sequenceTracking) {
+                    dType.setSequence(data, writer.id, sequence++);
+                }
                 writeSetTime(dType, data, size, time, status);
                 id += 1;
                 if (id >= writer.recordIDMax) {
@@ -251,6 +256,8 @@ public interface DataRecordsWriter<T>  extends DataWriter<T> {
     default void RecordsWriterTimeRW(Worker writer, long secondsToRun, DataType<T> dType, T data, int size,
                                      Time time,  RateController rController) throws IOException {
         final Status status = new Status();
+        final boolean sequenceTracking = writer.params.isSequenceTracking();
+        long sequence = 0;
         final long loopStartTime = time.getCurrentTime();
         int id = writer.id % writer.recordIDMax;
         long cnt = 0;
@@ -260,6 +267,9 @@ public interface DataRecordsWriter<T>  extends DataWriter<T> {
         while (secondsElapsed < secondsToRun) {
             long i = 0;
             while ((secondsElapsed < secondsToRun) && (i < writer.params.getRecordsPerSync())) {
+                if (sequenceTracking) {
+                    dType.setSequence(data, writer.id, sequence++);
+                }
                 writeSetTime(dType, data, size, time, status);
                 id += 1;
                 if (id >= writer.recordIDMax) {
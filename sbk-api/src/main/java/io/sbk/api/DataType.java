@@ -14,6 +14,9 @@ package io.sbk.api;
  */
 public interface DataType<T> {
     final static int TIME_HEADER_BYTES = 8;
+    final static int WRITER_ID_HEADER_BYTES = 4;
+    final static int SEQUENCE_HEADER_BYTES = 8;
+    final static int SEQUENCE_HEADER_END = TIME_HEADER_BYTES + WRITER_ID_HEADER_BYTES + SEQUENCE_HEADER_BYTES;
 
     /**
      * allocate the data.
@@ -36,6 +39,14 @@ public interface DataType<T> {
      */
     int length(T data);
 
+    /**
+     * Return the data obtained from {@link DataType#allocate(int)} once it is no longer used.
+     * Data types which pool their buffers reuse it for a later allocation.
+     * @param  data data
+     */
+    default void release(T data) {
+    }
+
     /**
      * Set the time for data.
      * @param  data data
@@ -52,6 +63,44 @@ public interface DataType<T> {
     long getTime(T data);
 
 
+    /**
+     * Set the writer id and the sequence number of data, after the time header.
+     * @param  data data
+     * @param  writerId writer id
+     * @param  sequence sequence number of the writer
+     * @return T return the data.
+     */
+    default T setSequence(T data, int writerId, long sequence) {
+        return data;
+    }
+
+    /**
+     * Get the writer id of data.
+     * @param  data data
+     * @return int writer id set by last {@link DataType#setSequence(Object, int, long)}; -1 if not available.
+     */
+    default int getWriterId(T data) {
+        return -1;
+    }
+
+    /**
+     * Get the sequence number of data.
+     * @param  data data
+     * @return long sequence number set by last {@link DataType#setSequence(Object, int, long)};
+     * -1 if not available.
+     */
+    default long getSequence(T data) {
+        return -1;
+    }
+
+    /**
+     * Check whether the data type supports the writer id and sequence number header.
+     * @return true if {@link DataType#setSequence(Object, int, long)} is supported.
+     */
+    default boolean isSequenceSupported() {
+        return false;
+    }
+
     /**
      * Get minimum Write and Read Data Size.
      * @return int minimum data size Write and Read.
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+/**
+ * Class for the keys of a key-value writer or reader.
+ * Every writer and reader id owns a partition of {@link KeySpace#KEYS_PER_WORKER} keys, so that the reader
+ * with the same id reads the keys written by the writer. The keys are encoded as 8 bytes big-endian;
+ * the encoded keys of a partition sort in the same order as the key values.
+ */
+final public class KeySpace {
+    final public static long KEYS_PER_WORKER = Integer.MAX_VALUE;
+    final public static int KEY_BYTES = Long.BYTES;
+
+    final private long startKey;
+    final private byte[] buffer;
+    private long key;
+
+    public KeySpace(int id) {
+        this.startKey = startKey(id);
+        this.buffer = new byte[KEY_BYTES];
+        this.key = this.startKey;
+    }
+
+    /**
+     * Get the first key of the partition of a writer or reader.
+     *
+     * @param id writer or reader id
+     * @return first key of the partition.
+     */
+    public static long startKey(int id) {
+        return (long) id * KEYS_PER_WORKER;
+    }
+
+    public long getStartKey() {
+        return startKey;
+    }
+
+    /**
+     * Get the end of the partition.
+     *
+     * @return first key after the partition.
+     */
+    public long getEndKey() {
+        return startKey + KEYS_PER_WORKER;
+    }
+
+    /**
+     * Get the key of the next operation.
+     *
+     * @return current key.
+     */
+    public long current() {
+        return key;
+    }
+
+    /**
+     * Get the key of the next operation and move to the following key.
+     *
+     * @return current key.
+     */
+    public long next() {
+        return key++;
+    }
+
+    /**
+     * Move forward by the given number of keys.
+     *
+     * @param keys number of keys
+     */
+    public void advance(long keys) {
+        key += keys;
+    }
+
+    /**
+     * Encode the key into the buffer of this key space.
+     * The buffer is overwritten by the next call; the storage should copy it or be done with it before.
+     *
+     * @param key key to encode
+     * @return encoded key.
+     */
+    public byte[] encode(long key) {
+        encode(key, buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * Encode the key into a new array.
+     *
+     * @param key key to encode
+     * @return encoded key.
+     */
+    public static byte[] toBytes(long key) {
+        final byte[] out = new byte[KEY_BYTES];
+        encode(key, out, 0);
+        return out;
+    }
+
+    /**
+     * Encode the key as 8 bytes big-endian.
+     *
+     * @param key    key to encode
+     * @param out    output array
+     * @param offset offset of the encoded key in the output array
+     */
+    public static void encode(long key, byte[] out, int offset) {
+        for (int i = KEY_BYTES - 1; i >= 0; i--) {
+            out[offset + i] = (byte) key;
+            key >>>= 8;
+        }
+    }
+
+    /**
+     * Decode the 8 bytes big-endian key.
+     *
+     * @param in     input array
+     * @param offset offset of the encoded key in the input array
+     * @return key.
+     */
+    public static long decode(byte[] in, int offset) {
+        long key = 0;
+        for (int i = 0; i < KEY_BYTES; i++) {
+            key = (key << 8) | (in[offset + i] & 0xFF);
+        }
+        return key;
+    }
+}
@@ -9,12 +9,14 @@
  */
 package io.sbk.api;
 
+import io.sbk.perl.LatencyRecord;
+import io.sbk.perl.ReportLatencies;
 import io.sbk.perl.ReportLatency;
 
 /**
  * Interface for recoding/printing results.
  */
-public interface Logger extends PerformanceLogger, CountRW, ReportLatency {
+public interface Logger extends PerformanceLogger, CountRW, ReportLatency, ReportLatencies {
 
     /**
      * Default method to record every event.
@@ -24,4 +26,20 @@ public interface Logger extends PerformanceLogger, CountRW, ReportLatency {
 
     }
 
+    /**
+     * Default method to receive the latency record of every reporting window.
+     */
+    @Override
+    default void reportLatencyRecord(LatencyRecord record) {
+
+    }
+
+    /**
+     * Default method to receive the latency values of every reporting window.
+     */
+    @Override
+    default void reportLatency(long latency, long count) {
+
+    }
+
 }
@@ -24,6 +24,14 @@ public interface Parameters {
      */
     boolean isWriteAndRead();
 
+    /**
+     * Check if the writer id and sequence number of every record are tracked in write and read mode.
+     * @return   True if the records carry the writer id and sequence number header; False otherwise.
+     */
+    default boolean isSequenceTracking() {
+        return false;
+    }
+
     /**
      * Get the Total Number of records to read/writer.
      * @return   number of records.
@@ -42,6 +50,80 @@ public interface Parameters {
      */
     int getRecordsPerSync();
 
+    /**
+     * Number of records/events per batch of the batch writers and readers.
+     * @return   number of records per batch.
+     */
+    default int getBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Maximum time in milliseconds a batch writer waits for a batch to fill before writing it.
+     * @return   linger time in milliseconds; 0 to write only full batches.
+     */
+    default int getLingerMS() {
+        return 0;
+    }
+
+    /**
+     * Deadline in milliseconds of a write, including its retries.
+     * @return   deadline in milliseconds; 0 if the writes have no deadline.
+     */
+    default int getDeadlineMS() {
+        return 0;
+    }
+
+    /**
+     * Number of times a failed write is retried.
+     * @return   number of retries.
+     */
+    default int getRetries() {
+        return 0;
+    }
+
+    /**
+     * Milliseconds to wait before the first retry of a write; doubled for every next retry.
+     * @return   retry backoff in milliseconds.
+     */
+    default int getRetryBackoffMS() {
+        return 0;
+    }
+
+    /**
+     * Class names of the retryable exceptions; an exception is retryable if it, or one of its causes, is an
+     * instance of one of them.
+     * @return   retryable exception class names.
+     */
+    default String[] getRetryOn() {
+        return new String[0];
+    }
+
+    /**
+     * Number of operations per connection; the writers and readers are closed and created again after
+     * every given number of operations.
+     * @return   operations per connection; 0 to keep the connections for the whole run.
+     */
+    default int getConnectionOps() {
+        return 0;
+    }
+
+    /**
+     * Target rate of the new connections of all the writers and readers.
+     * @return   connections per second; 0 for no limit.
+     */
+    default int getConnectionsPerSec() {
+        return 0;
+    }
+
+    /**
+     * Number of keys per scan of the key-value readers.
+     * @return   keys per scan; 0 or 1 for point reads.
+     */
+    default int getScanKeys() {
+        return 0;
+    }
+
     /**
      * Number of records/events to write per Second.
      * @return   number of records per seconds.
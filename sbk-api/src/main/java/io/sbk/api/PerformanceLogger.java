@@ -10,12 +10,16 @@
 
 package io.sbk.api;
 
+import io.sbk.perl.GCStats;
 import io.sbk.perl.PerlConfig;
 import io.sbk.perl.Print;
+import io.sbk.perl.SideStats;
 import io.sbk.perl.Time;
 import io.sbk.perl.TimeUnit;
+import io.sbk.perl.WorkerCost;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Interface for recoding/printing results.
@@ -48,6 +52,13 @@ public interface PerformanceLogger extends Print {
     void open(final InputOptions params, final String storageName, final Action action, Time time)
             throws IOException;
 
+    /**
+     * Set the action of the next scenario phase.
+     * The logger is opened once per scenario, the results of every phase are printed with the action of the phase.
+     * @param action  action to print
+     */
+    void setAction(final Action action);
+
     /**
      * Close the Logger.
      * @param params InputOptions object to be parsed for driver specific parameters/arguments.
@@ -72,6 +83,29 @@ public interface PerformanceLogger extends Print {
     void printTotal(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
                     long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentiles);
 
+    /**
+     * Print the Total Periodic performance results along with the statistics of the trackers.
+     * @param bytes number of bytes read/write
+     * @param records data to write.
+     * @param recsPerSec  records per second.
+     * @param mbPerSec Throughput value in terms of MB (Mega Bytes) per Second.
+     * @param avgLatency Average Latency.
+     * @param maxLatency Maximum Latency.
+     * @param invalid   Number of invalid/negative latencies
+     * @param lowerDiscard number of discarded latencies which are less than minimum latency.
+     * @param higherDiscard number of discarded latencies which are higher than maximum latency.
+     * @param percentiles Array of percentiles.
+     * @param gc GC statistics; null if not monitored.
+     * @param cost CPU time and allocated bytes of the worker threads; null if not monitored.
+     * @param stats statistics of the trackers; null if no statistics are tracked.
+     */
+    default void printTotal(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                            long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentiles,
+                            GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        printTotal(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
+                higherDiscard, percentiles);
+    }
+
     /**
      * Default implementation of Reporting interval.
      * @return reporting time interval in seconds.
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api;
+
+import java.util.Arrays;
+
+/**
+ * Reusable batch of the records read by a {@link BatchReader}.
+ * Each record carries its payload, and optionally its size and its start time in the benchmark time unit;
+ * without a start time, the time is taken from the payload by the data type.
+ */
+public class ReadBatch<T> {
+    final static int DEFAULT_CAPACITY = 16;
+
+    private Object[] records;
+    int[] sizes;
+    long[] startTimes;
+    int[] writerIds;
+    long[] sequences;
+    private int count;
+
+    public ReadBatch(int capacity) {
+        final int cap = Math.max(capacity, 1);
+        this.records = new Object[cap];
+        this.sizes = new int[cap];
+        this.startTimes = new long[cap];
+        this.writerIds = new int[cap];
+        this.sequences = new long[cap];
+        this.count = 0;
+    }
+
+    public ReadBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Remove all the records; the batch is reused for the next read.
+     */
+    public void clear() {
+        Arrays.fill(records, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * Add a record.
+     * @param data payload of the record.
+     */
+    public void add(T data) {
+        add(data, -1, -1);
+    }
+
+    /**
+     * Add a record.
+     * @param data payload of the record.
+     * @param size size of the record in bytes; -1 to take the size from the data type.
+     */
+    public void add(T data, int size) {
+        add(data, size, -1);
+    }
+
+    /**
+     * Add a record.
+     * @param data payload of the record.
+     * @param size size of the record in bytes; -1 to take the size from the data type.
+     * @param startTime start time of the record; -1 to take the time from the payload.
+     */
+    public void add(T data, int size, long startTime) {
+        if (count == records.length) {
+            final int cap = records.length * 2;
+            records = Arrays.copyOf(records, cap);
+            sizes = Arrays.copyOf(sizes, cap);
+            startTimes = Arrays.copyOf(startTimes, cap);
+            writerIds = Arrays.copyOf(writerIds, cap);
+            sequences = Arrays.copyOf(sequences, cap);
+        }
+        records[count] = data;
+        sizes[count] = size;
+        startTimes[count] = startTime;
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) records[index];
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api;
+
+import java.io.IOException;
+
+/**
+ * Interface for the writers and readers which close and open their connection again in the connection
+ * churn mode, keeping their state such as the current key or offset.
+ * Only the writers and readers implementing this interface support the connection churn; they should own their
+ * connection, so that the setup and teardown latencies measure a real connection.
+ */
+public interface Reconnectable {
+
+    /**
+     * Close the connection of the writer or reader.
+     * @throws IOException If an exception occurred.
+     */
+    void closeConnection() throws IOException;
+
+    /**
+     * Open a new connection of the writer or reader.
+     * @throws IOException If an exception occurred.
+     */
+    void openConnection() throws IOException;
+}
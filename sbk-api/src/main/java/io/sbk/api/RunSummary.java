@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+import io.sbk.perl.Outlier;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Machine readable summary of a benchmark run, written as JSON at the end of the run.
+ */
+public class RunSummary {
+    public String sbkVersion;
+    public String driver;
+    public String scenario;
+    public long startTime;
+    public long endTime;
+    public String timeUnit;
+    public double[] percentiles;
+    public Environment environment;
+    public List<Result> results;
+
+    public static class Environment {
+        public String host;
+        public String javaVersion;
+        public String javaVm;
+        public String osName;
+        public String osVersion;
+        public String osArch;
+        public int processors;
+        public long maxHeapBytes;
+    }
+
+    public static class Parameters {
+        public int writers;
+        public int readers;
+        public int recordSize;
+        public long records;
+        public long seconds;
+        public int recordsPerSec;
+        public int recordsPerSync;
+    }
+
+    public static class Result {
+        public String phase;
+        public String action;
+        public String workers;
+        public Parameters parameters;
+        public long bytes;
+        public long records;
+        public double recordsPerSec;
+        public double mbPerSec;
+        public double avgLatency;
+        public long maxLatency;
+        public long invalidLatencies;
+        public long lowerDiscard;
+        public long higherDiscard;
+        public Map<String, Long> percentiles;
+        public List<Outlier> slowest;
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api;
+
+/**
+ * Scenario of ordered benchmark phases, read from a JSON or YAML file.
+ */
+public class ScenarioConfig {
+    public String name;
+    public Phase[] phases;
+
+    public static class Phase {
+        public String name;
+        public String args;
+    }
+}
@@ -14,41 +14,112 @@ import org.apache.commons.lang.StringUtils;
 import org.reflections.Reflections;
 
 import javax.annotation.concurrent.NotThreadSafe;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Class for listing and loading the storage drivers of the package.
+ * The storage drivers are listed from the index files {@link #INDEX_FILE} generated at build time by the
+ * storage index processor of the sbk-processor from the classes annotated with {@link StorageDriver};
+ * the package is scanned only if there is no index or if the requested storage driver is not in the index.
+ */
 @NotThreadSafe
 final public class StoragePackage {
+    final public static String STORAGE_CLASS = Storage.class.getName();
+    final public static String INDEX_FILE = "META-INF/services/" + STORAGE_CLASS;
     final private static int MAX_PRINT_WIDTH = 80;
     final private String packageName;
-    final private String[] simpleNames;
-    final private String[] names;
     final private StringCompareIgnoreCase stringComparator;
+    private String[] simpleNames;
+    private String[] names;
+    private boolean scanned;
 
     public StoragePackage(String packageName) {
-        final Reflections reflections = new Reflections(packageName);
-        final Set<Class<? extends Storage>> subTypes = reflections.getSubTypesOf(Storage.class);
-        final int size = subTypes.size();
+        final long startTime = System.currentTimeMillis();
         this.packageName = packageName;
         this.stringComparator = new StringCompareIgnoreCase();
-        this.simpleNames = new String[size];
-        this.names = new String[size];
-        if (size > 0) {
-            final AtomicInteger index = new AtomicInteger(0);
-            final Map<String, String> classMap = new HashMap<>();
-            subTypes.forEach(x -> classMap.put(x.getSimpleName(), x.getName()));
-            classMap.keySet().stream().sorted().forEach(x -> {
-                final int i = index.get();
-                simpleNames[i] = StringUtils.capitalize(x);
-                names[i] = classMap.get(x);
-                index.incrementAndGet();
-            });
+        this.scanned = false;
+        final Map<String, String> classMap = readIndex();
+        if (classMap.isEmpty()) {
+            scan();
+        } else {
+            setDrivers(classMap);
+        }
+        Printer.log.info("Storage Drivers lookup: " + simpleNames.length + " drivers in " +
+                (System.currentTimeMillis() - startTime) + " ms, source: " + (scanned ? "class path scan" : "index"));
+    }
+
+
+    private Map<String, String> readIndex() {
+        final Map<String, String> classMap = new HashMap<>();
+        final String prefix = packageName + ".";
+        try {
+            final Enumeration<URL> urls = getClassLoader().getResources(INDEX_FILE);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(),
+                        StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        final int commentIndex = line.indexOf('#');
+                        final String name = (commentIndex >= 0 ? line.substring(0, commentIndex) : line).trim();
+                        if (name.startsWith(prefix)) {
+                            classMap.put(getSimpleName(name), name);
+                        }
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            Printer.log.warn("Failed to read the storage drivers index: " + ex);
+            classMap.clear();
         }
+        return classMap;
+    }
+
+
+    private void scan() {
+        final Reflections reflections = new Reflections(packageName);
+        final Set<Class<? extends Storage>> subTypes = reflections.getSubTypesOf(Storage.class);
+        final Map<String, String> classMap = new HashMap<>();
+        subTypes.forEach(x -> classMap.put(x.getSimpleName(), x.getName()));
+        setDrivers(classMap);
+        scanned = true;
+    }
+
+
+    private void setDrivers(Map<String, String> classMap) {
+        final int size = classMap.size();
+        final AtomicInteger index = new AtomicInteger(0);
+        simpleNames = new String[size];
+        names = new String[size];
+        classMap.keySet().stream().sorted().forEach(x -> {
+            final int i = index.get();
+            simpleNames[i] = StringUtils.capitalize(x);
+            names[i] = classMap.get(x);
+            index.incrementAndGet();
+        });
+    }
+
+
+    private static String getSimpleName(String className) {
+        return className.substring(Math.max(className.lastIndexOf('.'), className.lastIndexOf('$')) + 1);
+    }
+
+
+    private static ClassLoader getClassLoader() {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : StoragePackage.class.getClassLoader();
     }
 
 
@@ -71,7 +142,13 @@ final public class StoragePackage {
 
     public Storage<?> getStorage(String storageName) throws ClassNotFoundException, NoSuchMethodException,
             InvocationTargetException, InstantiationException, IllegalAccessException {
-        final int i = Arrays.binarySearch(simpleNames, storageName, stringComparator);
+        int i = Arrays.binarySearch(simpleNames, storageName, stringComparator);
+        if (i < 0 && !scanned) {
+            Printer.log.info("storage class '" + storageName + "' not found in the index; scanning the package: " +
+                    packageName);
+            scan();
+            i = Arrays.binarySearch(simpleNames, storageName, stringComparator);
+        }
         if (i < 0) {
             throw new ClassNotFoundException("storage class '" + storageName + "' not found in package: " + packageName);
         }
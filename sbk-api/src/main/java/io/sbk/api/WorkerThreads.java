@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+/**
+ * Interface to account the CPU time and the allocated bytes of the worker threads.
+ */
+public interface WorkerThreads {
+
+    /**
+     * Register the calling worker thread; invoked by the worker thread itself.
+     */
+    default void registerWorkerThread() {
+    }
+
+    /**
+     * Unregister the calling worker thread; invoked by the worker thread itself before it exits.
+     */
+    default void unregisterWorkerThread() {
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api;
+
+/**
+ * Interface for the completion of asynchronous writes.
+ * One instance is used for all the writes of a writer; the driver invokes it from the callback of its client.
+ */
+public interface WriteCallback {
+
+    /**
+     * Complete the write.
+     *
+     * @param id    Identifier given to the write.
+     * @param startTime Start time given to the write.
+     * @param dataSize  size of the data in bytes.
+     * @param records  number of records/events/messages.
+     */
+    void complete(int id, long startTime, int dataSize, int records);
+
+    /**
+     * Fail the write.
+     *
+     * @param id    Identifier given to the write.
+     * @param startTime Start time given to the write.
+     * @param ex    Exception of the write.
+     */
+    void fail(int id, long startTime, Throwable ex);
+}
@@ -68,6 +68,8 @@ public interface Writer<T>  extends DataRecordsWriter<T> {
     /**
      * Default implementation for writing data using {@link io.sbk.api.Writer#writeAsync(Object)}  )}
      * and recording the benchmark statistics.
+     * For the asynchronous writes, the time spent in {@link io.sbk.api.Writer#writeAsync(Object)} and the time
+     * from its return to the completion of the future are recorded separately too.
      * If you are intend to NOT use the CompletableFuture returned by {@link io.sbk.api.Writer#writeAsync(Object)}  )}
      * then you can override this method. otherwise, use the default implementation and don't override this method.
      * If you are intend to use your own payload, then also you can use override this method.
@@ -94,13 +96,14 @@ public interface Writer<T>  extends DataRecordsWriter<T> {
             sendChannel.send(id, status.startTime, status.endTime, size, status.records);
         } else {
             final long beginTime =  status.startTime;
+            final long submitTime = time.getCurrentTime();
             ret.exceptionally(ex -> {
                 sendChannel.sendException(id, ex);
                 return null;
             });
             ret.thenAccept(d -> {
                 final long endTime = time.getCurrentTime();
-                sendChannel.send(id, beginTime, endTime, size, status.records);
+                sendChannel.sendAck(id, beginTime, submitTime, endTime, size, status.records);
             });
         }
     }
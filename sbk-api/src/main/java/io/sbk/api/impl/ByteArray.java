@@ -10,13 +10,19 @@
 package io.sbk.api.impl;
 
 import io.sbk.api.DataType;
-import java.nio.ByteBuffer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.Random;
 
 /**
  * Class for processing byte[] data.
+ * The headers are accessed through big endian views of the byte array; no temporary buffers are allocated.
  */
 public class ByteArray implements DataType<byte[]> {
+    final static VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    final static VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
 
     /**
      * Create byte array data.
@@ -61,8 +67,7 @@ public class ByteArray implements DataType<byte[]> {
      */
     @Override
     public byte[] setTime(byte[] data, long time) {
-        byte[] bytes = ByteBuffer.allocate(TIME_HEADER_BYTES).putLong(0, time).array();
-        System.arraycopy(bytes, 0, data, 0, TIME_HEADER_BYTES);
+        LONG_VIEW.set(data, 0, time);
         return data;
     }
 
@@ -73,7 +78,42 @@ public class ByteArray implements DataType<byte[]> {
      */
     @Override
     public long getTime(byte[] data) {
-        return ByteBuffer.allocate(TIME_HEADER_BYTES).put(data, 0, TIME_HEADER_BYTES).getLong(0);
+        return (long) LONG_VIEW.get(data, 0);
+    }
+
+    /**
+     * Set the writer id and the sequence number of data.
+     * @param  data data
+     * @param  writerId writer id
+     * @param  sequence sequence number of the writer
+     * @return byte[] return the data.
+     */
+    @Override
+    public byte[] setSequence(byte[] data, int writerId, long sequence) {
+        INT_VIEW.set(data, TIME_HEADER_BYTES, writerId);
+        LONG_VIEW.set(data, TIME_HEADER_BYTES + WRITER_ID_HEADER_BYTES, sequence);
+        return data;
+    }
+
+    @Override
+    public int getWriterId(byte[] data) {
+        if (data.length < SEQUENCE_HEADER_END) {
+            return -1;
+        }
+        return (int) INT_VIEW.get(data, TIME_HEADER_BYTES);
+    }
+
+    @Override
+    public long getSequence(byte[] data) {
+        if (data.length < SEQUENCE_HEADER_END) {
+            return -1;
+        }
+        return (long) LONG_VIEW.get(data, TIME_HEADER_BYTES + WRITER_ID_HEADER_BYTES);
+    }
+
+    @Override
+    public boolean isSequenceSupported() {
+        return true;
     }
 
     /**
@@ -10,11 +10,11 @@
 package io.sbk.api.impl;
 
 import io.sbk.api.DataType;
-import java.nio.ByteBuffer;
 import java.util.Random;
 
 /**
  * Class for processing Byte String data.
+ * The time header is stored as one byte per character; reading it does not allocate.
  */
 public class JavaString implements DataType<String> {
 
@@ -55,16 +55,19 @@ public class JavaString implements DataType<String> {
 
     /**
      * Set the time for data.
+     * String is immutable, so the data is copied once into the returned string.
      * @param  data data
      * @param  time time to set
      * @return byte[] return the data.
      */
     @Override
     public String setTime(String data, long time) {
-        byte[] dataBytes = data.getBytes();
-        byte[] bytes = ByteBuffer.allocate(TIME_HEADER_BYTES).putLong(0, time).array();
-        System.arraycopy(bytes, 0, dataBytes, 0, TIME_HEADER_BYTES);
-        return new String(dataBytes);
+        final char[] chars = data.toCharArray();
+        for (int i = TIME_HEADER_BYTES - 1; i >= 0; i--) {
+            chars[i] = (char) (time & 0xff);
+            time >>>= 8;
+        }
+        return new String(chars);
     }
 
     /**
@@ -74,7 +77,11 @@ public class JavaString implements DataType<String> {
      */
     @Override
     public long getTime(String data) {
-        return Long.parseLong(data.substring(0, TIME_HEADER_BYTES));
+        long time = 0;
+        for (int i = 0; i < TIME_HEADER_BYTES; i++) {
+            time = (time << 8) | (data.charAt(i) & 0xff);
+        }
+        return time;
     }
 
 
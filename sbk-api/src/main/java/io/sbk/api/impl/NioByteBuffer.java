@@ -77,6 +77,41 @@ public class NioByteBuffer implements DataType<ByteBuffer> {
         return data.getLong(0);
     }
 
+    /**
+     * Set the writer id and the sequence number of data.
+     * @param  data data
+     * @param  writerId writer id
+     * @param  sequence sequence number of the writer
+     * @return ByteBuffer return the data.
+     */
+    @Override
+    public ByteBuffer setSequence(ByteBuffer data, int writerId, long sequence) {
+        data.putInt(TIME_HEADER_BYTES, writerId);
+        data.putLong(TIME_HEADER_BYTES + WRITER_ID_HEADER_BYTES, sequence);
+        return data;
+    }
+
+    @Override
+    public int getWriterId(ByteBuffer data) {
+        if (data.limit() < SEQUENCE_HEADER_END) {
+            return -1;
+        }
+        return data.getInt(TIME_HEADER_BYTES);
+    }
+
+    @Override
+    public long getSequence(ByteBuffer data) {
+        if (data.limit() < SEQUENCE_HEADER_END) {
+            return -1;
+        }
+        return data.getLong(TIME_HEADER_BYTES + WRITER_ID_HEADER_BYTES);
+    }
+
+    @Override
+    public boolean isSequenceSupported() {
+        return true;
+    }
+
     /**
      * Get minimum Write and Read Data Size.
      * @return int minimum data size Write and Read.
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.sbk.api.impl;
+
+import io.sbk.api.DataType;
+
+/**
+ * Data type of the readers without the sequence tracking.
+ * The writer id and the sequence number are not decoded, the payload of the records read has no sequence header.
+ */
+final class NoSequenceDataType<T> implements DataType<T> {
+    final private DataType<T> dType;
+
+    NoSequenceDataType(DataType<T> dType) {
+        this.dType = dType;
+    }
+
+    @Override
+    public T allocate(int size) {
+        return dType.allocate(size);
+    }
+
+    @Override
+    public T create(int size) {
+        return dType.create(size);
+    }
+
+    @Override
+    public int length(T data) {
+        return dType.length(data);
+    }
+
+    @Override
+    public void release(T data) {
+        dType.release(data);
+    }
+
+    @Override
+    public T setTime(T data, long time) {
+        return dType.setTime(data, time);
+    }
+
+    @Override
+    public long getTime(T data) {
+        return dType.getTime(data);
+    }
+
+    @Override
+    public int getWriterId(T data) {
+        return -1;
+    }
+
+    @Override
+    public long getSequence(T data) {
+        return -1;
+    }
+
+    @Override
+    public int getWriteReadMinSize() {
+        return dType.getWriteReadMinSize();
+    }
+}
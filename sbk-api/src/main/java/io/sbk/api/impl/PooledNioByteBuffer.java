@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api.impl;
+
+import io.sbk.system.Printer;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class for processing ByteBuffer data from pooled, page aligned direct memory.
+ * Each record size gets a slab of direct memory carved into page aligned slots; the slab grows by chunks of
+ * slots on demand, up to the number of slots per slab and the byte budget of the pool.
+ * {@link PooledNioByteBuffer#allocate(int)} acquires a slot and {@link PooledNioByteBuffer#release(ByteBuffer)}
+ * returns it. If the pool is exhausted, allocate waits for a released slot.
+ */
+public class PooledNioByteBuffer extends NioByteBuffer {
+    final static public int PAGE_SIZE = 4096;
+    final static public int DEFAULT_SLOTS = 1024;
+    final static public long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    final static private int CHUNK_SLOTS = 64;
+    final static private long MAX_CHUNK_BYTES = Integer.MAX_VALUE - PAGE_SIZE;
+
+    final private int slots;
+    final private long maxBytes;
+    final private AtomicBoolean exhausted;
+    private long reservedBytes;
+    private volatile Slab[] slabs;
+
+    /**
+     * Page aligned slab of direct memory with the free slots.
+     */
+    static final class Slab {
+        final int slotSize;
+        final int maxSlots;
+        final ArrayBlockingQueue<ByteBuffer> free;
+        final Set<ByteBuffer> owned;
+        int allocatedSlots;
+
+        Slab(int slotSize, int maxSlots) {
+            this.slotSize = slotSize;
+            this.maxSlots = maxSlots;
+            this.free = new ArrayBlockingQueue<>(maxSlots);
+            this.owned = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+            this.allocatedSlots = 0;
+        }
+
+        void addChunk(int count) {
+            final ByteBuffer chunk = ByteBuffer.allocateDirect((int) ((long) slotSize * count + PAGE_SIZE))
+                    .alignedSlice(PAGE_SIZE);
+            for (int i = 0; i < count; i++) {
+                chunk.limit(chunk.capacity()).position(i * slotSize).limit((i + 1) * slotSize);
+                final ByteBuffer slot = chunk.slice();
+                owned.add(slot);
+                free.add(slot);
+            }
+            allocatedSlots += count;
+        }
+    }
+
+    public PooledNioByteBuffer() {
+        this(DEFAULT_SLOTS, DEFAULT_MAX_BYTES);
+    }
+
+    public PooledNioByteBuffer(int slots, long maxBytes) {
+        this.slots = slots;
+        this.maxBytes = maxBytes;
+        this.exhausted = new AtomicBoolean(false);
+        this.reservedBytes = 0;
+        this.slabs = new Slab[0];
+    }
+
+    private static long slotSize(int size) {
+        return Math.max(PAGE_SIZE, ((long) size + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE);
+    }
+
+    private Slab findSlab(long slotSize) {
+        for (Slab slab : slabs) {
+            if (slab.slotSize == slotSize) {
+                return slab;
+            }
+        }
+        return null;
+    }
+
+    private synchronized Slab createSlab(int slotSize) {
+        Slab slab = findSlab(slotSize);
+        if (slab == null) {
+            final long budgetSlots = Math.max(1, maxBytes / slotSize);
+            final Slab[] newSlabs = new Slab[slabs.length + 1];
+            System.arraycopy(slabs, 0, newSlabs, 0, slabs.length);
+            slab = new Slab(slotSize, (int) Math.min(slots, budgetSlots));
+            newSlabs[slabs.length] = slab;
+            slabs = newSlabs;
+        }
+        return slab;
+    }
+
+    /**
+     * Add a chunk of slots to the slab, within the slots of the slab and the byte budget of the pool;
+     * the first chunk of a slab is always allocated.
+     */
+    private synchronized boolean grow(Slab slab) {
+        long count = Math.min(CHUNK_SLOTS, slab.maxSlots - slab.allocatedSlots);
+        count = Math.min(count, MAX_CHUNK_BYTES / slab.slotSize);
+        if (slab.allocatedSlots > 0) {
+            count = Math.min(count, (maxBytes - reservedBytes) / slab.slotSize);
+        }
+        if (count <= 0) {
+            return false;
+        }
+        slab.addChunk((int) count);
+        reservedBytes += count * slab.slotSize;
+        return true;
+    }
+
+    /**
+     * Acquire a page aligned byte buffer from the pool.
+     * @param size size (number of bytes) of the data to create.
+     * @return T return the data.
+     */
+    @Override
+    public ByteBuffer allocate(int size) {
+        final long slotSize = slotSize(size);
+        if (slotSize > MAX_CHUNK_BYTES) {
+            return super.allocate(size);
+        }
+        Slab slab = findSlab(slotSize);
+        if (slab == null) {
+            slab = createSlab((int) slotSize);
+        }
+        ByteBuffer buffer = slab.free.poll();
+        while (buffer == null && grow(slab)) {
+            buffer = slab.free.poll();
+        }
+        if (buffer == null) {
+            if (exhausted.compareAndSet(false, true)) {
+                Printer.log.warn("Direct buffer pool of " + slab.allocatedSlots + " slots of " + slotSize +
+                        " bytes exhausted; waiting for the released buffers");
+            }
+            try {
+                buffer = slab.free.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return super.allocate(size);
+            }
+        }
+        buffer.clear().limit(size);
+        return buffer;
+    }
+
+    /**
+     * Return the byte buffer to the pool; unpooled buffers are left to the garbage collector.
+     * @param  data data
+     */
+    @Override
+    public void release(ByteBuffer data) {
+        final Slab slab = findSlab(data.capacity());
+        if (slab != null && slab.owned.contains(data)) {
+            slab.free.offer(data);
+        }
+    }
+}
@@ -10,13 +10,14 @@
 package io.sbk.api.impl;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import io.sbk.api.DataType;
 
-import java.nio.ByteBuffer;
 import java.util.Random;
 
 /**
  * Class for processing Byte String data.
+ * Reading the time header does not allocate.
  */
 public class ProtoBufByteString implements DataType<ByteString> {
 
@@ -57,16 +58,17 @@ public class ProtoBufByteString implements DataType<ByteString> {
 
     /**
      * Set the time for data.
+     * ByteString is immutable, so the data is copied once and the copy is wrapped without another copy.
      * @param  data data
      * @param  time time to set
      * @return byte[] return the data.
      */
     @Override
     public ByteString setTime(ByteString data, long time) {
-        byte[] dataBytes = data.toByteArray();
-        byte[] bytes = ByteBuffer.allocate(TIME_HEADER_BYTES).putLong(0, time).array();
-        System.arraycopy(bytes, 0, dataBytes, 0, TIME_HEADER_BYTES);
-        return ByteString.copyFrom(dataBytes);
+        final byte[] bytes = new byte[data.size()];
+        data.copyTo(bytes, 0);
+        ByteArray.LONG_VIEW.set(bytes, 0, time);
+        return UnsafeByteOperations.unsafeWrap(bytes);
     }
 
     /**
@@ -76,7 +78,11 @@ public class ProtoBufByteString implements DataType<ByteString> {
      */
     @Override
     public long getTime(ByteString data) {
-        return data.asReadOnlyByteBuffer().getLong(0);
+        long time = 0;
+        for (int i = 0; i < TIME_HEADER_BYTES; i++) {
+            time = (time << 8) | (data.byteAt(i) & 0xff);
+        }
+        return time;
     }
 
 
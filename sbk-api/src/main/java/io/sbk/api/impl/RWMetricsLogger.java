@@ -10,10 +10,12 @@
 package io.sbk.api.impl;
 
 
+import com.google.common.util.concurrent.AtomicDouble;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.sbk.api.CountRW;
 import io.sbk.perl.Time;
 import io.sbk.perl.TimeUnit;
+import io.sbk.perl.WorkerCost;
 import io.sbk.perl.impl.MetricsLogger;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,6 +29,8 @@ public class RWMetricsLogger extends MetricsLogger implements CountRW {
     final private AtomicInteger readers;
     final private AtomicInteger maxWriters;
     final private AtomicInteger maxReaders;
+    final private AtomicDouble cpuMicrosPerRecord;
+    final private AtomicDouble allocatedBytesPerRecord;
 
     public RWMetricsLogger(String header, String action, double[] percentiles, Time time, TimeUnit latencyTimeUnit,
                          CompositeMeterRegistry compositeRegistry) {
@@ -35,10 +39,14 @@ public class RWMetricsLogger extends MetricsLogger implements CountRW {
        final String readersName = metricPrefix + "_Readers";
        final String maxWritersName = metricPrefix + "_Max_Writers";
        final String maxReadersName = metricPrefix + "_Max_Readers";
+       final String cpuMicrosPerRecordName = metricPrefix + "_CPU_MicrosPerRecord";
+       final String allocatedBytesPerRecordName = metricPrefix + "_AllocatedBytesPerRecord";
        this.writers = this.registry.gauge(writersName, new AtomicInteger());
        this.readers = this.registry.gauge(readersName, new AtomicInteger());
        this.maxWriters = this.registry.gauge(maxWritersName, new AtomicInteger());
        this.maxReaders = this.registry.gauge(maxReadersName, new AtomicInteger());
+       this.cpuMicrosPerRecord = this.registry.gauge(cpuMicrosPerRecordName, new AtomicDouble());
+       this.allocatedBytesPerRecord = this.registry.gauge(allocatedBytesPerRecordName, new AtomicDouble());
     }
 
     public void incrementWriters() {
@@ -77,4 +85,13 @@ public class RWMetricsLogger extends MetricsLogger implements CountRW {
         maxReaders.set(val);
     }
 
-}
\ No newline at end of file
+    /**
+     * Set the worker threads cost gauges of the reporting window, aggregated across the workers.
+     *
+     * @param cost Worker cost of the window.
+     */
+    public void printWorkerCost(WorkerCost cost) {
+        cpuMicrosPerRecord.set(cost.cpuMicrosPerRecord);
+        allocatedBytesPerRecord.set(cost.allocatedBytesPerRecord);
+    }
+}
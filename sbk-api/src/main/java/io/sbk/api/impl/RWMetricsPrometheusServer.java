@@ -11,18 +11,29 @@
 package io.sbk.api.impl;
 
 import io.sbk.perl.MetricsConfig;
+import io.sbk.perl.PerlConfig;
+import io.sbk.perl.TimeUnit;
+import io.sbk.perl.impl.LatencyHistogram;
 import io.sbk.perl.impl.PrometheusServer;
 import io.sbk.perl.Time;
 
 import java.io.IOException;
 
 public class RWMetricsPrometheusServer extends RWMetricsLogger  {
+    final private static long HISTOGRAM_MAX_SECONDS = 100;
     final private PrometheusServer server;
+    final private LatencyHistogram histogram;
 
     private RWMetricsPrometheusServer(String header, String action, double[] percentiles, Time time,
                                       MetricsConfig config, PrometheusServer server)  {
         super(header, action, percentiles, time, config.latencyTimeUnit, server);
         this.server = server;
+        if (config.histogram) {
+            this.histogram = createHistogram(time, config);
+            this.histogram.register(server.getCollectorRegistry());
+        } else {
+            this.histogram = null;
+        }
     }
 
     public RWMetricsPrometheusServer(String header, String action, double[] percentiles, Time time,
@@ -30,6 +41,45 @@ public class RWMetricsPrometheusServer extends RWMetricsLogger  {
         this(header, action, percentiles, time, config, new PrometheusServer(config.port, config.context));
     }
 
+    private LatencyHistogram createHistogram(Time time, MetricsConfig config) {
+        final String name = metricPrefix + "_" + config.latencyTimeUnit.name() + "_Latency";
+        final double[] bounds;
+        if (config.histogramBuckets != null && config.histogramBuckets.trim().length() > 0) {
+            bounds = LatencyHistogram.parseBounds(config.histogramBuckets);
+        } else if (config.latencyTimeUnit == TimeUnit.ns) {
+            bounds = LatencyHistogram.defaultBounds(HISTOGRAM_MAX_SECONDS * PerlConfig.NS_PER_SEC);
+        } else if (config.latencyTimeUnit == TimeUnit.mcs) {
+            bounds = LatencyHistogram.defaultBounds(HISTOGRAM_MAX_SECONDS * PerlConfig.MICROS_PER_SEC);
+        } else {
+            bounds = LatencyHistogram.defaultBounds(HISTOGRAM_MAX_SECONDS * PerlConfig.MS_PER_SEC);
+        }
+        if (config.latencyTimeUnit == TimeUnit.ns) {
+            return new LatencyHistogram(name, bounds, time::convertToNanoSeconds);
+        } else if (config.latencyTimeUnit == TimeUnit.mcs) {
+            return new LatencyHistogram(name, bounds, time::convertToMicroSeconds);
+        }
+        return new LatencyHistogram(name, bounds, time::convertToMilliSeconds);
+    }
+
+    /**
+     * Add the latency values of the reporting window to the histogram, if enabled.
+     *
+     * @param latency latency value
+     * @param count   number of times the latency value is observed
+     */
+    public void reportLatency(long latency, long count) {
+        if (histogram != null) {
+            histogram.observe(latency, count);
+        }
+    }
+
+    /**
+     * Refresh the scrape output after the metrics of the reporting window are updated.
+     */
+    public void invalidateScrape() {
+        server.invalidate();
+    }
+
     public void start() throws IOException  {
         server.start();
     }
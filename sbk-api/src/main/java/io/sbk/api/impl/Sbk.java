@@ -12,6 +12,7 @@ package io.sbk.api.impl;
 import com.fasterxml.jackson.dataformat.javaprop.JavaPropsFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.micrometer.core.instrument.util.IOUtils;
 import io.sbk.api.Action;
 import io.sbk.api.Benchmark;
@@ -19,6 +20,7 @@ import io.sbk.api.Config;
 import io.sbk.api.DataType;
 import io.sbk.api.HelpException;
 import io.sbk.api.ParameterOptions;
+import io.sbk.api.ScenarioConfig;
 import io.sbk.api.Logger;
 import io.sbk.api.StoragePackage;
 import io.sbk.perl.PerlConfig;
@@ -29,9 +31,12 @@ import org.apache.commons.cli.ParseException;
 import org.apache.commons.cli.UnrecognizedOptionException;
 import org.apache.commons.lang.StringUtils;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -208,6 +213,42 @@ public class Sbk {
             throw new InstantiationException(errMsg);
         }
 
+        time = SbkUtils.getTime(logger);
+        if (params.hasOption("scenario")) {
+            final String scenarioFile = params.getOptionValue("scenario");
+            final ScenarioConfig scenario = readScenario(scenarioFile);
+            if (scenario.phases == null || scenario.phases.length == 0) {
+                String errMsg = "No phases in the scenario file: " + scenarioFile;
+                Printer.log.error(errMsg);
+                throw new InstantiationException(errMsg);
+            }
+            final String scenarioName = scenario.name == null ? scenarioFile : scenario.name;
+            final List<SbkPhase> phases = new ArrayList<>();
+            for (int i = 0; i < scenario.phases.length; i++) {
+                final String phaseName = scenario.phases[i].name == null ? "phase-" + (i + 1) :
+                        scenario.phases[i].name;
+                final String phaseArgs = scenario.phases[i].args == null ? "" : scenario.phases[i].args.trim();
+                final SbkPhaseParameters phaseParams = new SbkPhaseParameters(phaseName, usageLine, params);
+                Printer.log.info("Arguments to Scenario Phase '" + phaseName + "' : " + phaseArgs);
+                try {
+                    phaseParams.parseArgs(Arrays.stream(phaseArgs.split("\\s+"))
+                            .filter(arg -> !arg.isEmpty()).toArray(String[]::new));
+                } catch (UnrecognizedOptionException ex) {
+                    phaseParams.printHelp();
+                    Printer.log.error("Scenario phase '" + phaseName + "' : " + ex);
+                    throw ex;
+                }
+                checkRecordSize(phaseParams, dType);
+                phases.add(new SbkPhase(phaseName, getAction(phaseParams), phaseParams));
+            }
+            return new SbkBenchmark(scenarioName, phases, perlConfig, params, storageDevice, dType, logger, time);
+        }
+        checkRecordSize(params, dType);
+        action = getAction(params);
+        return new SbkBenchmark(action, perlConfig, params, storageDevice, dType, logger, time);
+    }
+
+    private static void checkRecordSize(ParameterOptions params, DataType<?> dType) throws InstantiationException {
         int minSize = dType.getWriteReadMinSize();
         if (params.isWriteAndRead() && params.getRecordSize() < minSize) {
             String errMsg =
@@ -217,17 +258,41 @@ public class Sbk {
             Printer.log.error(errMsg);
             throw new InstantiationException(errMsg);
         }
-        time = SbkUtils.getTime(logger);
+        if (params.isSequenceTracking()) {
+            if (!dType.isSequenceSupported()) {
+                String errMsg = "The data type: " + dType.getClass().getName() +
+                        " does not support the writer id and sequence number header";
+                Printer.log.error(errMsg);
+                throw new InstantiationException(errMsg);
+            }
+            if (params.getRecordSize() < DataType.SEQUENCE_HEADER_END) {
+                String errMsg = "Invalid record size: " + params.getRecordSize() +
+                        ", For the sequence tracking, minimum data size should be " + DataType.SEQUENCE_HEADER_END;
+                Printer.log.error(errMsg);
+                throw new InstantiationException(errMsg);
+            }
+        }
+    }
+
+    private static Action getAction(ParameterOptions params) {
         if (params.getReadersCount() > 0) {
             if (params.isWriteAndRead()) {
-                action = Action.Write_Reading;
-            } else {
-                action = Action.Reading;
+                return Action.Write_Reading;
             }
-        } else {
-            action = Action.Writing;
+            return Action.Reading;
         }
-        return new SbkBenchmark(action, perlConfig, params, storageDevice, dType, logger, time);
+        return Action.Writing;
     }
 
+    /**
+     * Read the scenario file; the files with the extension '.yaml' or '.yml' are parsed as YAML,
+     * otherwise as JSON.
+     */
+    private static ScenarioConfig readScenario(String fileName) throws IOException {
+        final String lowerName = fileName.toLowerCase();
+        final ObjectMapper mapper = lowerName.endsWith(".yaml") || lowerName.endsWith(".yml") ?
+                new ObjectMapper(new YAMLFactory()) : new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper.readValue(new File(fileName), ScenarioConfig.class);
+    }
 }
@@ -9,33 +9,64 @@
  */
 package io.sbk.api.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.sbk.perl.GCStats;
+import io.sbk.api.AbstractCallbackWriter;
+import io.sbk.api.AbstractFlowReader;
 import io.sbk.api.Action;
 import io.sbk.api.Benchmark;
 import io.sbk.api.Config;
+import io.sbk.api.CountReaders;
+import io.sbk.api.CountWriters;
 import io.sbk.api.DataReader;
+import io.sbk.api.DataRecordsReader;
 import io.sbk.api.DataType;
+import io.sbk.api.DataRecordsWriter;
 import io.sbk.api.DataWriter;
 import io.sbk.api.ParameterOptions;
 import io.sbk.api.Logger;
+import io.sbk.api.RunSummary;
+import io.sbk.jfr.SbkJfr;
 import io.sbk.perl.Performance;
 import io.sbk.perl.PerlConfig;
+import io.sbk.perl.LatencyRecord;
 import io.sbk.perl.PeriodicRecorder;
+import io.sbk.perl.Print;
+import io.sbk.perl.ReportLatencies;
+import io.sbk.perl.ReportOutliers;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.WorkerCost;
 import io.sbk.api.Storage;
 import io.sbk.perl.State;
 import io.sbk.perl.Time;
 import io.sbk.perl.impl.ArrayLatencyRecorder;
+import io.sbk.perl.impl.AsyncPrinter;
 import io.sbk.perl.impl.CompositeCSVLatencyRecorder;
 import io.sbk.perl.impl.CompositeHashMapLatencyRecorder;
+import io.sbk.perl.impl.ConnectionTracker;
+import io.sbk.perl.impl.ErrorTracker;
+import io.sbk.perl.impl.GCMonitor;
 import io.sbk.perl.impl.HashMapLatencyRecorder;
+import io.sbk.perl.impl.OverheadCompensatedRecorder;
+import io.sbk.perl.impl.SequenceTracker;
+import io.sbk.perl.impl.SubmitAckTracker;
+import io.sbk.perl.impl.WorkerCostMonitor;
 import io.sbk.perl.LatencyRecordWindow;
 import io.sbk.perl.impl.CQueuePerformance;
 import io.sbk.system.Printer;
 import lombok.Synchronized;
 
 import javax.annotation.concurrent.GuardedBy;
+import java.io.File;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -51,7 +82,8 @@ import java.util.stream.IntStream;
  * Class for performing the benchmark.
  */
 public class SbkBenchmark implements Benchmark {
-    final private Action action;
+    final private String scenarioName;
+    final private List<SbkPhase> phases;
     final private PerlConfig perlConfig;
     final private Storage<Object> storage;
     final private DataType<Object> dType;
@@ -59,18 +91,35 @@ public class SbkBenchmark implements Benchmark {
     final private Logger logger;
     final private ExecutorService executor;
     final private ParameterOptions params;
-    final private Performance writeStats;
-    final private Performance readStats;
     final private int maxQs;
     final private double[] percentileFractions;
     final private ScheduledExecutorService timeoutExecutor;
     final private CompletableFuture<Void> retFuture;
-    final private List<DataWriter<Object>> writers;
-    final private List<DataReader<Object>> readers;
+    final private LatencyRecordWindow scenarioRecorder;
+    final private ReportLatencies scenarioLatencies;
+    final private List<String> phaseResults;
+    final private long calibrateSeconds;
+    final private boolean subtractOverhead;
+    final private AsyncPrinter reporter;
+    final private GCMonitor gcMonitor;
+    final private String summaryFile;
+    final private List<RunSummary.Result> summaryResults;
+    final private SbkOutlierLog outlierLog;
+    final private boolean workerStats;
+    private long summaryStartTime;
 
     @GuardedBy("this")
     private State state;
 
+    @GuardedBy("this")
+    private int phaseIndex;
+
+    @GuardedBy("this")
+    private PhaseRun phaseRun;
+
+    @GuardedBy("this")
+    private long frameworkOverhead;
+
     /**
      * Create SBK Benchmark.
      *
@@ -86,8 +135,33 @@ public class SbkBenchmark implements Benchmark {
     public SbkBenchmark(Action action, PerlConfig perlConfig,
                         ParameterOptions params, Storage<Object> storage,
                         DataType<Object> dType, Logger logger, Time time) throws IOException {
+        this(null, List.of(new SbkPhase(action.name(), action, params)), perlConfig, params, storage, dType,
+                logger, time);
+    }
+
+    /**
+     * Create SBK Benchmark to run the scenario phases one after another.
+     * The storage is opened once and shared by all the phases.
+     *
+     * @param  scenarioName         Name of the scenario; null if no scenario is supplied.
+     * @param  phases               list of phases to run in order
+     * @param  perlConfig           Configuration parameters
+     * @param  params               Benchmarking input Parameters
+     * @param  storage              Storage device/client/driver for benchmarking
+     * @param  dType                Data Type.
+     * @param  logger               output logger
+     * @param  time                 time interface
+     * @throws IOException          If Exception occurs.
+     */
+    public SbkBenchmark(String scenarioName, List<SbkPhase> phases, PerlConfig perlConfig,
+                        ParameterOptions params, Storage<Object> storage,
+                        DataType<Object> dType, Logger logger, Time time) throws IOException {
+        if (phases == null || phases.size() == 0) {
+            throw new IllegalArgumentException("No benchmarking phases supplied");
+        }
+        this.scenarioName = scenarioName;
+        this.phases = phases;
         this.dType = dType;
-        this.action = action;
         this.perlConfig = perlConfig;
         this.params = params;
         this.storage = storage;
@@ -106,38 +180,77 @@ public class SbkBenchmark implements Benchmark {
             this.maxQs = Math.max(PerlConfig.MIN_Q_PER_WORKER, perlConfig.qPerWorker);
         }
 
-        final int threadCount = params.getWritersCount() + params.getReadersCount() + 23;
+        final int threadCount = phases.stream()
+                .mapToInt(p -> p.params.getWritersCount() + p.params.getReadersCount())
+                .max().orElse(0) + 23;
         if (perlConfig.fork) {
             executor = new ForkJoinPool(threadCount);
         } else {
             executor = Executors.newFixedThreadPool(threadCount);
         }
-        if (params.getWritersCount() > 0 && !params.isWriteAndRead()) {
-            writeStats = new CQueuePerformance(perlConfig, params.getWritersCount(), createLatencyRecorder(),
-                    logger.getReportingIntervalSeconds() * PerlConfig.MS_PER_SEC, this.time, executor);
+        if (scenarioName != null) {
+            scenarioRecorder = new HashMapLatencyRecorder(logger.getMinLatency(), logger.getMaxLatency(),
+                    PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, percentileFractions, time,
+                    perlConfig.maxHashMapSizeMB);
+            scenarioLatencies = scenarioLatencies(scenarioRecorder);
         } else {
-            writeStats = null;
-        }
-
-        if (params.getReadersCount() > 0) {
-            readStats = new CQueuePerformance(perlConfig, params.getReadersCount(), createLatencyRecorder(),
-                    logger.getReportingIntervalSeconds() * PerlConfig.MS_PER_SEC, this.time, executor);
-        } else {
-            readStats = null;
+            scenarioRecorder = null;
+            scenarioLatencies = null;
         }
         timeoutExecutor = Executors.newScheduledThreadPool(1);
         retFuture = new CompletableFuture<>();
-        writers = new ArrayList<>();
-        readers = new ArrayList<>();
+        phaseResults = new ArrayList<>();
+        calibrateSeconds = Long.parseLong(params.getOptionValue("calibrate", "0"));
+        subtractOverhead = params.hasOption("subtract");
+        frameworkOverhead = 0;
+        reporter = new AsyncPrinter("SBK-Reporter");
+        gcMonitor = new GCMonitor(time);
+        summaryFile = params.getOptionValue("summary");
+        summaryResults = Collections.synchronizedList(new ArrayList<>());
+        final int outliers = Integer.parseInt(params.getOptionValue("outliers", "0"));
+        outlierLog = outliers > 0 ? new SbkOutlierLog(outliers, params.getOptionValue("outlierfile"), time) : null;
+        workerStats = params.hasOption("workerstats") && perlConfig.maxQs <= 0;
+        if (params.hasOption("workerstats") && !workerStats) {
+            Printer.log.warn("Per worker statistics are disabled; the workers share the performance queues (maxQs)");
+        }
+        phaseIndex = 0;
+        phaseRun = null;
         state = State.BEGIN;
     }
 
 
-    private PeriodicRecorder createLatencyRecorder() {
+    /**
+     * The writers and readers recorders of a write and read phase copy their total latencies to the scenario
+     * recorder from their own threads; the copies are serialized on the scenario recorder.
+     */
+    private static ReportLatencies scenarioLatencies(LatencyRecordWindow recorder) {
+        return new ReportLatencies() {
+            @Override
+            public void reportLatencyRecord(LatencyRecord record) {
+                synchronized (recorder) {
+                    recorder.reportLatencyRecord(record);
+                }
+            }
+
+            @Override
+            public void reportLatency(long latency, long count) {
+                synchronized (recorder) {
+                    recorder.reportLatency(latency, count);
+                }
+            }
+        };
+    }
+
+    private CompositeHashMapLatencyRecorder createLatencyRecorder(Print loggerTotal, ReportOutliers reportOutliers,
+                                                                  WorkerCostMonitor costMonitor, int workers,
+                                                                  int sequenceWriters, boolean errors,
+                                                                  boolean connections) {
         final long latencyRange = logger.getMaxLatency() - logger.getMinLatency();
         final long memSizeMB = (latencyRange * PerlConfig.LATENCY_VALUE_SIZE_BYTES) / PerlConfig.BYTES_PER_MB;
         final LatencyRecordWindow window;
-        final PeriodicRecorder latencyRecorder;
+        final CompositeHashMapLatencyRecorder latencyRecorder;
+        final Print windowLogger = reporter.wrap(logger);
+        final Print totalLogger = reporter.wrap(loggerTotal);
 
         if (memSizeMB < perlConfig.maxArraySizeMB && latencyRange < Integer.MAX_VALUE) {
             window = new ArrayLatencyRecorder(logger.getMinLatency(), logger.getMaxLatency(),
@@ -151,14 +264,40 @@ public class SbkBenchmark implements Benchmark {
         }
         if (perlConfig.csv) {
             latencyRecorder = new CompositeCSVLatencyRecorder(window, perlConfig.maxHashMapSizeMB,
-                    logger, logger::printTotal, logger,
+                    windowLogger, totalLogger, logger, scenarioLatencies, logger,
                     Config.NAME + "-" + String.format("%06d", new Random().nextInt(1000000)) + ".csv" );
             Printer.log.info("Total Window Latency Store: HashMap and CSV file");
         } else {
             latencyRecorder = new CompositeHashMapLatencyRecorder(window, perlConfig.maxHashMapSizeMB,
-                    logger, logger::printTotal, logger);
+                    windowLogger, totalLogger, logger, scenarioLatencies, logger);
             Printer.log.info("Total Window Latency Store: HashMap");
         }
+        latencyRecorder.setWorkerCost(costMonitor);
+        latencyRecorder.setGCMonitor(gcMonitor);
+        if (reportOutliers != null) {
+            latencyRecorder.setOutliers(outlierLog.getCount(), reporter.wrap(reportOutliers));
+        }
+        if (workerStats) {
+            latencyRecorder.setWorkerStats(workers);
+        }
+        if (sequenceWriters > 0) {
+            latencyRecorder.addTracker(new SequenceTracker(sequenceWriters));
+        }
+        if (errors) {
+            latencyRecorder.addTracker(new ErrorTracker());
+        }
+        if (connections) {
+            latencyRecorder.addTracker(new ConnectionTracker());
+        }
+        return latencyRecorder;
+    }
+
+    private PeriodicRecorder compensateOverhead(PeriodicRecorder latencyRecorder) {
+        if (subtractOverhead && frameworkOverhead > 0) {
+            Printer.log.info("Subtracting framework overhead: " + frameworkOverhead + " " +
+                    time.getTimeUnit().name());
+            return new OverheadCompensatedRecorder(latencyRecorder, frameworkOverhead);
+        }
         return latencyRecorder;
     }
 
@@ -168,6 +307,8 @@ public class SbkBenchmark implements Benchmark {
      * opens the storage device/client , creates the writers/readers.
      * conducts the performance benchmarking for given time in seconds
      * or exits if the input the number of records are written/read.
+     * If the scenario phases are supplied, then the phases are executed one after another
+     * with the same storage device/client.
      * NOTE: This method does NOT invoke parsing of parameters, storage device/client.
      *
      * @throws IOException If an exception occurred.
@@ -186,210 +327,129 @@ public class SbkBenchmark implements Benchmark {
             return retFuture;
         }
         state = State.RUN;
+        if (params.hasOption("jfr")) {
+            SbkJfr.start(params.getOptionValue("jfr"), Long.parseLong(params.getOptionValue("jfrslow", "0")),
+                    time.getTimeUnit().name());
+        }
+        if (calibrateSeconds > 0) {
+            calibrate();
+        }
         Printer.log.info("SBK Benchmark Started");
-        logger.open(params, storage.getClass().getSimpleName(), action, time);
-        storage.openStorage(params);
-        final List<SbkWriter> sbkWriters;
-        final List<SbkReader> sbkReaders;
-        final List<CompletableFuture<Void>> writeFutures;
-        final List<CompletableFuture<Void>> readFutures;
-        final CompletableFuture<Void> wStatFuture;
-        final CompletableFuture<Void> rStatFuture;
-        final CompletableFuture<Void> chainFuture;
-        final CompletableFuture<Void> writersCB;
-        final CompletableFuture<Void> readersCB;
-
-        for (int i = 0; i < params.getWritersCount(); i++) {
-            final DataWriter<Object> writer = storage.createWriter(i, params);
-            if (writer != null) {
-                writers.add(writer);
+        summaryStartTime = System.currentTimeMillis();
+        if (scenarioName != null) {
+            Printer.log.info("SBK Scenario '" + scenarioName + "' with " + phases.size() + " phases");
+            synchronized (scenarioRecorder) {
+                scenarioRecorder.reset(time.getCurrentTime());
             }
         }
-
-        for (int i = 0; i < params.getReadersCount(); i++) {
-            final DataReader<Object> reader = storage.createReader(i, params);
-            if (reader != null) {
-                readers.add(reader);
-            }
+        logger.open(phases.get(0).params, storage.getClass().getSimpleName(), phases.get(0).action, time);
+        gcMonitor.start();
+        final long openStartTime = System.nanoTime();
+        storage.openStorage(params);
+        Printer.log.info(String.format("SBK Storage opened in %.3f ms",
+                (System.nanoTime() - openStartTime) / (double) PerlConfig.NS_PER_MS));
+        phaseIndex = 0;
+        phaseRun = new PhaseRun(phaseIndex, phases.get(phaseIndex));
+        try {
+            phaseRun.start();
+        } catch (IOException | IllegalStateException ex) {
+            shutdown(ex);
+            throw ex;
         }
+        logger.setExceptionHandler(this::shutdown);
+        return retFuture;
+    }
 
-        if (writers.size() <= 0 && readers.size() <= 0) {
-            throw new IllegalStateException("No Writers and/or Readers Created\n");
-        }
 
-        if (writers.size() > 0) {
-            if (writeStats != null) {
-                sbkWriters = IntStream.range(0, params.getWritersCount())
-                        .boxed()
-                        .map(i -> new SbkWriter(i, maxQs, params, writeStats.getSendChannel(),
-                                dType, time, writers.get(i), logger,  executor))
-                        .collect(Collectors.toList());
-            } else {
-                sbkWriters = IntStream.range(0, params.getWritersCount())
-                        .boxed()
-                        .map(i -> new SbkWriter(i, maxQs,  params, null,
-                                dType, time, writers.get(i), logger, executor))
-                        .collect(Collectors.toList());
-            }
-        } else {
-            sbkWriters = null;
-        }
+    /**
+     * Run the calibration with the parameters of the first phase.
+     */
+    private void calibrate() throws IOException, InterruptedException, ExecutionException {
+        final SbkCalibration calibration = new SbkCalibration(phases.get(0).params, calibrateSeconds, perlConfig,
+                dType, time, logger.getMinLatency(), logger.getMaxLatency(),
+                logger.getReportingIntervalSeconds() * PerlConfig.MS_PER_SEC, executor);
+        calibration.run();
+        frameworkOverhead = calibration.getMedianOverhead();
+    }
 
-        if (readers.size() > 0) {
-            sbkReaders = IntStream.range(0, params.getReadersCount())
-                    .boxed()
-                    .map(i -> new SbkReader(i, maxQs, params,
-                            readStats.getSendChannel(), dType, time, readers.get(i),
-                            logger, executor))
-                    .collect(Collectors.toList());
-        }  else {
-            sbkReaders = null;
-        }
 
-        if (writeStats != null && !params.isWriteAndRead() && sbkWriters != null) {
-            wStatFuture = writeStats.run(params.getTotalSecondsToRun(), params.getTotalRecords());
-        } else {
-            wStatFuture = null;
+    /**
+     * Stop the phase and start the next phase.
+     * if there are no more phases to run, then the benchmark is shutdown.
+     *
+     * @param index index of the phase to stop.
+     */
+    @Synchronized
+    private void stopPhase(int index) {
+        if (state != State.RUN || index != phaseIndex) {
+            return;
         }
-        if (readStats != null && sbkReaders != null) {
-            rStatFuture = readStats.run(params.getTotalSecondsToRun(), params.getTotalRecords());
-        } else {
-            rStatFuture = null;
-        }
-        if (sbkWriters != null) {
-            writeFutures = new ArrayList<>();
-
-            final long recordsPerWriter = params.getTotalSecondsToRun() <= 0 ?
-                    params.getTotalRecords() / params.getWritersCount() : 0;
-            final long delta = recordsPerWriter > 0 ?
-                    params.getTotalRecords() - (recordsPerWriter * params.getWritersCount()) : 0;
-
-            writersCB = CompletableFuture.runAsync( () -> {
-                long secondsToRun = params.getTotalSecondsToRun();
-                boolean doWork = true;
-                int i = 0;
-                while (i < params.getWritersCount() && doWork) {
-                    final int stepCnt = Math.min(params.getWritersStep(), params.getWritersCount() - i);
-                    for (int j = 0; j < stepCnt; j++) {
-                        try {
-                            CompletableFuture<Void> ret = sbkWriters.get(i + j).run(secondsToRun,
-                                    i + j + 1 == params.getWritersCount() ?
-                                    recordsPerWriter + delta : recordsPerWriter);
-                            writeFutures.add(ret);
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    i += params.getWritersStep();
-                    if (params.getWritersStepSeconds() > 0 && i < params.getWritersCount()) {
-                        try {
-                            Thread.sleep((long) params.getWritersStepSeconds() * PerlConfig.MS_PER_SEC);
-                            if (params.getTotalSecondsToRun() > 0) {
-                                secondsToRun -= params.getWritersStepSeconds();
-                                if (secondsToRun <= 0) {
-                                    doWork = false;
-                                }
-                            }
-                        } catch (InterruptedException ex) {
-                            ex.printStackTrace();
-                        }
-                    }
-                }
-            }, executor).thenAccept( d -> {
-                try {
-                    CompletableFuture.allOf(writeFutures.toArray(new CompletableFuture[0])).get();
-                } catch (InterruptedException  | ExecutionException e) {
-                    e.printStackTrace();
-                }
-            });
-            Printer.log.info("SBK Benchmark initiated Writers");
-
-        } else {
-            writersCB = null;
-            writeFutures = null;
-        }
-
-        if (sbkReaders != null) {
-            readFutures = new ArrayList<>();
-
-            final long recordsPerReader = params.getTotalSecondsToRun() <= 0 ?
-                    params.getTotalRecords() / params.getReadersCount() : 0;
-            final long delta = recordsPerReader > 0 ?
-                    params.getTotalRecords() - (recordsPerReader * params.getReadersCount()) : 0;
-
-            readersCB = CompletableFuture.runAsync(() -> {
-                long secondsToRun = params.getTotalSecondsToRun();
-                boolean doWork = true;
-                int i = 0;
-                while (i < params.getReadersCount() && doWork)  {
-                    int stepCnt = Math.min(params.getReadersStep(), params.getReadersCount()-i);
-                    for (int j = 0; j < stepCnt; j++) {
-                        try {
-                            CompletableFuture<Void> ret = sbkReaders.get(i+j).run(secondsToRun, i+j+1 == params.getReadersCount() ?
-                                    recordsPerReader + delta : recordsPerReader);
-                            readFutures.add(ret);
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    i += params.getReadersStep();
-                    if (params.getReadersStepSeconds() > 0 && i < params.getReadersCount()) {
-                        try {
-                            Thread.sleep((long) params.getReadersStepSeconds() * PerlConfig.MS_PER_SEC);
-                            if (params.getTotalSecondsToRun() > 0) {
-                                secondsToRun -= params.getReadersStepSeconds();
-                                if (secondsToRun <= 0) {
-                                    doWork = false;
-                                }
-                            }
-                        } catch (InterruptedException ex) {
-                            ex.printStackTrace();
-                        }
-                    }
-                }
-            }, executor).thenAccept( d -> {
-                        try {
-                            CompletableFuture.allOf(readFutures.toArray(new CompletableFuture[0])).get();
-                        } catch (InterruptedException  | ExecutionException e) {
-                            e.printStackTrace();
-                        }
-                    }
-            );
-            Printer.log.info("SBK Benchmark initiated Readers");
-        } else {
-            readersCB = null;
-            readFutures = null;
+        if (phaseIndex + 1 >= phases.size()) {
+            shutdown(null);
+            return;
         }
-
-        if (writersCB != null && readersCB != null) {
-            chainFuture = CompletableFuture.allOf(writersCB, readersCB);
-        } else if (readFutures != null) {
-            chainFuture = readersCB;
-        } else {
-            chainFuture = writersCB;
+        phaseRun.stop();
+        phaseRun = null;
+        phaseIndex += 1;
+        final SbkPhase phase = phases.get(phaseIndex);
+        logger.setAction(phase.action);
+        try {
+            phaseRun = new PhaseRun(phaseIndex, phase);
+            phaseRun.start();
+        } catch (IOException | IllegalStateException ex) {
+            shutdown(ex);
         }
+    }
 
-        if (params.getTotalSecondsToRun() > 0) {
-            timeoutExecutor.schedule(this::stop, params.getTotalSecondsToRun() + 1, TimeUnit.SECONDS);
-        }
 
-        if (wStatFuture != null && !wStatFuture.isDone()) {
-            wStatFuture.exceptionally(ex -> {
-                shutdown(ex);
-                return null;
-            });
+    private void printScenarioSummary() {
+        if (scenarioRecorder == null) {
+            return;
         }
-
-        if (rStatFuture != null && !rStatFuture.isDone()) {
-            rStatFuture.exceptionally(ex -> {
-                shutdown(ex);
-                return null;
-            });
+        Printer.log.info("SBK Scenario '" + scenarioName + "' Summary of " + phaseResults.size() + " phases");
+        phaseResults.forEach(Printer.log::info);
+        synchronized (scenarioRecorder) {
+            scenarioRecorder.print(time.getCurrentTime(), logger::printTotal, null);
         }
-        logger.setExceptionHandler(this::shutdown);
-        chainFuture.thenRunAsync(this::stop, executor);
+    }
 
-        return retFuture;
+    /**
+     * Write the JSON run summary, if the summary file is supplied.
+     */
+    private void writeRunSummary() {
+        if (summaryFile == null) {
+            return;
+        }
+        final RunSummary summary = new RunSummary();
+        summary.sbkVersion = SbkBenchmark.class.getPackage().getImplementationVersion();
+        summary.driver = storage.getClass().getSimpleName();
+        summary.scenario = scenarioName;
+        summary.startTime = summaryStartTime;
+        summary.endTime = System.currentTimeMillis();
+        summary.timeUnit = time.getTimeUnit().name();
+        summary.percentiles = logger.getPercentiles();
+        summary.environment = new RunSummary.Environment();
+        try {
+            summary.environment.host = InetAddress.getLocalHost().getHostName();
+        } catch (IOException ex) {
+            summary.environment.host = null;
+        }
+        summary.environment.javaVersion = System.getProperty("java.version");
+        summary.environment.javaVm = System.getProperty("java.vm.name");
+        summary.environment.osName = System.getProperty("os.name");
+        summary.environment.osVersion = System.getProperty("os.version");
+        summary.environment.osArch = System.getProperty("os.arch");
+        summary.environment.processors = Runtime.getRuntime().availableProcessors();
+        summary.environment.maxHeapBytes = Runtime.getRuntime().maxMemory();
+        synchronized (summaryResults) {
+            summary.results = new ArrayList<>(summaryResults);
+        }
+        try {
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(summaryFile), summary);
+            Printer.log.info("SBK Run Summary written to " + summaryFile);
+        } catch (IOException ex) {
+            Printer.log.error("SBK Run Summary write failed: " + ex);
+        }
     }
 
     /**
@@ -405,29 +465,20 @@ public class SbkBenchmark implements Benchmark {
             return;
         }
         state = State.END;
-        if (writeStats != null) {
-            writeStats.stop();
+        if (phaseRun != null) {
+            phaseRun.stop();
+            phaseRun = null;
         }
-        if (readStats != null) {
-            readStats.stop();
+        printScenarioSummary();
+        reporter.close();
+        gcMonitor.stop();
+        writeRunSummary();
+        if (outlierLog != null) {
+            outlierLog.close();
         }
-        readers.forEach(c -> {
-            try {
-                c.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        });
-        writers.forEach(c -> {
-            try {
-                c.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        });
         try {
             storage.closeStorage(params);
-            logger.close(params);
+            logger.close(phases.get(phaseIndex).params);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -435,8 +486,10 @@ public class SbkBenchmark implements Benchmark {
         try {
             executor.awaitTermination(1, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
-            ex.printStackTrace();
+            e.printStackTrace();
         }
+        timeoutExecutor.shutdownNow();
+        SbkJfr.stop();
 
         if (ex != null) {
             Printer.log.warn("SBK Benchmark Shutdown with Exception " + ex);
@@ -459,4 +512,455 @@ public class SbkBenchmark implements Benchmark {
     public void stop() {
         shutdown(null);
     }
+
+
+    /**
+     * Class for running the writers, readers and performance loggers of a single phase.
+     */
+    final private class PhaseRun {
+        final private int index;
+        final private SbkPhase phase;
+        final private ParameterOptions params;
+        final private Performance writeStats;
+        final private Performance readStats;
+        final private CompositeHashMapLatencyRecorder writeRecorder;
+        final private List<DataWriter<Object>> writers;
+        final private List<DataReader<Object>> readers;
+        final private WorkerCostMonitor writeCost;
+        final private WorkerCostMonitor readCost;
+
+        PhaseRun(int index, SbkPhase phase) {
+            this.index = index;
+            this.phase = phase;
+            this.params = phase.params;
+            this.writers = new ArrayList<>();
+            this.readers = new ArrayList<>();
+            this.readCost = new WorkerCostMonitor();
+            this.writeCost = params.isWriteAndRead() ? readCost : new WorkerCostMonitor();
+            if (params.getWritersCount() > 0 && !params.isWriteAndRead()) {
+                final SbkOutlierLog.PhaseOutliers outliers = createOutliers("Writers");
+                writeRecorder = createLatencyRecorder(totalPrinter("Writers", outliers), outliers, writeCost,
+                        params.getWritersCount(), 0, params.getRetries() > 0 || params.getDeadlineMS() > 0,
+                        params.getConnectionOps() > 0);
+                writeStats = new CQueuePerformance(perlConfig, params.getWritersCount(),
+                        compensateOverhead(writeRecorder),
+                        logger.getReportingIntervalSeconds() * PerlConfig.MS_PER_SEC, time, executor);
+            } else {
+                writeRecorder = null;
+                writeStats = null;
+            }
+
+            if (params.getReadersCount() > 0) {
+                final SbkOutlierLog.PhaseOutliers outliers = createOutliers("Readers");
+                readStats = new CQueuePerformance(perlConfig, params.getReadersCount(),
+                        compensateOverhead(createLatencyRecorder(totalPrinter("Readers", outliers), outliers,
+                                readCost, params.getReadersCount(),
+                                params.isSequenceTracking() ? params.getWritersCount() : 0, false,
+                                params.getConnectionOps() > 0)),
+                        logger.getReportingIntervalSeconds() * PerlConfig.MS_PER_SEC, time, executor);
+            } else {
+                readStats = null;
+            }
+        }
+
+        private SbkOutlierLog.PhaseOutliers createOutliers(String workers) {
+            return outlierLog != null ? outlierLog.create(phase.name, workers) : null;
+        }
+
+        private CountWriters countWriters(WorkerCostMonitor costMonitor) {
+            return new CountWriters() {
+                @Override
+                public void incrementWriters() {
+                    logger.incrementWriters();
+                }
+
+                @Override
+                public void decrementWriters() {
+                    logger.decrementWriters();
+                }
+
+                @Override
+                public void registerWorkerThread() {
+                    costMonitor.register();
+                }
+
+                @Override
+                public void unregisterWorkerThread() {
+                    costMonitor.unregister();
+                }
+            };
+        }
+
+        private CountReaders countReaders(WorkerCostMonitor costMonitor) {
+            return new CountReaders() {
+                @Override
+                public void incrementReaders() {
+                    logger.incrementReaders();
+                }
+
+                @Override
+                public void decrementReaders() {
+                    logger.decrementReaders();
+                }
+
+                @Override
+                public void registerWorkerThread() {
+                    costMonitor.register();
+                }
+
+                @Override
+                public void unregisterWorkerThread() {
+                    costMonitor.unregister();
+                }
+            };
+        }
+
+        private Print totalPrinter(String workers, SbkOutlierLog.PhaseOutliers outliers) {
+            return new Print() {
+                @Override
+                public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                                  long maxLatency, long invalid, long lowerDiscard, long higherDiscard,
+                                  long[] percentiles) {
+                    print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
+                            higherDiscard, percentiles, null, null, null);
+                }
+
+                @Override
+                public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                                  long maxLatency, long invalid, long lowerDiscard, long higherDiscard,
+                                  long[] percentiles, GCStats gc, WorkerCost cost, List<SideStats> stats) {
+                    printTotal(workers, outliers, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+                            invalid, lowerDiscard, higherDiscard, percentiles, gc, cost, stats);
+                }
+            };
+        }
+
+        private void printTotal(String workers, SbkOutlierLog.PhaseOutliers outliers, long bytes, long records, double recsPerSec, double mbPerSec,
+                                double avgLatency, long maxLatency, long invalid, long lowerDiscard,
+                                long higherDiscard, long[] percentiles, GCStats gc, WorkerCost cost, List<SideStats> stats) {
+            logger.printTotal(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
+                    higherDiscard, percentiles, gc, cost, stats);
+            if (scenarioRecorder != null) {
+                phaseResults.add(String.format("Phase %d '%s' %s: %d records, %.1f records/sec, %.2f MB/sec, " +
+                                "%.1f %s avg latency, %d %s max latency", index + 1, phase.name, phase.action.name(),
+                        records, recsPerSec, mbPerSec, avgLatency, time.getTimeUnit().name(), maxLatency,
+                        time.getTimeUnit().name()));
+            }
+            if (summaryFile != null) {
+                final RunSummary.Result result = summaryResult(workers, bytes, records, recsPerSec, mbPerSec,
+                        avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard, percentiles);
+                if (outliers != null) {
+                    result.slowest = outliers.getSlowest();
+                }
+                summaryResults.add(result);
+            }
+        }
+
+        private RunSummary.Result summaryResult(String workers, long bytes, long records, double recsPerSec,
+                                                double mbPerSec, double avgLatency, long maxLatency, long invalid,
+                                                long lowerDiscard, long higherDiscard, long[] percentileValues) {
+            final RunSummary.Result result = new RunSummary.Result();
+            final DecimalFormat format = new DecimalFormat(PerlConfig.PERCENTILE_FORMAT);
+            final double[] percentiles = logger.getPercentiles();
+            final Map<String, Long> values = new LinkedHashMap<>();
+            for (int i = 0; i < Math.min(percentiles.length, percentileValues.length); i++) {
+                values.put(format.format(percentiles[i]), percentileValues[i]);
+            }
+            result.phase = phase.name;
+            result.action = phase.action.name();
+            result.workers = workers;
+            result.parameters = new RunSummary.Parameters();
+            result.parameters.writers = params.getWritersCount();
+            result.parameters.readers = params.getReadersCount();
+            result.parameters.recordSize = params.getRecordSize();
+            result.parameters.records = params.getTotalRecords();
+            result.parameters.seconds = params.getTotalSecondsToRun();
+            result.parameters.recordsPerSec = params.getRecordsPerSec();
+            result.parameters.recordsPerSync = params.getRecordsPerSync();
+            result.bytes = bytes;
+            result.records = records;
+            result.recordsPerSec = recsPerSec;
+            result.mbPerSec = mbPerSec;
+            result.avgLatency = avgLatency;
+            result.maxLatency = maxLatency;
+            result.invalidLatencies = invalid;
+            result.lowerDiscard = lowerDiscard;
+            result.higherDiscard = higherDiscard;
+            result.percentiles = values;
+            return result;
+        }
+
+        void start() throws IOException, IllegalStateException {
+            final List<SbkWriter> sbkWriters;
+            final List<SbkReader> sbkReaders;
+            final List<CompletableFuture<Void>> writeFutures;
+            final List<CompletableFuture<Void>> readFutures;
+            final CompletableFuture<Void> wStatFuture;
+            final CompletableFuture<Void> rStatFuture;
+            final CompletableFuture<Void> chainFuture;
+            final CompletableFuture<Void> writersCB;
+            final CompletableFuture<Void> readersCB;
+
+            if (scenarioName != null) {
+                Printer.log.info("SBK Scenario Phase " + (index + 1) + " '" + phase.name + "' Started, action: "
+                        + phase.action.name());
+            }
+
+            final boolean retryWrites = params.getRetries() > 0 || params.getDeadlineMS() > 0;
+            boolean asyncWrites = false;
+            final SbkConnectionChurn churn = params.getConnectionOps() > 0 ?
+                    new SbkConnectionChurn(params) : null;
+            for (int i = 0; i < params.getWritersCount(); i++) {
+                final DataWriter<Object> writer = storage.createWriter(i, params);
+                if (churn != null && writer != null && !SbkConnectionChurn.isSupported(writer)) {
+                    writer.close();
+                    throw new IllegalStateException("The writers of the storage do not support the connection churn");
+                }
+                if (writer instanceof DataRecordsWriter && (retryWrites || churn != null)) {
+                    DataRecordsWriter<Object> recordsWriter = (DataRecordsWriter<Object>) writer;
+                    if (churn != null) {
+                        recordsWriter = churn.churnWriter(i, recordsWriter);
+                    }
+                    if (retryWrites) {
+                        recordsWriter = new SbkRetryWriter(recordsWriter, params);
+                    }
+                    writers.add(recordsWriter);
+                } else if (writer != null) {
+                    if (retryWrites && i == 0) {
+                        Printer.log.warn("The writers of the storage do not support the deadline and retries");
+                    }
+                    writers.add(writer);
+                }
+                asyncWrites |= writer instanceof AbstractCallbackWriter;
+            }
+            if (asyncWrites && writeRecorder != null) {
+                // the recorder thread is not started yet
+                writeRecorder.addTracker(new SubmitAckTracker());
+            }
+
+            for (int i = 0; i < params.getReadersCount(); i++) {
+                final DataReader<Object> reader = storage.createReader(i, params);
+                if (churn != null && reader != null && !SbkConnectionChurn.isSupported(reader)) {
+                    reader.close();
+                    throw new IllegalStateException("The readers of the storage do not support the connection churn");
+                }
+                if (reader instanceof DataRecordsReader && churn != null) {
+                    readers.add(churn.churnReader(i, (DataRecordsReader<Object>) reader));
+                } else if (reader != null) {
+                    if (reader instanceof AbstractFlowReader && churn != null) {
+                        churn.churnFlowReader(i, (AbstractFlowReader<Object>) reader);
+                    }
+                    readers.add(reader);
+                }
+            }
+
+            if (writers.size() <= 0 && readers.size() <= 0) {
+                throw new IllegalStateException("No Writers and/or Readers Created\n");
+            }
+
+            if (writers.size() > 0) {
+                final CountWriters wCount = countWriters(writeCost);
+                if (writeStats != null) {
+                    sbkWriters = IntStream.range(0, params.getWritersCount())
+                            .boxed()
+                            .map(i -> new SbkWriter(i, maxQs, params, writeStats.getSendChannel(),
+                                    dType, time, writers.get(i), wCount, executor))
+                            .collect(Collectors.toList());
+                } else {
+                    sbkWriters = IntStream.range(0, params.getWritersCount())
+                            .boxed()
+                            .map(i -> new SbkWriter(i, maxQs,  params, null,
+                                    dType, time, writers.get(i), wCount, executor))
+                            .collect(Collectors.toList());
+                }
+            } else {
+                sbkWriters = null;
+            }
+
+            if (readers.size() > 0) {
+                final CountReaders rCount = countReaders(readCost);
+                sbkReaders = IntStream.range(0, params.getReadersCount())
+                        .boxed()
+                        .map(i -> new SbkReader(i, maxQs, params,
+                                readStats.getSendChannel(), dType, time, readers.get(i),
+                                rCount, executor))
+                        .collect(Collectors.toList());
+            }  else {
+                sbkReaders = null;
+            }
+
+            if (writeStats != null && !params.isWriteAndRead() && sbkWriters != null) {
+                wStatFuture = writeStats.run(params.getTotalSecondsToRun(), params.getTotalRecords());
+            } else {
+                wStatFuture = null;
+            }
+            if (readStats != null && sbkReaders != null) {
+                rStatFuture = readStats.run(params.getTotalSecondsToRun(), params.getTotalRecords());
+            } else {
+                rStatFuture = null;
+            }
+            if (sbkWriters != null) {
+                writeFutures = new ArrayList<>();
+
+                final long recordsPerWriter = params.getTotalSecondsToRun() <= 0 ?
+                        params.getTotalRecords() / params.getWritersCount() : 0;
+                final long delta = recordsPerWriter > 0 ?
+                        params.getTotalRecords() - (recordsPerWriter * params.getWritersCount()) : 0;
+
+                writersCB = CompletableFuture.runAsync( () -> {
+                    long secondsToRun = params.getTotalSecondsToRun();
+                    boolean doWork = true;
+                    int i = 0;
+                    while (i < params.getWritersCount() && doWork) {
+                        final int stepCnt = Math.min(params.getWritersStep(), params.getWritersCount() - i);
+                        for (int j = 0; j < stepCnt; j++) {
+                            try {
+                                CompletableFuture<Void> ret = sbkWriters.get(i + j).run(secondsToRun,
+                                        i + j + 1 == params.getWritersCount() ?
+                                        recordsPerWriter + delta : recordsPerWriter);
+                                writeFutures.add(ret);
+                            } catch (IOException e) {
+                                e.printStackTrace();
+                            }
+                        }
+                        i += params.getWritersStep();
+                        if (params.getWritersStepSeconds() > 0 && i < params.getWritersCount()) {
+                            try {
+                                Thread.sleep((long) params.getWritersStepSeconds() * PerlConfig.MS_PER_SEC);
+                                if (params.getTotalSecondsToRun() > 0) {
+                                    secondsToRun -= params.getWritersStepSeconds();
+                                    if (secondsToRun <= 0) {
+                                        doWork = false;
+                                    }
+                                }
+                            } catch (InterruptedException ex) {
+                                ex.printStackTrace();
+                            }
+                        }
+                    }
+                }, executor).thenAcceptAsync( d -> {
+                    try {
+                        CompletableFuture.allOf(writeFutures.toArray(new CompletableFuture[0])).get();
+                    } catch (InterruptedException  | ExecutionException e) {
+                        e.printStackTrace();
+                    }
+                }, executor);
+                Printer.log.info("SBK Benchmark initiated Writers");
+
+            } else {
+                writersCB = null;
+                writeFutures = null;
+            }
+
+            if (sbkReaders != null) {
+                readFutures = new ArrayList<>();
+
+                final long recordsPerReader = params.getTotalSecondsToRun() <= 0 ?
+                        params.getTotalRecords() / params.getReadersCount() : 0;
+                final long delta = recordsPerReader > 0 ?
+                        params.getTotalRecords() - (recordsPerReader * params.getReadersCount()) : 0;
+
+                readersCB = CompletableFuture.runAsync(() -> {
+                    long secondsToRun = params.getTotalSecondsToRun();
+                    boolean doWork = true;
+                    int i = 0;
+                    while (i < params.getReadersCount() && doWork)  {
+                        int stepCnt = Math.min(params.getReadersStep(), params.getReadersCount()-i);
+                        for (int j = 0; j < stepCnt; j++) {
+                            try {
+                                CompletableFuture<Void> ret = sbkReaders.get(i+j).run(secondsToRun, i+j+1 == params.getReadersCount() ?
+                                        recordsPerReader + delta : recordsPerReader);
+                                readFutures.add(ret);
+                            } catch (IOException e) {
+                                e.printStackTrace();
+                            }
+                        }
+                        i += params.getReadersStep();
+                        if (params.getReadersStepSeconds() > 0 && i < params.getReadersCount()) {
+                            try {
+                                Thread.sleep((long) params.getReadersStepSeconds() * PerlConfig.MS_PER_SEC);
+                                if (params.getTotalSecondsToRun() > 0) {
+                                    secondsToRun -= params.getReadersStepSeconds();
+                                    if (secondsToRun <= 0) {
+                                        doWork = false;
+                                    }
+                                }
+                            } catch (InterruptedException ex) {
+                                ex.printStackTrace();
+                            }
+                        }
+                    }
+                }, executor).thenAcceptAsync( d -> {
+                            try {
+                                CompletableFuture.allOf(readFutures.toArray(new CompletableFuture[0])).get();
+                            } catch (InterruptedException  | ExecutionException e) {
+                                e.printStackTrace();
+                            }
+                        }, executor
+                );
+                Printer.log.info("SBK Benchmark initiated Readers");
+            } else {
+                readersCB = null;
+                readFutures = null;
+            }
+
+            if (writersCB != null && readersCB != null) {
+                chainFuture = CompletableFuture.allOf(writersCB, readersCB);
+            } else if (readFutures != null) {
+                chainFuture = readersCB;
+            } else {
+                chainFuture = writersCB;
+            }
+
+            if (params.getTotalSecondsToRun() > 0) {
+                timeoutExecutor.schedule(() -> stopPhase(index), params.getTotalSecondsToRun() + 1,
+                        TimeUnit.SECONDS);
+            }
+
+            if (wStatFuture != null && !wStatFuture.isDone()) {
+                wStatFuture.exceptionally(ex -> {
+                    shutdown(ex);
+                    return null;
+                });
+            }
+
+            if (rStatFuture != null && !rStatFuture.isDone()) {
+                rStatFuture.exceptionally(ex -> {
+                    shutdown(ex);
+                    return null;
+                });
+            }
+            chainFuture.thenRunAsync(() -> stopPhase(index), executor);
+        }
+
+        /**
+         * Stop the performance loggers and close all writers/readers of this phase.
+         */
+        void stop() {
+            if (writeStats != null) {
+                writeStats.stop();
+            }
+            if (readStats != null) {
+                readStats.stop();
+            }
+            reporter.flush();
+            readers.forEach(c -> {
+                try {
+                    c.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            });
+            writers.forEach(c -> {
+                try {
+                    c.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            });
+            if (scenarioName != null) {
+                Printer.log.info("SBK Scenario Phase " + (index + 1) + " '" + phase.name + "' Stopped");
+            }
+        }
+    }
 }
@@ -12,14 +12,31 @@ package io.sbk.api.impl;
 
 import java.io.PrintWriter;
 
+import io.sbk.api.Action;
 import io.sbk.api.InputOptions;
+import io.sbk.perl.ConnectionStats;
+import io.sbk.perl.ErrorStats;
+import io.sbk.perl.GCStats;
+import io.sbk.perl.SequenceStats;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.SubmitAckStats;
+import io.sbk.perl.WorkerCost;
+import io.sbk.perl.WorkerFairness;
+import io.sbk.perl.Time;
 
 import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Class for recoding/printing results to a CSV file called `out.csv`.
+ * The statistics of the trackers have fixed columns; the cells of the statistics which are not reported
+ * are left empty, and the labeled values of a kind are written to a single text column.
  */
 public class SbkCSVLogger extends SystemLogger {
+    final private static SideStats.Kind[] STATS_KINDS = {WorkerFairness.KIND, SequenceStats.KIND,
+            SubmitAckStats.KIND, ErrorStats.KIND, ConnectionStats.KIND};
     private String fileName;
     private boolean writeToStdout;
     private PrintWriter printWriter;
@@ -44,9 +61,13 @@ public class SbkCSVLogger extends SystemLogger {
         } else {
             writeToStdout = false;
         }
+    }
 
+    @Override
+    public void open(final InputOptions params, final String storageName, Action action, Time time) throws IOException {
+        super.open(params, storageName, action, time);
         // Writing the header to the csv file.
-        String header = "_Prefix,_Writers,_Readers,_maxWriters,_maxReaders,_Bytes,_Records,_RecsPerSec,_mbPerSec,_AvgLatency,_maxLatency,_InvalidLatencies,_lowerDiscard,_higherDiscard,_10thPercentile,_25thPercentile,_50thPercentile,_75thPercentile,_90thPercentile,_95thPercentile,_99thPercentile,_99.9thPercentile,_99.99thPercentile\n";
+        String header = "_Prefix,_Writers,_Readers,_maxWriters,_maxReaders,_Bytes,_Records,_RecsPerSec,_mbPerSec,_AvgLatency,_maxLatency,_InvalidLatencies,_lowerDiscard,_higherDiscard,_10thPercentile,_25thPercentile,_50thPercentile,_75thPercentile,_90thPercentile,_95thPercentile,_99thPercentile,_99.9thPercentile,_99.99thPercentile,_gcCount,_gcPauseMS,_maxGcPauseMS,_allocMBPerSec,_gcOverlap,_cpuMicrosPerRecord,_allocBytesPerRecord" + getStatsHeader() + "\n";
         try {
             printWriter = new PrintWriter(new FileWriter(fileName, true));
             printWriter.print(header);
@@ -55,13 +76,84 @@ public class SbkCSVLogger extends SystemLogger {
         }
     }
 
-    private void writeToCSV(String prefix, long bytes, long records, double recsPerSec, double mbPerSec,
+    private static String getStatsHeader() {
+        final StringBuilder out = new StringBuilder();
+        for (SideStats.Kind kind : STATS_KINDS) {
+            for (SideStats.Column column : kind.columns) {
+                out.append(",_").append(column.name);
+            }
+            if (kind.label != null) {
+                out.append(",_").append(kind.name).append("_").append(kind.label);
+            }
+        }
+        return out.toString();
+    }
+
+    private static void appendValue(StringBuilder out, double value) {
+        if (value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE) {
+            out.append((long) value);
+        } else {
+            out.append(String.format("%.2f", value));
+        }
+    }
+
+    private static void appendStats(StringBuilder out, List<SideStats> statsList) {
+        for (SideStats.Kind kind : STATS_KINDS) {
+            SideStats stats = null;
+            if (statsList != null) {
+                for (SideStats s : statsList) {
+                    if (s.getKind() == kind) {
+                        stats = s;
+                    }
+                }
+            }
+            if (stats == null) {
+                out.append(",".repeat(kind.columns.length + (kind.label != null ? 1 : 0)));
+                continue;
+            }
+            for (double value : stats.getValues()) {
+                out.append(',');
+                appendValue(out, value);
+            }
+            if (kind.label != null) {
+                out.append(",\"");
+                boolean first = true;
+                for (Map.Entry<String, double[]> entry : stats.getLabeledValues().entrySet()) {
+                    out.append(first ? "" : ";").append(entry.getKey().replace("\"", "\"\"")).append(':');
+                    for (int i = 0; i < entry.getValue().length; i++) {
+                        if (i > 0) {
+                            out.append('/');
+                        }
+                        appendValue(out, entry.getValue()[i]);
+                    }
+                    first = false;
+                }
+                out.append('"');
+            }
+        }
+    }
+
+    private void writeToCSV(String prefix, GCStats gc, WorkerCost cost, List<SideStats> stats, long bytes, long records, double recsPerSec, double mbPerSec,
                        double avgLatency, long maxLatency, long invalid, long lowerDiscard, long higherDiscard,
                        long[] percentileValues) {
         String data = String.format("%s,%5d,%5d,%5d,%5d,%d,%11d,%9.1f,%8.2f,%8.1f,%7d,%8d,%8d,%8d", prefix, writers.get(), readers.get(), maxWriters.get(), maxReaders.get(), bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard);
         for (int i = 0; i < Math.min(percentiles.length, percentileValues.length); ++i) {
             data += String.format(", %7d", percentileValues[i]);
         }
+        if (gc != null) {
+            data += String.format(",%d,%d,%d,%.2f,%d", gc.gcCount, gc.gcPauseMS, gc.maxGcPauseMS,
+                    gc.allocationMBPerSec, gc.overlapRecords);
+        } else {
+            data += ",,,,,";
+        }
+        if (cost != null) {
+            data += String.format(",%.2f,%.1f", cost.cpuMicrosPerRecord, cost.allocatedBytesPerRecord);
+        } else {
+            data += ",,";
+        }
+        final StringBuilder statsData = new StringBuilder();
+        appendStats(statsData, stats);
+        data += statsData;
         try {
             printWriter.println(data);
         } catch (Exception e) {
@@ -71,22 +163,34 @@ public class SbkCSVLogger extends SystemLogger {
 
     @Override
     public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
-                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
+                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues,
+                      GCStats gc, WorkerCost cost, List<SideStats> stats) {
         if (writeToStdout) {
-            super.print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard, percentileValues);
+            super.print(prefix, gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard, percentileValues);
+            printStats(prefix, stats);
         }
-        writeToCSV(prefix, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
+        writeToCSV(prefix, gc, cost, stats, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
                 higherDiscard, percentileValues);
     }
 
     @Override
     public void printTotal(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
-                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentilesValues) {
+                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentilesValues,
+                      GCStats gc, WorkerCost cost, List<SideStats> stats) {
         if (writeToStdout) {
-            super.printTotal(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard, percentilesValues);
+            super.print("Total : " + prefix, gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard, percentilesValues);
+            printStats("Total : " + prefix, stats);
         }
-        writeToCSV("Total : " + prefix, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+        writeToCSV("Total : " + prefix, gc, cost, stats, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
                 invalid, lowerDiscard, higherDiscard, percentilesValues);
-        printWriter.close();
+        printWriter.flush();
+    }
+
+    @Override
+    public void close(final InputOptions params) throws IOException  {
+        super.close(params);
+        if (printWriter != null) {
+            printWriter.close();
+        }
     }
 }
@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api.impl;
+
+import io.sbk.api.CountRW;
+import io.sbk.api.DataReader;
+import io.sbk.api.DataType;
+import io.sbk.api.DataWriter;
+import io.sbk.api.HelpException;
+import io.sbk.api.ParameterOptions;
+import io.sbk.api.Reader;
+import io.sbk.api.Writer;
+import io.sbk.perl.PerlConfig;
+import io.sbk.perl.PeriodicRecorder;
+import io.sbk.perl.Time;
+import io.sbk.perl.impl.CQueuePerformance;
+import io.sbk.perl.impl.HashMapLatencyRecorder;
+import io.sbk.system.Printer;
+import org.apache.commons.cli.ParseException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Class for measuring the self overhead of SBK.
+ * The writers and readers run the same benchmarking loops as the actual benchmark, but with no-op storage;
+ * so the measured latencies are the framework overhead and the measured throughput is the maximum throughput
+ * that SBK can report for the given configuration.
+ * The no-op writes complete through a future, like the asynchronous writes, so that the measured latencies
+ * cover the time stamping, the completion stages with their lambdas and the acknowledgement sent to the
+ * recorder, instead of only the clock reads around a synchronous call.
+ */
+final public class SbkCalibration {
+    final private static double[] MEDIAN_FRACTION = {0.5};
+
+    final private ParameterOptions params;
+    final private long secondsToRun;
+    final private PerlConfig perlConfig;
+    final private DataType<Object> dType;
+    final private Time time;
+    final private long minLatency;
+    final private long maxLatency;
+    final private int reportingIntervalMS;
+    final private ExecutorService executor;
+
+    /**
+     * Calibrated records per second; the throughput ceiling of SBK.
+     */
+    private double recordsPerSec;
+
+    /**
+     * Calibrated MB per second.
+     */
+    private double mbPerSec;
+
+    /**
+     * Average framework overhead per record in the configured time unit.
+     */
+    private double avgOverhead;
+
+    /**
+     * Median framework overhead per record in the configured time unit.
+     */
+    private long medianOverhead;
+
+    public SbkCalibration(ParameterOptions params, long secondsToRun, PerlConfig perlConfig, DataType<Object> dType,
+                          Time time, long minLatency, long maxLatency, int reportingIntervalMS,
+                          ExecutorService executor) {
+        this.params = params;
+        this.secondsToRun = secondsToRun;
+        this.perlConfig = perlConfig;
+        this.dType = dType;
+        this.time = time;
+        this.minLatency = minLatency;
+        this.maxLatency = maxLatency;
+        this.reportingIntervalMS = reportingIntervalMS;
+        this.executor = executor;
+    }
+
+    public double getRecordsPerSec() {
+        return recordsPerSec;
+    }
+
+    public double getMbPerSec() {
+        return mbPerSec;
+    }
+
+    public double getAvgOverhead() {
+        return avgOverhead;
+    }
+
+    public long getMedianOverhead() {
+        return medianOverhead;
+    }
+
+    /**
+     * Run the writers and/or readers with no-op storage for the calibration seconds.
+     * The rate limits and the records count of the benchmark are ignored.
+     *
+     * @throws IOException If an exception occurred.
+     * @throws ExecutionException If an exception occurred.
+     * @throws InterruptedException If an exception occurred.
+     * @throws IllegalArgumentException If the calibration arguments are invalid.
+     */
+    public void run() throws IOException, ExecutionException, InterruptedException, IllegalArgumentException {
+        final ParameterOptions cParams = new SbkPhaseParameters("calibration", "calibration", params);
+        final List<String> args = new ArrayList<>(List.of(
+                "-writers", Integer.toString(params.getWritersCount()),
+                "-readers", Integer.toString(params.getReadersCount()),
+                "-size", Integer.toString(params.getRecordSize()),
+                "-seconds", Long.toString(secondsToRun)));
+        if (params.getRecordsPerSync() < Integer.MAX_VALUE) {
+            args.add("-sync");
+            args.add(Integer.toString(params.getRecordsPerSync()));
+        }
+        try {
+            cParams.parseArgs(args.toArray(new String[0]));
+        } catch (ParseException | HelpException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+        final int writers = cParams.getWritersCount();
+        final int readers = cParams.getReadersCount();
+        final boolean writeStats = writers > 0 && !cParams.isWriteAndRead();
+        final int maxQs = perlConfig.maxQs > 0 ? perlConfig.maxQs :
+                Math.max(PerlConfig.MIN_Q_PER_WORKER, perlConfig.qPerWorker);
+        final CalibrationRecorder recorder = new CalibrationRecorder();
+        final CQueuePerformance stats = new CQueuePerformance(perlConfig, writeStats ? writers : readers, recorder,
+                reportingIntervalMS, time, executor);
+        final NoOpCount count = new NoOpCount();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        Printer.log.info("SBK Calibration Started, seconds: " + secondsToRun);
+        final CompletableFuture<Void> statsFuture = stats.run(secondsToRun, 0);
+        for (int i = 0; i < writers; i++) {
+            final SbkWriter writer = new SbkWriter(i, maxQs, cParams, writeStats ? stats.getSendChannel() : null,
+                    dType, time, new NoOpWriter(), count, executor);
+            futures.add(writer.run(secondsToRun, 0));
+        }
+        for (int i = 0; i < readers; i++) {
+            final SbkReader reader = new SbkReader(i, maxQs, cParams, stats.getSendChannel(), dType, time,
+                    new NoOpReader(dType.create(cParams.getRecordSize()), cParams.isWriteAndRead()), count,
+                    executor);
+            futures.add(reader.run(secondsToRun, 0));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        stats.stop();
+        statsFuture.get();
+        Printer.log.info(String.format("SBK Calibration: framework ceiling %.1f records/sec, %.2f MB/sec; " +
+                        "framework overhead: median %d %s, average %.1f %s",
+                recordsPerSec, mbPerSec, medianOverhead, time.getTimeUnit().name(), avgOverhead,
+                time.getTimeUnit().name()));
+    }
+
+
+    /**
+     * Recorder which collects all the calibration latencies in single window.
+     */
+    final private class CalibrationRecorder implements PeriodicRecorder {
+        final private HashMapLatencyRecorder window;
+
+        CalibrationRecorder() {
+            window = new HashMapLatencyRecorder(minLatency, maxLatency, PerlConfig.LONG_MAX, PerlConfig.LONG_MAX,
+                    PerlConfig.LONG_MAX, MEDIAN_FRACTION, time, perlConfig.maxHashMapSizeMB);
+        }
+
+        @Override
+        public void start(long startTime) {
+            window.reset(startTime);
+        }
+
+        @Override
+        public void startWindow(long startTime) {
+        }
+
+        @Override
+        public long elapsedMilliSecondsWindow(long currentTime) {
+            return 0;
+        }
+
+        @Override
+        public void record(long startTime, long endTime, int bytes, int events) {
+            window.recordLatency(startTime, bytes, events, time.elapsed(endTime, startTime));
+        }
+
+        @Override
+        public void stopWindow(long currentTime) {
+        }
+
+        @Override
+        public void stop(long endTime) {
+            window.print(endTime, (bytes, records, recsPerSec, mbPerSecond, avgLatency, maxLatency, invalid,
+                                   lowerDiscard, higherDiscard, percentiles) -> {
+                recordsPerSec = recsPerSec;
+                mbPerSec = mbPerSecond;
+                avgOverhead = records > 0 ? avgLatency : 0;
+                medianOverhead = percentiles.length > 0 ? percentiles[0] : 0;
+            }, null);
+        }
+    }
+
+
+    /**
+     * No-op storage writer, every write returns the same completed future.
+     */
+    final private static class NoOpWriter implements Writer<Object> {
+        final private CompletableFuture<Void> done = CompletableFuture.completedFuture(null);
+
+        @Override
+        public CompletableFuture<?> writeAsync(Object data) {
+            return done;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+
+    /**
+     * No-op storage reader, returns the same data for every read.
+     */
+    final private class NoOpReader implements Reader<Object> {
+        final private Object data;
+        final private boolean setTime;
+
+        NoOpReader(Object data, boolean setTime) {
+            this.data = data;
+            this.setTime = setTime;
+        }
+
+        @Override
+        public Object read() {
+            if (setTime) {
+                return dType.setTime(data, time.getCurrentTime());
+            }
+            return data;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+
+    /**
+     * The calibration writers and readers are not counted in the metrics.
+     */
+    final private static class NoOpCount implements CountRW {
+
+        @Override
+        public void incrementReaders() {
+        }
+
+        @Override
+        public void decrementReaders() {
+        }
+
+        @Override
+        public void incrementWriters() {
+        }
+
+        @Override
+        public void decrementWriters() {
+        }
+    }
+}
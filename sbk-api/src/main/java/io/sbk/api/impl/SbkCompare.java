@@ -0,0 +1,297 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api.impl;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sbk.api.HelpException;
+import io.sbk.api.RunSummary;
+import io.sbk.perl.PerlConfig;
+import io.sbk.system.Printer;
+import org.apache.commons.cli.ParseException;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Class to compare the run summaries of a candidate against the run summaries of a baseline.
+ * If more than one summary is supplied on both sides (repeated runs), the regression must also be
+ * statistically significant: the 95% confidence interval of the difference of the means must not contain zero.
+ * The results of the baseline which are missing in the candidate can not be compared and exit with an error.
+ */
+public class SbkCompare {
+    final public static String NAME = "sbk-compare";
+    final public static int EXIT_OK = 0;
+    final public static int EXIT_REGRESSION = 1;
+    final public static int EXIT_ERROR = 2;
+    final private static double[] T_95 = {12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086, 2.080, 2.074, 2.069, 2.064,
+            2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+    final private static double Z_95 = 1.960;
+
+    final private SbkOptions options;
+    final private ObjectMapper mapper;
+
+    public SbkCompare() {
+        this.options = new SbkOptions(NAME, "Compare the SBK run summaries of a candidate against a baseline;\n" +
+                "exits with " + EXIT_REGRESSION + " on throughput or tail latency regressions");
+        this.mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        options.addOption("baseline", true, "Comma separated baseline run summary files");
+        options.addOption("current", true, "Comma separated candidate run summary files");
+        options.addOption("throughput", true, "Tolerated throughput drop in percent; default: 5");
+        options.addOption("latency", true, "Tolerated tail latency increase in percent; default: 10");
+        options.addOption("percentiles", true, "Comma separated tail percentiles to compare; default: 99,99.9");
+    }
+
+    /**
+     * Compare the run summaries.
+     *
+     * @param args command line arguments.
+     * @return exit code: {@link #EXIT_OK}, {@link #EXIT_REGRESSION} or {@link #EXIT_ERROR}.
+     */
+    public int run(String[] args) {
+        try {
+            options.parseArgs(args);
+        } catch (HelpException ex) {
+            System.out.println(ex.getHelpText());
+            return EXIT_OK;
+        } catch (ParseException ex) {
+            Printer.log.error(ex.toString());
+            System.out.println(options.getHelpText());
+            return EXIT_ERROR;
+        }
+        if (!options.hasOption("baseline") || !options.hasOption("current")) {
+            Printer.log.error("Both '-baseline' and '-current' run summaries are required");
+            System.out.println(options.getHelpText());
+            return EXIT_ERROR;
+        }
+        final List<RunSummary> baseline;
+        final List<RunSummary> current;
+        final double throughputTolerance;
+        final double latencyTolerance;
+        final double[] percentiles;
+        try {
+            baseline = readSummaries(options.getOptionValue("baseline"));
+            current = readSummaries(options.getOptionValue("current"));
+            throughputTolerance = Double.parseDouble(options.getOptionValue("throughput", "5"));
+            latencyTolerance = Double.parseDouble(options.getOptionValue("latency", "10"));
+            percentiles = Arrays.stream(options.getOptionValue("percentiles", "99,99.9").split(","))
+                    .map(String::trim).mapToDouble(Double::parseDouble).toArray();
+        } catch (IOException | IllegalArgumentException ex) {
+            Printer.log.error(ex.toString());
+            return EXIT_ERROR;
+        }
+        if (!isComparable(baseline, current)) {
+            return EXIT_ERROR;
+        }
+        return compare(baseline, current, throughputTolerance, latencyTolerance, percentiles);
+    }
+
+    /**
+     * Check that all the run summaries are measured with the same time unit and percentiles.
+     *
+     * @return true if the run summaries can be compared.
+     */
+    private static boolean isComparable(List<RunSummary> baseline, List<RunSummary> current) {
+        final RunSummary first = baseline.get(0);
+        final List<RunSummary> summaries = new ArrayList<>(baseline);
+        summaries.addAll(current);
+        for (RunSummary summary : summaries) {
+            if (!Objects.equals(first.timeUnit, summary.timeUnit)) {
+                Printer.log.error("The run summaries have different time units: " + first.timeUnit + " and " +
+                        summary.timeUnit);
+                return false;
+            }
+            if (!Arrays.equals(first.percentiles, summary.percentiles)) {
+                Printer.log.error("The run summaries have different percentiles: " +
+                        Arrays.toString(first.percentiles) + " and " + Arrays.toString(summary.percentiles));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<RunSummary> readSummaries(String files) throws IOException {
+        final List<RunSummary> summaries = new ArrayList<>();
+        for (String file : files.split(",")) {
+            summaries.add(mapper.readValue(new File(file.trim()), RunSummary.class));
+        }
+        return summaries;
+    }
+
+    private static String resultKey(RunSummary.Result result) {
+        return result.phase + " " + result.action + " " + result.workers;
+    }
+
+    private static Map<String, List<RunSummary.Result>> groupResults(List<RunSummary> summaries) {
+        final Map<String, List<RunSummary.Result>> groups = new LinkedHashMap<>();
+        for (RunSummary summary : summaries) {
+            if (summary.results == null) {
+                continue;
+            }
+            for (RunSummary.Result result : summary.results) {
+                groups.computeIfAbsent(resultKey(result), k -> new ArrayList<>()).add(result);
+            }
+        }
+        return groups;
+    }
+
+    private int compare(List<RunSummary> baseline, List<RunSummary> current, double throughputTolerance,
+                        double latencyTolerance, double[] percentiles) {
+        final Map<String, List<RunSummary.Result>> baseGroups = groupResults(baseline);
+        final Map<String, List<RunSummary.Result>> curGroups = groupResults(current);
+        final DecimalFormat format = new DecimalFormat(PerlConfig.PERCENTILE_FORMAT);
+        int regressions = 0;
+        int compared = 0;
+        int missing = 0;
+
+        for (Map.Entry<String, List<RunSummary.Result>> entry : baseGroups.entrySet()) {
+            final List<RunSummary.Result> cur = curGroups.get(entry.getKey());
+            if (cur == null) {
+                Printer.log.error("No candidate results for '" + entry.getKey() + "'");
+                missing++;
+                continue;
+            }
+            final List<RunSummary.Result> base = entry.getValue();
+            compared++;
+            System.out.println(entry.getKey() + " : " + base.size() + " baseline runs, " + cur.size() +
+                    " candidate runs");
+            if (compareMetric("records/sec", base, cur, r -> r.recordsPerSec, true, throughputTolerance)) {
+                regressions++;
+            }
+            for (double p : percentiles) {
+                final String name = format.format(p);
+                if (!base.stream().allMatch(r -> r.percentiles != null && r.percentiles.containsKey(name)) ||
+                        !cur.stream().allMatch(r -> r.percentiles != null && r.percentiles.containsKey(name))) {
+                    Printer.log.warn("Percentile " + name + " is not found in all the run summaries");
+                    continue;
+                }
+                if (compareMetric(name + "th percentile latency", base, cur, r -> r.percentiles.get(name),
+                        false, latencyTolerance)) {
+                    regressions++;
+                }
+            }
+        }
+        if (compared == 0) {
+            Printer.log.error("No common results between the baseline and the candidate run summaries");
+            return EXIT_ERROR;
+        }
+        if (missing > 0) {
+            Printer.log.error(missing + " baseline results are missing in the candidate run summaries");
+            return EXIT_ERROR;
+        }
+        if (regressions > 0) {
+            System.out.println("REGRESSION: " + regressions + " metrics regressed");
+            return EXIT_REGRESSION;
+        }
+        System.out.println("OK: no regressions");
+        return EXIT_OK;
+    }
+
+    static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(0);
+    }
+
+    static double variance(double[] values, double mean) {
+        if (values.length < 2) {
+            return 0;
+        }
+        double sum = 0;
+        for (double v : values) {
+            sum += (v - mean) * (v - mean);
+        }
+        return sum / (values.length - 1);
+    }
+
+    /**
+     * Get the two-sided 95% critical value of the Student's t distribution.
+     *
+     * @param df degrees of freedom; rounded down to the nearest tabulated value.
+     * @return critical value; the normal distribution value beyond the table.
+     */
+    static double tCritical(double df) {
+        final int index = (int) Math.floor(df) - 1;
+        if (index < 0) {
+            return T_95[0];
+        }
+        return index < T_95.length ? T_95[index] : Z_95;
+    }
+
+    /**
+     * Get the relative change of the candidate mean from the baseline mean.
+     *
+     * @return change in percent; infinite with the sign of the change if the baseline is zero.
+     */
+    static double changePercent(double baseMean, double curMean) {
+        final double diff = curMean - baseMean;
+        if (baseMean != 0) {
+            return diff * 100.0 / baseMean;
+        }
+        // no relative change from a zero baseline; any change in the worse direction exceeds the tolerance
+        return diff == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, diff);
+    }
+
+    /**
+     * Get the Welch 95% confidence interval of the difference of the candidate and baseline means.
+     *
+     * @return lower and upper bounds of the interval.
+     */
+    static double[] welchInterval(double[] baseValues, double[] curValues) {
+        final double baseMean = mean(baseValues);
+        final double curMean = mean(curValues);
+        final double diff = curMean - baseMean;
+        final double baseVar = variance(baseValues, baseMean) / baseValues.length;
+        final double curVar = variance(curValues, curMean) / curValues.length;
+        final double stdErr = Math.sqrt(baseVar + curVar);
+        final double df = stdErr > 0 ? Math.pow(baseVar + curVar, 2) /
+                (baseVar * baseVar / (baseValues.length - 1) + curVar * curVar / (curValues.length - 1)) : 1;
+        final double margin = tCritical(df) * stdErr;
+        return new double[]{diff - margin, diff + margin};
+    }
+
+    /**
+     * Compare one metric.
+     *
+     * @return true if the metric regressed.
+     */
+    private static boolean compareMetric(String name, List<RunSummary.Result> base, List<RunSummary.Result> cur,
+                                         ToDoubleFunction<RunSummary.Result> metric, boolean higherIsBetter,
+                                         double tolerancePercent) {
+        final double[] baseValues = base.stream().mapToDouble(metric).toArray();
+        final double[] curValues = cur.stream().mapToDouble(metric).toArray();
+        final double baseMean = mean(baseValues);
+        final double curMean = mean(curValues);
+        final double changePercent = changePercent(baseMean, curMean);
+        final double worsePercent = higherIsBetter ? -changePercent : changePercent;
+        boolean regressed = worsePercent > tolerancePercent;
+        String interval = "";
+
+        if (baseValues.length > 1 && curValues.length > 1) {
+            final double[] bounds = welchInterval(baseValues, curValues);
+            final double low = bounds[0];
+            final double high = bounds[1];
+            interval = String.format(", 95%% CI of difference [%.2f, %.2f]", low, high);
+            regressed = regressed && (higherIsBetter ? high < 0 : low > 0);
+        }
+        System.out.println(String.format("  %-32s baseline %14.2f, candidate %14.2f, change %+8.2f%%%s : %s",
+                name, baseMean, curMean, changePercent, interval, regressed ? "REGRESSION" : "OK"));
+        return regressed;
+    }
+}
@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api.impl;
+
+import io.sbk.api.AbstractFlowReader;
+import io.sbk.api.ConnectionChurn;
+import io.sbk.api.DataRecordsReader;
+import io.sbk.api.DataRecordsWriter;
+import io.sbk.api.DataType;
+import io.sbk.api.Parameters;
+import io.sbk.api.Reconnectable;
+import io.sbk.api.Status;
+import io.sbk.perl.ConnectionPhase;
+import io.sbk.perl.PerlConfig;
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.Time;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Class for the connection churn mode.
+ * The writers and readers close and open their connection again after every
+ * {@link Parameters#getConnectionOps()} operations, at most {@link Parameters#getConnectionsPerSec()}
+ * new connections per second of all the writers and readers. The setup latency of every new connection,
+ * the latency of its first operation and the teardown latency of every closed connection are sent to the
+ * benchmark.
+ * Only the writers and readers which implement {@link Reconnectable} support the connection churn; they keep
+ * their state across the connections.
+ */
+public class SbkConnectionChurn {
+    final private int connectionOps;
+    final private long intervalNanos;
+    final private AtomicLong nextConnectionNanos;
+
+    public SbkConnectionChurn(Parameters params) {
+        this.connectionOps = params.getConnectionOps();
+        this.intervalNanos = params.getConnectionsPerSec() > 0 ?
+                PerlConfig.NS_PER_SEC / params.getConnectionsPerSec() : 0;
+        this.nextConnectionNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Check whether the writer or reader supports the connection churn.
+     *
+     * @param worker writer or reader
+     * @return true if the worker opens its connection again.
+     */
+    public static boolean isSupported(Object worker) {
+        return worker instanceof Reconnectable &&
+                (worker instanceof DataRecordsWriter || worker instanceof DataRecordsReader ||
+                        worker instanceof AbstractFlowReader);
+    }
+
+    /**
+     * Wrap the writer to create its connection again after every given number of writes.
+     *
+     * @param id     writer id
+     * @param writer writer of the first connection
+     * @return writer with connection churn
+     */
+    public DataRecordsWriter<Object> churnWriter(int id, DataRecordsWriter<Object> writer) {
+        return new ChurnWriter(id, writer);
+    }
+
+    /**
+     * Wrap the reader to create its connection again after every given number of reads.
+     *
+     * @param id     reader id
+     * @param reader reader of the first connection
+     * @return reader with connection churn
+     */
+    public DataRecordsReader<Object> churnReader(int id, DataRecordsReader<Object> reader) {
+        return new ChurnReader(id, reader);
+    }
+
+    /**
+     * Set the connection churn of the flow reader, which opens its connection again from the reader thread.
+     *
+     * @param id     reader id
+     * @param reader flow reader
+     */
+    public void churnFlowReader(int id, AbstractFlowReader<Object> reader) {
+        reader.setConnectionChurn(new FlowConnection(id, (Reconnectable) reader));
+    }
+
+    /**
+     * Wait for the next connection slot of the target connection rate.
+     */
+    private void pace() {
+        if (intervalNanos <= 0) {
+            return;
+        }
+        final long slot = nextConnectionNanos.accumulateAndGet(System.nanoTime(),
+                (next, now) -> Math.max(next, now) + intervalNanos) - intervalNanos;
+        long waitNanos = slot - System.nanoTime();
+        while (waitNanos > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(waitNanos);
+            waitNanos = slot - System.nanoTime();
+        }
+    }
+
+    /**
+     * Send channel which sends the latency of the first operation of a connection.
+     */
+    static final private class ChurnChannel implements SendChannel {
+        final private AtomicBoolean firstOperation = new AtomicBoolean(true);
+        private volatile SendChannel channel;
+
+        private void firstOperation(int id, long startTime, long endTime) {
+            if (firstOperation.get() && firstOperation.compareAndSet(true, false)) {
+                channel.sendConnection(id, ConnectionPhase.FirstOperation, startTime, endTime);
+            }
+        }
+
+        @Override
+        public void send(int id, long startTime, long endTime, int dataSize, int records) {
+            firstOperation(id, startTime, endTime);
+            channel.send(id, startTime, endTime, dataSize, records);
+        }
+
+        @Override
+        public void send(int id, long startTime, long endTime, int dataSize, int records, int writerId,
+                         long sequence) {
+            firstOperation(id, startTime, endTime);
+            channel.send(id, startTime, endTime, dataSize, records, writerId, sequence);
+        }
+
+        @Override
+        public void sendAck(int id, long startTime, long submitTime, long endTime, int dataSize, int records) {
+            firstOperation(id, startTime, endTime);
+            channel.sendAck(id, startTime, submitTime, endTime, dataSize, records);
+        }
+
+        @Override
+        public void sendBatch(int id, long[] startTimes, long endTime, int[] sizes, int[] writerIds,
+                              long[] sequences, int records) {
+            firstOperation(id, startTimes[0], endTime);
+            channel.sendBatch(id, startTimes, endTime, sizes, writerIds, sequences, records);
+        }
+
+        @Override
+        public void sendFailure(int id, long startTime, long endTime, Throwable ex, boolean retried,
+                                boolean timeout) {
+            channel.sendFailure(id, startTime, endTime, ex, retried, timeout);
+        }
+
+        @Override
+        public void sendConnection(int id, ConnectionPhase phase, long startTime, long endTime) {
+            channel.sendConnection(id, phase, startTime, endTime);
+        }
+
+        @Override
+        public void sendException(int id, Throwable ex) {
+            channel.sendException(id, ex);
+        }
+    }
+
+    /**
+     * Connection of a writer or reader, opened again after every given number of operations.
+     */
+    private class Connection {
+        final protected int id;
+        final private Reconnectable worker;
+        final private ChurnChannel channel;
+        private int operations;
+
+        Connection(int id, Reconnectable worker) {
+            this.id = id;
+            this.worker = worker;
+            this.channel = new ChurnChannel();
+            this.operations = 0;
+        }
+
+        /**
+         * Close and open the connection again.
+         *
+         * @param time        time interface
+         * @param sendChannel channel of the operation; null if the operation is not benchmarked.
+         * @param channelId   channel identifier of the operation
+         * @throws IOException If the connection could not be closed or opened.
+         */
+        void reconnect(Time time, SendChannel sendChannel, int channelId) throws IOException {
+            final long closeStartTime = time.getCurrentTime();
+            worker.closeConnection();
+            final long closeEndTime = time.getCurrentTime();
+            pace();
+            final long setupStartTime = time.getCurrentTime();
+            worker.openConnection();
+            final long setupEndTime = time.getCurrentTime();
+            if (sendChannel != null) {
+                sendChannel.sendConnection(channelId, ConnectionPhase.Teardown, closeStartTime, closeEndTime);
+                sendChannel.sendConnection(channelId, ConnectionPhase.Setup, setupStartTime, setupEndTime);
+            }
+            channel.firstOperation.set(true);
+        }
+
+        /**
+         * Get the channel which sends the latency of the first operation of the connection.
+         *
+         * @param sendChannel channel of the operation
+         * @return channel to send the operation data to.
+         */
+        SendChannel getChannel(SendChannel sendChannel) {
+            if (channel.channel != sendChannel) {
+                channel.channel = sendChannel;
+            }
+            return channel;
+        }
+
+        /**
+         * Count the next operation; the connection is closed and opened again if it served all its
+         * operations.
+         *
+         * @param time        time interface
+         * @param sendChannel channel of the operation; null if the operation is not benchmarked.
+         * @param channelId   channel identifier of the operation
+         * @return channel to send the operation data to.
+         * @throws IOException If the connection could not be closed or opened.
+         */
+        SendChannel next(Time time, SendChannel sendChannel, int channelId) throws IOException {
+            if (operations++ >= connectionOps) {
+                operations = 1;
+                reconnect(time, sendChannel, channelId);
+            }
+            if (sendChannel == null) {
+                return null;
+            }
+            return getChannel(sendChannel);
+        }
+    }
+
+    final private class FlowConnection extends Connection implements ConnectionChurn {
+
+        FlowConnection(int id, Reconnectable reader) {
+            super(id, reader);
+        }
+
+        @Override
+        public int getConnectionOps() {
+            return connectionOps;
+        }
+
+        @Override
+        public SendChannel getChannel(SendChannel sendChannel) {
+            return super.getChannel(sendChannel);
+        }
+
+        @Override
+        public void reconnect(Time time, SendChannel sendChannel, int id) throws IOException {
+            super.reconnect(time, sendChannel, id);
+        }
+    }
+
+    final private class ChurnWriter extends Connection implements DataRecordsWriter<Object> {
+        final private DataRecordsWriter<Object> writer;
+
+        ChurnWriter(int id, DataRecordsWriter<Object> writer) {
+            super(id, (Reconnectable) writer);
+            this.writer = writer;
+        }
+
+        @Override
+        public void recordWrite(DataType<Object> dType, Object data, int size, Time time, Status status,
+                                SendChannel sendChannel, int id) throws IOException {
+            writer.recordWrite(dType, data, size, time, status, next(time, sendChannel, id), id);
+        }
+
+        @Override
+        public void writeSetTime(DataType<Object> dType, Object data, int size, Time time, Status status)
+                throws IOException {
+            next(time, null, 0);
+            writer.writeSetTime(dType, data, size, time, status);
+        }
+
+        @Override
+        public void sync() throws IOException {
+            writer.sync();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    final private class ChurnReader extends Connection implements DataRecordsReader<Object> {
+        final private DataRecordsReader<Object> reader;
+
+        ChurnReader(int id, DataRecordsReader<Object> reader) {
+            super(id, (Reconnectable) reader);
+            this.reader = reader;
+        }
+
+        @Override
+        public void recordRead(DataType<Object> dType, int size, Time time, Status status, SendChannel sendChannel,
+                               int id) throws EOFException, IOException {
+            reader.recordRead(dType, size, time, status, next(time, sendChannel, id), id);
+        }
+
+        @Override
+        public void recordReadTime(DataType<Object> dType, int size, Time time, Status status,
+                                   SendChannel sendChannel, int id) throws EOFException, IOException {
+            reader.recordReadTime(dType, size, time, status, next(time, sendChannel, id), id);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
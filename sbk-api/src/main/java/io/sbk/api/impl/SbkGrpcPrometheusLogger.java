@@ -17,6 +17,7 @@ import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
+import io.sbk.perl.GCStats;
 import io.sbk.api.Action;
 import io.sbk.api.ExceptionHandler;
 import io.sbk.api.InputOptions;
@@ -27,9 +28,12 @@ import io.sbk.grpc.LatenciesRecord;
 import io.sbk.grpc.ServiceGrpc;
 import io.sbk.perl.LatencyRecorder;
 import io.sbk.perl.PerlConfig;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.WorkerCost;
 import io.sbk.perl.Time;
 import io.sbk.system.Printer;
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -252,9 +256,10 @@ public class SbkGrpcPrometheusLogger extends SbkPrometheusLogger {
 
     @Override
     public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
-                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
+                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues,
+                      GCStats gc, WorkerCost cost, List<SideStats> stats) {
         super.print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
-                higherDiscard, percentileValues);
+                higherDiscard, percentileValues, gc, cost, stats);
         if (latencyBytes > 0 ) {
             sendLatenciesRecord();
         }
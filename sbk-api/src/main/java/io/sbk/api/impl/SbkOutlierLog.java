@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.sbk.perl.Outlier;
+import io.sbk.perl.ReportOutliers;
+import io.sbk.perl.Time;
+import io.sbk.system.Printer;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class to log the slowest operations of every window and to keep the slowest operations of every phase.
+ * The latency recorder time stamps are converted to the wall clock epoch milliseconds,
+ * so that the outliers can be correlated with the storage server logs and the GC logs.
+ * The outliers are logged by the reporting thread, so that the file writes do not delay the latency recorder.
+ */
+public class SbkOutlierLog {
+    final private int count;
+    final private Time time;
+    final private String timeUnit;
+    final private long anchorTime;
+    final private long anchorEpochMS;
+    final private ObjectMapper mapper;
+
+    @GuardedBy("this")
+    final private BufferedWriter writer;
+
+    public SbkOutlierLog(int count, String fileName, Time time) throws IOException {
+        this.count = count;
+        this.time = time;
+        this.timeUnit = time.getTimeUnit().name();
+        this.anchorTime = time.getCurrentTime();
+        this.anchorEpochMS = System.currentTimeMillis();
+        this.mapper = new ObjectMapper();
+        this.writer = fileName == null ? null : Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Create the outliers of a phase.
+     *
+     * @param phase   phase name
+     * @param workers "Writers" or "Readers"
+     * @return outliers to report the slowest operations of every window.
+     */
+    public PhaseOutliers create(String phase, String workers) {
+        return new PhaseOutliers(phase, workers);
+    }
+
+    private long toEpochMS(long t) {
+        return anchorEpochMS + (long) time.elapsedMilliSeconds(t, anchorTime);
+    }
+
+    private synchronized void write(String phase, String workers, List<Outlier> outliers) {
+        if (writer == null) {
+            for (Outlier o : outliers) {
+                Printer.log.info(String.format("Outlier %s %s: worker %d, latency %d %s, start %d, end %d " +
+                                "epoch ms, %d bytes, %d records", phase, workers, o.worker, o.latency, timeUnit,
+                        o.startEpochMS, o.endEpochMS, o.bytes, o.records));
+            }
+            return;
+        }
+        try {
+            for (Outlier o : outliers) {
+                final ObjectNode node = mapper.createObjectNode();
+                node.put("phase", phase);
+                node.put("workers", workers);
+                node.put("timeUnit", timeUnit);
+                node.setAll((ObjectNode) mapper.valueToTree(o));
+                writer.write(mapper.writeValueAsString(node));
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            Printer.log.error("SBK Outlier log write failed: " + ex);
+        }
+    }
+
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            Printer.log.error("SBK Outlier log close failed: " + ex);
+        }
+    }
+
+    /**
+     * Class to log the slowest operations of the windows of a phase and to keep the slowest of the phase.
+     */
+    final public class PhaseOutliers implements ReportOutliers {
+        final private String phase;
+        final private String workers;
+
+        @GuardedBy("this")
+        final private List<Outlier> slowest;
+
+        private PhaseOutliers(String phase, String workers) {
+            this.phase = phase;
+            this.workers = workers;
+            this.slowest = new ArrayList<>(count * 2);
+        }
+
+        @Override
+        public void reportOutliers(List<Outlier> outliers) {
+            for (Outlier o : outliers) {
+                o.startEpochMS = toEpochMS(o.startTime);
+                o.endEpochMS = toEpochMS(o.endTime);
+            }
+            write(phase, workers, outliers);
+            synchronized (this) {
+                slowest.addAll(outliers);
+                slowest.sort((a, b) -> Long.compare(b.latency, a.latency));
+                if (slowest.size() > count) {
+                    slowest.subList(count, slowest.size()).clear();
+                }
+            }
+        }
+
+        /**
+         * Get the slowest operations reported so far.
+         *
+         * @return list of slowest operations, sorted from the slowest.
+         */
+        public synchronized List<Outlier> getSlowest() {
+            return new ArrayList<>(slowest);
+        }
+    }
+}
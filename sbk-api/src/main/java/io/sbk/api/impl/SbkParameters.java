@@ -17,6 +17,9 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.cli.ParseException;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 /**
  * Class for processing command Line arguments/parameters.
  */
@@ -41,6 +44,33 @@ public class SbkParameters extends SbkOptions implements ParameterOptions {
     @Getter
     private int recordsPerSync;
 
+    @Getter
+    private int batchSize;
+
+    @Getter
+    private int lingerMS;
+
+    @Getter
+    private int deadlineMS;
+
+    @Getter
+    private int retries;
+
+    @Getter
+    private int retryBackoffMS;
+
+    @Getter
+    private String[] retryOn;
+
+    @Getter
+    private int connectionOps;
+
+    @Getter
+    private int connectionsPerSec;
+
+    @Getter
+    private int scanKeys;
+
     @Getter
     private long totalRecords;
 
@@ -62,6 +92,9 @@ public class SbkParameters extends SbkOptions implements ParameterOptions {
     @Getter
     private boolean writeAndRead;
 
+    @Getter
+    private boolean sequenceTracking;
+
     public SbkParameters(String name, String desc) {
         super(name, desc);
         this.timeoutMS = PerlConfig.DEFAULT_TIMEOUT_MS;
@@ -76,6 +109,25 @@ public class SbkParameters extends SbkOptions implements ParameterOptions {
         addOption("sync", true,
                 "Each Writer calls flush/sync after writing <arg> number of of events(records)" +
                         " ; <arg> number of events(records) per Write or Read Transaction");
+        addOption("batch", true,
+                "Number of records(events) per batch of the batch writers and readers; default: the 'sync' records or 1");
+        addOption("linger", true,
+                "Milliseconds a batch writer waits for a batch to fill before writing it;\n" +
+                        "default: 0, write only full batches");
+        addOption("deadline", true,
+                "Deadline in milliseconds of each write including its retries;\n" +
+                        "the failed writes are counted instead of stopping the writer; default: 0, no deadline");
+        addOption("retries", true,
+                "Number of retries of a failed write; the failed writes are counted instead of stopping the writer;\n" +
+                        "default: 0");
+        addOption("backoff", true, "Milliseconds before the first retry of a write, doubled for every retry; default: 10");
+        addOption("retryon", true, "Comma separated class names of the retryable exceptions; default: java.io.IOException");
+        addOption("connops", true,
+                "Number of operations per connection; if > 0, the writers and readers close and open their\n" +
+                        "connection after every <arg> operations and the connection latencies are reported;\n" +
+                        "supported by the JDBC, Redis, MongoDB and NATS drivers; default: 0");
+        addOption("connrate", true, "Target rate of the new connections per second; default: 0, no limit");
+        addOption("scan", true, "Number of keys per scan of the key-value readers; default: 0, point reads");
         addOption("seconds", true, "Number of seconds to run; if not specified, runs forever");
         addOption("throughput", true,
                 "if > 0 , throughput in MB/s\n" +
@@ -89,6 +141,32 @@ public class SbkParameters extends SbkOptions implements ParameterOptions {
                 "Number of readers/step, default: 1");
         addOption("rsec", true,
                 "Number of seconds/step for readers, default: 0");
+        addOption("scenario", true,
+                "Scenario file (JSON or YAML) of ordered phases to run in sequence;\n" +
+                        "each phase supplies its own writers, readers, size, records, seconds .. options");
+        addOption("calibrate", true,
+                "Number of seconds to run the writers/readers with no-op storage before the benchmark;\n" +
+                        "prints the framework throughput ceiling and the framework overhead per record");
+        addOption("subtract", false,
+                "Subtract the median framework overhead measured by '-calibrate' from the reported latencies");
+        addOption("jfr", true,
+                "Emit the SBK Java Flight Recorder events; file name to record the SBK and JVM events,\n" +
+                        "or 'on' to emit the SBK events into the recordings of '-XX:StartFlightRecording'");
+        addOption("jfrslow", true,
+                "Latency threshold, in the latency time unit, of the SBK slow operation events;\n" +
+                        "default: 0, no slow operation events");
+        addOption("summary", true,
+                "JSON file name to write the run summary: parameters, driver, environment, totals and percentiles");
+        addOption("outliers", true,
+                "Number of slowest operations to capture per window, with timestamps and worker ids;\n" +
+                        "default: 0, no outliers");
+        addOption("outlierfile", true,
+                "JSON Lines file name to write the captured slowest operations; default: the SBK log");
+        addOption("workerstats", false,
+                "Report the throughput and the 99th percentile latency fairness across the workers of every window");
+        addOption("sequence", false,
+                "Stamp the writer id and sequence number on every record in write and read mode;\n" +
+                        "reports the lost, duplicate and out of order records read");
         addOption("help", false, "Help message");
     }
 
@@ -103,7 +181,7 @@ public class SbkParameters extends SbkOptions implements ParameterOptions {
         writersCount = Integer.parseInt(getOptionValue("writers", "0"));
         readersCount = Integer.parseInt(getOptionValue("readers", "0"));
 
-        if (writersCount == 0 && readersCount == 0) {
+        if (writersCount == 0 && readersCount == 0 && !hasOption("scenario")) {
             throw new IllegalArgumentException("Error: Must specify the number of writers or readers");
         }
 
@@ -115,6 +193,28 @@ public class SbkParameters extends SbkOptions implements ParameterOptions {
         } else {
             recordsPerSync = Integer.MAX_VALUE;
         }
+        batchSize = Integer.parseInt(getOptionValue("batch", Integer.toString(Math.max(syncRecords, 1))));
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Error: The 'batch' records should be at least 1");
+        }
+        lingerMS = Integer.parseInt(getOptionValue("linger", "0"));
+        deadlineMS = Integer.parseInt(getOptionValue("deadline", "0"));
+        retries = Integer.parseInt(getOptionValue("retries", "0"));
+        retryBackoffMS = Integer.parseInt(getOptionValue("backoff", "10"));
+        retryOn = Arrays.stream(getOptionValue("retryon", IOException.class.getName()).split(","))
+                .map(String::trim).filter(s -> !s.isEmpty()).toArray(String[]::new);
+        if (deadlineMS < 0 || retries < 0 || retryBackoffMS < 0) {
+            throw new IllegalArgumentException("Error: The 'deadline', 'retries' and 'backoff' values should not be negative");
+        }
+        connectionOps = Integer.parseInt(getOptionValue("connops", "0"));
+        connectionsPerSec = Integer.parseInt(getOptionValue("connrate", "0"));
+        if (connectionOps < 0 || connectionsPerSec < 0) {
+            throw new IllegalArgumentException("Error: The 'connops' and 'connrate' values should not be negative");
+        }
+        scanKeys = Integer.parseInt(getOptionValue("scan", "0"));
+        if (scanKeys < 0) {
+            throw new IllegalArgumentException("Error: The 'scan' keys should not be negative");
+        }
 
         if (hasOption("seconds")) {
             totalSecondsToRun = Long.parseLong(getOptionValue("seconds"));
@@ -136,9 +236,19 @@ public class SbkParameters extends SbkOptions implements ParameterOptions {
         readersStep = Integer.parseInt(getOptionValue("rstep", "1"));
         readersStepSeconds = Integer.parseInt(getOptionValue("rsec", "0"));
 
+        if (hasOption("subtract") && Long.parseLong(getOptionValue("calibrate", "0")) <= 0) {
+            throw new IllegalArgumentException("Error: '-subtract' requires the '-calibrate' seconds");
+        }
+        if (hasOption("jfrslow") && !hasOption("jfr")) {
+            throw new IllegalArgumentException("Error: '-jfrslow' requires the '-jfr' option");
+        }
+        if (hasOption("outlierfile") && Integer.parseInt(getOptionValue("outliers", "0")) <= 0) {
+            throw new IllegalArgumentException("Error: '-outlierfile' requires the '-outliers' count");
+        }
+
         int workersCnt = writersCount;
         if (workersCnt == 0) {
-            workersCnt = readersCount;
+            workersCnt = Math.max(readersCount, 1);
         }
 
         if (throughput < 0 && totalSecondsToRun > 0) {
@@ -161,5 +271,9 @@ public class SbkParameters extends SbkOptions implements ParameterOptions {
         } else {
             writeAndRead = false;
         }
+        sequenceTracking = hasOption("sequence");
+        if (sequenceTracking && !writeAndRead) {
+            throw new IllegalArgumentException("Error: '-sequence' requires both the writers and the readers");
+        }
     }
 }
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api.impl;
+
+import io.sbk.api.Action;
+import io.sbk.api.ParameterOptions;
+
+/**
+ * Class for a single benchmarking phase.
+ */
+final public class SbkPhase {
+    final public String name;
+    final public Action action;
+    final public ParameterOptions params;
+
+    public SbkPhase(String name, Action action, ParameterOptions params) {
+        this.name = name;
+        this.action = action;
+        this.params = params;
+    }
+}
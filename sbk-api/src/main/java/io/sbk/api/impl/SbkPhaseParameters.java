@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api.impl;
+
+import io.sbk.api.HelpException;
+import io.sbk.api.ParameterOptions;
+import lombok.Getter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+/**
+ * Parameters of a single scenario phase.
+ * The benchmarking options (writers, readers, size, records, seconds ...) are parsed from the phase arguments;
+ * all other options, such as the storage driver options, are taken from the command line parameters.
+ */
+public class SbkPhaseParameters implements ParameterOptions {
+    @Getter
+    final private String name;
+    final private ParameterOptions base;
+    final private SbkParameters phase;
+
+    public SbkPhaseParameters(String name, String usageLine, ParameterOptions base) {
+        this.name = name;
+        this.base = base;
+        this.phase = new SbkParameters(usageLine);
+    }
+
+    @Override
+    public Options addOption(String name, boolean hasArg, String description) {
+        return phase.addOption(name, hasArg, description);
+    }
+
+    @Override
+    public Options addOption(String name, String description) {
+        return phase.addOption(name, description);
+    }
+
+    @Override
+    public boolean hasOption(String name) {
+        return phase.hasOption(name) || base.hasOption(name);
+    }
+
+    @Override
+    public String getOptionValue(String name) {
+        return phase.hasOption(name) ? phase.getOptionValue(name) : base.getOptionValue(name);
+    }
+
+    @Override
+    public String getOptionValue(String name, String defaultValue) {
+        return phase.hasOption(name) ? phase.getOptionValue(name) : base.getOptionValue(name, defaultValue);
+    }
+
+    @Override
+    public String getHelpText() {
+        return phase.getHelpText();
+    }
+
+    @Override
+    public void parseArgs(String[] args) throws ParseException, IllegalArgumentException, HelpException {
+        phase.parseArgs(args);
+    }
+
+    @Override
+    public long getTotalSecondsToRun() {
+        return phase.getTotalSecondsToRun();
+    }
+
+    @Override
+    public boolean isWriteAndRead() {
+        return phase.isWriteAndRead();
+    }
+
+    @Override
+    public boolean isSequenceTracking() {
+        return phase.isSequenceTracking() || (phase.isWriteAndRead() && base.isSequenceTracking());
+    }
+
+    @Override
+    public long getTotalRecords() {
+        return phase.getTotalRecords();
+    }
+
+    @Override
+    public int getRecordSize() {
+        return phase.getRecordSize();
+    }
+
+    @Override
+    public int getRecordsPerSync() {
+        return phase.getRecordsPerSync();
+    }
+
+    @Override
+    public int getBatchSize() {
+        return phase.getBatchSize();
+    }
+
+    @Override
+    public int getLingerMS() {
+        return phase.getLingerMS();
+    }
+
+    @Override
+    public int getDeadlineMS() {
+        return phase.getDeadlineMS();
+    }
+
+    @Override
+    public int getRetries() {
+        return phase.getRetries();
+    }
+
+    @Override
+    public int getRetryBackoffMS() {
+        return phase.getRetryBackoffMS();
+    }
+
+    @Override
+    public String[] getRetryOn() {
+        return phase.getRetryOn();
+    }
+
+    @Override
+    public int getConnectionOps() {
+        return phase.getConnectionOps();
+    }
+
+    @Override
+    public int getConnectionsPerSec() {
+        return phase.getConnectionsPerSec();
+    }
+
+    @Override
+    public int getScanKeys() {
+        return phase.getScanKeys();
+    }
+
+    @Override
+    public int getRecordsPerSec() {
+        return phase.getRecordsPerSec();
+    }
+
+    @Override
+    public int getWritersCount() {
+        return phase.getWritersCount();
+    }
+
+    @Override
+    public int getReadersCount() {
+        return phase.getReadersCount();
+    }
+
+    @Override
+    public int getTimeoutMS() {
+        return phase.getTimeoutMS();
+    }
+
+    @Override
+    public int getWritersStep() {
+        return phase.getWritersStep();
+    }
+
+    @Override
+    public int getWritersStepSeconds() {
+        return phase.getWritersStepSeconds();
+    }
+
+    @Override
+    public int getReadersStep() {
+        return phase.getReadersStep();
+    }
+
+    @Override
+    public int getReadersStepSeconds() {
+        return phase.getReadersStepSeconds();
+    }
+}
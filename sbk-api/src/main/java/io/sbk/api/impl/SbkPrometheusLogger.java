@@ -12,15 +12,18 @@ package io.sbk.api.impl;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.javaprop.JavaPropsFactory;
+import io.sbk.perl.GCStats;
 import io.sbk.api.Action;
 import io.sbk.api.Config;
 import io.sbk.api.InputOptions;
 import io.sbk.perl.MetricsConfig;
-import io.sbk.perl.Print;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.WorkerCost;
 import io.sbk.perl.Time;
 import io.sbk.system.Printer;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 
 
 /**
@@ -31,7 +34,6 @@ public class SbkPrometheusLogger extends SystemLogger {
     public MetricsConfig metricsConfig;
     private boolean contextDisabled;
     private RWMetricsPrometheusServer prometheusServer;
-    private Print printer;
 
 
     public SbkPrometheusLogger() {
@@ -62,12 +64,17 @@ public class SbkPrometheusLogger extends SystemLogger {
 
         params.addOption("context", true, "Prometheus Metric context" +
                 "; default: " + metricsConfig.port + metricsConfig.context + "; 'no' disables the metrics");
+        params.addOption("histogram", false, "Export the cumulative latency histograms on the Prometheus " +
+                "endpoint; default: " + metricsConfig.histogram);
     }
 
 
     @Override
     public void parseArgs(final InputOptions params) throws IllegalArgumentException {
         super.parseArgs(params);
+        if (params.hasOption("histogram")) {
+            metricsConfig.histogram = true;
+        }
         final String parsedContext =  params.getOptionValue("context", metricsConfig.port + metricsConfig.context);
         if (parsedContext.equalsIgnoreCase("no")) {
             contextDisabled = true;
@@ -86,12 +93,10 @@ public class SbkPrometheusLogger extends SystemLogger {
     public void open(final InputOptions params, final String storageName, Action action, Time time) throws IllegalArgumentException, IOException {
         super.open(params, storageName, action, time);
         if (contextDisabled) {
-            printer = super::print;
             prometheusServer = null;
         } else {
             prometheusServer = getMetricsPrometheusServer();
             prometheusServer.start();
-            printer = this::printMetrics;
         }
         Printer.log.info("SBK PrometheusLogger Started");
     }
@@ -139,18 +144,38 @@ public class SbkPrometheusLogger extends SystemLogger {
         }
     }
 
+    @Override
+    public void reportLatency(long latency, long count) {
+        if (prometheusServer != null) {
+            prometheusServer.reportLatency(latency, count);
+        }
+    }
+
     private void printMetrics(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency, long maxLatency,
-                              long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
-        super.print( bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
-                invalid, lowerDiscard, higherDiscard, percentileValues);
+                              long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues,
+                              GCStats gc, WorkerCost cost, List<SideStats> stats) {
         prometheusServer.print( bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
                 invalid, lowerDiscard, higherDiscard, percentileValues);
+        if (gc != null) {
+            prometheusServer.printGC(gc);
+        }
+        if (cost != null) {
+            prometheusServer.printWorkerCost(cost);
+        }
+        if (stats != null) {
+            prometheusServer.printStats(stats);
+        }
+        prometheusServer.invalidateScrape();
     }
 
     @Override
     public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency, long maxLatency,
-               long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
-        printer.print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
-                invalid, lowerDiscard, higherDiscard, percentileValues);
+               long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues, GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        super.print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+                invalid, lowerDiscard, higherDiscard, percentileValues, gc, cost, stats);
+        if (prometheusServer != null) {
+            printMetrics(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+                    invalid, lowerDiscard, higherDiscard, percentileValues, gc, cost, stats);
+        }
     }
 }
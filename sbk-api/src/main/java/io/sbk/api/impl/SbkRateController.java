@@ -9,16 +9,28 @@
  */
 
 package io.sbk.api.impl;
+import io.sbk.jfr.RateControlSleepEvent;
 import io.sbk.perl.PerlConfig;
 import io.sbk.api.RateController;
 
 final public class SbkRateController implements RateController {
     private static final long MIN_SLEEP_NS = 2 * PerlConfig.NS_PER_MS;
+    final private int id;
     private long sleepTimeNs;
     private int recordsPerSec;
     private long toSleepNs;
 
     public SbkRateController() {
+        this(-1);
+    }
+
+    /**
+     * Create the Rate Controller.
+     *
+     * @param id Writer/Reader identifier, reported in the rate control sleep events.
+     */
+    public SbkRateController(int id) {
+        this.id = id;
         this.recordsPerSec = 0;
         this.toSleepNs = 0;
     }
@@ -58,6 +70,7 @@ final public class SbkRateController implements RateController {
         toSleepNs += sleepTimeNs;
         // If threshold reached, sleep a little
         if (toSleepNs >= MIN_SLEEP_NS) {
+            final RateControlSleepEvent event = RateControlSleepEvent.start(id, toSleepNs);
             long sleepStart = System.nanoTime();
             try {
                 final long sleepMs = toSleepNs / PerlConfig.NS_PER_MS;
@@ -73,6 +86,9 @@ final public class SbkRateController implements RateController {
                 } else {
                     toSleepNs = 0;
                 }
+                if (event != null) {
+                    event.commit();
+                }
             }
         }
     }
@@ -44,12 +44,13 @@ public class SbkReader extends Worker implements RunBenchmark {
                      DataType<Object> dType, Time time, DataReader<Object> reader,
                      CountReaders rCount, ExecutorService executor) {
         super(readerId, idMax, params, sendChannel);
-        this.dType = dType;
+        // the writer id and sequence number are read from the records only with the sequence tracking
+        this.dType = params.isSequenceTracking() ? dType : new NoSequenceDataType<>(dType);
         this.time = time;
         this.reader = reader;
         this.rCount = rCount;
         this.executor = executor;
-        this.rCnt = new SbkRateController();
+        this.rCnt = new SbkRateController(id);
         this.perf = createBenchmark();
     }
 
@@ -58,6 +59,7 @@ public class SbkReader extends Worker implements RunBenchmark {
             IllegalStateException {
         return  CompletableFuture.runAsync( () -> {
             rCount.incrementReaders();
+            rCount.registerWorkerThread();
             try {
                 if (secondsToRun > 0) {
                     Printer.log.info("Reader " + id +" started , run seconds: "+secondsToRun);
@@ -71,6 +73,7 @@ public class SbkReader extends Worker implements RunBenchmark {
             } catch (IOException ex) {
                 ex.printStackTrace();
             }
+            rCount.unregisterWorkerThread();
             rCount.decrementReaders();
         }, executor);
     }
@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api.impl;
+
+import io.sbk.api.DataRecordsWriter;
+import io.sbk.api.DataType;
+import io.sbk.api.Parameters;
+import io.sbk.api.Status;
+import io.sbk.perl.ConnectionPhase;
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.Time;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Writer with a deadline and retries for every write.
+ * A write failing with a retryable exception is retried with an exponential backoff until the retries are
+ * exhausted or its deadline passes; the failed attempts are sent as failures and a write failing for good
+ * is reported only as a failure instead of stopping the writer. A write which succeeds after retries records
+ * its latency from the start of its first attempt; a write acknowledged after its deadline is counted as a
+ * timeout instead of recording its latency.
+ * Only the exceptions thrown by the writes are retried; the asynchronous failures are reported as before.
+ */
+public class SbkRetryWriter implements DataRecordsWriter<Object> {
+    final static int RETRY_SLOTS = 4096;
+    final private DataRecordsWriter<Object> writer;
+    final private int retries;
+    final private int deadlineMS;
+    final private int backoffMS;
+    final private Class<?>[] retryOn;
+    private RetryChannel retryChannel;
+
+    public SbkRetryWriter(DataRecordsWriter<Object> writer, Parameters params) throws IllegalArgumentException {
+        this.writer = writer;
+        this.retries = params.getRetries();
+        this.deadlineMS = params.getDeadlineMS();
+        this.backoffMS = params.getRetryBackoffMS();
+        this.retryOn = new Class<?>[params.getRetryOn().length];
+        for (int i = 0; i < retryOn.length; i++) {
+            try {
+                retryOn[i] = Class.forName(params.getRetryOn()[i]);
+            } catch (ClassNotFoundException ex) {
+                throw new IllegalArgumentException("Error: The retryable exception class '" + params.getRetryOn()[i]
+                        + "' is not found");
+            }
+        }
+    }
+
+    /**
+     * Send channel of the writer, which reports the latency of a retried write from the start of its first
+     * attempt and a write acknowledged after its deadline as a timeout.
+     * The channel is allocated once per writer; the start time of a retried write is kept in one of
+     * {@link SbkRetryWriter#RETRY_SLOTS} slots chosen by the start time of its last attempt, so that a late
+     * callback of an earlier write uses the state of that write; a write acknowledged by the writer thread
+     * within its last attempt uses the start time of the current write. A write acknowledged after its slot
+     * was reused records the latency of its last attempt.
+     */
+    static final private class RetryChannel implements SendChannel {
+        final private SendChannel channel;
+        final private Time time;
+        final private int deadlineMS;
+        final private AtomicLongArray slotAttemptTimes = new AtomicLongArray(RETRY_SLOTS);
+        final private AtomicLongArray slotStartTimes = new AtomicLongArray(RETRY_SLOTS);
+        final private Thread writerThread;
+        private long inlineStartTime;
+        private boolean inlineSent;
+
+        private RetryChannel(SendChannel channel, Time time, int deadlineMS) {
+            this.channel = channel;
+            this.time = time;
+            this.deadlineMS = deadlineMS;
+            this.writerThread = Thread.currentThread();
+            this.inlineStartTime = -1;
+            for (int i = 0; i < RETRY_SLOTS; i++) {
+                slotAttemptTimes.set(i, -1);
+            }
+        }
+
+        private static int slot(long attemptStartTime) {
+            return (int) Math.floorMod(attemptStartTime, (long) RETRY_SLOTS);
+        }
+
+        private void startAttempt(long writeStartTime) {
+            inlineStartTime = writeStartTime;
+            inlineSent = false;
+        }
+
+        private void endAttempt() {
+            inlineStartTime = -1;
+        }
+
+        private void setRetried(long attemptStartTime, long writeStartTime) {
+            if (inlineSent) {
+                return;
+            }
+            final int slot = slot(attemptStartTime);
+            slotStartTimes.set(slot, writeStartTime);
+            slotAttemptTimes.set(slot, attemptStartTime);
+        }
+
+        private long writeStartTime(long startTime) {
+            if (Thread.currentThread() == writerThread && inlineStartTime >= 0) {
+                inlineSent = true;
+                return inlineStartTime;
+            }
+            final int slot = slot(startTime);
+            final long writeStartTime = slotStartTimes.get(slot);
+            return slotAttemptTimes.compareAndSet(slot, startTime, -1) ? writeStartTime : startTime;
+        }
+
+        private boolean isLate(int id, long startTime, long endTime) {
+            if (deadlineMS <= 0 || time.elapsedMilliSeconds(endTime, startTime) < deadlineMS) {
+                return false;
+            }
+            channel.sendFailure(id, startTime, endTime,
+                    new TimeoutException("Write acknowledged after the deadline of " + deadlineMS + " ms"),
+                    false, true);
+            return true;
+        }
+
+        @Override
+        public void send(int id, long startTime, long endTime, int dataSize, int records) {
+            final long writeStartTime = writeStartTime(startTime);
+            if (!isLate(id, writeStartTime, endTime)) {
+                channel.send(id, writeStartTime, endTime, dataSize, records);
+            }
+        }
+
+        @Override
+        public void send(int id, long startTime, long endTime, int dataSize, int records, int writerId,
+                         long sequence) {
+            final long writeStartTime = writeStartTime(startTime);
+            if (!isLate(id, writeStartTime, endTime)) {
+                channel.send(id, writeStartTime, endTime, dataSize, records, writerId, sequence);
+            }
+        }
+
+        @Override
+        public void sendAck(int id, long startTime, long submitTime, long endTime, int dataSize, int records) {
+            final long writeStartTime = writeStartTime(startTime);
+            if (!isLate(id, writeStartTime, endTime)) {
+                channel.sendAck(id, writeStartTime, submitTime, endTime, dataSize, records);
+            }
+        }
+
+        @Override
+        public void sendBatch(int id, long[] startTimes, long endTime, int[] sizes, int[] writerIds,
+                              long[] sequences, int records) {
+            channel.sendBatch(id, startTimes, endTime, sizes, writerIds, sequences, records);
+        }
+
+        @Override
+        public void sendFailure(int id, long startTime, long endTime, Throwable ex, boolean isRetried,
+                                boolean timeout) {
+            channel.sendFailure(id, startTime, endTime, ex, isRetried, timeout);
+        }
+
+        @Override
+        public void sendConnection(int id, ConnectionPhase phase, long startTime, long endTime) {
+            channel.sendConnection(id, phase, startTime, endTime);
+        }
+
+        @Override
+        public void sendException(int id, Throwable ex) {
+            channel.sendException(id, ex);
+        }
+    }
+
+    private boolean isRetryable(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            for (Class<?> c : retryOn) {
+                if (c.isInstance(t)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTimeout(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write(boolean setTime, DataType<Object> dType, Object data, int size, Time time, Status status,
+                       SendChannel sendChannel, int id) throws IOException {
+        final long writeStartTime = time.getCurrentTime();
+        long backoff = backoffMS;
+        for (int attempt = 0; ; attempt++) {
+            final long attemptStartTime = attempt == 0 ? writeStartTime : time.getCurrentTime();
+            try {
+                if (setTime) {
+                    writer.writeSetTime(dType, data, size, time, status);
+                } else if (sendChannel != null) {
+                    if (retryChannel == null || retryChannel.channel != sendChannel || retryChannel.time != time) {
+                        retryChannel = new RetryChannel(sendChannel, time, deadlineMS);
+                    }
+                    if (attempt > 0) {
+                        retryChannel.startAttempt(writeStartTime);
+                        try {
+                            writer.recordWrite(dType, data, size, time, status, retryChannel, id);
+                        } finally {
+                            retryChannel.endAttempt();
+                        }
+                        retryChannel.setRetried(status.startTime, writeStartTime);
+                    } else {
+                        writer.recordWrite(dType, data, size, time, status, retryChannel, id);
+                    }
+                } else {
+                    writer.recordWrite(dType, data, size, time, status, null, id);
+                }
+                status.startTime = writeStartTime;
+                return;
+            } catch (IOException | RuntimeException ex) {
+                final long endTime = time.getCurrentTime();
+                final double elapsedMS = time.elapsedMilliSeconds(endTime, writeStartTime);
+                final boolean expired = deadlineMS > 0 && elapsedMS + backoff >= deadlineMS;
+                final boolean retry = attempt < retries && !expired && isRetryable(ex);
+                if (sendChannel != null) {
+                    sendChannel.sendFailure(id, attemptStartTime, endTime, ex, retry,
+                            isTimeout(ex) || (deadlineMS > 0 && elapsedMS >= deadlineMS));
+                }
+                if (!retry) {
+                    // the failed write is reported only as a failure, it is not counted as a written record
+                    status.bytes = 0;
+                    status.records = 0;
+                    status.startTime = writeStartTime;
+                    status.endTime = endTime;
+                    return;
+                }
+                if (backoff > 0) {
+                    try {
+                        Thread.sleep(backoff);
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    @Override
+    public void recordWrite(DataType<Object> dType, Object data, int size, Time time, Status status,
+                            SendChannel sendChannel, int id) throws IOException {
+        write(false, dType, data, size, time, status, sendChannel, id);
+    }
+
+    @Override
+    public void writeSetTime(DataType<Object> dType, Object data, int size, Time time, Status status)
+            throws IOException {
+        write(true, dType, data, size, time, status, null, 0);
+    }
+
+    @Override
+    public void sync() throws IOException {
+        writer.sync();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
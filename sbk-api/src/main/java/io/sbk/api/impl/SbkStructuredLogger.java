@@ -0,0 +1,455 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.api.impl;
+
+import io.sbk.api.Action;
+import io.sbk.api.InputOptions;
+import io.sbk.perl.GCStats;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.Time;
+import io.sbk.perl.WorkerCost;
+import io.sbk.system.Printer;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class for recording the window and total results as JSON Lines or as compact binary records.
+ * The records are encoded into a pre-sized reusable buffer and written to the file by a background thread,
+ * so that the reporting path never waits for the file system.
+ * The header carries the actual percentile list of the logger configuration.
+ *
+ * Binary format: a header record followed by the result records; every record is prefixed by its length (int).
+ * Header : magic (int), version (short), storage, action, time unit (UTF-8 strings prefixed by short length),
+ *          percentiles count (int), percentiles (double).
+ * Result : type (byte: 1 window, 2 total), timestamp ms (long), writers, readers, max writers,
+ *          max readers (int), bytes, records (long), records/sec, MB/sec, avg latency (double),
+ *          max latency, invalid, lower discard, higher discard (long), percentile values (long),
+ *          GC pauses, GC pause ms, max GC pause ms (long), allocation MB/sec (double), GC overlap (byte),
+ *          CPU micro seconds per record, allocated bytes per record (double),
+ *          statistics count (int), statistics.
+ * Statistics : name (UTF-8 string prefixed by short length), values count (int), values (double),
+ *          labeled values count (int), labeled values: label (UTF-8 string prefixed by short length),
+ *          values count (int), values (double).
+ */
+public class SbkStructuredLogger extends SystemLogger {
+    final private static int MAGIC = 0x53424B52;
+    final private static short VERSION = 2;
+    final private static byte WINDOW = 1;
+    final private static byte TOTAL = 2;
+    final private static int BUFFER_SIZE = 64 * 1024;
+    final private static int FLUSH_MS = 1000;
+    final private StringBuilder json;
+    private String fileName;
+    private boolean binary;
+    private boolean writeToStdout;
+    private FileChannel channel;
+    private Thread writerThread;
+
+    @GuardedBy("this")
+    private ByteBuffer active;
+
+    @GuardedBy("this")
+    private ByteBuffer spare;
+
+    @GuardedBy("this")
+    private boolean running;
+
+    public SbkStructuredLogger() {
+        super();
+        this.json = new StringBuilder(BUFFER_SIZE / 16);
+    }
+
+    @Override
+    public void addArgs(final InputOptions params) throws IllegalArgumentException {
+        super.addArgs(params);
+        params.addOption("resultfile", true, "File name to append the results to; " +
+                "default: sbk-results.jsonl for json format, sbk-results.bin for binary format");
+        params.addOption("resultformat", true, "Results format [json, binary]; default: json");
+        params.addOption("stdout", false, "Write the results to stdout along with the results file.");
+    }
+
+    @Override
+    public void parseArgs(final InputOptions params) throws IllegalArgumentException {
+        super.parseArgs(params);
+        final String format = params.getOptionValue("resultformat", "json");
+        if (format.equalsIgnoreCase("binary")) {
+            binary = true;
+        } else if (format.equalsIgnoreCase("json")) {
+            binary = false;
+        } else {
+            Printer.log.error("Invalid value for option '-resultformat', valid values [json, binary]");
+            throw new IllegalArgumentException("Invalid results format: " + format);
+        }
+        fileName = params.getOptionValue("resultfile", binary ? "sbk-results.bin" : "sbk-results.jsonl");
+        writeToStdout = params.hasOption("stdout");
+    }
+
+    @Override
+    public void open(final InputOptions params, final String storageName, Action action, Time time) throws IOException {
+        super.open(params, storageName, action, time);
+        channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        synchronized (this) {
+            active = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            spare = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            running = true;
+        }
+        if (binary) {
+            writeBinaryHeader();
+        } else {
+            writeJsonHeader();
+        }
+        writerThread = new Thread(this::runWriter, "SBK-Results-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void close(final InputOptions params) throws IOException  {
+        if (writerThread != null) {
+            synchronized (this) {
+                running = false;
+                notifyAll();
+            }
+            try {
+                writerThread.join();
+            } catch (InterruptedException ex) {
+                ex.printStackTrace();
+            }
+            writerThread = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        super.close(params);
+    }
+
+    private void runWriter() {
+        while (true) {
+            final ByteBuffer out;
+            synchronized (this) {
+                if (running && active.position() == 0) {
+                    try {
+                        wait(FLUSH_MS);
+                    } catch (InterruptedException ex) {
+                        running = false;
+                    }
+                }
+                if (active.position() == 0) {
+                    if (running) {
+                        continue;
+                    }
+                    return;
+                }
+                out = active;
+                active = spare;
+                spare = out;
+            }
+            out.flip();
+            try {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+            } catch (IOException ex) {
+                Printer.log.error("Results file write failed: " + ex);
+            }
+            out.clear();
+        }
+    }
+
+    /**
+     * Get the active buffer with at least the given number of free bytes.
+     * The buffer is grown only if the writer thread lags behind.
+     */
+    @GuardedBy("this")
+    private ByteBuffer getBuffer(int size) {
+        if (active.remaining() < size) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(active.capacity() * 2,
+                    active.position() + size));
+            active.flip();
+            buffer.put(active);
+            active = buffer;
+        }
+        return active;
+    }
+
+    private synchronized void append(StringBuilder data) {
+        final ByteBuffer buffer = getBuffer(data.length());
+        for (int i = 0; i < data.length(); i++) {
+            buffer.put((byte) data.charAt(i));
+        }
+        if (active.position() > active.capacity() / 2) {
+            notifyAll();
+        }
+    }
+
+    private static void putString(ByteBuffer buffer, String str) {
+        final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private synchronized void writeBinaryHeader() {
+        final byte[] storageBytes = storageName.getBytes(StandardCharsets.UTF_8);
+        final byte[] actionBytes = action.name().getBytes(StandardCharsets.UTF_8);
+        final byte[] timeUnitBytes = timeUnit.getBytes(StandardCharsets.UTF_8);
+        final int size = Integer.BYTES + Short.BYTES + 3 * Short.BYTES + storageBytes.length + actionBytes.length
+                + timeUnitBytes.length + Integer.BYTES + percentiles.length * Double.BYTES;
+        final ByteBuffer buffer = getBuffer(Integer.BYTES + size);
+        buffer.putInt(size);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        putString(buffer, storageName);
+        putString(buffer, action.name());
+        putString(buffer, timeUnit);
+        buffer.putInt(percentiles.length);
+        for (double p : percentiles) {
+            buffer.putDouble(p);
+        }
+    }
+
+    private synchronized void writeJsonHeader() {
+        json.setLength(0);
+        json.append("{\"type\":\"header\",\"storage\":\"");
+        appendEscaped(json, storageName);
+        json.append("\",\"action\":\"").append(action.name());
+        json.append("\",\"timeUnit\":\"").append(timeUnit);
+        json.append("\",\"percentiles\":[");
+        for (int i = 0; i < percentiles.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(percentiles[i]);
+        }
+        json.append("]}\n");
+        append(json);
+    }
+
+    private static void appendEscaped(StringBuilder out, String str) {
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\');
+            }
+            out.append(c < 0x80 ? c : '?');
+        }
+    }
+
+    private static int getStatsSize(List<SideStats> statsList) {
+        int size = Integer.BYTES;
+        if (statsList == null) {
+            return size;
+        }
+        for (SideStats stats : statsList) {
+            size += Short.BYTES + stats.getKind().name.getBytes(StandardCharsets.UTF_8).length
+                    + Integer.BYTES + stats.getValues().length * Double.BYTES + Integer.BYTES;
+            for (Map.Entry<String, double[]> entry : stats.getLabeledValues().entrySet()) {
+                size += Short.BYTES + entry.getKey().getBytes(StandardCharsets.UTF_8).length
+                        + Integer.BYTES + entry.getValue().length * Double.BYTES;
+            }
+        }
+        return size;
+    }
+
+    private static void putValues(ByteBuffer buffer, double[] values) {
+        buffer.putInt(values.length);
+        for (double value : values) {
+            buffer.putDouble(value);
+        }
+    }
+
+    private static void putStats(ByteBuffer buffer, List<SideStats> statsList) {
+        if (statsList == null) {
+            buffer.putInt(0);
+            return;
+        }
+        buffer.putInt(statsList.size());
+        for (SideStats stats : statsList) {
+            putString(buffer, stats.getKind().name);
+            putValues(buffer, stats.getValues());
+            final Map<String, double[]> labeled = stats.getLabeledValues();
+            buffer.putInt(labeled.size());
+            for (Map.Entry<String, double[]> entry : labeled.entrySet()) {
+                putString(buffer, entry.getKey());
+                putValues(buffer, entry.getValue());
+            }
+        }
+    }
+
+    private synchronized void writeBinary(byte type, GCStats gc, WorkerCost cost, List<SideStats> stats, long bytes, long records,
+                                          double recsPerSec, double mbPerSec, double avgLatency, long maxLatency,
+                                          long invalid, long lowerDiscard, long higherDiscard,
+                                          long[] percentileValues) {
+        final int size = Byte.BYTES + Long.BYTES + 4 * Integer.BYTES + 2 * Long.BYTES + 3 * Double.BYTES
+                + 4 * Long.BYTES + percentileValues.length * Long.BYTES + 3 * Long.BYTES + Double.BYTES
+                + Byte.BYTES + 2 * Double.BYTES + getStatsSize(stats);
+        final ByteBuffer buffer = getBuffer(Integer.BYTES + size);
+        buffer.putInt(size);
+        buffer.put(type);
+        buffer.putLong(System.currentTimeMillis());
+        buffer.putInt(writers.get());
+        buffer.putInt(readers.get());
+        buffer.putInt(maxWriters.get());
+        buffer.putInt(maxReaders.get());
+        buffer.putLong(bytes);
+        buffer.putLong(records);
+        buffer.putDouble(recsPerSec);
+        buffer.putDouble(mbPerSec);
+        buffer.putDouble(avgLatency);
+        buffer.putLong(maxLatency);
+        buffer.putLong(invalid);
+        buffer.putLong(lowerDiscard);
+        buffer.putLong(higherDiscard);
+        for (long value : percentileValues) {
+            buffer.putLong(value);
+        }
+        buffer.putLong(gc != null ? gc.gcCount : 0);
+        buffer.putLong(gc != null ? gc.gcPauseMS : 0);
+        buffer.putLong(gc != null ? gc.maxGcPauseMS : 0);
+        buffer.putDouble(gc != null ? gc.allocationMBPerSec : 0);
+        buffer.put((byte) (gc != null && gc.isGcOverlap() ? 1 : 0));
+        buffer.putDouble(cost != null ? cost.cpuMicrosPerRecord : 0);
+        buffer.putDouble(cost != null ? cost.allocatedBytesPerRecord : 0);
+        putStats(buffer, stats);
+        if (active.position() > active.capacity() / 2) {
+            notifyAll();
+        }
+    }
+
+    private static void appendJsonValues(StringBuilder out, SideStats.Column[] columns, double[] values) {
+        for (int i = 0; i < Math.min(columns.length, values.length); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append('"').append(columns[i].name).append("\":").append(values[i]);
+        }
+    }
+
+    private static void appendJsonStats(StringBuilder out, List<SideStats> statsList) {
+        out.append(",\"stats\":{");
+        if (statsList != null) {
+            for (int i = 0; i < statsList.size(); i++) {
+                final SideStats stats = statsList.get(i);
+                final SideStats.Kind kind = stats.getKind();
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append('"').append(kind.name).append("\":{");
+                appendJsonValues(out, kind.columns, stats.getValues());
+                if (kind.label != null) {
+                    out.append(kind.columns.length > 0 ? "," : "").append('"').append(kind.label).append("\":{");
+                    boolean first = true;
+                    for (Map.Entry<String, double[]> entry : stats.getLabeledValues().entrySet()) {
+                        out.append(first ? "\"" : ",\"");
+                        appendEscaped(out, entry.getKey());
+                        out.append("\":{");
+                        appendJsonValues(out, kind.labeledColumns, entry.getValue());
+                        out.append('}');
+                        first = false;
+                    }
+                    out.append('}');
+                }
+                out.append('}');
+            }
+        }
+        out.append('}');
+    }
+
+    private synchronized void writeJson(String type, GCStats gc, WorkerCost cost, List<SideStats> stats, long bytes, long records, double recsPerSec,
+                           double mbPerSec, double avgLatency, long maxLatency, long invalid, long lowerDiscard,
+                           long higherDiscard, long[] percentileValues) {
+        json.setLength(0);
+        json.append("{\"type\":\"").append(type);
+        json.append("\",\"timestamp\":").append(System.currentTimeMillis());
+        json.append(",\"writers\":").append(writers.get());
+        json.append(",\"readers\":").append(readers.get());
+        json.append(",\"maxWriters\":").append(maxWriters.get());
+        json.append(",\"maxReaders\":").append(maxReaders.get());
+        json.append(",\"bytes\":").append(bytes);
+        json.append(",\"records\":").append(records);
+        json.append(",\"recordsPerSec\":").append(recsPerSec);
+        json.append(",\"mbPerSec\":").append(mbPerSec);
+        json.append(",\"avgLatency\":").append(avgLatency);
+        json.append(",\"maxLatency\":").append(maxLatency);
+        json.append(",\"invalidLatencies\":").append(invalid);
+        json.append(",\"lowerDiscard\":").append(lowerDiscard);
+        json.append(",\"higherDiscard\":").append(higherDiscard);
+        json.append(",\"percentiles\":{");
+        for (int i = 0; i < Math.min(percentileNames.length, percentileValues.length); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(percentileNames[i]).append("\":").append(percentileValues[i]);
+        }
+        json.append('}');
+        if (gc != null) {
+            json.append(",\"gcPauses\":").append(gc.gcCount);
+            json.append(",\"gcPauseMS\":").append(gc.gcPauseMS);
+            json.append(",\"maxGcPauseMS\":").append(gc.maxGcPauseMS);
+            json.append(",\"allocationMBPerSec\":").append(gc.allocationMBPerSec);
+            json.append(",\"gcOverlap\":").append(gc.isGcOverlap());
+            json.append(",\"gcOverlapRecords\":").append(gc.overlapRecords);
+        }
+        if (cost != null) {
+            json.append(",\"cpuMicrosPerRecord\":").append(cost.cpuMicrosPerRecord);
+            json.append(",\"allocatedBytesPerRecord\":").append(cost.allocatedBytesPerRecord);
+        }
+        appendJsonStats(json, stats);
+        json.append("}\n");
+        append(json);
+    }
+
+    @Override
+    public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues,
+                      GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        if (writeToStdout) {
+            print(prefix, gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid,
+                    lowerDiscard, higherDiscard, percentileValues);
+            printStats(prefix, stats);
+        }
+        if (binary) {
+            writeBinary(WINDOW, gc, cost, stats, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid,
+                    lowerDiscard, higherDiscard, percentileValues);
+        } else {
+            writeJson("window", gc, cost, stats, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid,
+                    lowerDiscard, higherDiscard, percentileValues);
+        }
+    }
+
+    @Override
+    public void printTotal(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                           long maxLatency, long invalid, long lowerDiscard, long higherDiscard,
+                           long[] percentileValues, GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        if (writeToStdout) {
+            print("Total : " + prefix, gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+                    invalid, lowerDiscard, higherDiscard, percentileValues);
+            printStats("Total : " + prefix, stats);
+        }
+        if (binary) {
+            writeBinary(TOTAL, gc, cost, stats, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid,
+                    lowerDiscard, higherDiscard, percentileValues);
+        } else {
+            writeJson("total", gc, cost, stats, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid,
+                    lowerDiscard, higherDiscard, percentileValues);
+        }
+    }
+}
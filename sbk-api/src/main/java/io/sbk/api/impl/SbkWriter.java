@@ -52,7 +52,7 @@ public class SbkWriter extends Worker implements RunBenchmark {
         this.wCount = wCount;
         this.executor = executor;
         this.perf = createBenchmark();
-        this.rCnt = new SbkRateController();
+        this.rCnt = new SbkRateController(id);
         this.payload = dType.create(params.getRecordSize());
         this.dataSize = dType.length(this.payload);
     }
@@ -62,6 +62,7 @@ public class SbkWriter extends Worker implements RunBenchmark {
             IllegalStateException {
         return  CompletableFuture.runAsync( () -> {
             wCount.incrementWriters();
+            wCount.registerWorkerThread();
             try {
                 if (secondsToRun > 0) {
                     Printer.log.info("Writer " + id +" started , run seconds: "+secondsToRun);
@@ -73,6 +74,7 @@ public class SbkWriter extends Worker implements RunBenchmark {
             } catch (IOException ex) {
                 ex.printStackTrace();
             }
+            wCount.unregisterWorkerThread();
             wCount.decrementWriters();
         }, executor);
     }
@@ -10,6 +10,11 @@
 
 package io.sbk.api.impl;
 
+import io.sbk.perl.GCStats;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.WorkerCost;
+
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,23 +29,33 @@ public class Sl4jResultLogger extends SystemLogger {
         log = LoggerFactory.getLogger("SBK");
     }
 
-    private void print(String prefix, long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+    @Override
+    public void print(String prefix, GCStats gc, WorkerCost cost, long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
                       long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
-        log.info(buildResultString(new StringBuilder(prefix), bytes, records, recsPerSec, mbPerSec, avgLatency,
+        log.info(buildResultString(new StringBuilder(prefix), gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency,
                 maxLatency, invalid, lowerDiscard, higherDiscard, percentileValues));
     }
 
     @Override
     public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
-                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
-        print(prefix, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues,
+                      GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        print(prefix, gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
                 invalid, lowerDiscard, higherDiscard, percentileValues);
+        printStats(prefix, stats);
+    }
+
+    @Override
+    public void printStats(String prefix, SideStats stats) {
+        log.info(buildStatsString(new StringBuilder(prefix), stats));
     }
 
     @Override
     public void printTotal(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
-                           long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
-        print(prefix + "(Total) ", bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+                           long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues,
+                           GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        print(prefix + "(Total) ", gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
                 invalid, lowerDiscard, higherDiscard, percentileValues);
+        printStats(prefix + "(Total) ", stats);
     }
 }
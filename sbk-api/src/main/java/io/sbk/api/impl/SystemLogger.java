@@ -16,15 +16,19 @@ import com.fasterxml.jackson.dataformat.javaprop.JavaPropsFactory;
 import io.sbk.api.Action;
 import io.sbk.api.InputOptions;
 import io.sbk.api.Logger;
+import io.sbk.perl.GCStats;
 import io.sbk.perl.LoggerConfig;
 import io.sbk.perl.PerlConfig;
+import io.sbk.perl.SideStats;
 import io.sbk.perl.Time;
 import io.sbk.perl.TimeUnit;
+import io.sbk.perl.WorkerCost;
 import io.sbk.system.Printer;
 
 import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -44,7 +48,7 @@ public class SystemLogger implements Logger {
     public Action action;
     public Time time;
     private LoggerConfig loggerConfig;
-    private String[] percentileNames;
+    public String[] percentileNames;
     private long minLatency;
     private long maxLatency;
     final private DecimalFormat format;
@@ -133,6 +137,12 @@ public class SystemLogger implements Logger {
         }
     }
 
+    @Override
+    public void setAction(Action action) {
+        this.action = action;
+        this.prefix = storageName+" "+action.name();
+    }
+
     @Override
     public void close(final InputOptions params) throws IOException  {
     }
@@ -208,34 +218,94 @@ public class SystemLogger implements Logger {
         out.append(String.format(" %5d Max Writers, %5d Max Readers, ", maxWriters.get(), maxReaders.get()));
     }
 
+    public void appendGC(StringBuilder out, GCStats gc) {
+        out.append(String.format("; GC: %4d pauses, %6d ms pause, %5d ms max pause, %8.2f MB/sec allocation%s",
+                gc.gcCount, gc.gcPauseMS, gc.maxGcPauseMS, gc.allocationMBPerSec,
+                gc.isGcOverlap() ? String.format(", %d records GC overlap", gc.overlapRecords) : ""));
+    }
+
+    public String buildStatsString(StringBuilder out, SideStats stats) {
+        stats.appendText(out, timeUnit);
+        out.append("\n");
+        return out.toString();
+    }
+
+    public void printStats(String prefix, SideStats stats) {
+        System.out.print(buildStatsString(new StringBuilder(prefix), stats));
+    }
+
+    public void printStats(String prefix, List<SideStats> stats) {
+        if (stats != null) {
+            for (SideStats s : stats) {
+                printStats(prefix, s);
+            }
+        }
+    }
+
+    public void appendWorkerCost(StringBuilder out, WorkerCost cost) {
+        out.append(String.format("; Workers: %8.2f CPU us/record, %9.1f allocated bytes/record",
+                cost.cpuMicrosPerRecord, cost.allocatedBytesPerRecord));
+    }
+
     public String buildResultString(StringBuilder out, long bytes, long records, double recsPerSec, double mbPerSec,
                                     double avgLatency, long maxLatency, long invalid, long lowerDiscard,
                                     long higherDiscard, long[] percentileValues) {
+        return buildResultString(out, null, null, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+                invalid, lowerDiscard, higherDiscard, percentileValues);
+    }
+
+    public String buildResultString(StringBuilder out, GCStats gc, WorkerCost cost, long bytes, long records,
+                                    double recsPerSec, double mbPerSec, double avgLatency, long maxLatency,
+                                    long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
         appendWritesAndReaders(out);
         appendPercentiles(out, bytes, records, recsPerSec, mbPerSec, avgLatency,  maxLatency,
                 invalid, lowerDiscard, higherDiscard, percentileValues);
+        if (gc != null) {
+            appendGC(out, gc);
+        }
+        if (cost != null) {
+            appendWorkerCost(out, cost);
+        }
         out.append(".\n");
         return out.toString();
     }
 
-    private void print(String prefix, long bytes, long records, double recsPerSec, double mbPerSec,
+    public void print(String prefix, GCStats gc, WorkerCost cost, long bytes, long records, double recsPerSec, double mbPerSec,
                        double avgLatency, long maxLatency, long invalid, long lowerDiscard, long higherDiscard,
                        long[] percentileValues) {
-        System.out.print(buildResultString(new StringBuilder(prefix), bytes, records, recsPerSec, mbPerSec, avgLatency,
-                maxLatency, invalid, lowerDiscard, higherDiscard, percentileValues));
+        System.out.print(buildResultString(new StringBuilder(prefix), gc, cost, bytes, records, recsPerSec, mbPerSec,
+                avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard, percentileValues));
     }
 
     @Override
     public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
                       long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
-        print(prefix, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
-                higherDiscard, percentileValues);
+        print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard,
+                percentileValues, null, null, null);
+    }
+
+    @Override
+    public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues,
+                      GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        print(prefix, gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid,
+                lowerDiscard, higherDiscard, percentileValues);
+        printStats(prefix, stats);
     }
 
     @Override
     public void printTotal(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
                       long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentilesValues) {
-        print("Total : " + prefix, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
+        printTotal(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard,
+                percentilesValues, null, null, null);
+    }
+
+    @Override
+    public void printTotal(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentilesValues,
+                      GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        print("Total : " + prefix, gc, cost, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
                 invalid, lowerDiscard, higherDiscard, percentilesValues);
+        printStats("Total : " + prefix, stats);
     }
 }
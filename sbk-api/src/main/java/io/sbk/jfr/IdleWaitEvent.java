@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event for the idle waits of the performance logger, from the first empty channel poll to the next received
+ * time stamp.
+ */
+@Name("io.sbk.IdleWait")
+@Label("SBK Idle Wait")
+@Description("Performance logger waits for the time stamps from the writers/readers")
+@Category("SBK")
+@StackTrace(false)
+final public class IdleWaitEvent extends Event {
+    @Label("Parks")
+    long parks;
+
+    /**
+     * Begin the event.
+     *
+     * @return the started event, or null if the SBK events are disabled.
+     */
+    public static IdleWaitEvent start() {
+        if (!SbkJfr.isEnabled()) {
+            return null;
+        }
+        final IdleWaitEvent event = new IdleWaitEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Count one park of the idle wait.
+     */
+    public void park() {
+        parks++;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jfr;
+
+import io.sbk.perl.LatencyRecord;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class for the events of the latency recorders.
+ */
+@Category("SBK")
+@StackTrace(false)
+abstract class LatencyWindowEvent extends Event {
+    @Label("Records")
+    long records;
+
+    @Label("Bytes")
+    long bytes;
+
+    @Label("Average Latency")
+    double avgLatency;
+
+    @Label("Max Latency")
+    long maxLatency;
+
+    @Label("Latency Time Unit")
+    String timeUnit;
+
+    final void set(LatencyRecord record) {
+        final long latencyRecords = record.validLatencyRecords + record.lowerLatencyDiscardRecords +
+                record.higherLatencyDiscardRecords;
+        records = record.totalRecords;
+        bytes = record.totalBytes;
+        avgLatency = latencyRecords > 0 ? record.totalLatency / (double) latencyRecords : 0;
+        maxLatency = record.maxLatency;
+        timeUnit = SbkJfr.getTimeUnit();
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Event for the sleeps of the rate controller to achieve the target throughput.
+ */
+@Name("io.sbk.RateControlSleep")
+@Label("SBK Rate Control Sleep")
+@Description("Writer/Reader sleeps to achieve the target records per second")
+@Category("SBK")
+@StackTrace(false)
+final public class RateControlSleepEvent extends Event {
+    @Label("Worker Id")
+    int workerId;
+
+    @Label("Requested Sleep")
+    @Timespan(Timespan.NANOSECONDS)
+    long requestedNs;
+
+    /**
+     * Begin the event.
+     *
+     * @param workerId    writer/reader identifier.
+     * @param requestedNs requested sleep time in nanoseconds.
+     * @return the started event, or null if the SBK events are disabled.
+     */
+    public static RateControlSleepEvent start(int workerId, long requestedNs) {
+        if (!SbkJfr.isEnabled()) {
+            return null;
+        }
+        final RateControlSleepEvent event = new RateControlSleepEvent();
+        event.workerId = workerId;
+        event.requestedNs = requestedNs;
+        event.begin();
+        return event;
+    }
+}
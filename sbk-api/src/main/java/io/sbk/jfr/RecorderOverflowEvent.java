@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jfr;
+
+import io.sbk.perl.LatencyRecord;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event for the overflow of the latency recorder; the recorder is printed and reset before the end of
+ * the reporting interval.
+ */
+@Name("io.sbk.RecorderOverflow")
+@Label("SBK Recorder Overflow")
+@Description("Latency recorder overflow: records, bytes, latency sum or hash map memory exceeded the maximum")
+final public class RecorderOverflowEvent extends LatencyWindowEvent {
+    final public static String WINDOW = "window";
+    final public static String TOTAL = "total";
+
+    @Label("Recorder")
+    String recorder;
+
+    /**
+     * Commit the event.
+     *
+     * @param recorder  {@link #WINDOW} or {@link #TOTAL}.
+     * @param record    overflowed latency recorder.
+     */
+    public static void emit(String recorder, LatencyRecord record) {
+        if (SbkJfr.isEnabled()) {
+            final RecorderOverflowEvent event = new RecorderOverflowEvent();
+            event.recorder = recorder;
+            event.set(record);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jfr;
+
+import io.sbk.system.Printer;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+/**
+ * Class for controlling the SBK Java Flight Recorder events.
+ * The events are emitted only if enabled; the disabled events cost a static field read at the call sites.
+ */
+final public class SbkJfr {
+    /**
+     * The option value to emit the SBK events into the recordings started by the JVM option
+     * '-XX:StartFlightRecording', without starting a new recording.
+     */
+    final public static String JVM_RECORDING = "on";
+
+    private static boolean enabled = false;
+    private static long slowLatency = Long.MAX_VALUE;
+    private static String timeUnit = "";
+    private static Recording recording = null;
+
+    /**
+     * Is the SBK events enabled.
+     *
+     * @return true if the events are enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Is the latency slow enough to emit the slow operation event.
+     *
+     * @param latency latency of the operation.
+     * @return true if the events are enabled and the latency is at or above the slow latency threshold.
+     */
+    public static boolean isSlow(long latency) {
+        return enabled && latency >= slowLatency;
+    }
+
+    public static String getTimeUnit() {
+        return timeUnit;
+    }
+
+    /**
+     * Enable the SBK events.
+     * The events should be enabled before starting the writers/readers.
+     *
+     * @param fileName      File to record the SBK and JVM events, or {@link #JVM_RECORDING}.
+     * @param slowLatency   latency threshold of the slow operation events; 0 or negative value disables
+     *                      the slow operation events.
+     * @param timeUnit      Latency time unit name.
+     * @throws IOException  If the recording could not be started.
+     */
+    public static synchronized void start(String fileName, long slowLatency, String timeUnit) throws IOException {
+        SbkJfr.slowLatency = slowLatency > 0 ? slowLatency : Long.MAX_VALUE;
+        SbkJfr.timeUnit = timeUnit;
+        if (!JVM_RECORDING.equalsIgnoreCase(fileName) && recording == null) {
+            try {
+                recording = new Recording(Configuration.getConfiguration("default"));
+            } catch (ParseException ex) {
+                throw new IOException(ex);
+            }
+            recording.setName("SBK");
+            recording.setToDisk(true);
+            recording.setDestination(Paths.get(fileName));
+            recording.start();
+            Printer.log.info("SBK Flight Recording Started, file: " + fileName);
+        }
+        enabled = true;
+    }
+
+    /**
+     * Disable the SBK events and stop the recording started by {@link #start(String, long, String)}.
+     */
+    public static synchronized void stop() {
+        if (!enabled) {
+            return;
+        }
+        enabled = false;
+        if (recording != null) {
+            try {
+                recording.stop();
+                Printer.log.info("SBK Flight Recording Stopped");
+            } catch (IllegalStateException ex) {
+                Printer.log.warn("SBK Flight Recording Stop failed: " + ex);
+            }
+            recording.close();
+            recording = null;
+        }
+    }
+}
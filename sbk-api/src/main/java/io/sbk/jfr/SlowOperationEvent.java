@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event for the write/read operation with the latency at or above the slow latency threshold.
+ * The event is committed by the performance channel, the start and end times of the event are the commit time;
+ * use the operation start and end time stamps to line up the operation with the other events.
+ */
+@Name("io.sbk.SlowOperation")
+@Label("SBK Slow Operation")
+@Description("Write/Read operation with the latency at or above the slow latency threshold")
+@Category("SBK")
+@StackTrace(false)
+final public class SlowOperationEvent extends Event {
+    @Label("Worker Id")
+    int workerId;
+
+    @Label("Latency")
+    long latency;
+
+    @Label("Latency Time Unit")
+    String timeUnit;
+
+    @Label("Operation Start Time")
+    long operationStartTime;
+
+    @Label("Operation End Time")
+    long operationEndTime;
+
+    @Label("Bytes")
+    int bytes;
+
+    @Label("Records")
+    int records;
+
+    /**
+     * Commit the event.
+     *
+     * @param workerId  writer/reader identifier.
+     * @param startTime operation start time.
+     * @param endTime   operation end time.
+     * @param bytes     number of bytes.
+     * @param records   number of records.
+     */
+    public static void emit(int workerId, long startTime, long endTime, int bytes, int records) {
+        final SlowOperationEvent event = new SlowOperationEvent();
+        event.workerId = workerId;
+        event.latency = endTime - startTime;
+        event.timeUnit = SbkJfr.getTimeUnit();
+        event.operationStartTime = startTime;
+        event.operationEndTime = endTime;
+        event.bytes = bytes;
+        event.records = records;
+        event.commit();
+    }
+}
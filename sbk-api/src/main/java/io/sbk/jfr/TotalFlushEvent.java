@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jfr;
+
+import io.sbk.perl.LatencyRecord;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event for printing the total latencies.
+ */
+@Name("io.sbk.TotalFlush")
+@Label("SBK Total Flush")
+@Description("Total latencies are printed at the end or on the total recorder overflow")
+final public class TotalFlushEvent extends LatencyWindowEvent {
+
+    /**
+     * Begin the event.
+     *
+     * @return the started event, or null if the SBK events are disabled.
+     */
+    public static TotalFlushEvent start() {
+        if (!SbkJfr.isEnabled()) {
+            return null;
+        }
+        final TotalFlushEvent event = new TotalFlushEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commit the event.
+     *
+     * @param event  event returned by {@link #start()}; the null event is ignored.
+     * @param total  total latency recorder.
+     */
+    public static void end(TotalFlushEvent event, LatencyRecord total) {
+        if (event != null) {
+            event.end();
+            event.set(total);
+            event.commit();
+        }
+    }
+}
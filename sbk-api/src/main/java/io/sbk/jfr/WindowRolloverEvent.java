@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jfr;
+
+import io.sbk.perl.LatencyRecord;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event for printing and resetting the periodic latency window.
+ */
+@Name("io.sbk.WindowRollover")
+@Label("SBK Window Rollover")
+@Description("Periodic latency window is printed and reset")
+final public class WindowRolloverEvent extends LatencyWindowEvent {
+
+    /**
+     * Begin the event.
+     *
+     * @return the started event, or null if the SBK events are disabled.
+     */
+    public static WindowRolloverEvent start() {
+        if (!SbkJfr.isEnabled()) {
+            return null;
+        }
+        final WindowRolloverEvent event = new WindowRolloverEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commit the event.
+     *
+     * @param event  event returned by {@link #start()}; the null event is ignored.
+     * @param window latency window.
+     */
+    public static void end(WindowRolloverEvent event, LatencyRecord window) {
+        if (event != null) {
+            event.end();
+            event.set(window);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.main;
+
+import io.sbk.api.impl.SbkCompare;
+
+/**
+ * Main class of SBK run summaries comparison.
+ */
+public class SbkCompareMain {
+
+    public static void main(final String[] args) {
+        System.exit(new SbkCompare().run(args));
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.perl;
+
+import java.util.Queue;
+
+/**
+ * class for time stamp of a batch of records read together.
+ * It carries the start time, size, writer id and sequence number of every record;
+ * all the records of the batch share the end time.
+ * The arrays belong to a pooled {@link Buffer}, which is returned to its pool once the batch is recorded.
+ */
+final public class BatchTimeStamp extends TimeStamp {
+    final public long[] startTimes;
+    final public int[] sizes;
+    final public int[] writerIds;
+    final public long[] sequences;
+    final private Buffer buffer;
+
+    public BatchTimeStamp(long endTime, int bytes, int records, Buffer buffer) {
+        super(buffer.startTimes[0], endTime, bytes, records);
+        this.startTimes = buffer.startTimes;
+        this.sizes = buffer.sizes;
+        this.writerIds = buffer.writerIds;
+        this.sequences = buffer.sequences;
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void record(int worker, PeriodicRecorder recorder) {
+        for (int i = 0; i < records; i++) {
+            recorder.record(worker, startTimes[i], endTime, sizes[i], 1);
+        }
+        recorder.recordStats(this);
+        buffer.release();
+    }
+
+    /**
+     * Arrays of a batch, reused through the pool of the channel.
+     */
+    final public static class Buffer {
+        final public long[] startTimes;
+        final public int[] sizes;
+        final public int[] writerIds;
+        final public long[] sequences;
+        final private Queue<Buffer> pool;
+
+        public Buffer(int capacity, Queue<Buffer> pool) {
+            this.startTimes = new long[capacity];
+            this.sizes = new int[capacity];
+            this.writerIds = new int[capacity];
+            this.sequences = new long[capacity];
+            this.pool = pool;
+        }
+
+        public int capacity() {
+            return startTimes.length;
+        }
+
+        /**
+         * Return the buffer to its pool.
+         */
+        public void release() {
+            pool.offer(this);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class for the setup, first operation and teardown latencies of the connections.
+ */
+final public class ConnectionStats implements SideStats {
+    final public static Kind KIND = new Kind("Connections", new Column[0], "phase", new Column[]{
+            new Column("Connections", Unit.COUNT),
+            new Column("Connection_AvgLatency", Unit.LATENCY),
+            new Column("Connection_50", Unit.LATENCY),
+            new Column("Connection_99", Unit.LATENCY),
+            new Column("Connection_MaxLatency", Unit.LATENCY)});
+
+    final public Latency setup;
+    final public Latency firstOperation;
+    final public Latency teardown;
+
+    public ConnectionStats(Latency setup, Latency firstOperation, Latency teardown) {
+        this.setup = setup;
+        this.firstOperation = firstOperation;
+        this.teardown = teardown;
+    }
+
+    @Override
+    public Kind getKind() {
+        return KIND;
+    }
+
+    @Override
+    public double[] getValues() {
+        return new double[0];
+    }
+
+    @Override
+    public Map<String, double[]> getLabeledValues() {
+        final Map<String, double[]> values = new LinkedHashMap<>();
+        values.put(ConnectionPhase.Setup.name(), setup.getValues());
+        values.put(ConnectionPhase.FirstOperation.name(), firstOperation.getValues());
+        values.put(ConnectionPhase.Teardown.name(), teardown.getValues());
+        return values;
+    }
+
+    @Override
+    public void appendText(StringBuilder out, String timeUnit) {
+        out.append(" Connections:");
+        setup.appendText(out, "Setup", timeUnit);
+        out.append(";");
+        firstOperation.appendText(out, "First operation", timeUnit);
+        out.append(";");
+        teardown.appendText(out, "Teardown", timeUnit);
+        out.append(".");
+    }
+
+    /**
+     * Latencies of one connection phase.
+     */
+    final public static class Latency {
+        final public long count;
+        final public double avg;
+        final public long p50;
+        final public long p99;
+        final public long max;
+
+        public Latency(long count, double avg, long p50, long p99, long max) {
+            this.count = count;
+            this.avg = avg;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        private double[] getValues() {
+            return new double[]{count, avg, p50, p99, max};
+        }
+
+        private void appendText(StringBuilder out, String name, String timeUnit) {
+            out.append(String.format(" %s: %6d, %8.1f %s avg, %7d %s 50th, %7d %s 99th, %7d %s max", name,
+                    count, avg, timeUnit, p50, timeUnit, p99, timeUnit, max, timeUnit));
+        }
+    }
+}
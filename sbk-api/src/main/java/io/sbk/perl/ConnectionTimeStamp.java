@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.perl;
+
+/**
+ * class for time stamp of a connection phase measured by the connection churn mode; it carries no records.
+ */
+final public class ConnectionTimeStamp extends TimeStamp {
+    final public ConnectionPhase phase;
+
+    public ConnectionTimeStamp(ConnectionPhase phase, long startTime, long endTime) {
+        super(startTime, endTime, 0, 0);
+        this.phase = phase;
+    }
+
+    @Override
+    public void record(int worker, PeriodicRecorder recorder) {
+        recorder.recordStats(this);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class for the failed attempts of the operations.
+ * The time of the failed attempts is not part of the latencies; an operation which succeeds after retries
+ * records its latency from the start of its first attempt.
+ */
+final public class ErrorStats implements SideStats {
+    final public static Kind KIND = new Kind("Errors", new Column[]{
+            new Column("RetriedAttempts", Unit.COUNT),
+            new Column("FailedOperations", Unit.COUNT),
+            new Column("Timeouts", Unit.COUNT),
+            new Column("FailedAttempt_AvgLatency", Unit.LATENCY),
+            new Column("FailedAttempt_MaxLatency", Unit.LATENCY)},
+            "exception", new Column[]{new Column("Errors", Unit.COUNT)});
+
+    final public long retried;
+    final public long failed;
+    final public long timeouts;
+    final public double attemptAvg;
+    final public long attemptMax;
+    final public Map<String, Long> errors;
+
+    public ErrorStats(long retried, long failed, long timeouts, double attemptAvg, long attemptMax,
+                      Map<String, Long> errors) {
+        this.retried = retried;
+        this.failed = failed;
+        this.timeouts = timeouts;
+        this.attemptAvg = attemptAvg;
+        this.attemptMax = attemptMax;
+        this.errors = errors;
+    }
+
+    @Override
+    public Kind getKind() {
+        return KIND;
+    }
+
+    @Override
+    public double[] getValues() {
+        return new double[]{retried, failed, timeouts, attemptAvg, attemptMax};
+    }
+
+    @Override
+    public Map<String, double[]> getLabeledValues() {
+        final Map<String, double[]> values = new LinkedHashMap<>();
+        errors.forEach((error, count) -> values.put(error, new double[]{count}));
+        return values;
+    }
+
+    @Override
+    public void appendText(StringBuilder out, String timeUnit) {
+        out.append(String.format(" Errors: %8d retried, %8d failed, %8d timeouts, failed attempts %8.1f %s avg, " +
+                "%7d %s max", retried, failed, timeouts, attemptAvg, timeUnit, attemptMax, timeUnit));
+        errors.forEach((error, count) -> out.append(String.format("; %s: %d", error, count)));
+        out.append(".");
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.perl;
+
+/**
+ * class for time stamp of a failed attempt of an operation; it carries no records.
+ */
+final public class FailureTimeStamp extends TimeStamp {
+    final public String error;
+    final public boolean retried;
+    final public boolean timeout;
+
+    public FailureTimeStamp(long startTime, long endTime, String error, boolean retried, boolean timeout) {
+        super(startTime, endTime, 0, 0);
+        this.error = error;
+        this.retried = retried;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void record(int worker, PeriodicRecorder recorder) {
+        recorder.recordStats(this);
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+/**
+ * Client JVM garbage collection statistics of a reporting window or of the whole benchmark run.
+ */
+public class GCStats {
+    final public long gcCount;
+    final public long gcPauseMS;
+    final public long maxGcPauseMS;
+    final public long allocatedBytes;
+    final public double allocationMBPerSec;
+    final public long overlapRecords;
+
+    public GCStats(long gcCount, long gcPauseMS, long maxGcPauseMS, long allocatedBytes, double allocationMBPerSec,
+                   long overlapRecords) {
+        this.gcCount = gcCount;
+        this.gcPauseMS = gcPauseMS;
+        this.maxGcPauseMS = maxGcPauseMS;
+        this.allocatedBytes = allocatedBytes;
+        this.allocationMBPerSec = allocationMBPerSec;
+        this.overlapRecords = overlapRecords;
+    }
+
+    /**
+     * Check whether the operations recorded in this window overlapped a GC pause.
+     *
+     * @return true if the start to end interval of at least one record overlapped a GC pause.
+     */
+    public boolean isGcOverlap() {
+        return overlapRecords > 0;
+    }
+}
@@ -13,4 +13,6 @@ public class MetricsConfig {
     public int port;
     public String context;
     public TimeUnit latencyTimeUnit;
+    public boolean histogram;
+    public String histogramBuckets;
 }
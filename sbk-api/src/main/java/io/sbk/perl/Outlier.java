@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+/**
+ * Class for a slow operation captured by the latency recorder.
+ */
+public class Outlier {
+    public int worker;
+    public long latency;
+    public long startTime;
+    public long endTime;
+    public long startEpochMS;
+    public long endEpochMS;
+    public int bytes;
+    public int records;
+}
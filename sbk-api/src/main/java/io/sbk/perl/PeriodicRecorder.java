@@ -48,6 +48,28 @@ public interface PeriodicRecorder {
      */
     void record(long startTime, long endTime, int bytes, int events);
 
+    /**
+     * Record the Event/record of a worker.
+     *
+     * @param worker worker id; -1 if unknown.
+     * @param startTime start time
+     * @param endTime end time
+     * @param bytes number of bytes
+     * @param events number of events (records)
+     */
+    default void record(int worker, long startTime, long endTime, int bytes, int events) {
+        record(startTime, endTime, bytes, events);
+    }
+
+    /**
+     * Record the statistics carried by a time stamp in addition to its latency:
+     * the writer id and sequence number, the submit time, the failed attempt or the connection phase.
+     *
+     * @param timeStamp time stamp
+     */
+    default void recordStats(TimeStamp timeStamp) {
+
+    }
 
     /**
      * Stop the Recording window.
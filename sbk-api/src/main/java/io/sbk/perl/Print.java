@@ -9,6 +9,8 @@
  */
 package io.sbk.perl;
 
+import java.util.List;
+
 public interface Print {
     /**
      * Print the Periodic performance results.
@@ -25,4 +27,27 @@ public interface Print {
      */
     void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
                long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentiles);
+
+    /**
+     * Print the Periodic performance results along with the statistics of the trackers.
+     * @param bytes number of bytes read/write
+     * @param records data to write.
+     * @param recsPerSec  records per second.
+     * @param mbPerSec Throughput value in terms of MB (Mega Bytes) per Second.
+     * @param avgLatency Average Latency.
+     * @param maxLatency Maximum Latency.
+     * @param invalid Number of invalid/negative latencies.
+     * @param lowerDiscard number of discarded latencies which are less than minimum latency.
+     * @param higherDiscard number of discarded latencies which are higher than maximum latency.
+     * @param percentiles Array of percentiles.
+     * @param gc GC statistics; null if not monitored.
+     * @param cost CPU time and allocated bytes of the worker threads; null if not monitored.
+     * @param stats statistics of the trackers; null if no statistics are tracked.
+     */
+    default void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                       long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentiles,
+                       GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard, higherDiscard,
+                percentiles);
+    }
 }
@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+import java.util.List;
+
+/**
+ * Interface for reporting the slowest operations of a window.
+ */
+public interface ReportOutliers {
+
+    /**
+     * Report the slowest operations of a window.
+     *
+     * @param outliers slowest operations, sorted from the slowest.
+     */
+    void reportOutliers(List<Outlier> outliers);
+}
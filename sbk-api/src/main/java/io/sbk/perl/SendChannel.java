@@ -24,6 +24,81 @@ public interface SendChannel {
      */
     void send(int id, long startTime, long endTime, int dataSize, int records);
 
+    /**
+     * send the benchmarking data of a record carrying the writer id and sequence number header.
+     * @param  id  Channel identifier
+     * @param startTime Start time
+     * @param endTime End Time.
+     * @param dataSize  size of the data in bytes.
+     * @param records  number of records/events/messages.
+     * @param writerId  writer id of the record header; -1 if not available.
+     * @param sequence  sequence number of the record header; -1 if not available.
+     */
+    default void send(int id, long startTime, long endTime, int dataSize, int records, int writerId,
+                      long sequence) {
+        send(id, startTime, endTime, dataSize, records);
+    }
+
+    /**
+     * send the benchmarking data of an asynchronous write with the time its submit call returned.
+     * The latency from the start time to the submit time and from the submit time to the end time are
+     * recorded separately, in addition to the latency of the write.
+     * @param  id  Channel identifier
+     * @param startTime Start time
+     * @param submitTime  Time the submit call returned.
+     * @param endTime End Time, when the write was acknowledged.
+     * @param dataSize  size of the data in bytes.
+     * @param records  number of records/events/messages.
+     */
+    default void sendAck(int id, long startTime, long submitTime, long endTime, int dataSize, int records) {
+        send(id, startTime, endTime, dataSize, records);
+    }
+
+    /**
+     * send the benchmarking data of a batch of records read together.
+     * The arrays may be reused by the caller after this call.
+     * @param  id  Channel identifier
+     * @param startTimes start time of each record.
+     * @param endTime End Time of all the records.
+     * @param sizes  size of each record in bytes.
+     * @param writerIds  writer id of each record header; -1 if not available.
+     * @param sequences  sequence number of each record header; -1 if not available.
+     * @param records  number of records of the batch.
+     */
+    default void sendBatch(int id, long[] startTimes, long endTime, int[] sizes, int[] writerIds,
+                           long[] sequences, int records) {
+        for (int i = 0; i < records; i++) {
+            send(id, startTimes[i], endTime, sizes[i], 1, writerIds[i], sequences[i]);
+        }
+    }
+
+    /**
+     * send a failed attempt of an operation.
+     * The failed attempts are counted by the class of their exception; their time is reported separately
+     * from the latency of the operations.
+     * @param  id  Channel identifier
+     * @param startTime Start time of the attempt.
+     * @param endTime End time of the attempt.
+     * @param ex  Exception of the attempt.
+     * @param retried  true if the operation is retried; false if the operation failed.
+     * @param timeout  true if the attempt timed out or the deadline of the operation passed.
+     */
+    default void sendFailure(int id, long startTime, long endTime, Throwable ex, boolean retried,
+                             boolean timeout) {
+
+    }
+
+    /**
+     * send the latency of a connection phase measured by the connection churn mode.
+     * @param  id  Channel identifier
+     * @param phase  Connection phase.
+     * @param startTime Start time of the phase.
+     * @param endTime End time of the phase.
+     */
+    default void sendConnection(int id, ConnectionPhase phase, long startTime, long endTime) {
+
+    }
+
     /**
      * send the Exception.
      *
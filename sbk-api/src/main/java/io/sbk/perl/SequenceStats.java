@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+/**
+ * Class for the end to end sequence statistics of the records read in write and read mode.
+ * Lost records are counted once the sequence numbers fall out of the reordering window.
+ */
+final public class SequenceStats implements SideStats {
+    final public static Kind KIND = new Kind("Sequence", new Column[]{
+            new Column("Sequence_Records", Unit.COUNT),
+            new Column("Sequence_LostRecords", Unit.COUNT),
+            new Column("Sequence_DuplicateRecords", Unit.COUNT),
+            new Column("Sequence_OutOfOrderRecords", Unit.COUNT),
+            new Column("Sequence_InvalidHeaders", Unit.COUNT)});
+
+    final public long records;
+    final public long lost;
+    final public long duplicates;
+    final public long reordered;
+    final public long invalid;
+
+    public SequenceStats(long records, long lost, long duplicates, long reordered, long invalid) {
+        this.records = records;
+        this.lost = lost;
+        this.duplicates = duplicates;
+        this.reordered = reordered;
+        this.invalid = invalid;
+    }
+
+    @Override
+    public Kind getKind() {
+        return KIND;
+    }
+
+    @Override
+    public double[] getValues() {
+        return new double[]{records, lost, duplicates, reordered, invalid};
+    }
+
+    @Override
+    public void appendText(StringBuilder out, String timeUnit) {
+        out.append(String.format(" Sequence: %11d records, %8d lost, %8d duplicate, %8d out of order, " +
+                "%8d invalid headers.", records, lost, duplicates, reordered, invalid));
+    }
+}
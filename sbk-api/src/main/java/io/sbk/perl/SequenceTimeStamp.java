@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.perl;
+
+/**
+ * class for time stamp of a record carrying the writer id and sequence number header.
+ */
+final public class SequenceTimeStamp extends TimeStamp {
+    final public int writerId;
+    final public long sequence;
+
+    public SequenceTimeStamp(long startTime, long endTime, int bytes, int records, int writerId, long sequence) {
+        super(startTime, endTime, bytes, records);
+        this.writerId = writerId;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public void record(int worker, PeriodicRecorder recorder) {
+        recorder.record(worker, startTime, endTime, bytes, records);
+        recorder.recordStats(this);
+    }
+}
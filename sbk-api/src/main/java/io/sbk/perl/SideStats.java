@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Interface for the statistics reported along with the results of a window or of the whole run,
+ * such as the worker fairness, the sequence counts, the submit and acknowledgement latencies,
+ * the failed attempts and the connection latencies.
+ * The loggers print the text, write the values of the columns and export them as metrics
+ * without knowing the kind of the statistics.
+ */
+public interface SideStats {
+
+    /**
+     * Get the kind of the statistics.
+     *
+     * @return the kind, with the fixed names of the columns.
+     */
+    Kind getKind();
+
+    /**
+     * Get the values of the columns.
+     *
+     * @return values in the order of {@link Kind#columns}.
+     */
+    double[] getValues();
+
+    /**
+     * Get the labeled values, for example the failed attempts per exception class.
+     *
+     * @return values in the order of {@link Kind#labeledColumns}, by the label value.
+     */
+    default Map<String, double[]> getLabeledValues() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Append the statistics as text.
+     *
+     * @param out      output
+     * @param timeUnit name of the latency time unit.
+     */
+    void appendText(StringBuilder out, String timeUnit);
+
+
+    /**
+     * Units of the columns; count columns are exported as counters, latency columns are converted
+     * to the time unit of the metrics.
+     */
+    enum Unit {
+        COUNT,
+        VALUE,
+        LATENCY
+    }
+
+    final class Column {
+        final public String name;
+        final public Unit unit;
+
+        public Column(String name, Unit unit) {
+            this.name = name;
+            this.unit = unit;
+        }
+    }
+
+    final class Kind {
+        final public String name;
+        final public Column[] columns;
+        final public String label;
+        final public Column[] labeledColumns;
+
+        public Kind(String name, Column[] columns, String label, Column[] labeledColumns) {
+            this.name = name;
+            this.columns = columns;
+            this.label = label;
+            this.labeledColumns = labeledColumns;
+        }
+
+        public Kind(String name, Column[] columns) {
+            this(name, columns, null, new Column[0]);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+/**
+ * Class for the submit and acknowledgement latencies of asynchronous writes.
+ * The submit latency is the time spent inside the submit call of the client; the acknowledgement latency
+ * is the time from the return of the submit call to the acknowledgement of the write.
+ */
+final public class SubmitAckStats implements SideStats {
+    final public static Kind KIND = new Kind("SubmitAck", new Column[]{
+            new Column("SubmitAck_Records", Unit.COUNT),
+            new Column("Submit_AvgLatency", Unit.LATENCY),
+            new Column("Submit_50", Unit.LATENCY),
+            new Column("Submit_99", Unit.LATENCY),
+            new Column("Submit_MaxLatency", Unit.LATENCY),
+            new Column("Ack_AvgLatency", Unit.LATENCY),
+            new Column("Ack_50", Unit.LATENCY),
+            new Column("Ack_99", Unit.LATENCY),
+            new Column("Ack_MaxLatency", Unit.LATENCY)});
+
+    final public long records;
+    final public double submitAvg;
+    final public long submitP50;
+    final public long submitP99;
+    final public long submitMax;
+    final public double ackAvg;
+    final public long ackP50;
+    final public long ackP99;
+    final public long ackMax;
+
+    public SubmitAckStats(long records, double submitAvg, long submitP50, long submitP99, long submitMax,
+                          double ackAvg, long ackP50, long ackP99, long ackMax) {
+        this.records = records;
+        this.submitAvg = submitAvg;
+        this.submitP50 = submitP50;
+        this.submitP99 = submitP99;
+        this.submitMax = submitMax;
+        this.ackAvg = ackAvg;
+        this.ackP50 = ackP50;
+        this.ackP99 = ackP99;
+        this.ackMax = ackMax;
+    }
+
+    @Override
+    public Kind getKind() {
+        return KIND;
+    }
+
+    @Override
+    public double[] getValues() {
+        return new double[]{records, submitAvg, submitP50, submitP99, submitMax, ackAvg, ackP50, ackP99, ackMax};
+    }
+
+    @Override
+    public void appendText(StringBuilder out, String timeUnit) {
+        out.append(String.format(" Submit: %8.1f %s avg, %7d %s 50th, %7d %s 99th, %7d %s max;" +
+                        " Ack: %8.1f %s avg, %7d %s 50th, %7d %s 99th, %7d %s max.",
+                submitAvg, timeUnit, submitP50, timeUnit, submitP99, timeUnit, submitMax, timeUnit,
+                ackAvg, timeUnit, ackP50, timeUnit, ackP99, timeUnit, ackMax, timeUnit));
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.perl;
+
+/**
+ * class for time stamp of an asynchronous write with the time its submit call returned.
+ */
+final public class SubmitTimeStamp extends TimeStamp {
+    final public long submitTime;
+
+    public SubmitTimeStamp(long startTime, long submitTime, long endTime, int bytes, int records) {
+        super(startTime, endTime, bytes, records);
+        this.submitTime = submitTime;
+    }
+
+    @Override
+    public void record(int worker, PeriodicRecorder recorder) {
+        recorder.record(worker, startTime, endTime, bytes, records);
+        recorder.recordStats(this);
+    }
+}
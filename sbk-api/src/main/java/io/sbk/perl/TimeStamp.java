@@ -12,8 +12,10 @@ package io.sbk.perl;
 
 /**
  * class for time stamp including start, end time, bytes and records.
+ * The sub classes carry the additional data of the records which is not sent for every record:
+ * writer ids and sequence numbers, submit times, batches, failed attempts and connection phases.
  */
-final public class TimeStamp {
+public class TimeStamp {
     final public long startTime;
     final public long endTime;
     final public int bytes;
@@ -37,4 +39,15 @@ final public class TimeStamp {
     public boolean isEnd() {
         return this.startTime == -1;
     }
-}
\ No newline at end of file
+
+    /**
+     * Record the latency of this time stamp.
+     * The sub classes also record the statistics they carry.
+     *
+     * @param worker   worker id; -1 if unknown.
+     * @param recorder periodic recorder.
+     */
+    public void record(int worker, PeriodicRecorder recorder) {
+        recorder.record(worker, startTime, endTime, bytes, records);
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+/**
+ * Client side cost of the worker threads: CPU time and allocated bytes, also per record.
+ */
+public class WorkerCost {
+    final public long cpuNS;
+    final public long allocatedBytes;
+    final public long records;
+    final public double cpuMicrosPerRecord;
+    final public double allocatedBytesPerRecord;
+
+    public WorkerCost(long cpuNS, long allocatedBytes, long records) {
+        this.cpuNS = cpuNS;
+        this.allocatedBytes = allocatedBytes;
+        this.records = records;
+        if (records > 0) {
+            this.cpuMicrosPerRecord = (cpuNS / (PerlConfig.NS_PER_MICRO * 1.0d)) / records;
+            this.allocatedBytesPerRecord = (allocatedBytes * 1.0d) / records;
+        } else {
+            this.cpuMicrosPerRecord = 0;
+            this.allocatedBytesPerRecord = 0;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class for the throughput and latency fairness across the workers of a reporting window.
+ * Only the workers which recorded at least one operation since the start are included.
+ */
+final public class WorkerFairness implements SideStats {
+    final public static Kind KIND = new Kind("Workers", new Column[]{
+            new Column("Workers", Unit.VALUE),
+            new Column("Workers_MinRecordsPerSec", Unit.VALUE),
+            new Column("Workers_MaxRecordsPerSec", Unit.VALUE),
+            new Column("Workers_StddevRecordsPerSec", Unit.VALUE),
+            new Column("Workers_WorstWorker", Unit.VALUE),
+            new Column("Workers_Worst_99", Unit.LATENCY)},
+            "worker", new Column[]{
+            new Column("Worker_RecordsPerSec", Unit.VALUE),
+            new Column("Worker_99", Unit.LATENCY)});
+
+    final public int workers;
+    final public double minRecordsPerSec;
+    final public double maxRecordsPerSec;
+    final public double avgRecordsPerSec;
+    final public double stddevRecordsPerSec;
+    final public int worstWorker;
+    final public long worstP99;
+    final public int[] workerIds;
+    final public double[] recordsPerSec;
+    final public long[] p99;
+
+    public WorkerFairness(int[] workerIds, double[] recordsPerSec, long[] p99) {
+        this.workerIds = workerIds;
+        this.recordsPerSec = recordsPerSec;
+        this.p99 = p99;
+        this.workers = workerIds.length;
+        double min = workers > 0 ? Double.MAX_VALUE : 0;
+        double max = 0;
+        double sum = 0;
+        int worst = -1;
+        long worstLatency = 0;
+        for (int i = 0; i < workers; i++) {
+            min = Math.min(min, recordsPerSec[i]);
+            max = Math.max(max, recordsPerSec[i]);
+            sum += recordsPerSec[i];
+            if (worst < 0 || p99[i] > worstLatency) {
+                worst = workerIds[i];
+                worstLatency = p99[i];
+            }
+        }
+        final double avg = workers > 0 ? sum / workers : 0;
+        double squares = 0;
+        for (int i = 0; i < workers; i++) {
+            squares += (recordsPerSec[i] - avg) * (recordsPerSec[i] - avg);
+        }
+        this.minRecordsPerSec = min;
+        this.maxRecordsPerSec = max;
+        this.avgRecordsPerSec = avg;
+        this.stddevRecordsPerSec = workers > 0 ? Math.sqrt(squares / workers) : 0;
+        this.worstWorker = worst;
+        this.worstP99 = worstLatency;
+    }
+
+    @Override
+    public Kind getKind() {
+        return KIND;
+    }
+
+    @Override
+    public double[] getValues() {
+        return new double[]{workers, minRecordsPerSec, maxRecordsPerSec, stddevRecordsPerSec, worstWorker, worstP99};
+    }
+
+    @Override
+    public Map<String, double[]> getLabeledValues() {
+        final Map<String, double[]> values = new LinkedHashMap<>();
+        for (int i = 0; i < workers; i++) {
+            values.put(Integer.toString(workerIds[i]), new double[]{recordsPerSec[i], p99[i]});
+        }
+        return values;
+    }
+
+    @Override
+    public void appendText(StringBuilder out, String timeUnit) {
+        out.append(String.format(" Workers fairness: %5d workers, %9.1f min, %9.1f max, %9.1f stddev records/sec, " +
+                        "worst worker %5d: %7d %s 99th.", workers, minRecordsPerSec, maxRecordsPerSec,
+                stddevRecordsPerSec, worstWorker, worstP99, timeUnit));
+    }
+}
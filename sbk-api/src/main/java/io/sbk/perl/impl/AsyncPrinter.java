@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.GCStats;
+import io.sbk.perl.Outlier;
+import io.sbk.perl.Print;
+import io.sbk.perl.ReportOutliers;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.WorkerCost;
+import io.sbk.system.Printer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Class to print the window/total results on a separate reporting thread.
+ * The recorder thread only copies the results into a reusable snapshot buffer, along with the GC statistics,
+ * the worker cost and the statistics of its trackers, and hands it off;
+ * the formatting and the slow stdout, CSV, Prometheus or gRPC sinks are invoked by the reporting thread.
+ * The outliers of every window are handed off to the same thread, in order with the results.
+ * Two snapshot buffers are reused alternately; an additional buffer is allocated only if
+ * the reporting thread falls behind by more than one window, so that the recorder thread never waits.
+ */
+public class AsyncPrinter {
+    final private static int BUFFERS = 2;
+    final private ConcurrentLinkedQueue<Snapshot> free;
+    final private LinkedBlockingQueue<Snapshot> pending;
+    final private Thread thread;
+    private volatile boolean running;
+
+    final private static class Snapshot {
+        private Print target;
+        private long bytes;
+        private long records;
+        private double recsPerSec;
+        private double mbPerSec;
+        private double avgLatency;
+        private long maxLatency;
+        private long invalid;
+        private long lowerDiscard;
+        private long higherDiscard;
+        private long[] percentiles;
+        private GCStats gc;
+        private WorkerCost cost;
+        private List<SideStats> stats;
+        private List<Outlier> outliers;
+        private ReportOutliers outliersTarget;
+        private CompletableFuture<Void> flushed;
+    }
+
+    public AsyncPrinter(String name) {
+        this.free = new ConcurrentLinkedQueue<>();
+        this.pending = new LinkedBlockingQueue<>();
+        for (int i = 0; i < BUFFERS; i++) {
+            free.add(new Snapshot());
+        }
+        this.running = true;
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Get the Print interface which hands off the results to the reporting thread.
+     *
+     * @param target Print interface to be invoked by the reporting thread.
+     * @return asynchronous Print interface.
+     */
+    public Print wrap(Print target) {
+        return new Print() {
+            @Override
+            public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                              long maxLatency, long invalid, long lowerDiscard, long higherDiscard,
+                              long[] percentiles) {
+                print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
+                        higherDiscard, percentiles, null, null, null);
+            }
+
+            @Override
+            public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
+                              long maxLatency, long invalid, long lowerDiscard, long higherDiscard,
+                              long[] percentiles, GCStats gc, WorkerCost cost, List<SideStats> stats) {
+                handOff(target, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid,
+                        lowerDiscard, higherDiscard, percentiles, gc, cost, stats);
+            }
+        };
+    }
+
+    /**
+     * Get the ReportOutliers interface which hands off the outliers to the reporting thread.
+     *
+     * @param target ReportOutliers interface to be invoked by the reporting thread.
+     * @return asynchronous ReportOutliers interface.
+     */
+    public ReportOutliers wrap(ReportOutliers target) {
+        return outliers -> {
+            Snapshot snapshot = free.poll();
+            if (snapshot == null) {
+                snapshot = new Snapshot();
+            }
+            snapshot.outliersTarget = target;
+            snapshot.outliers = outliers;
+            pending.add(snapshot);
+        };
+    }
+
+    private void handOff(Print target, long bytes, long records, double recsPerSec, double mbPerSec,
+                         double avgLatency, long maxLatency, long invalid, long lowerDiscard, long higherDiscard,
+                         long[] percentiles, GCStats gc, WorkerCost cost, List<SideStats> stats) {
+        Snapshot snapshot = free.poll();
+        if (snapshot == null) {
+            snapshot = new Snapshot();
+        }
+        snapshot.target = target;
+        snapshot.bytes = bytes;
+        snapshot.records = records;
+        snapshot.recsPerSec = recsPerSec;
+        snapshot.mbPerSec = mbPerSec;
+        snapshot.avgLatency = avgLatency;
+        snapshot.maxLatency = maxLatency;
+        snapshot.invalid = invalid;
+        snapshot.lowerDiscard = lowerDiscard;
+        snapshot.higherDiscard = higherDiscard;
+        if (snapshot.percentiles == null || snapshot.percentiles.length != percentiles.length) {
+            snapshot.percentiles = new long[percentiles.length];
+        }
+        System.arraycopy(percentiles, 0, snapshot.percentiles, 0, percentiles.length);
+        snapshot.gc = gc;
+        snapshot.cost = cost;
+        snapshot.stats = stats;
+        pending.add(snapshot);
+    }
+
+    private void run() {
+        while (running || !pending.isEmpty()) {
+            final Snapshot snapshot;
+            try {
+                snapshot = pending.take();
+            } catch (InterruptedException ex) {
+                continue;
+            }
+            if (snapshot.flushed != null) {
+                snapshot.flushed.complete(null);
+                continue;
+            }
+            try {
+                if (snapshot.outliersTarget != null) {
+                    snapshot.outliersTarget.reportOutliers(snapshot.outliers);
+                } else {
+                    snapshot.target.print(snapshot.bytes, snapshot.records, snapshot.recsPerSec, snapshot.mbPerSec,
+                        snapshot.avgLatency, snapshot.maxLatency, snapshot.invalid, snapshot.lowerDiscard,
+                        snapshot.higherDiscard, snapshot.percentiles, snapshot.gc, snapshot.cost, snapshot.stats);
+                }
+            } catch (Exception ex) {
+                Printer.log.error("Reporting failed: " + ex);
+            }
+            snapshot.target = null;
+            snapshot.gc = null;
+            snapshot.cost = null;
+            snapshot.stats = null;
+            snapshot.outliers = null;
+            snapshot.outliersTarget = null;
+            free.add(snapshot);
+        }
+    }
+
+    /**
+     * Wait until all the handed off results are printed.
+     */
+    public void flush() {
+        if (!thread.isAlive()) {
+            return;
+        }
+        final Snapshot marker = new Snapshot();
+        marker.flushed = new CompletableFuture<>();
+        pending.add(marker);
+        try {
+            marker.flushed.get();
+        } catch (InterruptedException | ExecutionException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Print the pending results and stop the reporting thread.
+     */
+    public void close() {
+        running = false;
+        flush();
+    }
+}
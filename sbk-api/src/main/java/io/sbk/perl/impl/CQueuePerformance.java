@@ -15,12 +15,21 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.LockSupport;
 
+import io.sbk.jfr.IdleWaitEvent;
+import io.sbk.jfr.SbkJfr;
+import io.sbk.jfr.SlowOperationEvent;
+import io.sbk.perl.BatchTimeStamp;
+import io.sbk.perl.ConnectionPhase;
+import io.sbk.perl.ConnectionTimeStamp;
+import io.sbk.perl.FailureTimeStamp;
 import io.sbk.perl.PerlConfig;
 import io.sbk.perl.State;
 import io.sbk.system.Printer;
 import io.sbk.perl.Performance;
 import io.sbk.perl.PeriodicRecorder;
 import io.sbk.perl.SendChannel;
+import io.sbk.perl.SequenceTimeStamp;
+import io.sbk.perl.SubmitTimeStamp;
 import io.sbk.perl.Time;
 import io.sbk.perl.TimeStamp;
 import io.sbk.perl.Channel;
@@ -39,7 +48,8 @@ final public class CQueuePerformance implements Performance {
     final private Time time;
     final private PeriodicRecorder periodicLogger;
     final private ExecutorService executor;
-    final private Channel[] channels;
+    final private CQueueChannel[] channels;
+    final private boolean workerChannels;
     final private CompletableFuture<Void> retFuture;
 
     @GuardedBy("this")
@@ -65,14 +75,16 @@ final public class CQueuePerformance implements Performance {
         if (perlConfig.maxQs > 0) {
             maxQs = perlConfig.maxQs;
             this.channels = new CQueueChannel[1];
+            this.workerChannels = false;
             this.index = 1;
         } else {
             maxQs =  Math.max(PerlConfig.MIN_Q_PER_WORKER, perlConfig.qPerWorker);
             this.channels = new CQueueChannel[workers];
+            this.workerChannels = true;
             this.index = workers;
         }
         for (int i = 0; i < channels.length; i++) {
-            channels[i] = new CQueueChannel(maxQs, new OnError());
+            channels[i] = new CQueueChannel(workerChannels ? i : -1, maxQs, new OnError());
         }
     }
 
@@ -82,10 +94,12 @@ final public class CQueuePerformance implements Performance {
         final ElasticWaitCounter idleCounter = new ElasticWaitCounter(windowIntervalMS, idleNS);
         final long startTime = time.getCurrentTime();
         boolean doWork = true;
+        boolean drain = false;
         long ctime = startTime;
         long recordsCnt = 0;
         boolean notFound;
         TimeStamp t;
+        IdleWaitEvent idleEvent = null;
         Printer.log.info("Performance Logger Started" );
         periodicLogger.start(startTime);
         periodicLogger.startWindow(startTime);
@@ -95,12 +109,17 @@ final public class CQueuePerformance implements Performance {
                 t = channels[i].receive(windowIntervalMS);
                 if (t != null) {
                     notFound = false;
+                    if (idleEvent != null) {
+                        idleEvent.commit();
+                        idleEvent = null;
+                    }
                     ctime = t.endTime;
                     if (t.isEnd()) {
                         doWork = false;
+                        drain = true;
                     } else {
                         recordsCnt += t.records;
-                        periodicLogger.record(t.startTime, t.endTime, t.bytes, t.records);
+                        t.record(workerChannels ? i : -1, periodicLogger);
                         if (msToRun > 0) {
                             if (time.elapsedMilliSeconds(ctime, startTime) >= msToRun) {
                                 doWork = false;
@@ -118,6 +137,12 @@ final public class CQueuePerformance implements Performance {
             }
             if (doWork) {
                 if (notFound) {
+                    if (idleEvent == null) {
+                        idleEvent = IdleWaitEvent.start();
+                    }
+                    if (idleEvent != null) {
+                        idleEvent.park();
+                    }
                     if (idleCounter.waitAndCheck()) {
                         ctime = time.getCurrentTime();
                         final long diffTime = periodicLogger.elapsedMilliSecondsWindow(ctime);
@@ -136,6 +161,24 @@ final public class CQueuePerformance implements Performance {
                 }
             }
         }
+        if (idleEvent != null) {
+            idleEvent.commit();
+        }
+        if (drain) {
+            /*
+             * The end marker is queued on the first queue of the channels; record the time stamps
+             * already queued on the other queues, up to the end time.
+             * The time stamps ending after the end time are left in the queues and not recorded, so that the
+             * totals cover the same interval as the elapsed time of the run.
+             */
+            for (int i = 0; i < channels.length; i++) {
+                while ((t = channels[i].receiveUntil(ctime)) != null) {
+                    if (!t.isEnd()) {
+                        t.record(workerChannels ? i : -1, periodicLogger);
+                    }
+                }
+            }
+        }
         periodicLogger.stop(ctime);
     }
 
@@ -193,24 +236,49 @@ final public class CQueuePerformance implements Performance {
     @NotThreadSafe
     static final class CQueueChannel implements Channel {
         final private ConcurrentLinkedQueue<TimeStamp>[] cQueues;
+        final private ConcurrentLinkedQueue<BatchTimeStamp.Buffer> batchBuffers;
         final private Throw eThrow;
+        final private int worker;
         private int index;
 
-        public CQueueChannel(int qSize, Throw eThrow) {
+        public CQueueChannel(int worker, int qSize, Throw eThrow) {
+            this.worker = worker;
             this.index = qSize;
             this.eThrow = eThrow;
             this.cQueues = new ConcurrentLinkedQueue[qSize];
+            this.batchBuffers = new ConcurrentLinkedQueue<>();
             for (int i = 0; i < cQueues.length; i++) {
                 cQueues[i] = new ConcurrentLinkedQueue<>();
             }
         }
 
         public TimeStamp receive(int timeout) {
-            index += 1;
-            if (index >= cQueues.length) {
-                index = 0;
+            TimeStamp t = null;
+            for (int i = 0; t == null && i < cQueues.length; i++) {
+                index += 1;
+                if (index >= cQueues.length) {
+                    index = 0;
+                }
+                t = cQueues[index].poll();
             }
-            return cQueues[index].poll();
+            return t;
+        }
+
+        /**
+         * Receive the next time stamp ending by the given end time.
+         * A queue whose first time stamp ends after the end time is skipped without dequeuing it.
+         *
+         * @param endTime end time
+         * @return time stamp; null if no queue starts with a time stamp ending by the end time.
+         */
+        public TimeStamp receiveUntil(long endTime) {
+            for (ConcurrentLinkedQueue<TimeStamp> q : cQueues) {
+                final TimeStamp t = q.peek();
+                if (t != null && t.endTime <= endTime) {
+                    return q.poll();
+                }
+            }
+            return null;
         }
 
         public void sendEndTime(long endTime) {
@@ -226,6 +294,66 @@ final public class CQueuePerformance implements Performance {
         /* This Method is Thread Safe */
         public void send(int id, long startTime, long endTime, int bytes, int records) {
             cQueues[id].add(new TimeStamp(startTime, endTime, bytes, records));
+            if (SbkJfr.isSlow(endTime - startTime)) {
+                SlowOperationEvent.emit(worker, startTime, endTime, bytes, records);
+            }
+        }
+
+        /* This Method is Thread Safe; the records of one writer share a queue to keep their order */
+        public void send(int id, long startTime, long endTime, int bytes, int records, int writerId,
+                         long sequence) {
+            final int qIndex = writerId >= 0 ? writerId % cQueues.length : id;
+            cQueues[qIndex].add(sequence >= 0 ?
+                    new SequenceTimeStamp(startTime, endTime, bytes, records, writerId, sequence) :
+                    new TimeStamp(startTime, endTime, bytes, records));
+            if (SbkJfr.isSlow(endTime - startTime)) {
+                SlowOperationEvent.emit(worker, startTime, endTime, bytes, records);
+            }
+        }
+
+        /* This Method is Thread Safe */
+        public void sendAck(int id, long startTime, long submitTime, long endTime, int bytes, int records) {
+            cQueues[id].add(new SubmitTimeStamp(startTime, submitTime, endTime, bytes, records));
+            if (SbkJfr.isSlow(endTime - startTime)) {
+                SlowOperationEvent.emit(worker, startTime, endTime, bytes, records);
+            }
+        }
+
+        /* This Method is Thread Safe; the arrays are copied into a pooled buffer and, like the records
+         * carrying sequence numbers, the batches of one writer share a queue to keep their order */
+        public void sendBatch(int id, long[] startTimes, long endTime, int[] sizes, int[] writerIds,
+                              long[] sequences, int records) {
+            if (records <= 0) {
+                return;
+            }
+            BatchTimeStamp.Buffer buffer = batchBuffers.poll();
+            if (buffer == null || buffer.capacity() < records) {
+                buffer = new BatchTimeStamp.Buffer(records, batchBuffers);
+            }
+            int bytes = 0;
+            for (int i = 0; i < records; i++) {
+                bytes += sizes[i];
+                if (SbkJfr.isSlow(endTime - startTimes[i])) {
+                    SlowOperationEvent.emit(worker, startTimes[i], endTime, sizes[i], 1);
+                }
+            }
+            System.arraycopy(startTimes, 0, buffer.startTimes, 0, records);
+            System.arraycopy(sizes, 0, buffer.sizes, 0, records);
+            System.arraycopy(writerIds, 0, buffer.writerIds, 0, records);
+            System.arraycopy(sequences, 0, buffer.sequences, 0, records);
+            final int qIndex = writerIds[0] >= 0 ? writerIds[0] % cQueues.length : id;
+            cQueues[qIndex].add(new BatchTimeStamp(endTime, bytes, records, buffer));
+        }
+
+        /* This Method is Thread Safe */
+        public void sendFailure(int id, long startTime, long endTime, Throwable ex, boolean retried,
+                                boolean timeout) {
+            cQueues[id].add(new FailureTimeStamp(startTime, endTime, ex.getClass().getName(), retried, timeout));
+        }
+
+        /* This Method is Thread Safe */
+        public void sendConnection(int id, ConnectionPhase phase, long startTime, long endTime) {
+            cQueues[id].add(new ConnectionTimeStamp(phase, startTime, endTime));
         }
 
         public void sendException(int id, Throwable ex) {
@@ -10,8 +10,12 @@
 
 package io.sbk.perl.impl;
 
+import io.sbk.jfr.RecorderOverflowEvent;
+import io.sbk.jfr.TotalFlushEvent;
+import io.sbk.perl.GCStats;
 import io.sbk.perl.LatencyRecordWindow;
 import io.sbk.perl.Print;
+import io.sbk.perl.ReportLatencies;
 import io.sbk.perl.ReportLatency;
 import io.sbk.system.Printer;
 import org.apache.commons.csv.CSVFormat;
@@ -32,12 +36,25 @@ public class CompositeCSVLatencyRecorder extends CompositeHashMapLatencyRecorder
     private CSVPrinter csvPrinter;
 
     public CompositeCSVLatencyRecorder(LatencyRecordWindow window, int maxHashMapSizeMB, Print logger,
-                                       Print loggerTotal, ReportLatency reportLatency, String fileName) {
-        super(window, maxHashMapSizeMB, logger, loggerTotal, reportLatency);
+                                       Print loggerTotal, ReportLatency reportLatency,
+                                       ReportLatencies totalLatencies, ReportLatencies windowCopy,
+                                       String fileName) {
+        super(window, maxHashMapSizeMB, logger, loggerTotal, reportLatency, totalLatencies, windowCopy);
         csvFile = fileName;
         csvPrinter = null;
     }
 
+    public CompositeCSVLatencyRecorder(LatencyRecordWindow window, int maxHashMapSizeMB, Print logger,
+                                       Print loggerTotal, ReportLatency reportLatency,
+                                       ReportLatencies totalLatencies, String fileName) {
+        this(window, maxHashMapSizeMB, logger, loggerTotal, reportLatency, totalLatencies, null, fileName);
+    }
+
+    public CompositeCSVLatencyRecorder(LatencyRecordWindow window, int maxHashMapSizeMB, Print logger,
+                                       Print loggerTotal, ReportLatency reportLatency, String fileName) {
+        this(window, maxHashMapSizeMB, logger, loggerTotal, reportLatency, null, fileName);
+    }
+
     /**
      * Record the latency.
      *
@@ -51,7 +68,8 @@ public class CompositeCSVLatencyRecorder extends CompositeHashMapLatencyRecorder
         reportLatency.recordLatency(startTime, bytes, events, latency);
         window.recordLatency(startTime, bytes, events, latency);
         if (window.isOverflow()) {
-            window.print(startTime, windowLogger, this);
+            RecorderOverflowEvent.emit(RecorderOverflowEvent.WINDOW, window);
+            printWindow(startTime);
             window.reset(startTime);
         }
     }
@@ -63,9 +81,10 @@ public class CompositeCSVLatencyRecorder extends CompositeHashMapLatencyRecorder
      */
     @Override
     public void stopWindow(long currentTime) {
-        window.print(currentTime, windowLogger, this);
+        printWindow(currentTime);
 
         if (hashMapBytesCount > maxHashMapSizeBytes) {
+            RecorderOverflowEvent.emit(RecorderOverflowEvent.TOTAL, this);
             if (csvPrinter == null) {
                 deleteFile(csvFile);
                 try {
@@ -124,7 +143,7 @@ public class CompositeCSVLatencyRecorder extends CompositeHashMapLatencyRecorder
     @Override
     public void stop(long endTime) {
         if (window.totalRecords > 0) {
-            window.print(endTime, windowLogger, this);
+            printWindow(endTime);
         }
 
         if (csvPrinter != null) {
@@ -138,7 +157,10 @@ public class CompositeCSVLatencyRecorder extends CompositeHashMapLatencyRecorder
             deleteFile(csvFile);
            Printer.log.info("Deleted CSV file :" +csvFile);
         }
-        print(endTime, loggerTotal, null);
+        final TotalFlushEvent totalEvent = TotalFlushEvent.start();
+        final GCStats gc = gcRecorder != null ? gcRecorder.getTotalStats(endTime) : null;
+        print(endTime, withStats(loggerTotal, gc, getTotalStats(), true), totalLatencies);
+        TotalFlushEvent.end(totalEvent, this);
     }
 
 }
\ No newline at end of file
@@ -10,8 +10,17 @@
 
 package io.sbk.perl.impl;
 
+import io.sbk.jfr.RecorderOverflowEvent;
+import io.sbk.jfr.TotalFlushEvent;
+import io.sbk.jfr.WindowRolloverEvent;
+import io.sbk.perl.GCStats;
+import io.sbk.perl.LatencyRecord;
 import io.sbk.perl.LatencyRecordWindow;
 import io.sbk.perl.ReportLatency;
+import io.sbk.perl.ReportOutliers;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.TimeStamp;
+import io.sbk.perl.WorkerCost;
 import io.sbk.system.Printer;
 import io.sbk.perl.ReportLatencies;
 import io.sbk.perl.PerlConfig;
@@ -19,6 +28,8 @@ import io.sbk.perl.PeriodicRecorder;
 import io.sbk.perl.Print;
 
 import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -30,15 +41,186 @@ public class CompositeHashMapLatencyRecorder extends HashMapLatencyRecorder impl
     final public Print windowLogger;
     final public Print loggerTotal;
     final public ReportLatency reportLatency;
+    final public ReportLatencies totalLatencies;
+    final public ReportLatencies windowLatencies;
+    protected SlowestOperations slowest;
+    protected ReportOutliers reportOutliers;
+    final protected List<StatsTracker> trackers;
+    protected WorkerStats workerStats;
+    protected WorkerCostMonitor costMonitor;
+    protected GCRecorder gcRecorder;
 
     public CompositeHashMapLatencyRecorder(LatencyRecordWindow window, int maxHashMapSizeMB, Print logger,
-                                           Print loggerTotal, ReportLatency reportLatency) {
+                                           Print loggerTotal, ReportLatency reportLatency,
+                                           ReportLatencies totalLatencies, ReportLatencies windowCopy) {
         super(window.lowLatency, window.highLatency, window.totalLatencyMax,
                 window.totalRecordsMax, window.totalBytesMax, window.percentileFractions, window.time, maxHashMapSizeMB);
         this.window = window;
         this.windowLogger = logger;
         this.loggerTotal = loggerTotal;
         this.reportLatency = reportLatency;
+        this.totalLatencies = totalLatencies;
+        this.slowest = null;
+        this.reportOutliers = null;
+        this.trackers = new ArrayList<>();
+        this.workerStats = null;
+        this.costMonitor = null;
+        this.gcRecorder = null;
+        if (windowCopy == null) {
+            this.windowLatencies = this;
+        } else {
+            this.windowLatencies = new ReportLatencies() {
+                @Override
+                public void reportLatencyRecord(LatencyRecord record) {
+                    CompositeHashMapLatencyRecorder.this.reportLatencyRecord(record);
+                    windowCopy.reportLatencyRecord(record);
+                }
+
+                @Override
+                public void reportLatency(long latency, long count) {
+                    CompositeHashMapLatencyRecorder.this.reportLatency(latency, count);
+                    windowCopy.reportLatency(latency, count);
+                }
+            };
+        }
+    }
+
+    public CompositeHashMapLatencyRecorder(LatencyRecordWindow window, int maxHashMapSizeMB, Print logger,
+                                           Print loggerTotal, ReportLatency reportLatency,
+                                           ReportLatencies totalLatencies) {
+        this(window, maxHashMapSizeMB, logger, loggerTotal, reportLatency, totalLatencies, null);
+    }
+
+    public CompositeHashMapLatencyRecorder(LatencyRecordWindow window, int maxHashMapSizeMB, Print logger,
+                                           Print loggerTotal, ReportLatency reportLatency) {
+        this(window, maxHashMapSizeMB, logger, loggerTotal, reportLatency, null);
+    }
+
+    /**
+     * Capture the slowest operations of every window.
+     *
+     * @param count          number of slowest operations to keep per window.
+     * @param reportOutliers reports the slowest operations at the end of every window.
+     */
+    public void setOutliers(int count, ReportOutliers reportOutliers) {
+        this.slowest = count > 0 ? new SlowestOperations(count) : null;
+        this.reportOutliers = reportOutliers;
+    }
+
+    /**
+     * Add a tracker of the statistics reported along with the window and total results.
+     *
+     * @param tracker statistics tracker.
+     */
+    public void addTracker(StatsTracker tracker) {
+        this.trackers.add(tracker);
+    }
+
+    /**
+     * Record the per worker statistics of every window.
+     *
+     * @param workers number of workers.
+     */
+    public void setWorkerStats(int workers) {
+        if (workers > 0) {
+            this.workerStats = new WorkerStats(workers);
+            addTracker(workerStats);
+        }
+    }
+
+    /**
+     * Report the CPU time and the allocated bytes of the worker threads registered with the monitor.
+     *
+     * @param costMonitor monitor of the worker threads of this recorder.
+     */
+    public void setWorkerCost(WorkerCostMonitor costMonitor) {
+        this.costMonitor = costMonitor;
+    }
+
+    /**
+     * Report the GC pauses, the allocation rate and the records which overlap a pause.
+     *
+     * @param gcMonitor monitor of the client JVM garbage collections.
+     */
+    public void setGCMonitor(GCMonitor gcMonitor) {
+        this.gcRecorder = gcMonitor != null ? new GCRecorder(gcMonitor, time) : null;
+    }
+
+    /**
+     * Get the statistics of the trackers for the whole run.
+     *
+     * @return statistics of the run; null if no statistics are tracked.
+     */
+    protected List<SideStats> getTotalStats() {
+        if (trackers.isEmpty()) {
+            return null;
+        }
+        final List<SideStats> stats = new ArrayList<>(trackers.size());
+        for (StatsTracker tracker : trackers) {
+            final SideStats total = tracker.getTotalStats();
+            if (total != null) {
+                stats.add(total);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Get the printer which passes the GC statistics, the worker cost and the statistics of the trackers
+     * along with the results.
+     * The statistics travel with the results, so that they are printed with the results they belong to;
+     * the worker threads are sampled when the results are printed, on the recorder thread.
+     *
+     * @param logger printer
+     * @param gc     GC statistics; null if not monitored.
+     * @param stats  statistics of the trackers; null if no statistics are tracked.
+     * @param total  true for the results of the whole run.
+     * @return printer of the results and the statistics.
+     */
+    protected Print withStats(Print logger, GCStats gc, List<SideStats> stats, boolean total) {
+        if (gc == null && stats == null && costMonitor == null) {
+            return logger;
+        }
+        return (bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
+                higherDiscard, percentiles) -> logger.print(bytes, records, recsPerSec, mbPerSec, avgLatency,
+                maxLatency, invalid, lowerDiscard, higherDiscard, percentiles, gc, getCost(records, total), stats);
+    }
+
+    private WorkerCost getCost(long records, boolean total) {
+        if (costMonitor == null) {
+            return null;
+        }
+        return total ? costMonitor.getTotalCost(records) : costMonitor.getWindowCost(records);
+    }
+
+    /**
+     * Print the window results and report the slowest operations of the window.
+     *
+     * @param currentTime current time.
+     */
+    protected void printWindow(long currentTime) {
+        List<SideStats> stats = null;
+        if (!trackers.isEmpty()) {
+            final double elapsedMS = window.elapsedMilliSeconds(currentTime);
+            stats = new ArrayList<>(trackers.size());
+            for (StatsTracker tracker : trackers) {
+                final SideStats windowStats = tracker.getWindowStats(elapsedMS);
+                if (windowStats != null) {
+                    stats.add(windowStats);
+                }
+            }
+        }
+        final GCStats gc = gcRecorder != null ? gcRecorder.getWindowStats(currentTime) : null;
+        final WindowRolloverEvent windowEvent = WindowRolloverEvent.start();
+        window.print(currentTime, withStats(windowLogger, gc, stats, false), windowLatencies);
+        WindowRolloverEvent.end(windowEvent, window);
+        if (slowest != null && !slowest.isEmpty()) {
+            if (reportOutliers != null) {
+                reportOutliers.reportOutliers(slowest.drain());
+            } else {
+                slowest.reset();
+            }
+        }
     }
 
     /**
@@ -48,6 +230,9 @@ public class CompositeHashMapLatencyRecorder extends HashMapLatencyRecorder impl
      */
     public void start(long startTime) {
         reset(startTime);
+        if (gcRecorder != null) {
+            gcRecorder.start(startTime);
+        }
     }
 
     /**
@@ -83,24 +268,50 @@ public class CompositeHashMapLatencyRecorder extends HashMapLatencyRecorder impl
         final long latency = time.elapsed(endTime, startTime);
         reportLatency.recordLatency(startTime, bytes, events, latency);
         window.recordLatency(startTime, bytes, events, latency);
+        if (gcRecorder != null) {
+            gcRecorder.record(startTime, endTime, events);
+        }
         if (window.isOverflow()) {
-            window.print(startTime, windowLogger, this);
+            RecorderOverflowEvent.emit(RecorderOverflowEvent.WINDOW, window);
+            printWindow(startTime);
             window.reset(startTime);
             if (isOverflow()) {
-                print(startTime, loggerTotal, null);
+                RecorderOverflowEvent.emit(RecorderOverflowEvent.TOTAL, this);
+                final TotalFlushEvent totalEvent = TotalFlushEvent.start();
+                print(startTime, loggerTotal, totalLatencies);
+                TotalFlushEvent.end(totalEvent, this);
                 reset(startTime);
             }
         }
     }
 
+    @Override
+    public void record(int worker, long startTime, long endTime, int bytes, int events) {
+        if (slowest != null) {
+            slowest.add(worker, startTime, endTime, bytes, events, time.elapsed(endTime, startTime));
+        }
+        if (workerStats != null) {
+            workerStats.record(worker, time.elapsed(endTime, startTime), events);
+        }
+        record(startTime, endTime, bytes, events);
+    }
+
+    @Override
+    public void recordStats(TimeStamp timeStamp) {
+        for (int i = 0; i < trackers.size(); i++) {
+            trackers.get(i).record(timeStamp);
+        }
+    }
+
     /**
      * print the periodic Latency Results.
      *
      * @param currentTime current time.
      */
     public void stopWindow(long currentTime) {
-        window.print(currentTime, windowLogger, this);
+        printWindow(currentTime);
         if (isOverflow()) {
+            RecorderOverflowEvent.emit(RecorderOverflowEvent.TOTAL, this);
             if (hashMapBytesCount > maxHashMapSizeBytes) {
                 Printer.log.warn("Hash Map memory size: " + maxHashMapSizeMB +
                         " exceeded! Current HashMap size in MB: " + (hashMapBytesCount / PerlConfig.BYTES_PER_MB));
@@ -108,7 +319,9 @@ public class CompositeHashMapLatencyRecorder extends HashMapLatencyRecorder impl
                 Printer.log.warn("Total Bytes: " + totalBytes + ",  Total Records:" + totalRecords +
                         ", Total Latency: "+  totalLatency );
             }
-            print(currentTime, loggerTotal, null);
+            final TotalFlushEvent totalEvent = TotalFlushEvent.start();
+            print(currentTime, loggerTotal, totalLatencies);
+            TotalFlushEvent.end(totalEvent, this);
             start(currentTime);
         }
     }
@@ -120,9 +333,12 @@ public class CompositeHashMapLatencyRecorder extends HashMapLatencyRecorder impl
      */
     public void stop(long endTime) {
         if (window.totalRecords > 0) {
-            window.print(endTime, windowLogger, this);
+            printWindow(endTime);
         }
-        print(endTime, loggerTotal, null);
+        final TotalFlushEvent totalEvent = TotalFlushEvent.start();
+        final GCStats gc = gcRecorder != null ? gcRecorder.getTotalStats(endTime) : null;
+        print(endTime, withStats(loggerTotal, gc, getTotalStats(), true), totalLatencies);
+        TotalFlushEvent.end(totalEvent, this);
     }
 
 }
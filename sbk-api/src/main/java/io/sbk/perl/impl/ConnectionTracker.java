@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.ConnectionPhase;
+import io.sbk.perl.ConnectionStats;
+import io.sbk.perl.ConnectionTimeStamp;
+import io.sbk.perl.TimeStamp;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Class for the connection setup, first operation and teardown latency histograms of the window and of
+ * the whole run.
+ */
+@NotThreadSafe
+final public class ConnectionTracker implements StatsTracker {
+    final private Latencies[] window;
+    final private Latencies[] total;
+
+    public ConnectionTracker() {
+        final int phases = ConnectionPhase.values().length;
+        this.window = new Latencies[phases];
+        this.total = new Latencies[phases];
+        for (int i = 0; i < phases; i++) {
+            this.window[i] = new Latencies();
+            this.total[i] = new Latencies();
+        }
+    }
+
+    @Override
+    public void record(TimeStamp timeStamp) {
+        if (timeStamp instanceof ConnectionTimeStamp) {
+            final ConnectionTimeStamp t = (ConnectionTimeStamp) timeStamp;
+            record(t.phase, t.startTime, t.endTime);
+        }
+    }
+
+    /**
+     * Record the latency of a connection phase.
+     *
+     * @param phase     connection phase
+     * @param startTime start time of the phase
+     * @param endTime   end time of the phase
+     */
+    public void record(ConnectionPhase phase, long startTime, long endTime) {
+        window[phase.ordinal()].record(endTime - startTime, 1);
+        total[phase.ordinal()].record(endTime - startTime, 1);
+    }
+
+    /**
+     * Get the latencies of the window and reset the window histograms.
+     *
+     * @param elapsedMS elapsed time of the window in milliseconds.
+     * @return latencies of the window; null if no connection phase is recorded in the window.
+     */
+    @Override
+    public ConnectionStats getWindowStats(double elapsedMS) {
+        return getStats(window);
+    }
+
+    /**
+     * Get the latencies of the whole run.
+     *
+     * @return latencies of the run; null if no connection phase is recorded.
+     */
+    @Override
+    public ConnectionStats getTotalStats() {
+        return getStats(total);
+    }
+
+    private static ConnectionStats getStats(Latencies[] latencies) {
+        long records = 0;
+        for (Latencies l : latencies) {
+            records += l.records;
+        }
+        if (records == 0) {
+            return null;
+        }
+        return new ConnectionStats(getLatency(latencies[ConnectionPhase.Setup.ordinal()]),
+                getLatency(latencies[ConnectionPhase.FirstOperation.ordinal()]),
+                getLatency(latencies[ConnectionPhase.Teardown.ordinal()]));
+    }
+
+    private static ConnectionStats.Latency getLatency(Latencies latencies) {
+        final long[] percentiles = latencies.percentiles();
+        final ConnectionStats.Latency latency = new ConnectionStats.Latency(latencies.records,
+                latencies.average(), percentiles[0], percentiles[1], latencies.max);
+        latencies.reset();
+        return latency;
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.ErrorStats;
+import io.sbk.perl.FailureTimeStamp;
+import io.sbk.perl.TimeStamp;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Class for counting the failed attempts of the operations by the class of their exception,
+ * for the window and for the whole run.
+ */
+@NotThreadSafe
+final public class ErrorTracker implements StatsTracker {
+    final private Errors window;
+    final private Errors total;
+
+    public ErrorTracker() {
+        this.window = new Errors();
+        this.total = new Errors();
+    }
+
+    @Override
+    public void record(TimeStamp timeStamp) {
+        if (timeStamp instanceof FailureTimeStamp) {
+            final FailureTimeStamp t = (FailureTimeStamp) timeStamp;
+            record(t.startTime, t.endTime, t.error, t.retried, t.timeout);
+        }
+    }
+
+    /**
+     * Record a failed attempt.
+     *
+     * @param startTime start time of the attempt
+     * @param endTime   end time of the attempt
+     * @param error     class name of the exception
+     * @param retried   true if the operation is retried; false if the operation failed.
+     * @param timeout   true if the attempt timed out or the deadline of the operation passed.
+     */
+    public void record(long startTime, long endTime, String error, boolean retried, boolean timeout) {
+        final long time = Math.max(endTime - startTime, 0);
+        window.record(time, error, retried, timeout);
+        total.record(time, error, retried, timeout);
+    }
+
+    /**
+     * Get the failed attempts of the window and reset the window counters.
+     *
+     * @param elapsedMS elapsed time of the window in milliseconds.
+     * @return failed attempts of the window; null if no attempt failed in the window.
+     */
+    @Override
+    public ErrorStats getWindowStats(double elapsedMS) {
+        return window.getStats();
+    }
+
+    /**
+     * Get the failed attempts of the whole run.
+     *
+     * @return failed attempts of the run; null if no attempt failed.
+     */
+    @Override
+    public ErrorStats getTotalStats() {
+        return total.getStats();
+    }
+
+
+    static final private class Errors {
+        final private Map<String, Long> errors = new TreeMap<>();
+        private long retried;
+        private long failed;
+        private long timeouts;
+        private long attempts;
+        private long attemptTime;
+        private long attemptMax;
+
+        private void record(long time, String error, boolean isRetried, boolean isTimeout) {
+            errors.merge(error, 1L, Long::sum);
+            if (isRetried) {
+                retried++;
+            } else {
+                failed++;
+            }
+            if (isTimeout) {
+                timeouts++;
+            }
+            attempts++;
+            attemptTime += time;
+            attemptMax = Math.max(attemptMax, time);
+        }
+
+        private ErrorStats getStats() {
+            if (attempts == 0) {
+                return null;
+            }
+            final ErrorStats stats = new ErrorStats(retried, failed, timeouts, (double) attemptTime / attempts,
+                    attemptMax, Collections.unmodifiableMap(new TreeMap<>(errors)));
+            errors.clear();
+            retried = 0;
+            failed = 0;
+            timeouts = 0;
+            attempts = 0;
+            attemptTime = 0;
+            attemptMax = 0;
+            return stats;
+        }
+    }
+}
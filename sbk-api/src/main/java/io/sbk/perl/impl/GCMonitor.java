@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import io.sbk.perl.Time;
+
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class to monitor the client JVM garbage collections using the GarbageCollectorMXBean notifications.
+ * The pause intervals are logged in the benchmark time, so that the latency recorders can find
+ * the records which overlap a pause; the heap allocations are accumulated for the whole run.
+ * The concurrent cycles of ZGC/Shenandoah are not pauses; only their heap usage is accounted.
+ */
+public class GCMonitor implements NotificationListener {
+    final private static String CONCURRENT_CYCLES = "Cycles";
+    final private static int MAX_PAUSES = 1024;
+    final private Time time;
+    final private double timePerMS;
+    final private MemoryMXBean memoryBean;
+    final private long jvmStartMS;
+    final private Set<String> heapPools;
+    final private List<NotificationEmitter> emitters;
+
+    @GuardedBy("this")
+    final private ArrayDeque<Pause> pauses;
+    @GuardedBy("this")
+    private long nextPause;
+    @GuardedBy("this")
+    private long heapBaseline;
+    @GuardedBy("this")
+    private long allocated;
+
+    /**
+     * GC pause interval.
+     */
+    final public static class Pause {
+        final public long startTime;
+        final public long endTime;
+        final public long durationMS;
+
+        public Pause(long startTime, long endTime, long durationMS) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.durationMS = durationMS;
+        }
+    }
+
+    public GCMonitor(Time time) {
+        this.time = time;
+        this.timePerMS = 1.0 / time.convertToMilliSeconds(1.0);
+        this.memoryBean = ManagementFactory.getMemoryMXBean();
+        this.jvmStartMS = ManagementFactory.getRuntimeMXBean().getStartTime();
+        this.heapPools = new HashSet<>();
+        this.emitters = new ArrayList<>();
+        this.pauses = new ArrayDeque<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+            }
+        }
+    }
+
+    /**
+     * Start listening to the GC notifications.
+     */
+    public synchronized void start() {
+        heapBaseline = memoryBean.getHeapMemoryUsage().getUsed();
+        allocated = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter) {
+                final NotificationEmitter emitter = (NotificationEmitter) gc;
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    /**
+     * Stop listening to the GC notifications.
+     */
+    public synchronized void stop() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException ex) {
+                // already removed
+            }
+        }
+        emitters.clear();
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        final GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        final GcInfo gcInfo = info.getGcInfo();
+        final boolean isPause = !info.getGcName().contains(CONCURRENT_CYCLES);
+        Pause pause = null;
+        if (isPause) {
+            // the GC times are milliseconds since the JVM start; map the end of the pause to the benchmark time
+            final long sinceEndMS = Math.max(0, System.currentTimeMillis() - (jvmStartMS + gcInfo.getEndTime()));
+            final long endTime = time.getCurrentTime() - (long) (sinceEndMS * timePerMS);
+            pause = new Pause(endTime - (long) (gcInfo.getDuration() * timePerMS), endTime, gcInfo.getDuration());
+        }
+        record(pause, heapUsed(gcInfo.getMemoryUsageBeforeGc()), heapUsed(gcInfo.getMemoryUsageAfterGc()));
+    }
+
+    private long heapUsed(Map<String, MemoryUsage> usage) {
+        long used = 0;
+        for (Map.Entry<String, MemoryUsage> entry : usage.entrySet()) {
+            if (heapPools.contains(entry.getKey())) {
+                used += entry.getValue().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private synchronized void record(Pause pause, long usedBefore, long usedAfter) {
+        allocated += Math.max(0, usedBefore - heapBaseline);
+        heapBaseline = usedAfter;
+        if (pause != null) {
+            if (pauses.size() == MAX_PAUSES) {
+                pauses.poll();
+            }
+            pauses.add(pause);
+            nextPause++;
+        }
+    }
+
+    /**
+     * Get the heap bytes allocated since the start of the monitor.
+     * The heap allocated since the last GC is not visible to the notifications; it is accounted here.
+     *
+     * @return allocated bytes.
+     */
+    public synchronized long getAllocatedBytes() {
+        final long used = memoryBean.getHeapMemoryUsage().getUsed();
+        allocated += Math.max(0, used - heapBaseline);
+        heapBaseline = used;
+        return allocated;
+    }
+
+    /**
+     * Get the sequence number of the next pause.
+     *
+     * @return sequence number of the next pause.
+     */
+    public synchronized long getNextPause() {
+        return nextPause;
+    }
+
+    /**
+     * Get the pauses logged after the given pause; only the last {@value #MAX_PAUSES} pauses are kept.
+     *
+     * @param from  sequence number of the first pause to get.
+     * @param out   list to add the pauses to.
+     * @return sequence number of the next pause.
+     */
+    public synchronized long getPauses(long from, List<Pause> out) {
+        long seq = nextPause - pauses.size();
+        for (Pause pause : pauses) {
+            if (seq >= from) {
+                out.add(pause);
+            }
+            seq++;
+        }
+        return nextPause;
+    }
+}
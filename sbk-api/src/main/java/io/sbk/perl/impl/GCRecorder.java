@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.GCStats;
+import io.sbk.perl.PerlConfig;
+import io.sbk.perl.Time;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class to record the GC statistics of a latency recorder: the pauses, the heap allocation rate and
+ * the records whose start to end interval overlaps a pause.
+ * The start and end times of the records are counted per millisecond over the last {@value #RING_MS}
+ * milliseconds; a pause is notified only after it ends, so its overlapping records are counted when
+ * the pause is taken at the next window boundary.
+ */
+@NotThreadSafe
+public class GCRecorder {
+    final private static int RING_MS = 1 << 15;
+    final private static int MASK = RING_MS - 1;
+    final private GCMonitor monitor;
+    final private Time time;
+    final private long[] slots;
+    final private int[] starts;
+    final private int[] ends;
+    final private List<GCMonitor.Pause> pauses;
+    private long lastMS;
+    private long nextPause;
+
+    private long windowStartTime;
+    private long windowAllocated;
+    private long windowCount;
+    private long windowPauseMS;
+    private long windowMaxPauseMS;
+    private long windowOverlap;
+
+    private long totalStartTime;
+    private long totalAllocated;
+    private long totalCount;
+    private long totalPauseMS;
+    private long totalMaxPauseMS;
+    private long totalOverlap;
+
+    public GCRecorder(GCMonitor monitor, Time time) {
+        this.monitor = monitor;
+        this.time = time;
+        this.slots = new long[RING_MS];
+        this.starts = new int[RING_MS];
+        this.ends = new int[RING_MS];
+        this.pauses = new ArrayList<>();
+        Arrays.fill(slots, Long.MIN_VALUE);
+        this.lastMS = Long.MIN_VALUE;
+    }
+
+    /**
+     * Start recording; the earlier pauses are ignored.
+     *
+     * @param startTime starting time.
+     */
+    public void start(long startTime) {
+        nextPause = monitor.getNextPause();
+        windowStartTime = startTime;
+        totalStartTime = startTime;
+        windowAllocated = monitor.getAllocatedBytes();
+        totalAllocated = windowAllocated;
+        windowCount = windowPauseMS = windowMaxPauseMS = windowOverlap = 0;
+        totalCount = totalPauseMS = totalMaxPauseMS = totalOverlap = 0;
+    }
+
+    private long toMS(long t) {
+        return (long) time.convertToMilliSeconds(t);
+    }
+
+    private void add(int[] counts, long ms, int records) {
+        final int i = (int) (ms & MASK);
+        if (slots[i] != ms) {
+            if (slots[i] > ms) {
+                // older than the last RING_MS milliseconds
+                return;
+            }
+            slots[i] = ms;
+            starts[i] = 0;
+            ends[i] = 0;
+        }
+        counts[i] += records;
+        lastMS = Math.max(lastMS, ms);
+    }
+
+    /**
+     * Record the start and end times of the records.
+     *
+     * @param startTime start time.
+     * @param endTime   end time.
+     * @param records   number of records.
+     */
+    public void record(long startTime, long endTime, int records) {
+        add(starts, toMS(startTime), records);
+        add(ends, toMS(endTime), records);
+    }
+
+    /**
+     * Count the records which ended after the start of the pause, less the records which started after its end.
+     * The records which ended in the first millisecond or started in the last millisecond of the pause
+     * are not counted.
+     */
+    private long overlapRecords(GCMonitor.Pause pause) {
+        final long startMS = toMS(pause.startTime);
+        final long endMS = toMS(pause.endTime);
+        long count = 0;
+        for (long ms = Math.max(startMS + 1, lastMS - MASK); ms <= lastMS; ms++) {
+            final int i = (int) (ms & MASK);
+            if (slots[i] == ms) {
+                count += ends[i];
+                if (ms >= endMS) {
+                    count -= starts[i];
+                }
+            }
+        }
+        return Math.max(count, 0);
+    }
+
+    private void takePauses() {
+        pauses.clear();
+        nextPause = monitor.getPauses(nextPause, pauses);
+        for (GCMonitor.Pause pause : pauses) {
+            final long overlap = overlapRecords(pause);
+            windowCount++;
+            windowPauseMS += pause.durationMS;
+            windowMaxPauseMS = Math.max(windowMaxPauseMS, pause.durationMS);
+            windowOverlap += overlap;
+            totalCount++;
+            totalPauseMS += pause.durationMS;
+            totalMaxPauseMS = Math.max(totalMaxPauseMS, pause.durationMS);
+            totalOverlap += overlap;
+        }
+        pauses.clear();
+    }
+
+    private double allocationMBPerSec(long bytes, long currentTime, long startTime) {
+        final double elapsedSec = time.elapsedSeconds(currentTime, startTime);
+        if (elapsedSec <= 0) {
+            return 0;
+        }
+        return (bytes / (PerlConfig.BYTES_PER_MB * 1.0d)) / elapsedSec;
+    }
+
+    /**
+     * Get the GC statistics of the window and start a new window.
+     *
+     * @param currentTime current time.
+     * @return GC statistics of the window.
+     */
+    public GCStats getWindowStats(long currentTime) {
+        takePauses();
+        final long allocated = monitor.getAllocatedBytes();
+        final long bytes = allocated - windowAllocated;
+        final GCStats stats = new GCStats(windowCount, windowPauseMS, windowMaxPauseMS, bytes,
+                allocationMBPerSec(bytes, currentTime, windowStartTime), windowOverlap);
+        windowStartTime = currentTime;
+        windowAllocated = allocated;
+        windowCount = windowPauseMS = windowMaxPauseMS = windowOverlap = 0;
+        return stats;
+    }
+
+    /**
+     * Get the GC statistics since the start.
+     *
+     * @param currentTime current time.
+     * @return GC statistics of the whole run.
+     */
+    public GCStats getTotalStats(long currentTime) {
+        takePauses();
+        final long bytes = monitor.getAllocatedBytes() - totalAllocated;
+        return new GCStats(totalCount, totalPauseMS, totalMaxPauseMS, bytes,
+                allocationMBPerSec(bytes, currentTime, totalStartTime), totalOverlap);
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import java.util.Arrays;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Class for a latency histogram with the compact buckets of {@link WorkerStats}; the median and the
+ * 99th percentile are at most 12.5% above the recorded latencies.
+ */
+@NotThreadSafe
+final class Latencies {
+    final private static double[] PERCENTILES = {0.5, 0.99};
+    final private long[] histogram = new long[WorkerStats.BUCKETS];
+    long records;
+    long sum;
+    long max;
+
+    void record(long latency, int events) {
+        final long value = Math.max(latency, 0);
+        histogram[WorkerStats.bucketIndex(value)] += events;
+        records += events;
+        sum += value * events;
+        max = Math.max(max, value);
+    }
+
+    double average() {
+        return records > 0 ? (double) sum / records : 0;
+    }
+
+    /**
+     * Get the median and the 99th percentile.
+     *
+     * @return median and 99th percentile.
+     */
+    long[] percentiles() {
+        final long[] values = new long[PERCENTILES.length];
+        long cumulative = 0;
+        int j = 0;
+        for (int i = 0; i < histogram.length && j < PERCENTILES.length; i++) {
+            if (histogram[i] == 0) {
+                continue;
+            }
+            cumulative += histogram[i];
+            while (j < PERCENTILES.length && cumulative >= (long) Math.ceil(records * PERCENTILES[j])) {
+                values[j++] = Math.min(WorkerStats.bucketValue(i), max);
+            }
+        }
+        return values;
+    }
+
+    void reset() {
+        Arrays.fill(histogram, 0);
+        records = 0;
+        sum = 0;
+        max = 0;
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.prometheus.client.Collector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Class for exporting the cumulative latency histogram in the Prometheus/OpenMetrics histogram format.
+ * The latency values and counts of every reporting window are added to the buckets; unlike the
+ * percentile gauges, the buckets of multiple SBK instances can be aggregated and any quantile can be
+ * computed with histogram_quantile().
+ */
+public class LatencyHistogram extends Collector {
+    final private String name;
+    final private String help;
+    final private double[] bounds;
+    final private AtomicLongArray counts;
+    final private DoubleAdder sum;
+    final private DoubleUnaryOperator convert;
+
+    /**
+     * Create the histogram.
+     *
+     * @param name     metric name
+     * @param bounds   upper bounds of the buckets in the metric time unit, the +Inf bucket is added.
+     * @param convert  converts the recorded latency to the metric time unit.
+     */
+    public LatencyHistogram(String name, double[] bounds, DoubleUnaryOperator convert) {
+        this.name = name;
+        this.help = "Latency histogram";
+        this.bounds = bounds.clone();
+        Arrays.sort(this.bounds);
+        this.counts = new AtomicLongArray(this.bounds.length + 1);
+        this.sum = new DoubleAdder();
+        this.convert = convert;
+    }
+
+    /**
+     * Get the 1-2-5 series of bucket bounds.
+     *
+     * @param max maximum bound.
+     * @return bucket bounds.
+     */
+    public static double[] defaultBounds(double max) {
+        final List<Double> list = new ArrayList<>();
+        final double[] steps = {1, 2, 5};
+        for (double base = 1; base <= max; base *= 10) {
+            for (double step : steps) {
+                if (base * step <= max) {
+                    list.add(base * step);
+                }
+            }
+        }
+        return list.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Parse the comma separated bucket bounds.
+     *
+     * @param buckets comma separated bucket bounds.
+     * @return bucket bounds.
+     */
+    public static double[] parseBounds(String buckets) {
+        return Arrays.stream(buckets.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                .mapToDouble(Double::parseDouble).toArray();
+    }
+
+    /**
+     * Add the latency value observed count times.
+     *
+     * @param latency latency value
+     * @param count   number of times the latency value is observed
+     */
+    public void observe(long latency, long count) {
+        final double value = convert.applyAsDouble(latency);
+        int index = Arrays.binarySearch(bounds, value);
+        if (index < 0) {
+            index = -(index + 1);
+        }
+        counts.addAndGet(index, count);
+        sum.add(value * count);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        final List<MetricFamilySamples.Sample> samples = new ArrayList<>(bounds.length + 3);
+        final List<String> labelNames = Collections.singletonList("le");
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += counts.get(i);
+            samples.add(new MetricFamilySamples.Sample(name + "_bucket", labelNames,
+                    Collections.singletonList(Collector.doubleToGoString(bounds[i])), cumulative));
+        }
+        cumulative += counts.get(bounds.length);
+        samples.add(new MetricFamilySamples.Sample(name + "_bucket", labelNames,
+                Collections.singletonList("+Inf"), cumulative));
+        samples.add(new MetricFamilySamples.Sample(name + "_count", Collections.emptyList(),
+                Collections.emptyList(), cumulative));
+        samples.add(new MetricFamilySamples.Sample(name + "_sum", Collections.emptyList(),
+                Collections.emptyList(), sum.sum()));
+        return Collections.singletonList(new MetricFamilySamples(name, Type.HISTOGRAM, help, samples));
+    }
+}
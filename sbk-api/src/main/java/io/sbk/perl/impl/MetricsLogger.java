@@ -12,13 +12,19 @@ package io.sbk.perl.impl;
 import com.google.common.util.concurrent.AtomicDouble;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.sbk.perl.GCStats;
 import io.sbk.perl.PerlConfig;
 import io.sbk.perl.Print;
+import io.sbk.perl.SideStats;
 import io.sbk.perl.Time;
 import io.sbk.perl.TimeUnit;
 
 import java.text.DecimalFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class for recoding/printing benchmark results on micrometer Composite Meter Registry.
@@ -37,6 +43,13 @@ public class MetricsLogger implements Print {
     final private AtomicDouble avgLatency;
     final private AtomicDouble maxLatency;
     final private AtomicDouble[] percentileGauges;
+    final private AtomicDouble gcPauses;
+    final private AtomicDouble gcPauseMS;
+    final private AtomicDouble gcMaxPauseMS;
+    final private AtomicDouble gcAllocationMBPsec;
+    final private AtomicDouble gcOverlap;
+    final private String metricUnit;
+    final private Map<String, AtomicDouble> statsGauges;
     final private Convert convert;
 
     private interface Convert {
@@ -58,6 +71,11 @@ public class MetricsLogger implements Print {
         final String invalidLatencyRecordsName = metricPrefix + "_InvalidLatencyRecords";
         final String lowerDiscardName = metricPrefix + "_LowerDiscardedLatencyRecords";
         final String higherDiscardName = metricPrefix + "_HigherDiscardLatencyRecords";
+        final String gcPausesName = metricPrefix + "_GC_Pauses";
+        final String gcPauseMSName = metricPrefix + "_GC_PauseMS";
+        final String gcMaxPauseMSName = metricPrefix + "_GC_MaxPauseMS";
+        final String gcAllocationMBPsecName = metricPrefix + "_GC_AllocationMBPerSec";
+        final String gcOverlapName = metricPrefix + "_GC_Overlap";
         this.registry = compositeRegistry;
         this.bytes = this.registry.counter(bytesName);
         this.records = this.registry.counter(recordsName);
@@ -68,6 +86,13 @@ public class MetricsLogger implements Print {
         this.recsPsec = this.registry.gauge(recsPsecName, new AtomicDouble());
         this.avgLatency = this.registry.gauge(avgLatencyName, new AtomicDouble());
         this.maxLatency = this.registry.gauge(maxLatencyName, new AtomicDouble());
+        this.gcPauses = this.registry.gauge(gcPausesName, new AtomicDouble());
+        this.gcPauseMS = this.registry.gauge(gcPauseMSName, new AtomicDouble());
+        this.gcMaxPauseMS = this.registry.gauge(gcMaxPauseMSName, new AtomicDouble());
+        this.gcAllocationMBPsec = this.registry.gauge(gcAllocationMBPsecName, new AtomicDouble());
+        this.gcOverlap = this.registry.gauge(gcOverlapName, new AtomicDouble());
+        this.metricUnit = metricUnit;
+        this.statsGauges = new ConcurrentHashMap<>();
         this.percentileGauges = new AtomicDouble[percentiles.length];
         for (int i = 0; i < percentiles.length; i++) {
             this.percentileGauges[i] = this.registry.gauge(metricPrefix + "_" + metricUnit + "_" + format.format(percentiles[i]),
@@ -104,4 +129,53 @@ public class MetricsLogger implements Print {
             this.percentileGauges[i].set(convert.apply((double) percentileValues[i]));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Set the client GC gauges of the reporting window.
+     *
+     * @param gc GC statistics of the window.
+     */
+    public void printGC(GCStats gc) {
+        this.gcPauses.set(gc.gcCount);
+        this.gcPauseMS.set(gc.gcPauseMS);
+        this.gcMaxPauseMS.set(gc.maxGcPauseMS);
+        this.gcAllocationMBPsec.set(gc.allocationMBPerSec);
+        this.gcOverlap.set(gc.overlapRecords);
+    }
+
+    /**
+     * Export the statistics of the trackers of the reporting window.
+     * The meters are registered on first use: the count columns as counters incremented with every window,
+     * the other columns as gauges; the labeled values are tagged with the label of the statistics.
+     *
+     * @param statsList statistics of the window.
+     */
+    public void printStats(List<SideStats> statsList) {
+        for (SideStats stats : statsList) {
+            final SideStats.Kind kind = stats.getKind();
+            printStats(kind.columns, stats.getValues(), Tags.empty());
+            if (kind.label != null) {
+                stats.getLabeledValues().forEach((label, values) ->
+                        printStats(kind.labeledColumns, values, Tags.of(kind.label, label)));
+            }
+        }
+    }
+
+    private void printStats(SideStats.Column[] columns, double[] values, Tags tags) {
+        for (int i = 0; i < Math.min(columns.length, values.length); i++) {
+            final SideStats.Column column = columns[i];
+            if (column.unit == SideStats.Unit.COUNT) {
+                registry.counter(metricPrefix + "_" + column.name, tags).increment(values[i]);
+            } else if (column.unit == SideStats.Unit.LATENCY) {
+                getStatsGauge(metricPrefix + "_" + metricUnit + "_" + column.name, tags)
+                        .set(convert.apply(values[i]));
+            } else {
+                getStatsGauge(metricPrefix + "_" + column.name, tags).set(values[i]);
+            }
+        }
+    }
+
+    private AtomicDouble getStatsGauge(String name, Tags tags) {
+        return statsGauges.computeIfAbsent(name + tags, key -> registry.gauge(name, tags, new AtomicDouble()));
+    }
+}
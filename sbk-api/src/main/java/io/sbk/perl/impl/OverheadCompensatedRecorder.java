@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.PeriodicRecorder;
+import io.sbk.perl.SubmitTimeStamp;
+import io.sbk.perl.TimeStamp;
+
+/**
+ * Periodic recorder which subtracts the fixed framework overhead from every latency before recording.
+ * The compensated latency never goes below zero.
+ */
+final public class OverheadCompensatedRecorder implements PeriodicRecorder {
+    final private PeriodicRecorder recorder;
+    final private long overhead;
+
+    public OverheadCompensatedRecorder(PeriodicRecorder recorder, long overhead) {
+        this.recorder = recorder;
+        this.overhead = overhead;
+    }
+
+    @Override
+    public void start(long startTime) {
+        recorder.start(startTime);
+    }
+
+    @Override
+    public void startWindow(long startTime) {
+        recorder.startWindow(startTime);
+    }
+
+    @Override
+    public long elapsedMilliSecondsWindow(long currentTime) {
+        return recorder.elapsedMilliSecondsWindow(currentTime);
+    }
+
+    @Override
+    public void record(long startTime, long endTime, int bytes, int events) {
+        recorder.record(Math.min(startTime + overhead, endTime), endTime, bytes, events);
+    }
+
+    @Override
+    public void record(int worker, long startTime, long endTime, int bytes, int events) {
+        recorder.record(worker, Math.min(startTime + overhead, endTime), endTime, bytes, events);
+    }
+
+    @Override
+    public void recordStats(TimeStamp timeStamp) {
+        if (timeStamp instanceof SubmitTimeStamp) {
+            final SubmitTimeStamp t = (SubmitTimeStamp) timeStamp;
+            recorder.recordStats(new SubmitTimeStamp(Math.min(t.startTime + overhead, t.submitTime), t.submitTime,
+                    t.endTime, t.bytes, t.records));
+        } else {
+            recorder.recordStats(timeStamp);
+        }
+    }
+
+    @Override
+    public void stopWindow(long currentTime) {
+        recorder.stopWindow(currentTime);
+    }
+
+    @Override
+    public void stop(long endTime) {
+        recorder.stop(endTime);
+    }
+}
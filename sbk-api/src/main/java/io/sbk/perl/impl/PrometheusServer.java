@@ -18,18 +18,71 @@ import io.micrometer.jmx.JmxMeterRegistry;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.micrometer.prometheus.PrometheusRenameFilter;
+import io.prometheus.client.CollectorRegistry;
 
+import io.prometheus.client.exporter.common.TextFormat;
+
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
-import java.util.concurrent.Executors;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
+/**
+ * Prometheus metrics server.
+ * The scrape output is rendered at most once per reporting window (see {@link #invalidate()}) or per
+ * {@link #MAX_CACHE_AGE_MS}, whichever comes first, and shared by all the scrapes;
+ * the gzip encoded output is served if the client accepts it.
+ * The scrapes beyond the bounded queue of the server threads are answered with 503 (Service Unavailable)
+ * by the dispatcher thread, without rendering the output.
+ */
 public class PrometheusServer extends CompositeMeterRegistry {
+    final public static int MAX_CACHE_AGE_MS = 1000;
+    final private static int SERVER_THREADS = 4;
+    final private static int SERVER_QUEUE_SIZE = 64;
+    final private static int RETRY_AFTER_SECONDS = 1;
+    final private static ThreadLocal<Boolean> REJECTED = ThreadLocal.withInitial(() -> Boolean.FALSE);
     final private int port;
     final private String context;
     final private PrometheusMeterRegistry prometheusRegistry;
+    final private ThreadPoolExecutor executor;
     final private HttpServer server;
 
+    private volatile Scrape scrape;
+
+    final private static class Scrape {
+        final private byte[] plain;
+        final private long createdMS;
+        private volatile byte[] gzip;
+
+        private Scrape(byte[] plain) {
+            this.plain = plain;
+            this.createdMS = System.currentTimeMillis();
+        }
+
+        private boolean isValid() {
+            return System.currentTimeMillis() - createdMS < MAX_CACHE_AGE_MS;
+        }
+
+        private byte[] getGzip() throws IOException {
+            byte[] out = gzip;
+            if (out == null) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream(plain.length / 4);
+                try (GZIPOutputStream gzipStream = new GZIPOutputStream(bytes)) {
+                    gzipStream.write(plain);
+                }
+                out = bytes.toByteArray();
+                gzip = out;
+            }
+            return out;
+        }
+    }
+
     public PrometheusServer(int port, String context) throws IOException {
         super();
         this.port = port;
@@ -38,7 +91,14 @@ public class PrometheusServer extends CompositeMeterRegistry {
         prometheusRegistry.config().meterFilter(new PrometheusRenameFilter());
         this.add(new JmxMeterRegistry(JmxConfig.DEFAULT, Clock.SYSTEM));
         this.add(prometheusRegistry);
+        this.executor = new ThreadPoolExecutor(SERVER_THREADS, SERVER_THREADS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SERVER_QUEUE_SIZE), PrometheusServer::reject);
         this.server = createHttpServer();
+        this.scrape = null;
+    }
+
+    public CollectorRegistry getCollectorRegistry() {
+        return prometheusRegistry.getPrometheusRegistry();
     }
 
     public void start() throws IOException  {
@@ -48,18 +108,82 @@ public class PrometheusServer extends CompositeMeterRegistry {
 
     public void stop() throws  IOException {
         server.stop(0);
+        executor.shutdown();
+    }
+
+    /**
+     * Drop the cached scrape output; invoked after the metrics of a reporting window are updated.
+     */
+    public void invalidate() {
+        scrape = null;
+    }
+
+    private Scrape getScrape() {
+        Scrape cur = scrape;
+        if (cur != null && cur.isValid()) {
+            return cur;
+        }
+        synchronized (this) {
+            cur = scrape;
+            if (cur == null || !cur.isValid()) {
+                cur = new Scrape(prometheusRegistry.scrape().getBytes(StandardCharsets.UTF_8));
+                scrape = cur;
+            }
+        }
+        return cur;
+    }
+
+    /**
+     * Run the rejected exchange on the dispatcher thread, marked to be answered with 503.
+     */
+    private static void reject(Runnable exchange, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            return;
+        }
+        REJECTED.set(Boolean.TRUE);
+        try {
+            exchange.run();
+        } finally {
+            REJECTED.set(Boolean.FALSE);
+        }
+    }
+
+    private static boolean acceptsGzip(List<String> encodings) {
+        if (encodings == null) {
+            return false;
+        }
+        for (String encoding : encodings) {
+            if (encoding.contains("gzip")) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private HttpServer createHttpServer() throws IOException {
         final HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
         server.createContext(context, httpExchange -> {
-            String response = prometheusRegistry.scrape();
-            httpExchange.sendResponseHeaders(200, response.getBytes().length);
+            if (REJECTED.get()) {
+                httpExchange.getResponseHeaders().set("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+                httpExchange.sendResponseHeaders(503, -1);
+                httpExchange.close();
+                return;
+            }
+            final Scrape cur = getScrape();
+            final byte[] response;
+            if (acceptsGzip(httpExchange.getRequestHeaders().get("Accept-Encoding"))) {
+                response = cur.getGzip();
+                httpExchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            } else {
+                response = cur.plain;
+            }
+            httpExchange.getResponseHeaders().set("Content-Type", TextFormat.CONTENT_TYPE_004);
+            httpExchange.sendResponseHeaders(200, response.length);
             try (OutputStream os = httpExchange.getResponseBody()) {
-                os.write(response.getBytes());
+                os.write(response);
             }
         });
-        server.setExecutor(Executors.newSingleThreadExecutor());
+        server.setExecutor(executor);
         return server;
     }
 }
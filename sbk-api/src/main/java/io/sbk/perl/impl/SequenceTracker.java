@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.BatchTimeStamp;
+import io.sbk.perl.SequenceStats;
+import io.sbk.perl.SequenceTimeStamp;
+import io.sbk.perl.TimeStamp;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Class to detect the lost, duplicate and out of order records of every writer.
+ * A bitmap of the last {@link #WINDOW} sequence numbers is kept per writer; a missing sequence number
+ * is counted as lost when it falls out of the bitmap, and as out of order if it arrives before that;
+ * a record arriving after its sequence number was counted as lost is not counted again.
+ */
+@NotThreadSafe
+final public class SequenceTracker implements StatsTracker {
+    final public static int WINDOW = 1024;
+    final private static int WINDOW_MASK = WINDOW - 1;
+
+    final private long[] highest;
+    final private long[] base;
+    final private long[][] seen;
+    final private boolean[] started;
+    private long records;
+    private long lost;
+    private long duplicates;
+    private long reordered;
+    private long invalid;
+    private long totalRecords;
+    private long totalLost;
+    private long totalDuplicates;
+    private long totalReordered;
+    private long totalInvalid;
+
+    public SequenceTracker(int writers) {
+        this.highest = new long[writers];
+        this.base = new long[writers];
+        this.seen = new long[writers][WINDOW / Long.SIZE];
+        this.started = new boolean[writers];
+    }
+
+    private static boolean isSet(long[] bits, long sequence) {
+        final int pos = (int) (sequence & WINDOW_MASK);
+        return (bits[pos >>> 6] & (1L << pos)) != 0;
+    }
+
+    private static void set(long[] bits, long sequence) {
+        final int pos = (int) (sequence & WINDOW_MASK);
+        bits[pos >>> 6] |= 1L << pos;
+    }
+
+    private static void clear(long[] bits, long sequence) {
+        final int pos = (int) (sequence & WINDOW_MASK);
+        bits[pos >>> 6] &= ~(1L << pos);
+    }
+
+    @Override
+    public void record(TimeStamp timeStamp) {
+        if (timeStamp instanceof SequenceTimeStamp) {
+            final SequenceTimeStamp t = (SequenceTimeStamp) timeStamp;
+            record(t.writerId, t.sequence);
+        } else if (timeStamp instanceof BatchTimeStamp) {
+            final BatchTimeStamp t = (BatchTimeStamp) timeStamp;
+            for (int i = 0; i < t.records; i++) {
+                if (t.sequences[i] >= 0) {
+                    record(t.writerIds[i], t.sequences[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the sequence number of a record.
+     *
+     * @param writerId writer id from the record header
+     * @param sequence sequence number from the record header
+     */
+    public void record(int writerId, long sequence) {
+        if (writerId < 0 || writerId >= highest.length || sequence < 0) {
+            invalid++;
+            return;
+        }
+        records++;
+        final long[] bits = seen[writerId];
+        if (!started[writerId]) {
+            started[writerId] = true;
+            base[writerId] = sequence;
+            highest[writerId] = sequence;
+            set(bits, sequence);
+            return;
+        }
+        final long high = highest[writerId];
+        if (sequence > high) {
+            final long evictEnd = Math.min(high, sequence - WINDOW);
+            for (long e = Math.max(high - WINDOW + 1, base[writerId]); e <= evictEnd; e++) {
+                if (!isSet(bits, e)) {
+                    lost++;
+                }
+                clear(bits, e);
+            }
+            if (sequence - WINDOW > high) {
+                lost += sequence - WINDOW - high;
+            }
+            set(bits, sequence);
+            highest[writerId] = sequence;
+        } else if (sequence > high - WINDOW && sequence >= base[writerId]) {
+            if (isSet(bits, sequence)) {
+                duplicates++;
+            } else {
+                reordered++;
+                set(bits, sequence);
+            }
+        } else if (sequence < base[writerId]) {
+            reordered++;
+        }
+        // a sequence number which fell out of the bitmap was already counted as lost
+    }
+
+    /**
+     * Get the sequence statistics of the window and reset the window counters.
+     *
+     * @param elapsedMS elapsed time of the window in milliseconds.
+     * @return sequence statistics of the window.
+     */
+    @Override
+    public SequenceStats getWindowStats(double elapsedMS) {
+        final SequenceStats stats = new SequenceStats(records, lost, duplicates, reordered, invalid);
+        totalRecords += records;
+        totalLost += lost;
+        totalDuplicates += duplicates;
+        totalReordered += reordered;
+        totalInvalid += invalid;
+        records = 0;
+        lost = 0;
+        duplicates = 0;
+        reordered = 0;
+        invalid = 0;
+        return stats;
+    }
+
+    /**
+     * Get the sequence statistics of the whole run.
+     * The sequence numbers still missing in the reordering windows are counted as lost.
+     *
+     * @return sequence statistics of the run.
+     */
+    @Override
+    public SequenceStats getTotalStats() {
+        getWindowStats(0);
+        long missing = 0;
+        for (int w = 0; w < highest.length; w++) {
+            if (!started[w]) {
+                continue;
+            }
+            for (long e = Math.max(highest[w] - WINDOW + 1, base[w]); e <= highest[w]; e++) {
+                if (!isSet(seen[w], e)) {
+                    missing++;
+                }
+            }
+        }
+        return new SequenceStats(totalRecords, totalLost + missing, totalDuplicates, totalReordered, totalInvalid);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.Outlier;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded min-heap of the N slowest operations.
+ * The heap is kept in preallocated arrays; an operation faster than the fastest retained one costs a single compare.
+ */
+@NotThreadSafe
+final public class SlowestOperations {
+    final private long[] latency;
+    final private long[] startTime;
+    final private long[] endTime;
+    final private int[] worker;
+    final private int[] bytes;
+    final private int[] records;
+    private int size;
+
+    public SlowestOperations(int count) {
+        this.latency = new long[count];
+        this.startTime = new long[count];
+        this.endTime = new long[count];
+        this.worker = new int[count];
+        this.bytes = new int[count];
+        this.records = new int[count];
+        this.size = 0;
+    }
+
+    /**
+     * Add the operation, if it is slower than the fastest retained operation.
+     *
+     * @param worker    worker id; -1 if unknown.
+     * @param startTime start time
+     * @param endTime   end time
+     * @param bytes     number of bytes
+     * @param records   number of records
+     * @param latency   latency
+     */
+    public void add(int worker, long startTime, long endTime, int bytes, int records, long latency) {
+        int i;
+        if (size < this.latency.length) {
+            i = size++;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (this.latency[parent] <= latency) {
+                    break;
+                }
+                move(parent, i);
+                i = parent;
+            }
+        } else if (size > 0 && latency > this.latency[0]) {
+            i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && this.latency[child + 1] < this.latency[child]) {
+                    child++;
+                }
+                if (this.latency[child] >= latency) {
+                    break;
+                }
+                move(child, i);
+                i = child;
+            }
+        } else {
+            return;
+        }
+        this.latency[i] = latency;
+        this.startTime[i] = startTime;
+        this.endTime[i] = endTime;
+        this.worker[i] = worker;
+        this.bytes[i] = bytes;
+        this.records[i] = records;
+    }
+
+    private void move(int from, int to) {
+        latency[to] = latency[from];
+        startTime[to] = startTime[from];
+        endTime[to] = endTime[from];
+        worker[to] = worker[from];
+        bytes[to] = bytes[from];
+        records[to] = records[from];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Get the retained operations, sorted from the slowest, and reset the heap.
+     *
+     * @return list of slowest operations.
+     */
+    public List<Outlier> drain() {
+        final List<Outlier> outliers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Outlier outlier = new Outlier();
+            outlier.worker = worker[i];
+            outlier.latency = latency[i];
+            outlier.startTime = startTime[i];
+            outlier.endTime = endTime[i];
+            outlier.bytes = bytes[i];
+            outlier.records = records[i];
+            outliers.add(outlier);
+        }
+        outliers.sort((a, b) -> Long.compare(b.latency, a.latency));
+        size = 0;
+        return outliers;
+    }
+}
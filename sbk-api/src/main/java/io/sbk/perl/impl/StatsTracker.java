@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.SideStats;
+import io.sbk.perl.TimeStamp;
+
+/**
+ * Interface for the trackers of the statistics reported along with the window and total results.
+ */
+public interface StatsTracker {
+
+    /**
+     * Record the data of a time stamp; the time stamps which are not tracked are ignored.
+     *
+     * @param timeStamp time stamp
+     */
+    default void record(TimeStamp timeStamp) {
+
+    }
+
+    /**
+     * Get the statistics of the window and reset the window.
+     *
+     * @param elapsedMS elapsed time of the window in milliseconds.
+     * @return statistics of the window; null if nothing is recorded in the window.
+     */
+    SideStats getWindowStats(double elapsedMS);
+
+    /**
+     * Get the statistics of the whole run.
+     *
+     * @return statistics of the run; null if nothing is recorded or only windows are tracked.
+     */
+    SideStats getTotalStats();
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.SubmitAckStats;
+import io.sbk.perl.SubmitTimeStamp;
+import io.sbk.perl.TimeStamp;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Class for the submit and acknowledgement latency histograms of the window and of the whole run.
+ * The histograms use the compact buckets of {@link WorkerStats}, so the reported percentiles are at most
+ * 12.5% above the recorded latencies.
+ */
+@NotThreadSafe
+final public class SubmitAckTracker implements StatsTracker {
+    final private Latencies submitWindow;
+    final private Latencies ackWindow;
+    final private Latencies submitTotal;
+    final private Latencies ackTotal;
+
+    public SubmitAckTracker() {
+        this.submitWindow = new Latencies();
+        this.ackWindow = new Latencies();
+        this.submitTotal = new Latencies();
+        this.ackTotal = new Latencies();
+    }
+
+    @Override
+    public void record(TimeStamp timeStamp) {
+        if (timeStamp instanceof SubmitTimeStamp) {
+            final SubmitTimeStamp t = (SubmitTimeStamp) timeStamp;
+            record(t.startTime, t.submitTime, t.endTime, t.records);
+        }
+    }
+
+    /**
+     * Record the submit and acknowledgement latencies of an asynchronous write.
+     *
+     * @param startTime  start time of the write
+     * @param submitTime time the submit call returned
+     * @param endTime    time the write was acknowledged
+     * @param events     number of records
+     */
+    public void record(long startTime, long submitTime, long endTime, int events) {
+        final long submit = submitTime - startTime;
+        final long ack = endTime - submitTime;
+        submitWindow.record(submit, events);
+        ackWindow.record(ack, events);
+        submitTotal.record(submit, events);
+        ackTotal.record(ack, events);
+    }
+
+    /**
+     * Get the latencies of the window and reset the window histograms.
+     *
+     * @param elapsedMS elapsed time of the window in milliseconds.
+     * @return latencies of the window; null if no asynchronous write is recorded in the window.
+     */
+    @Override
+    public SubmitAckStats getWindowStats(double elapsedMS) {
+        return getStats(submitWindow, ackWindow);
+    }
+
+    /**
+     * Get the latencies of the whole run.
+     *
+     * @return latencies of the run; null if no asynchronous write is recorded.
+     */
+    @Override
+    public SubmitAckStats getTotalStats() {
+        return getStats(submitTotal, ackTotal);
+    }
+
+    private static SubmitAckStats getStats(Latencies submit, Latencies ack) {
+        if (submit.records == 0) {
+            return null;
+        }
+        final long[] submitPercentiles = submit.percentiles();
+        final long[] ackPercentiles = ack.percentiles();
+        final SubmitAckStats stats = new SubmitAckStats(submit.records, submit.average(), submitPercentiles[0],
+                submitPercentiles[1], submit.max, ack.average(), ackPercentiles[0], ackPercentiles[1], ack.max);
+        submit.reset();
+        ack.reset();
+        return stats;
+    }
+}
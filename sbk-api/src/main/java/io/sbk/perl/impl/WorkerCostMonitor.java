@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.WorkerCost;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class to sample the CPU time and the allocated bytes of the registered worker threads using the ThreadMXBean.
+ * The threads are sampled at each reporting window boundary; a worker thread is sampled for the last time
+ * when it unregisters itself.
+ */
+public class WorkerCostMonitor {
+    final private ThreadMXBean threadBean;
+    final private com.sun.management.ThreadMXBean allocBean;
+    final private boolean cpuEnabled;
+    final private boolean allocEnabled;
+
+    @GuardedBy("this")
+    final private Map<Long, long[]> threads;
+    @GuardedBy("this")
+    private long windowCpuNS;
+    @GuardedBy("this")
+    private long windowAllocated;
+    @GuardedBy("this")
+    private long totalCpuNS;
+    @GuardedBy("this")
+    private long totalAllocated;
+
+    public WorkerCostMonitor() {
+        this.threadBean = ManagementFactory.getThreadMXBean();
+        this.threads = new HashMap<>();
+        this.cpuEnabled = threadBean.isThreadCpuTimeSupported();
+        if (cpuEnabled && !threadBean.isThreadCpuTimeEnabled()) {
+            threadBean.setThreadCpuTimeEnabled(true);
+        }
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            this.allocBean = (com.sun.management.ThreadMXBean) threadBean;
+            this.allocEnabled = allocBean.isThreadAllocatedMemorySupported();
+            if (allocEnabled && !allocBean.isThreadAllocatedMemoryEnabled()) {
+                allocBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        } else {
+            this.allocBean = null;
+            this.allocEnabled = false;
+        }
+    }
+
+    private long cpuTime(long threadId) {
+        return cpuEnabled ? Math.max(0, threadBean.getThreadCpuTime(threadId)) : 0;
+    }
+
+    private long allocatedBytes(long threadId) {
+        return allocEnabled ? Math.max(0, allocBean.getThreadAllocatedBytes(threadId)) : 0;
+    }
+
+    /**
+     * Register the calling thread as a worker thread.
+     */
+    public synchronized void register() {
+        final long threadId = Thread.currentThread().getId();
+        threads.put(threadId, new long[]{cpuTime(threadId), allocatedBytes(threadId)});
+    }
+
+    /**
+     * Sample the calling thread for the last time and stop sampling it.
+     */
+    public synchronized void unregister() {
+        final long threadId = Thread.currentThread().getId();
+        final long[] last = threads.remove(threadId);
+        if (last != null) {
+            sample(threadId, last);
+        }
+    }
+
+    private void sample(long threadId, long[] last) {
+        final long cpu = cpuTime(threadId);
+        final long allocated = allocatedBytes(threadId);
+        windowCpuNS += Math.max(0, cpu - last[0]);
+        windowAllocated += Math.max(0, allocated - last[1]);
+        last[0] = cpu;
+        last[1] = allocated;
+    }
+
+    private void sampleAll() {
+        for (Map.Entry<Long, long[]> entry : threads.entrySet()) {
+            sample(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Get the worker cost of the current reporting window and start a new window.
+     *
+     * @param records number of records of the window.
+     * @return Worker cost of the window.
+     */
+    public synchronized WorkerCost getWindowCost(long records) {
+        sampleAll();
+        final WorkerCost cost = new WorkerCost(windowCpuNS, windowAllocated, records);
+        totalCpuNS += windowCpuNS;
+        totalAllocated += windowAllocated;
+        windowCpuNS = 0;
+        windowAllocated = 0;
+        return cost;
+    }
+
+    /**
+     * Get the worker cost since the start of the monitor.
+     *
+     * @param records total number of records.
+     * @return Worker cost of the whole run.
+     */
+    public synchronized WorkerCost getTotalCost(long records) {
+        sampleAll();
+        return new WorkerCost(totalCpuNS + windowCpuNS, totalAllocated + windowAllocated, records);
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.PerlConfig;
+import io.sbk.perl.WorkerFairness;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Class for the per worker record counters and compact latency histograms of a window.
+ * The histograms have 8 linear sub buckets for every power of 2, so the reported
+ * 99th percentile of a worker is at most 12.5% above the recorded latency.
+ */
+@NotThreadSafe
+final public class WorkerStats implements StatsTracker {
+    final private static int SUB_BUCKET_BITS = 3;
+    final private static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    final private static int LINEAR_MAX = 2 * SUB_BUCKETS;
+    final static int BUCKETS = LINEAR_MAX + (63 - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+    final private static double PERCENTILE = 0.99;
+
+    final private long[] records;
+    final private long[][] histograms;
+    final private boolean[] started;
+
+    public WorkerStats(int workers) {
+        this.records = new long[workers];
+        this.histograms = new long[workers][BUCKETS];
+        this.started = new boolean[workers];
+    }
+
+    static int bucketIndex(long latency) {
+        if (latency < LINEAR_MAX) {
+            return (int) Math.max(latency, 0);
+        }
+        final int exp = 63 - Long.numberOfLeadingZeros(latency);
+        final int sub = (int) (latency >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_MAX + (exp - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + sub;
+    }
+
+    static long bucketValue(int index) {
+        if (index < LINEAR_MAX) {
+            return index;
+        }
+        final int exp = (index - LINEAR_MAX) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        final long sub = (index - LINEAR_MAX) % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << (exp - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * Record the operation of a worker.
+     *
+     * @param worker  worker id
+     * @param latency latency
+     * @param events  number of records
+     */
+    public void record(int worker, long latency, int events) {
+        if (worker < 0 || worker >= records.length) {
+            return;
+        }
+        started[worker] = true;
+        records[worker] += events;
+        histograms[worker][bucketIndex(latency)] += events;
+    }
+
+    /**
+     * Get the fairness statistics of the window and reset the window counters.
+     *
+     * @param elapsedMS elapsed time of the window in milliseconds.
+     * @return fairness statistics of the window.
+     */
+    @Override
+    public WorkerFairness getWindowStats(double elapsedMS) {
+        int count = 0;
+        for (boolean s : started) {
+            if (s) {
+                count++;
+            }
+        }
+        final int[] ids = new int[count];
+        final double[] recsPerSec = new double[count];
+        final long[] p99 = new long[count];
+        final double seconds = elapsedMS / PerlConfig.MS_PER_SEC;
+        int j = 0;
+        for (int i = 0; i < records.length; i++) {
+            if (!started[i]) {
+                continue;
+            }
+            ids[j] = i;
+            recsPerSec[j] = seconds > 0 ? records[i] / seconds : 0;
+            p99[j] = percentile(histograms[i], records[i]);
+            j++;
+            records[i] = 0;
+        }
+        return new WorkerFairness(ids, recsPerSec, p99);
+    }
+
+    /**
+     * The fairness is reported only for the windows.
+     *
+     * @return null
+     */
+    @Override
+    public WorkerFairness getTotalStats() {
+        return null;
+    }
+
+    private static long percentile(long[] histogram, long total) {
+        long value = 0;
+        if (total > 0) {
+            final long index = (long) Math.ceil(total * PERCENTILE);
+            boolean found = false;
+            long cumulative = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                if (histogram[i] == 0) {
+                    continue;
+                }
+                cumulative += histogram[i];
+                if (!found && cumulative >= index) {
+                    value = bucketValue(i);
+                    found = true;
+                }
+                histogram[i] = 0;
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api;
+
+import io.sbk.api.impl.ByteArray;
+import io.sbk.api.impl.SbkParameters;
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.Time;
+import io.sbk.perl.impl.MilliSeconds;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verify the full batches, the final partial batch and the linger timer flush of the batch writer.
+ */
+public class AbstractBatchWriterTest {
+    final private static int SIZE = 10;
+
+    final private static class BatchWriter extends AbstractBatchWriter<byte[]> {
+        final private List<Integer> batches = Collections.synchronizedList(new ArrayList<>());
+
+        private BatchWriter(ParameterOptions params) {
+            super(params);
+        }
+
+        @Override
+        public CompletableFuture<?> writeBatchAsync(List<byte[]> records) {
+            batches.add(records.size());
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    final private static class Channel implements SendChannel {
+        final private List<Integer> records = Collections.synchronizedList(new ArrayList<>());
+        final private CountDownLatch sent;
+        private volatile long bytes;
+
+        private Channel(int count) {
+            this.sent = new CountDownLatch(count);
+        }
+
+        @Override
+        public void send(int id, long startTime, long endTime, int dataSize, int records) {
+            this.records.add(records);
+            this.bytes += dataSize;
+            sent.countDown();
+        }
+
+        @Override
+        public void sendException(int id, Throwable ex) {
+        }
+    }
+
+    private static ParameterOptions params(int batch, int lingerMS) throws Exception {
+        final SbkParameters params = new SbkParameters("sbk");
+        params.parseArgs(new String[]{"-writers", "1", "-size", Integer.toString(SIZE),
+                "-batch", Integer.toString(batch), "-linger", Integer.toString(lingerMS)});
+        return params;
+    }
+
+    @Test
+    public void testFinalPartialBatch() throws Exception {
+        final ParameterOptions params = params(4, 0);
+        final BatchWriter writer = new BatchWriter(params);
+        final Channel channel = new Channel(3);
+        writer.RecordsWriter(new Worker(0, Integer.MAX_VALUE, params, channel) { }, 10, new ByteArray(),
+                new byte[SIZE], SIZE, new MilliSeconds());
+        writer.close();
+        assertEquals(Arrays.asList(4, 4, 2), writer.batches);
+        assertEquals(Arrays.asList(4, 4, 2), channel.records);
+        assertEquals(10 * SIZE, channel.bytes);
+    }
+
+    @Test
+    public void testSyncWithoutRecords() throws Exception {
+        final BatchWriter writer = new BatchWriter(params(4, 0));
+        writer.sync();
+        assertTrue(writer.batches.isEmpty());
+    }
+
+    @Test
+    public void testLingerTimer() throws Exception {
+        final BatchWriter writer = new BatchWriter(params(100, 50));
+        final Channel channel = new Channel(1);
+        final DataType<byte[]> dType = new ByteArray();
+        final Time time = new MilliSeconds();
+        final Status status = new Status();
+        final byte[] data = new byte[SIZE];
+        for (int i = 0; i < 3; i++) {
+            writer.recordWrite(dType, data, SIZE, time, status, channel, 0);
+        }
+        assertTrue("linger timer flush", channel.sent.await(10, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(3), writer.batches);
+        assertEquals(Collections.singletonList(3), channel.records);
+        assertEquals(3 * SIZE, channel.bytes);
+        writer.sync();
+        writer.close();
+        assertEquals(Collections.singletonList(3), writer.batches);
+    }
+
+    @Test
+    public void testLingerTimerCancelledByFullBatch() throws Exception {
+        final BatchWriter writer = new BatchWriter(params(2, 50));
+        final Channel channel = new Channel(1);
+        final DataType<byte[]> dType = new ByteArray();
+        final Time time = new MilliSeconds();
+        final Status status = new Status();
+        final byte[] data = new byte[SIZE];
+        writer.recordWrite(dType, data, SIZE, time, status, channel, 0);
+        writer.recordWrite(dType, data, SIZE, time, status, channel, 0);
+        assertEquals(Collections.singletonList(2), writer.batches);
+        Thread.sleep(150);
+        assertEquals(Collections.singletonList(2), writer.batches);
+        writer.close();
+    }
+}
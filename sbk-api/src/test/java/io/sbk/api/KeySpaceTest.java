@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verify the key partitions of the writers and readers and the big-endian key encoding.
+ */
+public class KeySpaceTest {
+
+    @Test
+    public void testPartitions() {
+        final KeySpace first = new KeySpace(0);
+        final KeySpace second = new KeySpace(1);
+        assertEquals(0, first.getStartKey());
+        assertEquals(KeySpace.KEYS_PER_WORKER, first.getEndKey());
+        assertEquals(first.getEndKey(), second.getStartKey());
+        assertEquals(2 * KeySpace.KEYS_PER_WORKER, second.getEndKey());
+        assertEquals(KeySpace.startKey(1), second.getStartKey());
+    }
+
+    @Test
+    public void testNextAndAdvance() {
+        final KeySpace keys = new KeySpace(2);
+        final long start = keys.getStartKey();
+        assertEquals(start, keys.current());
+        assertEquals(start, keys.next());
+        assertEquals(start + 1, keys.next());
+        assertEquals(start + 2, keys.current());
+        keys.advance(10);
+        assertEquals(start + 12, keys.current());
+    }
+
+    @Test
+    public void testEncode() {
+        assertArrayEquals(new byte[]{0, 0, 0, 0, 0, 0, 0, 0}, KeySpace.toBytes(0));
+        assertArrayEquals(new byte[]{0, 0, 0, 0, 0, 0, 1, 2}, KeySpace.toBytes(0x0102));
+        assertArrayEquals(new byte[]{0x7F, -1, -1, -1, -1, -1, -1, -1}, KeySpace.toBytes(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testDecode() {
+        final long[] values = {0, 1, 255, 256, KeySpace.KEYS_PER_WORKER, KeySpace.startKey(1000) + 12345,
+                Long.MAX_VALUE};
+        final byte[] out = new byte[KeySpace.KEY_BYTES + 3];
+        for (long value : values) {
+            KeySpace.encode(value, out, 3);
+            assertEquals(value, KeySpace.decode(out, 3));
+        }
+    }
+
+    @Test
+    public void testEncodeReusesBuffer() {
+        final KeySpace keys = new KeySpace(0);
+        final byte[] first = keys.encode(1);
+        final byte[] second = keys.encode(2);
+        assertSame(first, second);
+        assertArrayEquals(KeySpace.toBytes(2), second);
+    }
+
+    @Test
+    public void testEncodedKeysSortInKeyOrder() {
+        final long[] values = {0, 1, 255, 256, 65535, 65536, KeySpace.KEYS_PER_WORKER - 1, KeySpace.KEYS_PER_WORKER,
+                KeySpace.startKey(7), KeySpace.startKey(7) + 1};
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(values[i - 1] + " < " + values[i],
+                    Arrays.compareUnsigned(KeySpace.toBytes(values[i - 1]), KeySpace.toBytes(values[i])) < 0);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api.impl;
+
+import com.google.protobuf.ByteString;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongUnaryOperator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verify that the time and sequence headers are encoded and decoded without allocation on the hot path.
+ */
+public class DataTypeAllocationTest {
+    final static int WARMUP = 200_000;
+    final static int ITERATIONS = 1_000_000;
+    final static int SIZE = 100;
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(sunBean.isThreadAllocatedMemorySupported());
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+        return sunBean;
+    }
+
+    /**
+     * Run the operation for a warmup and return the bytes allocated per operation afterwards.
+     */
+    private static double allocatedBytesPerOp(LongUnaryOperator op) {
+        final com.sun.management.ThreadMXBean bean = threadBean();
+        final long threadId = Thread.currentThread().getId();
+        long sum = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sum += op.applyAsLong(i);
+        }
+        final long before = bean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            sum += op.applyAsLong(i);
+        }
+        final long allocated = bean.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(sum != 0);
+        return (double) allocated / ITERATIONS;
+    }
+
+    @Test
+    public void testByteArrayTime() {
+        final ByteArray dType = new ByteArray();
+        final byte[] data = dType.create(SIZE);
+        dType.setTime(data, 0x0102030405060708L);
+        assertEquals(0x0102030405060708L, dType.getTime(data));
+        assertEquals(0.0, allocatedBytesPerOp(i -> dType.getTime(dType.setTime(data, i + 1))), 0.5);
+    }
+
+    @Test
+    public void testByteArraySequence() {
+        final ByteArray dType = new ByteArray();
+        final byte[] data = dType.create(SIZE);
+        dType.setSequence(data, 7, 0x0102030405060708L);
+        assertEquals(7, dType.getWriterId(data));
+        assertEquals(0x0102030405060708L, dType.getSequence(data));
+        assertEquals(0.0, allocatedBytesPerOp(i -> {
+            dType.setSequence(data, 3, i + 1);
+            return dType.getWriterId(data) + dType.getSequence(data);
+        }), 0.5);
+    }
+
+    @Test
+    public void testNioByteBufferTime() {
+        final NioByteBuffer dType = new NioByteBuffer();
+        final java.nio.ByteBuffer data = dType.create(SIZE);
+        assertEquals(0.0, allocatedBytesPerOp(i -> dType.getTime(dType.setTime(data, i + 1))), 0.5);
+    }
+
+    @Test
+    public void testJavaStringTime() {
+        final JavaString dType = new JavaString();
+        final String data = dType.setTime(dType.create(SIZE), -2L);
+        assertEquals(-2L, dType.getTime(data));
+        assertEquals(SIZE, dType.length(data));
+        assertEquals(0.0, allocatedBytesPerOp(i -> dType.getTime(data)), 0.5);
+    }
+
+    @Test
+    public void testProtoBufByteStringTime() {
+        final ProtoBufByteString dType = new ProtoBufByteString();
+        final ByteString data = dType.setTime(dType.create(SIZE), 0x0102030405060708L);
+        assertEquals(0x0102030405060708L, dType.getTime(data));
+        assertEquals(SIZE, dType.length(data));
+        assertEquals(0.0, allocatedBytesPerOp(i -> dType.getTime(data)), 0.5);
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.api.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sbk.api.RunSummary;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verify the Welch confidence interval, the t-table lookup, the zero baseline and the exit codes of the
+ * run summaries comparison.
+ */
+public class SbkCompareTest {
+    final private static double DELTA = 1e-3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testTCritical() {
+        assertEquals(12.706, SbkCompare.tCritical(0.5), 0);
+        assertEquals(12.706, SbkCompare.tCritical(1), 0);
+        assertEquals(12.706, SbkCompare.tCritical(1.9), 0);
+        assertEquals(4.303, SbkCompare.tCritical(2), 0);
+        assertEquals(2.776, SbkCompare.tCritical(4.7), 0);
+        assertEquals(2.042, SbkCompare.tCritical(30), 0);
+        assertEquals(1.960, SbkCompare.tCritical(31), 0);
+        assertEquals(1.960, SbkCompare.tCritical(1000), 0);
+    }
+
+    @Test
+    public void testWelchIntervalEqualVariances() {
+        // means 12 and 22, variances 4 and 4 with 3 runs each: 4 degrees of freedom
+        final double[] bounds = SbkCompare.welchInterval(new double[]{10, 12, 14}, new double[]{20, 22, 24});
+        assertEquals(10 - 2.776 * Math.sqrt(8.0 / 3), bounds[0], DELTA);
+        assertEquals(10 + 2.776 * Math.sqrt(8.0 / 3), bounds[1], DELTA);
+    }
+
+    @Test
+    public void testWelchIntervalUnequalVariances() {
+        // the noisy candidate with 2 runs leaves about one degree of freedom, so the interval contains zero
+        final double[] bounds = SbkCompare.welchInterval(new double[]{1, 2, 3, 4}, new double[]{10, 20});
+        assertEquals(-51.557, bounds[0], DELTA);
+        assertEquals(76.557, bounds[1], DELTA);
+    }
+
+    @Test
+    public void testWelchIntervalNoVariance() {
+        final double[] bounds = SbkCompare.welchInterval(new double[]{5, 5}, new double[]{7, 7});
+        assertEquals(2, bounds[0], 0);
+        assertEquals(2, bounds[1], 0);
+    }
+
+    @Test
+    public void testChangePercent() {
+        assertEquals(-10, SbkCompare.changePercent(200, 180), DELTA);
+        assertEquals(50, SbkCompare.changePercent(2, 3), DELTA);
+    }
+
+    @Test
+    public void testZeroBaseline() {
+        assertEquals(0, SbkCompare.changePercent(0, 0), 0);
+        assertEquals(Double.POSITIVE_INFINITY, SbkCompare.changePercent(0, 1), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, SbkCompare.changePercent(0, -1), 0);
+    }
+
+    @Test
+    public void testZeroBaselineLatencyRegression() throws IOException {
+        final String baseline = write("base", summary(result("Writing", 1000, 0)));
+        final String current = write("cur", summary(result("Writing", 1000, 1)));
+        assertEquals(SbkCompare.EXIT_REGRESSION, compare(baseline, current));
+        assertEquals(SbkCompare.EXIT_OK, compare(baseline, baseline));
+    }
+
+    @Test
+    public void testThroughputRegression() throws IOException {
+        final String baseline = write("base", summary(result("Writing", 1000, 5)));
+        final String current = write("cur", summary(result("Writing", 900, 5)));
+        assertEquals(SbkCompare.EXIT_REGRESSION, compare(baseline, current));
+        assertEquals(SbkCompare.EXIT_OK, compare(current, baseline));
+    }
+
+    @Test
+    public void testMissingCandidateResult() throws IOException {
+        final String baseline = write("base", summary(result("Writing", 1000, 5), result("Reading", 1000, 5)));
+        final String current = write("cur", summary(result("Writing", 1000, 5)));
+        assertEquals(SbkCompare.EXIT_ERROR, compare(baseline, current));
+    }
+
+    private static int compare(String baseline, String current) {
+        return new SbkCompare().run(new String[]{"-baseline", baseline, "-current", current, "-percentiles", "99"});
+    }
+
+    private static RunSummary.Result result(String phase, double recordsPerSec, long p99) {
+        final RunSummary.Result result = new RunSummary.Result();
+        result.phase = phase;
+        result.action = phase;
+        result.workers = "Writers";
+        result.recordsPerSec = recordsPerSec;
+        result.percentiles = new LinkedHashMap<>();
+        result.percentiles.put("99", p99);
+        return result;
+    }
+
+    private static RunSummary summary(RunSummary.Result... results) {
+        final RunSummary summary = new RunSummary();
+        summary.timeUnit = "ms";
+        summary.percentiles = new double[]{99};
+        summary.results = new ArrayList<>();
+        for (RunSummary.Result result : results) {
+            summary.results.add(result);
+        }
+        return summary;
+    }
+
+    private String write(String name, RunSummary summary) throws IOException {
+        final File file = folder.newFile(name + ".json");
+        new ObjectMapper().writeValue(file, summary);
+        return file.getPath();
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.SequenceStats;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verify the lost, duplicate and out of order counts of the sequence tracker.
+ */
+public class SequenceTrackerTest {
+
+    private static void assertStats(SequenceStats stats, long records, long lost, long duplicates, long reordered,
+                                    long invalid) {
+        assertEquals("records", records, stats.records);
+        assertEquals("lost", lost, stats.lost);
+        assertEquals("duplicates", duplicates, stats.duplicates);
+        assertEquals("reordered", reordered, stats.reordered);
+        assertEquals("invalid", invalid, stats.invalid);
+    }
+
+    @Test
+    public void testInOrder() {
+        final SequenceTracker tracker = new SequenceTracker(2);
+        for (long i = 0; i < 10 * SequenceTracker.WINDOW; i++) {
+            tracker.record(0, i);
+            tracker.record(1, i);
+        }
+        assertStats(tracker.getTotalStats(), 20 * SequenceTracker.WINDOW, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void testDuplicate() {
+        final SequenceTracker tracker = new SequenceTracker(1);
+        tracker.record(0, 0);
+        tracker.record(0, 1);
+        tracker.record(0, 1);
+        tracker.record(0, 0);
+        assertStats(tracker.getTotalStats(), 4, 0, 2, 0, 0);
+    }
+
+    @Test
+    public void testReorderedWithinWindow() {
+        final SequenceTracker tracker = new SequenceTracker(1);
+        tracker.record(0, 0);
+        tracker.record(0, 2);
+        tracker.record(0, 1);
+        assertStats(tracker.getWindowStats(0), 3, 0, 0, 1, 0);
+        assertStats(tracker.getTotalStats(), 3, 0, 0, 1, 0);
+    }
+
+    @Test
+    public void testLostWhenEvicted() {
+        final SequenceTracker tracker = new SequenceTracker(1);
+        tracker.record(0, 0);
+        for (long i = 2; i < 3 * SequenceTracker.WINDOW; i++) {
+            tracker.record(0, i);
+        }
+        assertStats(tracker.getWindowStats(0), 3 * SequenceTracker.WINDOW - 1, 1, 0, 0, 0);
+    }
+
+    @Test
+    public void testLostGap() {
+        final SequenceTracker tracker = new SequenceTracker(1);
+        tracker.record(0, 0);
+        tracker.record(0, 10 * SequenceTracker.WINDOW);
+        assertStats(tracker.getTotalStats(), 2, 10 * SequenceTracker.WINDOW - 1, 0, 0, 0);
+    }
+
+    @Test
+    public void testMissingAtEndIsLost() {
+        final SequenceTracker tracker = new SequenceTracker(1);
+        tracker.record(0, 0);
+        tracker.record(0, 5);
+        assertStats(tracker.getWindowStats(0), 2, 0, 0, 0, 0);
+        assertStats(tracker.getTotalStats(), 2, 4, 0, 0, 0);
+    }
+
+    @Test
+    public void testLateArrivalCountedOnce() {
+        final SequenceTracker tracker = new SequenceTracker(1);
+        tracker.record(0, 0);
+        for (long i = 2; i < 3 * SequenceTracker.WINDOW; i++) {
+            tracker.record(0, i);
+        }
+        assertStats(tracker.getWindowStats(0), 3 * SequenceTracker.WINDOW - 1, 1, 0, 0, 0);
+        tracker.record(0, 1);
+        assertStats(tracker.getWindowStats(0), 1, 0, 0, 0, 0);
+        assertStats(tracker.getTotalStats(), 3 * SequenceTracker.WINDOW, 1, 0, 0, 0);
+    }
+
+    @Test
+    public void testBeforeFirstIsReordered() {
+        final SequenceTracker tracker = new SequenceTracker(1);
+        tracker.record(0, 5);
+        tracker.record(0, 3);
+        assertStats(tracker.getTotalStats(), 2, 0, 0, 1, 0);
+    }
+
+    @Test
+    public void testInvalid() {
+        final SequenceTracker tracker = new SequenceTracker(2);
+        tracker.record(-1, 0);
+        tracker.record(2, 0);
+        tracker.record(0, -1);
+        assertStats(tracker.getTotalStats(), 0, 0, 0, 0, 3);
+    }
+}
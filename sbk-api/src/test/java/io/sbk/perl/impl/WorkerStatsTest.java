@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.perl.impl;
+
+import io.sbk.perl.WorkerFairness;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verify the compact histogram buckets and the per window records rate and 99th percentile of the workers.
+ */
+public class WorkerStatsTest {
+
+    private static void assertBucket(long latency) {
+        final int index = WorkerStats.bucketIndex(latency);
+        final long value = WorkerStats.bucketValue(index);
+        assertTrue("index of " + latency, index >= 0 && index < WorkerStats.BUCKETS);
+        assertTrue("value " + value + " below " + latency, value >= latency);
+        assertTrue("value " + value + " above 12.5% of " + latency, value - latency <= latency / 8);
+    }
+
+    @Test
+    public void testLinearBuckets() {
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i, WorkerStats.bucketIndex(i));
+            assertEquals(i, WorkerStats.bucketValue(i));
+        }
+        assertEquals(0, WorkerStats.bucketIndex(-5));
+    }
+
+    @Test
+    public void testBucketBounds() {
+        long previous = 0;
+        for (long latency = 0; latency < (1 << 20); latency++) {
+            assertBucket(latency);
+            final int index = WorkerStats.bucketIndex(latency);
+            assertTrue("monotonic at " + latency, index >= previous);
+            previous = index;
+        }
+        for (int exp = 20; exp < 63; exp++) {
+            assertBucket(1L << exp);
+            assertBucket((1L << exp) - 1);
+            assertBucket((1L << exp) + 1);
+        }
+        assertBucket(Long.MAX_VALUE);
+        assertEquals(WorkerStats.BUCKETS - 1, WorkerStats.bucketIndex(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, WorkerStats.bucketValue(WorkerStats.BUCKETS - 1));
+    }
+
+    @Test
+    public void testBucketUpperValue() {
+        // 16..17 share a bucket, whose reported value is its upper bound
+        assertEquals(WorkerStats.bucketIndex(16), WorkerStats.bucketIndex(17));
+        assertEquals(17, WorkerStats.bucketValue(WorkerStats.bucketIndex(16)));
+        assertEquals(WorkerStats.bucketIndex(18), WorkerStats.bucketIndex(16) + 1);
+    }
+
+    @Test
+    public void testWindowPercentile() {
+        final WorkerStats stats = new WorkerStats(3);
+        for (int i = 0; i < 99; i++) {
+            stats.record(0, 10, 1);
+        }
+        stats.record(0, 1000, 1);
+        stats.record(1, 10, 98);
+        stats.record(1, 1000, 2);
+        final WorkerFairness fairness = stats.getWindowStats(2000);
+        assertArrayEquals(new int[]{0, 1}, fairness.workerIds);
+        assertArrayEquals(new double[]{50, 50}, fairness.recordsPerSec, 0);
+        assertEquals(10, fairness.p99[0]);
+        assertEquals(WorkerStats.bucketValue(WorkerStats.bucketIndex(1000)), fairness.p99[1]);
+        assertEquals(1, fairness.worstWorker);
+    }
+
+    @Test
+    public void testWindowReset() {
+        final WorkerStats stats = new WorkerStats(2);
+        stats.record(0, 1000, 100);
+        stats.record(1, 1000, 100);
+        stats.getWindowStats(1000);
+        stats.record(0, 5, 10);
+        final WorkerFairness fairness = stats.getWindowStats(1000);
+        assertArrayEquals(new int[]{0, 1}, fairness.workerIds);
+        assertArrayEquals(new double[]{10, 0}, fairness.recordsPerSec, 0);
+        assertArrayEquals(new long[]{5, 0}, fairness.p99);
+    }
+
+    @Test
+    public void testUnknownWorker() {
+        final WorkerStats stats = new WorkerStats(1);
+        stats.record(-1, 10, 1);
+        stats.record(1, 10, 1);
+        final WorkerFairness fairness = stats.getWindowStats(1000);
+        assertEquals(0, fairness.workerIds.length);
+        assertEquals(null, stats.getTotalStats());
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jmh;
+
+import io.sbk.perl.PerlConfig;
+import io.sbk.perl.PeriodicRecorder;
+import io.sbk.perl.SendChannel;
+import io.sbk.perl.impl.CQueuePerformance;
+import io.sbk.perl.impl.NanoSeconds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of sending the time stamps to the concurrent queue performance channel.
+ * The performance loop runs in the background to drain the queues, as it does for the writers and readers.
+ * The producers wait if the backlog of the queues grows beyond {@link #MAX_BACKLOG}, so the results are the
+ * sustained send rates and not the rates of filling up the heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CQueuePerformanceBenchmark {
+    final static int MAX_BACKLOG = 1024 * 1024;
+    final static int BACKLOG_CHECK_MASK = 1023;
+
+    @Param({"1", "4"})
+    public int maxQs;
+
+    private ExecutorService executor;
+    private CQueuePerformance performance;
+    private SendChannel channel;
+    private DrainRecorder recorder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final PerlConfig perlConfig = new PerlConfig();
+        perlConfig.maxQs = maxQs;
+        perlConfig.idleNS = PerlConfig.MIN_IDLE_NS;
+        executor = Executors.newSingleThreadExecutor();
+        recorder = new DrainRecorder();
+        performance = new CQueuePerformance(perlConfig, 1, recorder,
+                PerlConfig.DEFAULT_REPORTING_INTERVAL_SECONDS * PerlConfig.MS_PER_SEC, new NanoSeconds(), executor);
+        performance.run(0, 0);
+        channel = performance.getSendChannel();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        performance.stop();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Per thread writer/reader identifier; the thread index selects the queue of the channel.
+     */
+    @State(Scope.Thread)
+    public static class Worker {
+        public int id;
+        public int threads;
+        public long time;
+
+        @Setup(Level.Trial)
+        public void setup(CQueuePerformanceBenchmark bench, ThreadParams threadParams) {
+            id = threadParams.getThreadIndex() % bench.maxQs;
+            threads = threadParams.getThreadCount();
+            time = 0;
+        }
+    }
+
+    private void send(Worker worker) {
+        final long startTime = worker.time++;
+        channel.send(worker.id, startTime, startTime + 1, 1024, 1);
+        if ((startTime & BACKLOG_CHECK_MASK) == 0) {
+            while (worker.time * worker.threads - recorder.records > MAX_BACKLOG) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void sendSingle(Worker worker) {
+        send(worker);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void sendContended(Worker worker) {
+        send(worker);
+    }
+
+    /**
+     * Periodic recorder which only consumes the time stamps.
+     */
+    static final class DrainRecorder implements PeriodicRecorder {
+        private volatile long records;
+        private long startTime;
+
+        @Override
+        public void start(long startTime) {
+            this.startTime = startTime;
+        }
+
+        @Override
+        public void startWindow(long startTime) {
+            this.startTime = startTime;
+        }
+
+        @Override
+        public long elapsedMilliSecondsWindow(long currentTime) {
+            return (currentTime - startTime) / PerlConfig.NS_PER_MS;
+        }
+
+        @Override
+        public void record(long startTime, long endTime, int bytes, int events) {
+            records += events;
+        }
+
+        @Override
+        public void stopWindow(long currentTime) {
+        }
+
+        @Override
+        public void stop(long endTime) {
+        }
+    }
+}
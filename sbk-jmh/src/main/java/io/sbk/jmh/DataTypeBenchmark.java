@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jmh;
+
+import io.sbk.api.DataType;
+import io.sbk.api.impl.ByteArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of setting and getting the time header of the byte array data, used by the write and read mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DataTypeBenchmark {
+    @Param({"1024"})
+    public int size;
+
+    private DataType<byte[]> dType;
+    private byte[] data;
+    private long time;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dType = new ByteArray();
+        data = dType.create(size);
+        time = System.nanoTime();
+        dType.setTime(data, time);
+    }
+
+    @Benchmark
+    public byte[] byteArraySetTime() {
+        return dType.setTime(data, ++time);
+    }
+
+    @Benchmark
+    public long byteArrayGetTime() {
+        return dType.getTime(data);
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jmh;
+
+import io.sbk.perl.PerlConfig;
+import io.sbk.perl.Time;
+import io.sbk.perl.impl.ArrayLatencyRecorder;
+import io.sbk.perl.impl.HashMapLatencyRecorder;
+import io.sbk.perl.impl.MilliSeconds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of recording a single latency value in the array and hash map latency recorders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LatencyRecorderBenchmark {
+    final static int LATENCIES_COUNT = 4096;
+    final static long MAX_SAMPLE_LATENCY = 5000;
+
+    private ArrayLatencyRecorder arrayRecorder;
+    private HashMapLatencyRecorder hashMapRecorder;
+    private long[] latencies;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Time time = new MilliSeconds();
+        final double[] percentileFractions = percentileFractions();
+        arrayRecorder = new ArrayLatencyRecorder(PerlConfig.DEFAULT_MIN_LATENCY, PerlConfig.DEFAULT_MAX_LATENCY,
+                PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, percentileFractions, time);
+        hashMapRecorder = new HashMapLatencyRecorder(PerlConfig.DEFAULT_MIN_LATENCY, PerlConfig.DEFAULT_MAX_LATENCY,
+                PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, percentileFractions, time, 192);
+        arrayRecorder.reset(time.getCurrentTime());
+        hashMapRecorder.reset(time.getCurrentTime());
+        latencies = sampleLatencies(LATENCIES_COUNT, MAX_SAMPLE_LATENCY);
+        index = 0;
+    }
+
+    static double[] percentileFractions() {
+        final double[] fractions = new double[PerlConfig.PERCENTILES.length];
+        for (int i = 0; i < fractions.length; i++) {
+            fractions[i] = PerlConfig.PERCENTILES[i] / 100.0;
+        }
+        return fractions;
+    }
+
+    /**
+     * Latency samples with the long tail: most of the values are small and few values are close to the maximum.
+     */
+    static long[] sampleLatencies(int count, long maxLatency) {
+        final Random random = new Random(count);
+        final long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            final double r = random.nextDouble();
+            values[i] = (long) (r * r * r * maxLatency);
+        }
+        return values;
+    }
+
+    private long nextLatency() {
+        index = (index + 1) & (LATENCIES_COUNT - 1);
+        return latencies[index];
+    }
+
+    @Benchmark
+    public void arrayRecordLatency() {
+        arrayRecorder.recordLatency(0, 1024, 1, nextLatency());
+    }
+
+    @Benchmark
+    public void hashMapReportLatency() {
+        hashMapRecorder.reportLatency(nextLatency(), 1);
+    }
+
+    @Benchmark
+    public void hashMapRecordLatency() {
+        hashMapRecorder.recordLatency(0, 1024, 1, nextLatency());
+    }
+}
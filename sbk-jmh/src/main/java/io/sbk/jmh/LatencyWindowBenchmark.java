@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jmh;
+
+import io.sbk.perl.LatencyRecordWindow;
+import io.sbk.perl.PerlConfig;
+import io.sbk.perl.Print;
+import io.sbk.perl.Time;
+import io.sbk.perl.impl.ArrayLatencyRecorder;
+import io.sbk.perl.impl.HashMapLatencyRecorder;
+import io.sbk.perl.impl.MilliSeconds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of printing the latency window, which computes the percentiles at the end of every reporting interval.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LatencyWindowBenchmark {
+    @Param({"array", "hashmap"})
+    public String store;
+
+    @Param({"100000"})
+    public int records;
+
+    private LatencyRecordWindow window;
+    private long endTime;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Time time = new MilliSeconds();
+        final double[] percentileFractions = LatencyRecorderBenchmark.percentileFractions();
+        if ("hashmap".equals(store)) {
+            window = new HashMapLatencyRecorder(PerlConfig.DEFAULT_MIN_LATENCY, PerlConfig.DEFAULT_MAX_LATENCY,
+                    PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, percentileFractions, time, 192);
+        } else {
+            window = new ArrayLatencyRecorder(PerlConfig.DEFAULT_MIN_LATENCY, PerlConfig.DEFAULT_MAX_LATENCY,
+                    PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, PerlConfig.LONG_MAX, percentileFractions, time);
+        }
+        final long startTime = time.getCurrentTime();
+        window.reset(startTime);
+        final long[] latencies = LatencyRecorderBenchmark.sampleLatencies(records,
+                LatencyRecorderBenchmark.MAX_SAMPLE_LATENCY);
+        for (long latency : latencies) {
+            window.recordLatency(startTime, 1024, 1, latency);
+        }
+        endTime = startTime + PerlConfig.DEFAULT_REPORTING_INTERVAL_SECONDS * PerlConfig.MS_PER_SEC;
+    }
+
+    @Benchmark
+    public void print(Blackhole bh) {
+        final Print logger = (bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid,
+                              lowerDiscard, higherDiscard, percentiles) -> bh.consume(percentiles);
+        window.print(endTime, logger, null);
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.jmh;
+
+import io.sbk.api.RateController;
+import io.sbk.api.impl.SbkRateController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the rate controller invoked after every write/read.
+ * The rate 0 is the unthrottled path; the other rate is never reached, so that only the check is measured and
+ * not the sleeps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RateControllerBenchmark {
+    @Param({"0", "1000000000"})
+    public int recordsPerSec;
+
+    private RateController rateController;
+    private long events;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        rateController = new SbkRateController();
+        rateController.start(recordsPerSec);
+        events = 0;
+    }
+
+    @Benchmark
+    public void control() {
+        events++;
+        rateController.control(events, 1.0 + events);
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) KMG. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.sbk.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor which generates the storage drivers index at build time.
+ * The concrete classes annotated with io.sbk.api.StorageDriver and implementing the io.sbk.api.Storage interface
+ * are written to the index file META-INF/services/io.sbk.api.Storage in the ServiceLoader format; so that the
+ * storage drivers are listed without scanning the class path and only the selected driver class is loaded.
+ * The processor is added to the driver builds only, as annotation processor; it is not a part of the sbk-api.
+ */
+@SupportedAnnotationTypes(StorageIndexProcessor.STORAGE_DRIVER)
+public class StorageIndexProcessor extends AbstractProcessor {
+    final static String STORAGE_DRIVER = "io.sbk.api.StorageDriver";
+    final static String STORAGE_CLASS = "io.sbk.api.Storage";
+    final static String INDEX_FILE = "META-INF/services/" + STORAGE_CLASS;
+    final private Set<String> storageClasses = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        final TypeElement storage = processingEnv.getElementUtils().getTypeElement(STORAGE_CLASS);
+        if (storage == null) {
+            return false;
+        }
+        final TypeMirror storageType = processingEnv.getTypeUtils().erasure(storage.asType());
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                addStorageClass(element, storageType);
+            }
+        }
+        return true;
+    }
+
+    private void addStorageClass(Element element, TypeMirror storageType) {
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT) ||
+                !processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(element.asType()),
+                        storageType)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "The storage driver should be a concrete class implementing " + STORAGE_CLASS, element);
+            return;
+        }
+        storageClasses.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+    }
+
+    private void writeIndex() {
+        if (storageClasses.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    INDEX_FILE);
+            try (PrintWriter writer = new PrintWriter(file.openWriter())) {
+                storageClasses.forEach(writer::println);
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write the storage drivers index " + INDEX_FILE + " : " + ex);
+        }
+    }
+}
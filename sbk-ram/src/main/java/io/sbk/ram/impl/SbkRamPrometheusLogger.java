@@ -9,6 +9,7 @@
  */
 package io.sbk.ram.impl;
 
+import io.sbk.perl.GCStats;
 import io.sbk.api.Action;
 import io.sbk.api.Config;
 import io.sbk.ram.RamLogger;
@@ -16,11 +17,14 @@ import io.sbk.api.InputOptions;
 import io.sbk.api.impl.RWMetricsPrometheusServer;
 import io.sbk.api.impl.SbkPrometheusLogger;
 import io.sbk.perl.LatencyRecord;
+import io.sbk.perl.SideStats;
+import io.sbk.perl.WorkerCost;
 import io.sbk.perl.Time;
 import io.sbk.ram.SetRW;
 import io.sbk.system.Printer;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 
@@ -94,20 +98,25 @@ public class SbkRamPrometheusLogger extends SbkPrometheusLogger implements SetRW
 
     @Override
     public void print(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
-                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues) {
+                      long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentileValues,
+                      GCStats gc, WorkerCost cost, List<SideStats> stats) {
         print(prefix, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency, invalid, lowerDiscard,
                 higherDiscard, percentileValues);
+        printStats(SBK_RAM_PREFIX + " " + prefix, stats);
         if (prometheusServer != null) {
             prometheusServer.print(bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
                     invalid, lowerDiscard, higherDiscard, percentileValues);
+            prometheusServer.invalidateScrape();
         }
     }
 
     @Override
     public void printTotal(long bytes, long records, double recsPerSec, double mbPerSec, double avgLatency,
-                           long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentilesValues) {
+                           long maxLatency, long invalid, long lowerDiscard, long higherDiscard, long[] percentilesValues,
+                           GCStats gc, WorkerCost cost, List<SideStats> stats) {
         print("Total : " + prefix, bytes, records, recsPerSec, mbPerSec, avgLatency, maxLatency,
                 invalid, lowerDiscard, higherDiscard, percentilesValues);
+        printStats(SBK_RAM_PREFIX + " Total : " + prefix, stats);
     }
 
 